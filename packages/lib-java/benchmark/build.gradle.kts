@@ -0,0 +1,22 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    implementation(project(":packages:lib-java:common"))
+    implementation(project(":packages:lib-java:mybatis"))
+    implementation(project(":packages:proto-gen-java:monorepo:todo"))
+
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.postgresql:postgresql")
+}
+
+// Benchmarks of lib-java hot paths, results are baselines for performance changes.
+// ./gradlew :packages:lib-java:benchmark:jmh
+// Only some benchmarks: ./gradlew :packages:lib-java:benchmark:jmh -Pjmh.includes=JsonUtilBenchmark
+jmh {
+    jmhVersion = providers.gradleProperty("jmhVersion").get()
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+}
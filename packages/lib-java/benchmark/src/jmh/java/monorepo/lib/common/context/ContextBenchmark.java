@@ -0,0 +1,105 @@
+package monorepo.lib.common.context;
+
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Context} propagation, runs on every request and every task submitted within a request.
+ *
+ * <p> {@link #submitRaw} is the baseline of {@link #submitContextual}.
+ *
+ * <p> Each benchmark runs with both {@link ContextHolder.Storage}s, to compare per-task propagation cost.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextBenchmark {
+
+    @Param({"THREAD_LOCAL", "SCOPED_VALUE"})
+    public ContextHolder.Storage storage = ContextHolder.Storage.THREAD_LOCAL;
+
+    private final Map<String, List<String>> headers = Map.of(
+            "traceparent", List.of("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"),
+            "tracestate", List.of("rojo=00f067aa0ba902b7"),
+            "authorization", List.of("Bearer eyJhbGciOiJIUzI1NiJ9.e30.ZRrHA1JJJW8opsbCGfG"),
+            "content-type", List.of("application/grpc"),
+            "user-agent", List.of("grpc-java-netty/1.75.0"),
+            "x-request-id", List.of("8d3c2f1e-7b6a-4e5d-9c8b-1a2b3c4d5e6f"));
+
+    private final Context context = new Context(headers, ObservationRegistry.NOOP);
+
+    private final ExecutorService rawExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService contextualExecutor =
+            new ContextualExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ContextHolder.setStorage(storage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        rawExecutor.close();
+        contextualExecutor.close();
+        ContextHolder.setStorage(ContextHolder.Storage.THREAD_LOCAL);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> getPropagatedHeaders() {
+        return context.getPropagatedHeaders();
+    }
+
+    /**
+     * Per request cost, {@link #getPropagatedHeaders} is cached after the first outbound call.
+     */
+    @Benchmark
+    public Map<String, List<String>> newContextAndGetPropagatedHeaders() {
+        return new Context(headers, ObservationRegistry.NOOP).getPropagatedHeaders();
+    }
+
+    @Benchmark
+    public Context getWithContext() {
+        return ContextHolder.getWithContext(context, ContextHolder::get);
+    }
+
+    @Benchmark
+    public void runWithContext() {
+        ContextHolder.runWithContext(context, ContextHolder::get);
+    }
+
+    @Benchmark
+    public Object submitRaw() throws ExecutionException, InterruptedException {
+        return rawExecutor.submit(() -> context).get();
+    }
+
+    @Benchmark
+    public Object submitContextual() throws Exception {
+        return ContextHolder.callWithContext(context, () -> contextualExecutor
+                .submit(ContextHolder::get)
+                .get());
+    }
+}
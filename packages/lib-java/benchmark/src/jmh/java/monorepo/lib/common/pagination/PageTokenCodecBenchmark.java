@@ -0,0 +1,51 @@
+package monorepo.lib.common.pagination;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PageTokenState} encode/decode, runs once per paged list request.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageTokenCodecBenchmark {
+
+    private final PageTokenCodec codec = new PageTokenCodec("benchmark-secret");
+    private final PageTokenState state;
+    private final String token;
+
+    public PageTokenCodecBenchmark() {
+        var lastValues = new LinkedHashMap<String, Object>();
+        lastValues.put("created_at", Instant.parse("2026-10-18T08:30:00.123456Z"));
+        lastValues.put("id", 123_456_789L);
+        state = new PageTokenState(lastValues, "3f2a9c1e", "b71d04e2", 1024L);
+        token = codec.encode(state);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(state);
+    }
+
+    @Benchmark
+    public PageTokenState decode() {
+        return codec.decode(token);
+    }
+}
@@ -0,0 +1,62 @@
+package monorepo.lib.mybatis.datasources.dynamic;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Overhead of the {@link DynamicDataSource} proxy over calling the raw MyBatis mapper.
+ *
+ * <p> The mapper method is a default method, so no SQL is executed and only the dispatch is measured.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DynamicDataSourceProxyBenchmark {
+
+    public interface BenchmarkMapper extends DynamicDataSource<BenchmarkMapper> {
+        default long echo(long value) {
+            return value;
+        }
+    }
+
+    private final BenchmarkMapper rawMapper;
+    private final BenchmarkMapper proxiedMapper;
+    private long value;
+
+    public DynamicDataSourceProxyBenchmark() {
+        var configuration = new Configuration();
+        configuration.addMapper(BenchmarkMapper.class);
+        // Default methods don't touch the executor
+        var sqlSession = new DefaultSqlSession(configuration, null);
+        rawMapper = configuration.getMapper(BenchmarkMapper.class, sqlSession);
+        proxiedMapper = (BenchmarkMapper)
+                MyBatisDynamicDataSourceInvocationHandler.createProxy(rawMapper, new StaticApplicationContext());
+    }
+
+    @Benchmark
+    public long rawMapper() {
+        return rawMapper.echo(value++);
+    }
+
+    @Benchmark
+    public long proxiedMapper() {
+        return proxiedMapper.echo(value++);
+    }
+}
@@ -0,0 +1,89 @@
+package monorepo.lib.mybatis.typehandler;
+
+import com.google.protobuf.Timestamp;
+import com.google.type.Date;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import monorepo.proto.todo.v1.SubTask;
+import monorepo.proto.todo.v1.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ProtobufMessageTypeHandler} (bytea) against {@link BasePostgresJsonbTypeHandler} (jsonb) for the same message.
+ *
+ * <p> The JDBC driver is not involved, only the encoding/decoding done by the handlers per row.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTypeHandlerBenchmark {
+
+    private final ProtobufMessageTypeHandler<Todo> protobufHandler = new ProtobufMessageTypeHandler<>(Todo.class);
+    private final TodoJsonbTypeHandler jsonbHandler = new TodoJsonbTypeHandler();
+
+    private final Todo todo;
+    private final byte[] protobuf;
+    private final byte[] json;
+
+    public MessageTypeHandlerBenchmark() {
+        var now = Timestamp.newBuilder().setSeconds(1_792_311_000L).setNanos(123_456_000);
+        var builder = Todo.newBuilder()
+                .setId(123_456_789L)
+                .setUserId(42L)
+                .setTitle("Write the quarterly report")
+                .setDescription("Collect numbers from finance, draft, review with the team")
+                .setState(Todo.State.PENDING)
+                .setPriority(Todo.Priority.HIGH)
+                .setAssignee(7L)
+                .setDueDate(Date.newBuilder().setYear(2026).setMonth(10).setDay(31))
+                .setCreatedAt(now)
+                .setUpdatedAt(now);
+        for (int i = 0; i < 20; i++) {
+            builder.addSubTasks(SubTask.newBuilder()
+                    .setId(1000L + i)
+                    .setTitle("Subtask " + i)
+                    .setCreatedAt(now)
+                    .setUpdatedAt(now));
+        }
+        todo = builder.build();
+        protobuf = protobufHandler.toBytes(todo);
+        json = jsonbHandler.toJson(todo).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] protobufWrite() {
+        return protobufHandler.toBytes(todo);
+    }
+
+    @Benchmark
+    public Object protobufRead() throws SQLException {
+        return protobufHandler.fromBytes(protobuf);
+    }
+
+    @Benchmark
+    public String jsonbWrite() {
+        return jsonbHandler.toJson(todo);
+    }
+
+    @Benchmark
+    public Object jsonbRead() {
+        return jsonbHandler.fromJson(json);
+    }
+
+    static final class TodoJsonbTypeHandler extends BasePostgresJsonbTypeHandler<Todo> {}
+}
@@ -0,0 +1,58 @@
+package monorepo.lib.mybatis.typehandler;
+
+import java.util.concurrent.TimeUnit;
+import monorepo.proto.todo.v1.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ProtobufEnumTypeHandler#fromObject} for numeric and string columns, runs once per enum column per row.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProtobufEnumTypeHandlerBenchmark {
+
+    private final ProtobufEnumTypeHandler<Todo.State> stateHandler = new ProtobufEnumTypeHandler<>(Todo.State.class);
+    private final ProtobufEnumTypeHandler<Todo.Priority> priorityHandler =
+            new ProtobufEnumTypeHandler<>(Todo.Priority.class);
+
+    // Not constants, so that they are not folded
+    private Object smallint = (short) 2;
+    private Object name = "HIGH";
+    private Object numericString = "3";
+    private Object unrecognized = "NOT_A_PRIORITY";
+
+    @Benchmark
+    public Todo.State fromNumber() {
+        return stateHandler.fromObject(smallint, false);
+    }
+
+    @Benchmark
+    public Todo.Priority fromName() {
+        return priorityHandler.fromObject(name, false);
+    }
+
+    @Benchmark
+    public Todo.Priority fromNumericString() {
+        return priorityHandler.fromObject(numericString, false);
+    }
+
+    @Benchmark
+    public Todo.Priority fromUnrecognized() {
+        return priorityHandler.fromObject(unrecognized, false);
+    }
+}
@@ -10,9 +10,12 @@ dependencies {
     }
 
     compileOnly("org.springframework.boot:spring-boot-starter-opentelemetry")
+    compileOnly("io.micrometer:micrometer-core")
 
     compileOnly("org.springframework.boot:spring-boot-starter-web")
     compileOnly("org.springframework.boot:spring-boot-starter-jdbc")
     compileOnly("org.springframework.boot:spring-boot-starter-restclient")
     compileOnly("io.github.danielliu1123:grpc-boot-starter")
+
+    testImplementation("io.github.danielliu1123:grpc-boot-starter")
 }
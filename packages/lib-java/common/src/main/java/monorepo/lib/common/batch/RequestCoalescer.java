@@ -0,0 +1,149 @@
+package monorepo.lib.common.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * DataLoader-style request coalescer, groups concurrent single-key lookups into one batch load.
+ *
+ * <p> A batch is dispatched when {@code window} elapses after its first key, or when it reaches {@code maxBatchSize}.
+ * Duplicate keys in the same batch share one result.
+ *
+ * <p> Example:
+ * <pre>{@code
+ * var coalescer = new RequestCoalescer<Long, Todo>(
+ *         "todo", Duration.ofMillis(2), 100, ids -> todoService.batchGet(ids), meterRegistry);
+ *
+ * Todo todo = coalescer.load(id).join();
+ * }</pre>
+ *
+ * <p> The batch loader runs on a virtual thread without any caller's context (request context, gRPC context,
+ * thread locals), it serves all callers of the batch. It must return only the found keys,
+ * missing keys complete with {@code null}.
+ *
+ * <p> Metrics: {@code coalescer.batch.size{name=...}} records the distribution of dispatched batch sizes.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class RequestCoalescer<K, V> {
+
+    /**
+     * Neither executor carries the context, a batch serves many callers and must not run as any one of them.
+     */
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("coalescer").daemon().factory());
+
+    private static final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("coalescer-", 0).factory());
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Function<Set<K>, Map<K, V>> batchLoader;
+    private final @Nullable DistributionSummary batchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<K, CompletableFuture<@Nullable V>> pending = new LinkedHashMap<>();
+
+    public RequestCoalescer(
+            String name,
+            Duration window,
+            int maxBatchSize,
+            Function<Set<K>, Map<K, V>> batchLoader,
+            @Nullable MeterRegistry meterRegistry) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchLoader = batchLoader;
+        this.batchSize = meterRegistry != null
+                ? DistributionSummary.builder("coalescer.batch.size")
+                        .description("Number of keys per dispatched batch")
+                        .tag("name", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                : null;
+    }
+
+    /**
+     * Load the value of the key, coalesced with concurrent loads.
+     *
+     * @param key key
+     * @return future of the value, completes with {@code null} if the key is not found
+     */
+    public CompletableFuture<@Nullable V> load(K key) {
+        Map<K, CompletableFuture<@Nullable V>> full = null;
+        CompletableFuture<@Nullable V> result;
+
+        lock.lock();
+        try {
+            result = pending.get(key);
+            if (result != null) {
+                return result;
+            }
+            result = new CompletableFuture<>();
+            var batch = pending;
+            batch.put(key, result);
+            if (batch.size() >= maxBatchSize) {
+                full = batch;
+                pending = new LinkedHashMap<>();
+            } else if (batch.size() == 1) {
+                scheduler.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    private void flush(Map<K, CompletableFuture<@Nullable V>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return; // already dispatched because it was full
+            }
+            pending = new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, CompletableFuture<@Nullable V>> batch) {
+        if (batchSize != null) {
+            batchSize.record(batch.size());
+        }
+        executorService.execute(() -> {
+            try {
+                var values = batchLoader.apply(Collections.unmodifiableSet(new LinkedHashSet<>(batch.keySet())));
+                batch.forEach((key, future) -> future.complete(values.get(key)));
+            } catch (Throwable e) {
+                batch.values().forEach(future -> future.completeExceptionally(e));
+            }
+        });
+    }
+}
@@ -5,11 +5,13 @@ import java.time.ZoneOffset;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TimeZone;
+import monorepo.lib.common.context.ContextHolder;
 import monorepo.lib.common.profile.Profile;
 import org.apache.commons.logging.Log;
 import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
 import org.springframework.boot.EnvironmentPostProcessor;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.logging.DeferredLogFactory;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.PropertiesPropertySource;
@@ -25,6 +27,8 @@ import org.springframework.core.io.Resource;
  */
 public final class DefaultConfigEnvironmentPostProcessor implements EnvironmentPostProcessor {
 
+    private static final String CONTEXT_STORAGE_PROPERTY = "context.storage";
+
     private final Log log;
 
     public DefaultConfigEnvironmentPostProcessor(DeferredLogFactory logFactory) {
@@ -58,6 +62,13 @@ public final class DefaultConfigEnvironmentPostProcessor implements EnvironmentP
         ClassPathResource resource = new ClassPathResource("application-default-config.yaml");
         environment.getPropertySources().addLast(loadProperties(resource));
         log.info("Loaded default configuration: " + resource.getFilename());
+
+        // context storage can't change once contexts are bound, select it before anything runs
+        var contextStorage = Binder.get(environment)
+                .bind(CONTEXT_STORAGE_PROPERTY, ContextHolder.Storage.class)
+                .orElse(ContextHolder.Storage.THREAD_LOCAL);
+        ContextHolder.setStorage(contextStorage);
+        log.info("Using context storage: " + contextStorage);
     }
 
     private static @Nullable Profile getProfileOrNull(ConfigurableEnvironment environment) {
@@ -4,28 +4,120 @@ import io.micrometer.observation.ObservationRegistry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Context information for request.
  *
+ * <p> {@code headers} is immutable, {@link LazyHeaders} is kept as is, other maps are copied.
+ *
+ * <p> {@code responseHeaders} is mutable, it collects headers to send back to the client,
+ * e.g. {@link ContextConsts#CONSISTENCY_TOKEN_HEADER}.
+ *
+ * <p> Propagated headers are computed once per context, outbound calls only append them.
+ *
  * @author Freeman
  * @since 2025/5/1
  */
-public record Context(Map<String, List<String>> headers, ObservationRegistry observationRegistry) {
-    public Context {
-        headers = Map.copyOf(headers);
+public final class Context {
+
+    private final Map<String, List<String>> headers;
+    private final ObservationRegistry observationRegistry;
+    private final ConcurrentMap<String, String> responseHeaders;
+
+    private volatile @Nullable Map<String, List<String>> propagatedHeaders;
+    private volatile @Nullable Converted<?> convertedPropagatedHeaders;
+
+    public Context(
+            Map<String, List<String>> headers,
+            ObservationRegistry observationRegistry,
+            ConcurrentMap<String, String> responseHeaders) {
+        this.headers = headers instanceof LazyHeaders ? headers : Map.copyOf(headers);
+        this.observationRegistry = observationRegistry;
+        this.responseHeaders = responseHeaders;
+    }
+
+    public Context(Map<String, List<String>> headers, ObservationRegistry observationRegistry) {
+        this(headers, observationRegistry, new ConcurrentHashMap<>());
+    }
+
+    public Map<String, List<String>> headers() {
+        return headers;
+    }
+
+    public ObservationRegistry observationRegistry() {
+        return observationRegistry;
+    }
+
+    public ConcurrentMap<String, String> responseHeaders() {
+        return responseHeaders;
     }
 
+    /**
+     * @return headers matching {@link ContextConsts#propagatedHeaders}, immutable
+     */
     public Map<String, List<String>> getPropagatedHeaders() {
+        var result = propagatedHeaders;
+        if (result == null) {
+            result = computePropagatedHeaders();
+            propagatedHeaders = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get propagated headers in the form of an outbound client, e.g. pre-built gRPC {@code Metadata.Key}s.
+     *
+     * <p> The result is cached per context for the last {@code converter},
+     * so {@code converter} should be a constant.
+     *
+     * @param converter converts {@link #getPropagatedHeaders()}
+     * @param <T>       converted type
+     * @return converted propagated headers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getPropagatedHeaders(Function<Map<String, List<String>>, T> converter) {
+        var converted = convertedPropagatedHeaders;
+        if (converted != null && converted.converter() == converter) {
+            return (T) converted.value();
+        }
+        var value = converter.apply(getPropagatedHeaders());
+        convertedPropagatedHeaders = new Converted<>(converter, value);
+        return value;
+    }
+
+    /**
+     * Called on the request thread when a task captures this context, the task may run after the request completes.
+     */
+    void onCaptured() {
+        if (headers instanceof LazyHeaders lazyHeaders) {
+            // Detach from the request before it's recycled by the container
+            lazyHeaders.materialize();
+        }
+    }
+
+    private Map<String, List<String>> computePropagatedHeaders() {
         var result = new HashMap<String, List<String>>();
         for (var entry : headers.entrySet()) {
             var name = entry.getKey();
             var values = entry.getValue();
-            var matched = ContextConsts.propagatedHeaders.stream().anyMatch(p -> p.test(name, values));
-            if (matched) {
-                result.put(name, values);
+            for (var predicate : ContextConsts.propagatedHeaders) {
+                if (predicate.test(name, values)) {
+                    result.put(name, values);
+                    break;
+                }
             }
         }
-        return result;
+        return Map.copyOf(result);
     }
+
+    @Override
+    public String toString() {
+        return "Context[headers=" + headers + ", responseHeaders=" + responseHeaders + "]";
+    }
+
+    private record Converted<T>(Function<?, T> converter, T value) {}
 }
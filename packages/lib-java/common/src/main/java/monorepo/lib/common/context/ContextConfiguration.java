@@ -2,6 +2,9 @@ package monorepo.lib.common.context;
 
 import grpcstarter.client.ConditionOnGrpcClientEnabled;
 import grpcstarter.server.ConditionOnGrpcServerEnabled;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.grpc.ObservationGrpcClientInterceptor;
 import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
 import io.micrometer.observation.ObservationRegistry;
@@ -12,6 +15,7 @@ import monorepo.lib.common.context.restclient.ContextualClientHttpRequestInterce
 import monorepo.lib.common.context.webmvc.ContextualOncePerRequestFilter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.restclient.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,16 +23,35 @@ import org.springframework.core.annotation.Order;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PayloadCaptureProperties.class)
 public class ContextConfiguration {
 
+    @Bean
+    public PayloadCapture payloadCapture(PayloadCaptureProperties properties) {
+        return new PayloadCapture(properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class PayloadCaptureMetrics {
+        @Bean
+        public MeterBinder payloadCaptureMeterBinder(PayloadCapture payloadCapture) {
+            return registry -> FunctionCounter.builder(
+                            "payload.capture.dropped", payloadCapture, PayloadCapture::getDroppedCount)
+                    .description("Captured payloads dropped because their encoding didn't finish in time")
+                    .register(registry);
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnWebApplication
     @ConditionalOnClass({OncePerRequestFilter.class})
     static class WebMvcServer {
         @Bean
         public ContextualOncePerRequestFilter contextualOncePerRequestFilter(
-                Optional<ObservationRegistry> observationRegistry) {
-            return new ContextualOncePerRequestFilter(observationRegistry.orElse(ObservationRegistry.NOOP));
+                Optional<ObservationRegistry> observationRegistry, PayloadCapture payloadCapture) {
+            return new ContextualOncePerRequestFilter(
+                    observationRegistry.orElse(ObservationRegistry.NOOP), payloadCapture);
         }
     }
 
@@ -36,8 +59,8 @@ public class ContextConfiguration {
     @ConditionalOnClass(RestClientCustomizer.class)
     static class RestClient {
         @Bean
-        public RestClientCustomizer contextualRestClientCustomizer() {
-            return builder -> builder.requestInterceptor(new ContextualClientHttpRequestInterceptor());
+        public RestClientCustomizer contextualRestClientCustomizer(PayloadCapture payloadCapture) {
+            return builder -> builder.requestInterceptor(new ContextualClientHttpRequestInterceptor(payloadCapture));
         }
     }
 
@@ -46,8 +69,9 @@ public class ContextConfiguration {
     static class GrpcServer {
         @Bean
         public ContextualServerInterceptor contextualServerInterceptor(
-                Optional<ObservationRegistry> observationRegistry) {
-            return new ContextualServerInterceptor(observationRegistry.orElse(ObservationRegistry.NOOP));
+                Optional<ObservationRegistry> observationRegistry, PayloadCapture payloadCapture) {
+            return new ContextualServerInterceptor(
+                    observationRegistry.orElse(ObservationRegistry.NOOP), payloadCapture);
         }
 
         @Configuration(proxyBeanMethods = false)
@@ -66,8 +90,8 @@ public class ContextConfiguration {
     @ConditionOnGrpcClientEnabled
     static class GrpcClient {
         @Bean
-        public ContextualClientInterceptor contextualClientInterceptor() {
-            return new ContextualClientInterceptor();
+        public ContextualClientInterceptor contextualClientInterceptor(PayloadCapture payloadCapture) {
+            return new ContextualClientInterceptor(payloadCapture);
         }
 
         @Configuration(proxyBeanMethods = false)
@@ -20,6 +20,12 @@ public final class ContextConsts {
      */
     public static final Set<String> opentelemetryHeaders = Set.of(/*"traceparent", "tracestate"*/ );
 
+    /**
+     * Read-your-writes session token, returned after writes and passed back by the client on following reads.
+     * It's specific to the database of a service, so it's not propagated.
+     */
+    public static final String CONSISTENCY_TOKEN_HEADER = "x-consistency-token";
+
     public static final Set<BiPredicate<String, List<String>>> propagatedHeaders = Set.of(
             // OpenTelemetry traces headers
             (key, _) -> opentelemetryHeaders.contains(key));
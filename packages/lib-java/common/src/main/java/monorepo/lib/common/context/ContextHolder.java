@@ -7,6 +7,16 @@ import org.jspecify.annotations.Nullable;
 /**
  * Context holder for request.
  *
+ * <p> The context is stored according to {@link Storage}, selected at startup by {@code context.storage}
+ * (see {@link monorepo.lib.common.config.DefaultConfigEnvironmentPostProcessor}):
+ * <ul>
+ *     <li>{@link Storage#THREAD_LOCAL} (default): bound in a {@link ThreadLocal}</li>
+ *     <li>{@link Storage#SCOPED_VALUE}: bound in a {@link ScopedValue}, bindings are immutable and cheap,
+ *     and inherited by {@code StructuredTaskScope} forks without wrapping</li>
+ * </ul>
+ *
+ * <p> Either way, tasks submitted to executors need {@link ContextualExecutorService} to carry the context.
+ *
  * @author Freeman
  * @since 2025/11/19
  */
@@ -14,7 +24,28 @@ public final class ContextHolder {
 
     private ContextHolder() {}
 
+    public enum Storage {
+        THREAD_LOCAL,
+        SCOPED_VALUE
+    }
+
     private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+    private static final ScopedValue<Context> SCOPED_CONTEXT = ScopedValue.newInstance();
+
+    private static volatile Storage storage = Storage.THREAD_LOCAL;
+
+    /**
+     * Select the storage, must be called at startup before any context is bound.
+     *
+     * @param storage storage of the context
+     */
+    public static void setStorage(Storage storage) {
+        ContextHolder.storage = storage;
+    }
+
+    public static Storage getStorage() {
+        return storage;
+    }
 
     public static Context get() {
         var ctx = getOrNull();
@@ -25,10 +56,16 @@ public final class ContextHolder {
     }
 
     public static @Nullable Context getOrNull() {
+        if (storage == Storage.SCOPED_VALUE) {
+            return SCOPED_CONTEXT.isBound() ? SCOPED_CONTEXT.get() : null;
+        }
         return CONTEXT.get();
     }
 
     public static <T> T getWithContext(Context context, Supplier<T> supplier) {
+        if (storage == Storage.SCOPED_VALUE) {
+            return ScopedValue.where(SCOPED_CONTEXT, context).call(supplier::get);
+        }
         var previous = getOrNull();
         set(context);
         try {
@@ -43,6 +80,9 @@ public final class ContextHolder {
     }
 
     public static <T> T callWithContext(Context context, Callable<T> callable) throws Exception {
+        if (storage == Storage.SCOPED_VALUE) {
+            return ScopedValue.where(SCOPED_CONTEXT, context).call(callable::call);
+        }
         var previous = getOrNull();
         set(context);
         try {
@@ -57,6 +97,10 @@ public final class ContextHolder {
     }
 
     public static void runWithContext(Context context, Runnable runnable) {
+        if (storage == Storage.SCOPED_VALUE) {
+            ScopedValue.where(SCOPED_CONTEXT, context).run(runnable);
+            return;
+        }
         var previous = getOrNull();
         set(context);
         try {
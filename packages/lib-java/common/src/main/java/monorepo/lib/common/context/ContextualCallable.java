@@ -23,6 +23,9 @@ final class ContextualCallable<T> implements Callable<T> {
         this.context = ContextHolder.getOrNull();
         this.parentObservation = context != null ? context.observationRegistry().getCurrentObservation() : null;
         this.parentThreadName = Thread.currentThread().getName();
+        if (context != null) {
+            context.onCaptured();
+        }
     }
 
     public static <T> ContextualCallable<T> of(Callable<T> delegate) {
@@ -22,6 +22,9 @@ final class ContextualRunnable implements Runnable {
         this.context = ContextHolder.getOrNull();
         this.parentObservation = context != null ? context.observationRegistry().getCurrentObservation() : null;
         this.parentThreadName = Thread.currentThread().getName();
+        if (context != null) {
+            context.onCaptured();
+        }
     }
 
     public static ContextualRunnable of(Runnable delegate) {
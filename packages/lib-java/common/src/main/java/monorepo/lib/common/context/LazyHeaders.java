@@ -0,0 +1,70 @@
+package monorepo.lib.common.context;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read-only headers view over the inbound request, headers are read from the request on demand.
+ *
+ * <p> Point lookups ({@link #get}, {@link #containsKey}) go to the request directly,
+ * the first full iteration copies all headers once, later reads are served from the copy.
+ * {@link Context} doesn't copy this map.
+ *
+ * <p> The request must not be modified while it's viewed, call {@link #materialize()} before the request is recycled.
+ * Tasks capturing the {@link Context} do so when they're created, see {@code Context#onCaptured()},
+ * requests without async work never copy their headers.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public abstract class LazyHeaders extends AbstractMap<String, List<String>> {
+
+    private volatile @Nullable Map<String, List<String>> materialized;
+
+    /**
+     * @param name header name
+     * @return values of the header, or {@code null} if absent
+     */
+    protected abstract @Nullable List<String> load(String name);
+
+    /**
+     * @return all headers of the request
+     */
+    protected abstract Map<String, List<String>> loadAll();
+
+    /**
+     * Copy all headers, detaching this view from the request.
+     *
+     * @return immutable copy of the headers
+     */
+    public final Map<String, List<String>> materialize() {
+        var result = materialized;
+        if (result == null) {
+            result = Map.copyOf(loadAll());
+            materialized = result;
+        }
+        return result;
+    }
+
+    @Override
+    public final @Nullable List<String> get(@Nullable Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        var copy = materialized;
+        return copy != null ? copy.get(name) : load(name);
+    }
+
+    @Override
+    public final boolean containsKey(@Nullable Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public final Set<Entry<String, List<String>>> entrySet() {
+        return materialize().entrySet();
+    }
+}
@@ -0,0 +1,269 @@
+package monorepo.lib.common.context;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import monorepo.lib.common.util.JsonUtil;
+import monorepo.lib.common.util.ThreadUtil;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.function.SingletonSupplier;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Policy of capturing payloads onto observations, shared by the contextual interceptors.
+ *
+ * <ul>
+ *     <li>Sampling: only observations of sampled traces are captured, and only {@code sampleRate} of them.
+ *     The decision is derived from the trace id, so all services capture the same traces.</li>
+ *     <li>Size: payloads are truncated to {@code maxSize}, JSON encoding stops once the limit is reached,
+ *     HTTP bodies are cut at a character boundary.</li>
+ *     <li>Content types: HTTP bodies are captured only for the allowed content types.</li>
+ *     <li>Encoding: {@link #encodeAsync} encodes on a virtual thread while the request is handled,
+ *     {@link #attach} adds the result just before the observation stops, a span can't be changed after that.
+ *     An encoding still running then is waited for at most {@code attachTimeout}, otherwise it's dropped
+ *     and counted by {@link #getDroppedCount()}.</li>
+ * </ul>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class PayloadCapture {
+
+    private static final boolean TRACING_PRESENT = ClassUtils.isPresent(
+            "io.micrometer.tracing.handler.TracingObservationHandler", PayloadCapture.class.getClassLoader());
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final int maxBytes;
+    private final List<MimeType> contentTypes;
+    private final long attachTimeoutNanos;
+    private final LongAdder dropped = new LongAdder();
+    private final Supplier<ObjectWriter> writer = SingletonSupplier.of(JsonUtil::writer);
+
+    public PayloadCapture(PayloadCaptureProperties properties) {
+        this.enabled = properties.enabled();
+        this.sampleRate = properties.sampleRate();
+        this.maxBytes = (int) properties.maxSize().toBytes();
+        this.contentTypes = properties.contentTypes().stream()
+                .map(MimeTypeUtils::parseMimeType)
+                .toList();
+        this.attachTimeoutNanos = properties.attachTimeout().toNanos();
+    }
+
+    /**
+     * @param observation current observation
+     * @return whether payloads of the observation should be captured
+     */
+    public boolean shouldCapture(@Nullable Observation observation) {
+        if (!enabled || sampleRate <= 0 || observation == null || observation.isNoop()) {
+            return false;
+        }
+        var traceId = TRACING_PRESENT ? Traces.getTraceId(observation) : Traces.NO_TRACE;
+        if (traceId == null) {
+            return false;
+        }
+        if (sampleRate >= 1) {
+            return true;
+        }
+        var fraction = traceId.isEmpty()
+                ? ThreadLocalRandom.current().nextDouble()
+                : (traceId.hashCode() & Integer.MAX_VALUE) / (double) Integer.MAX_VALUE;
+        return fraction < sampleRate;
+    }
+
+    /**
+     * @param contentType content type of an HTTP body
+     * @return whether the body should be captured
+     */
+    public boolean isCapturable(@Nullable String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MimeType mimeType;
+        try {
+            mimeType = MimeTypeUtils.parseMimeType(contentType);
+        } catch (InvalidMimeTypeException e) {
+            return false;
+        }
+        for (var allowed : contentTypes) {
+            if (allowed.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return max size of a captured payload in bytes
+     */
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Encode {@code payload} to JSON on a virtual thread, truncated to {@code maxSize}.
+     *
+     * <p> {@code payload} must not be modified afterward, protobuf messages and immutable collections are safe.
+     *
+     * @param payload payload
+     * @return future of the encoded payload
+     */
+    public CompletableFuture<String> encodeAsync(@Nullable Object payload) {
+        return ThreadUtil.supplyAsync(() -> encode(payload));
+    }
+
+    /**
+     * Encode {@code payload} to JSON, truncated to {@code maxSize}.
+     *
+     * @param payload payload
+     * @return encoded payload
+     */
+    public String encode(@Nullable Object payload) {
+        var out = new LimitedWriter(maxBytes);
+        try {
+            writer.get().writeValue(out, payload);
+        } catch (RuntimeException e) {
+            if (!out.truncated) {
+                return "(failed to encode payload: " + e.getMessage() + ")";
+            }
+        }
+        return out.truncated ? out.sb + "...(truncated)" : out.sb.toString();
+    }
+
+    /**
+     * Decode an HTTP body, truncated to {@code maxSize} at a UTF-8 character boundary.
+     *
+     * @param body   captured body, may be a prefix of the full body
+     * @param length length of the full body, or -1 if unknown and longer than {@code body}
+     * @return decoded body
+     */
+    public String decode(byte[] body, long length) {
+        if (length >= 0 && length <= Math.min(body.length, maxBytes)) {
+            return new String(body, 0, (int) length, StandardCharsets.UTF_8);
+        }
+        var end = utf8Boundary(body, Math.min(body.length, maxBytes));
+        var decoded = new String(body, 0, end, StandardCharsets.UTF_8);
+        return length >= 0 ? decoded + "...(truncated, " + length + " bytes)" : decoded + "...(truncated)";
+    }
+
+    /**
+     * Add the encoded payload to the observation, waits at most {@code attachTimeout} for an unfinished encoding.
+     *
+     * @param observation observation
+     * @param key         key of the high cardinality key value
+     * @param payload     future from {@link #encodeAsync}
+     */
+    public void attach(Observation observation, String key, @Nullable CompletableFuture<String> payload) {
+        if (payload == null) {
+            return;
+        }
+        String value;
+        try {
+            value = payload.get(attachTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            payload.cancel(false);
+            dropped.increment();
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            payload.cancel(false);
+            dropped.increment();
+            return;
+        } catch (ExecutionException | CancellationException e) {
+            dropped.increment();
+            return;
+        }
+        observation.highCardinalityKeyValue(key, value);
+    }
+
+    /**
+     * @return number of payloads dropped because their encoding didn't finish in time
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return {@code end}, or the start of the last character if it doesn't end before {@code end}
+     */
+    private static int utf8Boundary(byte[] bytes, int end) {
+        var start = end;
+        while (start > 0 && end - start < 3 && (bytes[start - 1] & 0xC0) == 0x80) {
+            start--;
+        }
+        if (start == 0) {
+            return end;
+        }
+        var lead = bytes[start - 1] & 0xFF;
+        var size = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        return end - (start - 1) < size ? start - 1 : end;
+    }
+
+    /**
+     * Referenced only if micrometer-tracing is present.
+     */
+    private static final class Traces {
+        private static final String NO_TRACE = "";
+
+        /**
+         * @return trace id if sampled, {@link #NO_TRACE} if the observation has no span, {@code null} if not sampled
+         */
+        private static @Nullable String getTraceId(Observation observation) {
+            var tracingContext = observation.getContextView().get(TracingObservationHandler.TracingContext.class);
+            var span = tracingContext != null ? tracingContext.getSpan() : null;
+            if (span == null) {
+                return NO_TRACE;
+            }
+            var traceContext = span.context();
+            return Boolean.TRUE.equals(traceContext.sampled()) ? traceContext.traceId() : null;
+        }
+    }
+
+    /**
+     * Stops the encoding by failing the write once {@code maxBytes} UTF-8 bytes are written.
+     */
+    private static final class LimitedWriter extends Writer {
+        private final StringBuilder sb = new StringBuilder();
+        private final int maxBytes;
+        private int bytes;
+        private boolean truncated;
+
+        private LimitedWriter(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                var c = cbuf[i];
+                bytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+                if (bytes > maxBytes) {
+                    truncated = true;
+                    throw new IOException("Payload exceeds " + maxBytes + " bytes");
+                }
+                sb.append(c);
+            }
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
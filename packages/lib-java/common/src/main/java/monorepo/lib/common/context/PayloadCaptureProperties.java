@@ -0,0 +1,48 @@
+package monorepo.lib.common.context;
+
+import java.time.Duration;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Request/response payload capture onto observations, see {@link PayloadCapture}.
+ *
+ * @param enabled      whether payloads are captured, default true
+ * @param sampleRate   fraction of sampled traces whose payloads are captured, from 0 to 1, default 1
+ * @param maxSize      payloads are truncated to this size, default 4KB
+ * @param contentTypes content types of HTTP bodies to capture, default JSON types
+ * @param attachTimeout max time to wait for an unfinished encoding when the observation stops, default 10ms
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@ConfigurationProperties(PayloadCaptureProperties.PREFIX)
+public record PayloadCaptureProperties(
+        Boolean enabled, Double sampleRate, DataSize maxSize, List<String> contentTypes, Duration attachTimeout) {
+
+    public static final String PREFIX = "context.payload-capture";
+
+    public PayloadCaptureProperties(
+            @Nullable Boolean enabled,
+            @Nullable Double sampleRate,
+            @Nullable DataSize maxSize,
+            @Nullable List<String> contentTypes,
+            @Nullable Duration attachTimeout) {
+        this.enabled = enabled != null ? enabled : true;
+        this.sampleRate = sampleRate != null ? sampleRate : 1.0;
+        this.maxSize = maxSize != null ? maxSize : DataSize.ofKilobytes(4);
+        this.contentTypes =
+                contentTypes != null ? List.copyOf(contentTypes) : List.of("application/json", "application/*+json");
+        this.attachTimeout = attachTimeout != null ? attachTimeout : Duration.ofMillis(10);
+        if (this.sampleRate < 0 || this.sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        if (this.maxSize.toBytes() <= 0 || this.maxSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxSize must be positive and less than 2GB");
+        }
+        if (this.attachTimeout.isNegative()) {
+            throw new IllegalArgumentException("attachTimeout must not be negative");
+        }
+    }
+}
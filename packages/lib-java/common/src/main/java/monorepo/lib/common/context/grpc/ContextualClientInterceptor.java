@@ -5,12 +5,19 @@ import io.grpc.Channel;
 import io.grpc.ClientCall;
 import io.grpc.ClientInterceptor;
 import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
+import io.grpc.Status;
 import io.micrometer.observation.Observation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import monorepo.lib.common.context.Context;
 import monorepo.lib.common.context.ContextHolder;
-import monorepo.lib.common.util.JsonUtil;
+import monorepo.lib.common.context.PayloadCapture;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -21,6 +28,15 @@ import org.jspecify.annotations.Nullable;
  */
 public final class ContextualClientInterceptor implements ClientInterceptor {
 
+    private static final Function<Map<String, List<String>>, List<PropagatedHeader>> TO_PROPAGATED_HEADERS =
+            ContextualClientInterceptor::toPropagatedHeaders;
+
+    private final PayloadCapture payloadCapture;
+
+    public ContextualClientInterceptor(PayloadCapture payloadCapture) {
+        this.payloadCapture = payloadCapture;
+    }
+
     @Override
     public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
             MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
@@ -30,42 +46,81 @@ public final class ContextualClientInterceptor implements ClientInterceptor {
         }
 
         var call = next.newCall(method, callOptions);
-        return new ContextualClientCall<>(call, context, method);
+        return new ContextualClientCall<>(call, context, method, payloadCapture);
+    }
+
+    private static List<PropagatedHeader> toPropagatedHeaders(Map<String, List<String>> headers) {
+        var result = new ArrayList<PropagatedHeader>(headers.size());
+        for (var entry : headers.entrySet()) {
+            var key = Metadata.Key.of(entry.getKey(), Metadata.ASCII_STRING_MARSHALLER);
+            result.add(new PropagatedHeader(key, entry.getValue()));
+        }
+        return List.copyOf(result);
     }
 
+    private record PropagatedHeader(Metadata.Key<String> key, List<String> values) {}
+
+    /**
+     * Captured payloads are attached on close, before the observation is stopped by the outer interceptor.
+     */
     private static final class ContextualClientCall<Req, Resp>
             extends ForwardingClientCall.SimpleForwardingClientCall<Req, Resp> {
 
         private final Context context;
 
+        private final PayloadCapture payloadCapture;
+
+        /**
+         * Non-null if payloads are captured.
+         */
         private final @Nullable Observation observation;
 
-        private final MethodDescriptor<Req, Resp> method;
+        private volatile @Nullable CompletableFuture<String> requestMessage;
 
-        ContextualClientCall(ClientCall<Req, Resp> delegate, Context context, MethodDescriptor<Req, Resp> method) {
+        ContextualClientCall(
+                ClientCall<Req, Resp> delegate,
+                Context context,
+                MethodDescriptor<Req, Resp> method,
+                PayloadCapture payloadCapture) {
             super(delegate);
             this.context = context;
-            this.observation = context.observationRegistry().getCurrentObservation();
-            this.method = method;
+            this.payloadCapture = payloadCapture;
+            var current = context.observationRegistry().getCurrentObservation();
+            this.observation = method.getType() == MethodDescriptor.MethodType.UNARY
+                            && payloadCapture.shouldCapture(current)
+                    ? current
+                    : null;
         }
 
         @Override
         public void start(Listener<Resp> responseListener, Metadata headers) {
-            for (var entry : context.getPropagatedHeaders().entrySet()) {
-                var key = Metadata.Key.of(entry.getKey(), Metadata.ASCII_STRING_MARSHALLER);
-                if (!headers.containsKey(key)) {
-                    for (var value : entry.getValue()) {
-                        headers.put(key, value);
+            for (var header : context.getPropagatedHeaders(TO_PROPAGATED_HEADERS)) {
+                if (!headers.containsKey(header.key())) {
+                    for (var value : header.values()) {
+                        headers.put(header.key(), value);
                     }
                 }
             }
-            super.start(responseListener, headers);
+            var obs = observation;
+            if (obs == null) {
+                super.start(responseListener, headers);
+                return;
+            }
+            super.start(
+                    new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            payloadCapture.attach(obs, "grpc.request.message", requestMessage);
+                            super.onClose(status, trailers);
+                        }
+                    },
+                    headers);
         }
 
         @Override
         public void sendMessage(Req message) {
-            if (observation != null && !observation.isNoop() && method.getType() == MethodDescriptor.MethodType.UNARY) {
-                observation.highCardinalityKeyValue("grpc.request.message", JsonUtil.stringify(message));
+            if (observation != null && requestMessage == null) {
+                requestMessage = payloadCapture.encodeAsync(message);
             }
             super.sendMessage(message);
         }
@@ -1,21 +1,20 @@
 package monorepo.lib.common.context.grpc;
 
+import io.grpc.ForwardingServerCall;
 import io.grpc.ForwardingServerCallListener;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import monorepo.lib.common.context.Context;
 import monorepo.lib.common.context.ContextHolder;
-import monorepo.lib.common.util.JsonUtil;
+import monorepo.lib.common.context.PayloadCapture;
 
 /**
  * Contextual server interceptor for gRPC.
@@ -26,35 +25,78 @@ import monorepo.lib.common.util.JsonUtil;
 public final class ContextualServerInterceptor implements ServerInterceptor {
 
     private final ObservationRegistry observationRegistry;
+    private final PayloadCapture payloadCapture;
 
-    public ContextualServerInterceptor(ObservationRegistry observationRegistry) {
+    public ContextualServerInterceptor(ObservationRegistry observationRegistry, PayloadCapture payloadCapture) {
         this.observationRegistry = observationRegistry;
+        this.payloadCapture = payloadCapture;
     }
 
     @Override
     public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
             ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
         var ctx = buildContext(headers);
+        var observation = observationRegistry.getCurrentObservation();
+        var capture = call.getMethodDescriptor().getType() == MethodDescriptor.MethodType.UNARY
+                && payloadCapture.shouldCapture(observation);
+        var contextualCall = new ContextualServerCall<>(call, ctx, payloadCapture, capture ? observation : null);
         return ContextHolder.getWithContext(
-                ctx, () -> new ContextualListener<>(next.startCall(call, headers), ctx, call.getMethodDescriptor()));
+                ctx, () -> new ContextualListener<>(next.startCall(contextualCall, headers), contextualCall));
     }
 
     private Context buildContext(Metadata metadata) {
-        var headers = getHeaders(metadata);
-        return new Context(headers, observationRegistry);
+        return new Context(new MetadataHeaders(metadata), observationRegistry);
     }
 
-    private static Map<String, List<String>> getHeaders(Metadata headers) {
-        var result = new HashMap<String, List<String>>();
-        for (var key : headers.keys()) {
-            var values = headers.getAll(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER));
-            if (values != null) {
-                for (var value : values) {
-                    result.computeIfAbsent(key, _ -> new ArrayList<>()).add(value);
-                }
+    /**
+     * Send {@link Context#responseHeaders()} as trailers, they are usually known only after the call is handled.
+     *
+     * <p> Captured payloads are attached on close, before the observation is stopped by the outer interceptor.
+     */
+    private static final class ContextualServerCall<Req, Resp>
+            extends ForwardingServerCall.SimpleForwardingServerCall<Req, Resp> {
+
+        private final Context context;
+
+        private final PayloadCapture payloadCapture;
+
+        /**
+         * Non-null if payloads are captured.
+         */
+        private final @Nullable Observation observation;
+
+        private volatile @Nullable CompletableFuture<String> requestMessage;
+        private volatile @Nullable CompletableFuture<String> requestMetadata;
+
+        private ContextualServerCall(
+                ServerCall<Req, Resp> delegate,
+                Context context,
+                PayloadCapture payloadCapture,
+                @Nullable Observation observation) {
+            super(delegate);
+            this.context = context;
+            this.payloadCapture = payloadCapture;
+            this.observation = observation;
+        }
+
+        private void capture(Object message) {
+            if (observation != null && requestMessage == null) {
+                requestMessage = payloadCapture.encodeAsync(message);
+                requestMetadata = payloadCapture.encodeAsync(context.headers());
             }
         }
-        return result;
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            for (var entry : context.responseHeaders().entrySet()) {
+                trailers.put(Metadata.Key.of(entry.getKey(), Metadata.ASCII_STRING_MARSHALLER), entry.getValue());
+            }
+            if (observation != null) {
+                payloadCapture.attach(observation, "grpc.request.message", requestMessage);
+                payloadCapture.attach(observation, "grpc.request.metadata", requestMetadata);
+            }
+            super.close(status, trailers);
+        }
     }
 
     private static final class ContextualListener<Req>
@@ -62,27 +104,18 @@ public final class ContextualServerInterceptor implements ServerInterceptor {
 
         private final Context context;
 
-        private final @Nullable Observation observation;
-
-        private final MethodDescriptor<?, ?> descriptor;
+        private final ContextualServerCall<Req, ?> call;
 
-        private ContextualListener(
-                ServerCall.Listener<Req> delegate, Context context, MethodDescriptor<?, ?> descriptor) {
+        private ContextualListener(ServerCall.Listener<Req> delegate, ContextualServerCall<Req, ?> call) {
             super(delegate);
-            this.context = context;
-            this.observation = context.observationRegistry().getCurrentObservation();
-            this.descriptor = descriptor;
+            this.context = call.context;
+            this.call = call;
         }
 
         @Override
         public void onMessage(Req message) {
             doInContext(() -> {
-                if (observation != null
-                        && !observation.isNoop()
-                        && descriptor.getType() == MethodDescriptor.MethodType.UNARY) {
-                    observation.highCardinalityKeyValue("grpc.request.message", JsonUtil.stringify(message));
-                    observation.highCardinalityKeyValue("grpc.request.metadata", JsonUtil.stringify(context.headers()));
-                }
+                call.capture(message);
                 super.onMessage(message);
             });
         }
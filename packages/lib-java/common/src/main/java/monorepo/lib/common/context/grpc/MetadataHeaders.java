@@ -0,0 +1,50 @@
+package monorepo.lib.common.context.grpc;
+
+import io.grpc.Metadata;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import monorepo.lib.common.context.LazyHeaders;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link LazyHeaders} over inbound gRPC {@link Metadata}, binary headers ({@code -bin}) are skipped.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+final class MetadataHeaders extends LazyHeaders {
+
+    private final Metadata metadata;
+
+    MetadataHeaders(Metadata metadata) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    protected @Nullable List<String> load(String name) {
+        if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+            return null;
+        }
+        var values = metadata.getAll(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER));
+        if (values == null) {
+            return null;
+        }
+        var result = new ArrayList<String>();
+        values.forEach(result::add);
+        return List.copyOf(result);
+    }
+
+    @Override
+    protected Map<String, List<String>> loadAll() {
+        var result = new HashMap<String, List<String>>();
+        for (var name : metadata.keys()) {
+            var values = load(name);
+            if (values != null) {
+                result.put(name, values);
+            }
+        }
+        return result;
+    }
+}
@@ -1,15 +1,22 @@
 package monorepo.lib.common.context.restclient;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import monorepo.lib.common.context.ContextHolder;
+import monorepo.lib.common.context.PayloadCapture;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
-import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 
 public final class ContextualClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final PayloadCapture payloadCapture;
+
+    public ContextualClientHttpRequestInterceptor(PayloadCapture payloadCapture) {
+        this.payloadCapture = payloadCapture;
+    }
+
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
             throws IOException {
@@ -20,27 +27,20 @@ public final class ContextualClientHttpRequestInterceptor implements ClientHttpR
 
         // Record request body to observation
         var observation = context.observationRegistry().getCurrentObservation();
-        if (observation != null && !observation.isNoop()) {
-            observation.highCardinalityKeyValue("http.request.body", extractRequestBody(request, body));
+        if (observation != null && body.length > 0 && payloadCapture.shouldCapture(observation)) {
+            var contentType = request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+            if (payloadCapture.isCapturable(contentType)) {
+                observation.highCardinalityKeyValue("http.request.body", payloadCapture.decode(body, body.length));
+            }
         }
 
+        var headers = request.getHeaders();
         for (var en : context.getPropagatedHeaders().entrySet()) {
             var name = en.getKey();
-            var headers = request.getHeaders();
             if (!headers.containsHeader(name)) {
                 headers.put(name, en.getValue());
             }
         }
         return execution.execute(request, body);
     }
-
-    private static String extractRequestBody(HttpRequest request, byte[] body) {
-        var contentType = request.getHeaders().getContentType();
-        if (contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
-            if (body.length > 0) {
-                return new String(body, StandardCharsets.UTF_8);
-            }
-        }
-        return "";
-    }
 }
@@ -6,15 +6,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import monorepo.lib.common.context.Context;
 import monorepo.lib.common.context.ContextHolder;
-import monorepo.lib.common.util.JsonUtil;
-import org.springframework.http.MediaType;
+import monorepo.lib.common.context.PayloadCapture;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 
@@ -27,28 +21,43 @@ import org.springframework.web.util.ContentCachingRequestWrapper;
 public final class ContextualOncePerRequestFilter extends OncePerRequestFilter {
 
     private final ObservationRegistry observationRegistry;
+    private final PayloadCapture payloadCapture;
 
-    public ContextualOncePerRequestFilter(ObservationRegistry observationRegistry) {
+    public ContextualOncePerRequestFilter(ObservationRegistry observationRegistry, PayloadCapture payloadCapture) {
         this.observationRegistry = observationRegistry;
+        this.payloadCapture = payloadCapture;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // Wrap request to cache the body for reading
-        var wrappedRequest = new ContentCachingRequestWrapper(request, 0);
+        var observation = observationRegistry.getCurrentObservation();
+        var capture = observation != null && payloadCapture.shouldCapture(observation);
 
-        var context = buildContext(wrappedRequest);
+        // Wrap request to cache the body for reading, only if the body is captured
+        var cachingRequest = capture && payloadCapture.isCapturable(request.getContentType())
+                ? new CappedRequestWrapper(request, payloadCapture.getMaxBytes())
+                : null;
+        var wrappedRequest = cachingRequest != null ? cachingRequest : request;
+
+        var headers = new ServletRequestHeaders(wrappedRequest);
+        var context = new Context(headers, observationRegistry);
+        var capturedHeaders = capture ? payloadCapture.encodeAsync(headers.materialize()) : null;
         ContextHolder.runWithContext(context, () -> {
             try {
                 filterChain.doFilter(wrappedRequest, response);
 
                 // Read and record request body after the filter chain completes
-                var observation = observationRegistry.getCurrentObservation();
-                if (observation != null && !observation.isNoop()) {
-                    observation.highCardinalityKeyValue("http.request.body", extractRequestBody(wrappedRequest));
-                    observation.highCardinalityKeyValue("http.request.headers", JsonUtil.stringify(context.headers()));
+                if (observation != null && capture) {
+                    if (cachingRequest != null) {
+                        var content = cachingRequest.getContentAsByteArray();
+                        if (content.length > 0) {
+                            observation.highCardinalityKeyValue(
+                                    "http.request.body", payloadCapture.decode(content, cachingRequest.length()));
+                        }
+                    }
+                    payloadCapture.attach(observation, "http.request.headers", capturedHeaders);
                 }
             } catch (Throwable t) {
                 sneakyThrow(t);
@@ -56,43 +65,31 @@ public final class ContextualOncePerRequestFilter extends OncePerRequestFilter {
         });
     }
 
-    private static String extractRequestBody(ContentCachingRequestWrapper request) {
-        try {
-            var mediaType = MediaType.parseMediaType(request.getContentType());
-            if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
-                var content = request.getContentAsByteArray();
-                if (content.length > 0) {
-                    return new String(content, StandardCharsets.UTF_8);
-                }
-            }
-            return "";
-        } catch (Exception e) {
-            return "(failed to extract request body: " + e.getMessage() + ")";
-        }
-    }
+    /**
+     * Caches at most {@code maxBytes} of the body, and remembers whether the body was longer.
+     */
+    private static final class CappedRequestWrapper extends ContentCachingRequestWrapper {
+        private boolean overflowed;
 
-    private Context buildContext(HttpServletRequest request) {
-        var headers = getHeaders(request);
-        return new Context(headers, observationRegistry);
-    }
+        private CappedRequestWrapper(HttpServletRequest request, int maxBytes) {
+            super(request, maxBytes);
+        }
 
-    private static Map<String, List<String>> getHeaders(HttpServletRequest request) {
-        var result = new HashMap<String, List<String>>();
-        var names = request.getHeaderNames();
-        while (names.hasMoreElements()) {
-            var name = names.nextElement();
-            result.put(name, getValues(request, name));
+        @Override
+        protected void handleContentOverflow(int contentCacheLimit) {
+            overflowed = true;
         }
-        return result;
-    }
 
-    private static List<String> getValues(HttpServletRequest request, String headerName) {
-        var result = new ArrayList<String>();
-        var values = request.getHeaders(headerName);
-        while (values.hasMoreElements()) {
-            result.add(values.nextElement());
+        /**
+         * @return length of the full body, or -1 if unknown and longer than the cached content
+         */
+        private long length() {
+            var contentLength = getContentLengthLong();
+            if (contentLength >= 0) {
+                return contentLength;
+            }
+            return overflowed ? -1 : getContentAsByteArray().length;
         }
-        return result;
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,47 @@
+package monorepo.lib.common.context.webmvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import monorepo.lib.common.context.LazyHeaders;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link LazyHeaders} over {@link HttpServletRequest}, point lookups are case-insensitive as the servlet API.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+final class ServletRequestHeaders extends LazyHeaders {
+
+    private final HttpServletRequest request;
+
+    ServletRequestHeaders(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    protected @Nullable List<String> load(String name) {
+        var values = request.getHeaders(name);
+        if (values == null || !values.hasMoreElements()) {
+            return null;
+        }
+        return List.copyOf(Collections.list(values));
+    }
+
+    @Override
+    protected Map<String, List<String>> loadAll() {
+        var result = new HashMap<String, List<String>>();
+        var names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            var name = names.nextElement();
+            var values = load(name);
+            if (values != null) {
+                result.put(name, values);
+            }
+        }
+        return result;
+    }
+}
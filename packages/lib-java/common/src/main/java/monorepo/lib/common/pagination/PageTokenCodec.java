@@ -0,0 +1,222 @@
+package monorepo.lib.common.pagination;
+
+import com.google.protobuf.ProtocolMessageEnum;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import monorepo.lib.common.util.JsonUtil;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Encode/decode {@link PageTokenState} to/from a compact, signed page token.
+ *
+ * <p> Token layout (before Base64 URL encoding):
+ * <pre>{@code
+ * version(1) | payload | hmac(16)
+ * }</pre>
+ *
+ * <p> Last values are stored in typed slots, so that decoding doesn't need to parse strings:
+ * <ul>
+ *     <li>{@link Long}</li>
+ *     <li>{@link Integer}, {@link ProtocolMessageEnum} is stored as its number and decoded as {@link Integer}</li>
+ *     <li>{@link String}</li>
+ *     <li>{@link Instant}</li>
+ *     <li>{@link LocalDate}</li>
+ * </ul>
+ *
+ * <p> The HMAC is verified before the payload is read, tampered tokens are rejected with {@link IllegalArgumentException}.
+ *
+ * <p> Legacy JSON tokens aren't signed, so anyone can forge them.
+ * They are only decoded before {@code legacyJsonUntil} (the end of the rollout window), and rejected by default.
+ * Last values of legacy tokens are strings.
+ *
+ * <p> This class is thread-safe.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class PageTokenCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_LENGTH = 16;
+
+    private static final byte VERSION_1 = 1;
+    private static final byte LEGACY_JSON = '{';
+
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_STRING = 3;
+    private static final byte TYPE_INSTANT = 4;
+    private static final byte TYPE_LOCAL_DATE = 5;
+
+    private final Mac prototype;
+    private final @Nullable Instant legacyJsonUntil;
+
+    public PageTokenCodec(String secret) {
+        this(secret, null);
+    }
+
+    /**
+     * @param secret          HMAC secret
+     * @param legacyJsonUntil legacy JSON tokens are decoded before this instant, {@code null} to reject them
+     */
+    public PageTokenCodec(String secret, @Nullable Instant legacyJsonUntil) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Page token secret must not be blank");
+        }
+        try {
+            this.prototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to init " + HMAC_ALGORITHM, e);
+        }
+        this.legacyJsonUntil = legacyJsonUntil;
+    }
+
+    public String encode(PageTokenState state) {
+        var out = new ByteArrayOutputStream(64);
+        out.write(VERSION_1);
+        try (var data = new DataOutputStream(out)) {
+            data.writeShort(state.lastValues().size());
+            for (var entry : state.lastValues().entrySet()) {
+                data.writeUTF(entry.getKey());
+                writeValue(data, entry.getValue());
+            }
+            data.writeUTF(state.filterHash());
+            data.writeUTF(state.sortHash());
+            var totalSize = state.totalSize();
+            data.writeBoolean(totalSize != null);
+            if (totalSize != null) {
+                data.writeLong(totalSize);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var payload = out.toByteArray();
+        var token = Arrays.copyOf(payload, payload.length + HMAC_LENGTH);
+        System.arraycopy(sign(payload, payload.length), 0, token, payload.length, HMAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Decode page token.
+     *
+     * @param pageToken page token
+     * @return page token state
+     * @throws IllegalArgumentException if the token is malformed or tampered
+     */
+    public PageTokenState decode(String pageToken) {
+        var token = Base64.getUrlDecoder().decode(pageToken);
+        if (token.length == 0) {
+            throw new IllegalArgumentException("Empty page token");
+        }
+        return switch (token[0]) {
+            case VERSION_1 -> decodeV1(token);
+            case LEGACY_JSON -> decodeLegacyJson(token);
+            default -> throw new IllegalArgumentException("Unsupported page token version: " + token[0]);
+        };
+    }
+
+    private PageTokenState decodeV1(byte[] token) {
+        var payloadLength = token.length - HMAC_LENGTH;
+        if (payloadLength <= 1) {
+            throw new IllegalArgumentException("Page token too short");
+        }
+        var expected = sign(token, payloadLength);
+        var actual = Arrays.copyOfRange(token, payloadLength, token.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("Page token signature mismatch");
+        }
+
+        try (var data = new DataInputStream(new ByteArrayInputStream(token, 1, payloadLength - 1))) {
+            int size = data.readUnsignedShort();
+            var lastValues = LinkedHashMap.<String, Object>newLinkedHashMap(size);
+            for (int i = 0; i < size; i++) {
+                lastValues.put(data.readUTF(), readValue(data));
+            }
+            var filterHash = data.readUTF();
+            var sortHash = data.readUTF();
+            var totalSize = data.readBoolean() ? data.readLong() : null;
+            return new PageTokenState(lastValues, filterHash, sortHash, totalSize);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed page token", e);
+        }
+    }
+
+    private PageTokenState decodeLegacyJson(byte[] token) {
+        if (legacyJsonUntil == null || !Instant.now().isBefore(legacyJsonUntil)) {
+            throw new IllegalArgumentException("Legacy JSON page tokens are no longer accepted");
+        }
+        return JsonUtil.parse(new String(token, StandardCharsets.UTF_8), PageTokenState.class);
+    }
+
+    private byte[] sign(byte[] bytes, int length) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not cloneable", e);
+        }
+        mac.update(bytes, 0, length);
+        return Arrays.copyOf(mac.doFinal(), HMAC_LENGTH);
+    }
+
+    private static void writeValue(DataOutputStream data, Object value) throws IOException {
+        switch (value) {
+            case Long l -> {
+                data.writeByte(TYPE_LONG);
+                data.writeLong(l);
+            }
+            case Integer i -> {
+                data.writeByte(TYPE_INT);
+                data.writeInt(i);
+            }
+            case ProtocolMessageEnum e -> {
+                data.writeByte(TYPE_INT);
+                data.writeInt(e.getNumber());
+            }
+            case String s -> {
+                data.writeByte(TYPE_STRING);
+                data.writeUTF(s);
+            }
+            case Instant instant -> {
+                data.writeByte(TYPE_INSTANT);
+                data.writeLong(instant.getEpochSecond());
+                data.writeInt(instant.getNano());
+            }
+            case LocalDate date -> {
+                data.writeByte(TYPE_LOCAL_DATE);
+                data.writeLong(date.toEpochDay());
+            }
+            default ->
+                throw new IllegalArgumentException(
+                        "Unsupported page token value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream data) throws IOException {
+        var type = data.readByte();
+        return switch (type) {
+            case TYPE_LONG -> data.readLong();
+            case TYPE_INT -> data.readInt();
+            case TYPE_STRING -> data.readUTF();
+            case TYPE_INSTANT -> Instant.ofEpochSecond(data.readLong(), data.readInt());
+            case TYPE_LOCAL_DATE -> LocalDate.ofEpochDay(data.readLong());
+            default -> throw new IllegalArgumentException("Unknown page token value type: " + type);
+        };
+    }
+}
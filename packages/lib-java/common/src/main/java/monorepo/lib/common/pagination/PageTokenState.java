@@ -1,32 +1,29 @@
 package monorepo.lib.common.pagination;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.Map;
-import monorepo.lib.common.util.JsonUtil;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Page token state for cursor-based pagination.
  * Stores the last record's sorting field values to enable accurate pagination with custom sort orders.
  *
+ * <p> {@code lastValues} are typed, see {@link PageTokenCodec} for the supported types.
+ *
+ * <p> {@code totalSize} is optional, it carries the total size computed on the first page,
+ * so that subsequent pages don't need to count again.
+ *
  * @author Freeman
  * @since 2025/12/4
+ * @see PageTokenCodec
  */
-public record PageTokenState(Map<String, String> lastValues, String filterHash, String sortHash) {
+public record PageTokenState(
+        Map<String, Object> lastValues, String filterHash, String sortHash, @Nullable Long totalSize) {
 
     public PageTokenState {
         lastValues = lastValues == null ? Map.of() : lastValues;
     }
 
-    public String toPageToken() {
-        var json = JsonUtil.stringify(this);
-        var combined = Base64.getUrlEncoder().withoutPadding().encode(json.getBytes(StandardCharsets.UTF_8));
-        return new String(combined, StandardCharsets.UTF_8);
-    }
-
-    public static PageTokenState fromPageToken(String pageToken) {
-        var combined = Base64.getUrlDecoder().decode(pageToken);
-        var json = new String(combined, StandardCharsets.UTF_8);
-        return JsonUtil.parse(json, PageTokenState.class);
+    public PageTokenState(Map<String, Object> lastValues, String filterHash, String sortHash) {
+        this(lastValues, filterHash, sortHash, null);
     }
 }
@@ -2,6 +2,7 @@ package monorepo.lib.common.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jacksonmodule.protobuf.v3.ProtobufModule;
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -59,6 +60,29 @@ public final class JsonUtil {
         return writer.writeValueAsString(obj);
     }
 
+    /**
+     * Get a reader for the given type, for callers that parse the same type repeatedly, e.g. from bytes or streams.
+     *
+     * <p> The reader is immutable and thread-safe, cache it instead of calling this method per value.
+     *
+     * @param type target type
+     * @return reader bound to the type
+     */
+    public static ObjectReader reader(Type type) {
+        return jsonMapper().readerFor(jsonMapper().constructType(type));
+    }
+
+    /**
+     * Get the writer used by {@link #stringify}, for callers that write to bytes or streams.
+     *
+     * <p> The writer is immutable and thread-safe, cache it instead of calling this method per value.
+     *
+     * @return writer
+     */
+    public static ObjectWriter writer() {
+        return jsonMapper().writer();
+    }
+
     @SafeVarargs
     @SuppressWarnings({"TypeParameterUnusedInFormals"})
     private static <T> T parse(String json, JavaType type, Function<ObjectReader, ObjectReader>... customizers) {
@@ -0,0 +1,218 @@
+package monorepo.lib.common.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded lane of work against one downstream, e.g. a data source or a host.
+ *
+ * <p> At most {@code maxConcurrency} tasks of a lane run at the same time, others wait in FIFO order.
+ * A task that waits longer than {@code queueTimeout} is rejected with {@link RejectedException}
+ * instead of piling up on the downstream, e.g. waiting for a Hikari connection.
+ *
+ * <p> Get a lane by {@link ThreadUtil#lane(String)}, lanes are configured by {@link LaneProperties}.
+ *
+ * <p> Metrics, tagged by {@code lane}, bound once a {@link MeterRegistry} is available:
+ * <ul>
+ *     <li>{@code lane.queue.wait{outcome=admitted|rejected}}: time waiting for admission</li>
+ *     <li>{@code lane.execution{outcome=success|error}}: run time of admitted tasks</li>
+ *     <li>{@code lane.in.flight}: running tasks</li>
+ *     <li>{@code lane.queued}: tasks waiting for admission</li>
+ * </ul>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class Lane {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+    private volatile @Nullable Metrics metrics;
+
+    public Lane(String name, int maxConcurrency, Duration queueTimeout, @Nullable MeterRegistry meterRegistry) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        if (queueTimeout.isNegative()) {
+            throw new IllegalArgumentException("queueTimeout must not be negative");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.permits = new Semaphore(maxConcurrency, true);
+        if (meterRegistry != null) {
+            bindTo(meterRegistry);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Run the supplier on the current thread once admitted.
+     *
+     * @param supplier supplier
+     * @param <T>      result type
+     * @return result of the supplier
+     * @throws RejectedException if not admitted within {@code queueTimeout}
+     */
+    public <T> T call(Supplier<T> supplier) {
+        acquire();
+        var start = System.nanoTime();
+        var success = false;
+        try {
+            var result = supplier.get();
+            success = true;
+            return result;
+        } finally {
+            release(start, success);
+        }
+    }
+
+    /**
+     * Run the runnable on the current thread once admitted.
+     *
+     * @param runnable runnable
+     * @throws RejectedException if not admitted within {@code queueTimeout}
+     */
+    public void run(Runnable runnable) {
+        acquire();
+        var start = System.nanoTime();
+        var success = false;
+        try {
+            runnable.run();
+            success = true;
+        } finally {
+            release(start, success);
+        }
+    }
+
+    /**
+     * Supply a value asynchronously using the shared executor service once admitted.
+     *
+     * @param supplier supplier
+     * @param <T>      result type
+     * @return future of the result, completes with {@link RejectedException} if not admitted in time
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return ThreadUtil.supplyAsync(() -> call(supplier));
+    }
+
+    /**
+     * Run a task asynchronously using the shared executor service once admitted.
+     *
+     * @param runnable runnable
+     * @return future of the execution, completes with {@link RejectedException} if not admitted in time
+     */
+    public CompletableFuture<Void> runAsync(Runnable runnable) {
+        return ThreadUtil.runAsync(() -> run(runnable));
+    }
+
+    /**
+     * Bind the meters of this lane, no-op if already bound.
+     *
+     * @param meterRegistry meter registry
+     */
+    void bindTo(MeterRegistry meterRegistry) {
+        if (metrics != null) {
+            return;
+        }
+        synchronized (this) {
+            if (metrics == null) {
+                metrics = new Metrics(this, meterRegistry);
+            }
+        }
+    }
+
+    private void acquire() {
+        var start = System.nanoTime();
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedException("Interrupted while waiting for lane '" + name + "'", e);
+        }
+        var metrics = this.metrics;
+        if (metrics != null) {
+            (admitted ? metrics.queueAdmitted : metrics.queueRejected)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!admitted) {
+            throw new RejectedException("Lane '" + name + "' is saturated, " + maxConcurrency
+                    + " tasks in flight and no slot freed within " + Duration.ofNanos(queueTimeoutNanos));
+        }
+    }
+
+    private void release(long start, boolean success) {
+        permits.release();
+        var metrics = this.metrics;
+        if (metrics != null) {
+            (success ? metrics.executionSuccess : metrics.executionError)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Thrown when a task isn't admitted into a lane.
+     */
+    public static final class RejectedException extends RuntimeException {
+        public RejectedException(String message) {
+            super(message);
+        }
+
+        public RejectedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private static final class Metrics {
+        private final Timer queueAdmitted;
+        private final Timer queueRejected;
+        private final Timer executionSuccess;
+        private final Timer executionError;
+
+        private Metrics(Lane lane, MeterRegistry registry) {
+            this.queueAdmitted = queueTimer(lane, registry, "admitted");
+            this.queueRejected = queueTimer(lane, registry, "rejected");
+            this.executionSuccess = executionTimer(lane, registry, "success");
+            this.executionError = executionTimer(lane, registry, "error");
+            Gauge.builder("lane.in.flight", lane, l -> l.maxConcurrency - l.permits.availablePermits())
+                    .description("Running tasks of the lane")
+                    .tag("lane", lane.name)
+                    .register(registry);
+            Gauge.builder("lane.queued", lane, l -> l.permits.getQueueLength())
+                    .description("Tasks waiting for admission into the lane")
+                    .tag("lane", lane.name)
+                    .register(registry);
+        }
+
+        private static Timer queueTimer(Lane lane, MeterRegistry registry, String outcome) {
+            return Timer.builder("lane.queue.wait")
+                    .description("Time waiting for admission into the lane")
+                    .tag("lane", lane.name)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private static Timer executionTimer(Lane lane, MeterRegistry registry, String outcome) {
+            return Timer.builder("lane.execution")
+                    .description("Run time of tasks admitted into the lane")
+                    .tag("lane", lane.name)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
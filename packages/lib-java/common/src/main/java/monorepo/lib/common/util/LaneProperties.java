@@ -0,0 +1,58 @@
+package monorepo.lib.common.util;
+
+import java.time.Duration;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link Lane} configuration.
+ *
+ * <p> Example:
+ * <pre>{@code
+ * thread:
+ *   lane:
+ *     max-concurrency: 64
+ *     queue-timeout: 1s
+ *     lanes:
+ *       export:
+ *         max-concurrency: 3
+ * }</pre>
+ *
+ * @param maxConcurrency default max running tasks of a lane, default 64
+ * @param queueTimeout   default max time waiting for admission, default 1s
+ * @param lanes          per lane overrides, keyed by lane name
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@ConfigurationProperties(LaneProperties.PREFIX)
+public record LaneProperties(Integer maxConcurrency, Duration queueTimeout, Map<String, LaneSpec> lanes) {
+
+    public static final String PREFIX = "thread.lane";
+
+    public LaneProperties(
+            @Nullable Integer maxConcurrency,
+            @Nullable Duration queueTimeout,
+            @Nullable Map<String, LaneSpec> lanes) {
+        this.maxConcurrency = maxConcurrency != null ? maxConcurrency : 64;
+        this.queueTimeout = queueTimeout != null ? queueTimeout : Duration.ofSeconds(1);
+        this.lanes = lanes != null ? Map.copyOf(lanes) : Map.of();
+    }
+
+    /**
+     * @param maxConcurrency max running tasks of the lane, default {@link LaneProperties#maxConcurrency()}
+     * @param queueTimeout   max time waiting for admission, default {@link LaneProperties#queueTimeout()}
+     */
+    public record LaneSpec(@Nullable Integer maxConcurrency, @Nullable Duration queueTimeout) {}
+
+    Lane newLane(String name) {
+        var spec = lanes.get(name);
+        var concurrency = spec != null ? spec.maxConcurrency() : null;
+        var timeout = spec != null ? spec.queueTimeout() : null;
+        return new Lane(
+                name,
+                concurrency != null ? concurrency : maxConcurrency,
+                timeout != null ? timeout : queueTimeout,
+                null);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.function.SingletonSupplier;
 
 /**
@@ -70,6 +72,26 @@ public final class SpringUtil {
         }
     }
 
+    /**
+     * Run the runnable after the current transaction commits, or immediately if there is no active transaction.
+     *
+     * <p> Typically used for side effects that must not be observed before the data is visible, e.g. cache invalidation.
+     *
+     * @param runnable runnable
+     */
+    public static void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
     private static @Nullable TransactionOperations transactionOperations() {
         return (TransactionOperations) transactionOperations.get();
     }
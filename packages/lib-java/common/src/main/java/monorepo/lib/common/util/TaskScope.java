@@ -0,0 +1,330 @@
+package monorepo.lib.common.util;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Structured fan-out of subtasks, modeled on {@code StructuredTaskScope}.
+ * Subtasks never outlive the scope: {@link #close()} cancels the unfinished ones and waits for them.
+ *
+ * <p> Example:
+ * <pre>{@code
+ * try (var scope = ThreadUtil.openScope()) {
+ *     var user = scope.fork(() -> userClient.getUser(request));
+ *     var todos = scope.fork(() -> todoClient.listTodos(request));
+ *     scope.join();
+ *     return build(user.get(), todos.get());
+ * }
+ * }</pre>
+ *
+ * <p> Modes:
+ * <ul>
+ *     <li>{@link Mode#FAIL_FAST}: the first failure cancels the other subtasks and is rethrown by {@link #join()}</li>
+ *     <li>{@link Mode#ALL_SETTLED}: {@link #join()} waits for all subtasks, check each {@link Subtask#state()}</li>
+ * </ul>
+ *
+ * <p> Subtasks run on {@link ThreadUtil#getExecutorService()}, so the request context is propagated.
+ * The deadline of the current gRPC call is inherited, and it's propagated to the gRPC calls made by subtasks.
+ * {@link #fork} blocks the owner while {@code maxConcurrency} subtasks are in flight.
+ *
+ * <p> Only the thread that opened the scope may fork, join and close it.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private static final boolean GRPC_PRESENT =
+            ClassUtils.isPresent("io.grpc.Context", TaskScope.class.getClassLoader());
+
+    public enum Mode {
+        FAIL_FAST,
+        ALL_SETTLED
+    }
+
+    private final Mode mode;
+    private final @Nullable Semaphore permits;
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private final boolean grpcDeadline;
+    private final Thread owner = Thread.currentThread();
+
+    private final Queue<Subtask<?>> subtasks = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition settled = lock.newCondition();
+    private int inFlight;
+    private @Nullable Throwable failure;
+    private volatile boolean shutdown;
+
+    TaskScope(Mode mode, int maxConcurrency, @Nullable Duration timeout) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.mode = mode;
+        this.permits = maxConcurrency < Integer.MAX_VALUE ? new Semaphore(maxConcurrency) : null;
+
+        var now = System.nanoTime();
+        var remaining = timeout != null ? timeout.toNanos() : Long.MAX_VALUE;
+        var grpcRemaining = GRPC_PRESENT ? GrpcContexts.remainingNanos() : Long.MAX_VALUE;
+        this.grpcDeadline = grpcRemaining != Long.MAX_VALUE && grpcRemaining <= remaining;
+        remaining = Math.min(remaining, grpcRemaining);
+        this.hasDeadline = remaining != Long.MAX_VALUE;
+        this.deadlineNanos = now + remaining;
+    }
+
+    /**
+     * Start a subtask, blocks while {@code maxConcurrency} subtasks are in flight.
+     *
+     * @param task task
+     * @param <T>  result type
+     * @return subtask, its result is available after {@link #join()}
+     */
+    public <T> Subtask<T> fork(Callable<? extends T> task) {
+        ensureOwner();
+        var subtask = new Subtask<T>(GRPC_PRESENT ? GrpcContexts.wrap(task) : task);
+        if (shutdown) {
+            subtask.cancel(false);
+            return subtask;
+        }
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a free slot");
+            }
+        }
+        lock.lock();
+        try {
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+        subtasks.add(subtask);
+        ThreadUtil.getExecutorService().execute(() -> {
+            try {
+                subtask.run();
+            } finally {
+                onSettled(subtask);
+            }
+        });
+        return subtask;
+    }
+
+    /**
+     * Wait for the subtasks forked so far.
+     *
+     * @return this scope
+     * @throws DeadlineExceededException if the scope timeout is reached, unfinished subtasks are cancelled,
+     *                                   a {@code DEADLINE_EXCEEDED} {@code StatusRuntimeException} instead
+     *                                   if it's the gRPC deadline
+     * @throws CancellationException     if the owner is interrupted, unfinished subtasks are cancelled
+     */
+    public TaskScope join() {
+        ensureOwner();
+        lock.lock();
+        try {
+            while (inFlight > 0 && !(mode == Mode.FAIL_FAST && failure != null)) {
+                if (!hasDeadline) {
+                    settled.await();
+                    continue;
+                }
+                var remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    shutdown();
+                    var message = "Subtasks didn't finish before the deadline";
+                    throw grpcDeadline
+                            ? GrpcContexts.deadlineExceeded(message)
+                            : new DeadlineExceededException(message);
+                }
+                settled.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdown();
+            throw new CancellationException("Interrupted while joining subtasks");
+        } finally {
+            lock.unlock();
+        }
+
+        var error = getFailure();
+        if (mode == Mode.FAIL_FAST && error != null) {
+            shutdown();
+            if (error instanceof RuntimeException e) {
+                throw e;
+            }
+            if (error instanceof Error e) {
+                throw e;
+            }
+            throw new CompletionException(error);
+        }
+        return this;
+    }
+
+    /**
+     * Cancel unfinished subtasks and wait for them to exit.
+     */
+    @Override
+    public void close() {
+        ensureOwner();
+        shutdown();
+        var interrupted = false;
+        lock.lock();
+        try {
+            while (inFlight > 0) {
+                try {
+                    settled.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void shutdown() {
+        shutdown = true;
+        for (var subtask : subtasks) {
+            subtask.cancel(true);
+        }
+    }
+
+    private void onSettled(Subtask<?> subtask) {
+        if (permits != null) {
+            permits.release();
+        }
+        var error = subtask.state() == Subtask.State.FAILED ? subtask.exception() : null;
+        lock.lock();
+        try {
+            if (error != null && failure == null) {
+                failure = error;
+            }
+            inFlight--;
+            settled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (error != null && mode == Mode.FAIL_FAST) {
+            shutdown();
+        }
+    }
+
+    private @Nullable Throwable getFailure() {
+        lock.lock();
+        try {
+            return failure;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("TaskScope can only be used by the thread that opened it");
+        }
+    }
+
+    /**
+     * Forked subtask.
+     *
+     * @param <T> result type
+     */
+    public static final class Subtask<T> {
+
+        public enum State {
+            /**
+             * Not finished, or cancelled.
+             */
+            UNAVAILABLE,
+            SUCCESS,
+            FAILED
+        }
+
+        private final FutureTask<T> task;
+
+        private Subtask(Callable<? extends T> task) {
+            this.task = new FutureTask<>(task::call);
+        }
+
+        public State state() {
+            return switch (task.state()) {
+                case SUCCESS -> State.SUCCESS;
+                case FAILED -> State.FAILED;
+                case RUNNING, CANCELLED -> State.UNAVAILABLE;
+            };
+        }
+
+        /**
+         * @return result of the subtask
+         * @throws IllegalStateException if the subtask didn't succeed
+         */
+        public T get() {
+            return task.resultNow();
+        }
+
+        /**
+         * @return exception of the subtask
+         * @throws IllegalStateException if the subtask didn't fail
+         */
+        public Throwable exception() {
+            return task.exceptionNow();
+        }
+
+        private void run() {
+            task.run();
+        }
+
+        private void cancel(boolean mayInterruptIfRunning) {
+            task.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * Thrown by {@link #join()} when the scope timeout is reached.
+     */
+    public static final class DeadlineExceededException extends RuntimeException {
+        public DeadlineExceededException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Referenced only if grpc is present.
+     */
+    private static final class GrpcContexts {
+
+        private static long remainingNanos() {
+            var deadline = io.grpc.Context.current().getDeadline();
+            return deadline != null ? Math.max(0, deadline.timeRemaining(TimeUnit.NANOSECONDS)) : Long.MAX_VALUE;
+        }
+
+        /**
+         * Mapped to {@code DEADLINE_EXCEEDED} by gRPC services, like the deadline expiring in a downstream call.
+         */
+        private static RuntimeException deadlineExceeded(String message) {
+            return io.grpc.Status.DEADLINE_EXCEEDED.withDescription(message).asRuntimeException();
+        }
+
+        /**
+         * Run the task in the current gRPC context, gRPC calls made by the task inherit its deadline.
+         */
+        private static <T> Callable<T> wrap(Callable<T> task) {
+            return io.grpc.Context.current().wrap(task);
+        }
+    }
+}
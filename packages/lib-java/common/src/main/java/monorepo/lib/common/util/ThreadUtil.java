@@ -1,10 +1,19 @@
 package monorepo.lib.common.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import monorepo.lib.common.context.ContextualExecutorService;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Utility for thread.
@@ -19,6 +28,10 @@ public final class ThreadUtil {
             new ContextualExecutorService(Executors.newThreadPerTaskExecutor(
                     Thread.ofVirtual().name("virtual-", 0).factory()));
 
+    private static final ConcurrentMap<String, Lane> lanes = new ConcurrentHashMap<>();
+    private static volatile LaneProperties laneProperties = new LaneProperties(null, null, null);
+    private static volatile @Nullable MeterRegistry laneMeterRegistry;
+
     /**
      * Get the shared executor service.
      *
@@ -48,4 +61,109 @@ public final class ThreadUtil {
     public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
         return CompletableFuture.supplyAsync(supplier, executorService);
     }
+
+    /**
+     * Get the lane of a downstream, e.g. {@code lane("export").supplyAsync(...)}.
+     *
+     * <p> The shared executor service is unbounded, use a lane to cap the tasks hitting the same downstream.
+     *
+     * @param name lane name, configured by {@link LaneProperties}
+     * @return the lane, created on first use
+     */
+    public static Lane lane(String name) {
+        var lane = lanes.computeIfAbsent(name, laneProperties::newLane);
+        var meterRegistry = laneMeterRegistry;
+        if (meterRegistry != null) {
+            // Covers a lane created while the registry was being bound
+            lane.bindTo(meterRegistry);
+        }
+        return lane;
+    }
+
+    /**
+     * Lanes created before configured keep the previous configuration.
+     */
+    static void configureLanes(LaneProperties properties) {
+        laneProperties = properties;
+    }
+
+    /**
+     * Bind meters of existing lanes and of lanes created later.
+     */
+    static void bindLaneMetrics(MeterRegistry meterRegistry) {
+        laneMeterRegistry = meterRegistry;
+        lanes.values().forEach(lane -> lane.bindTo(meterRegistry));
+    }
+
+    /**
+     * Open a {@link TaskScope.Mode#FAIL_FAST} scope without concurrency limit, inheriting the gRPC deadline.
+     *
+     * @return task scope, must be closed by the current thread
+     */
+    public static TaskScope openScope() {
+        return new TaskScope(TaskScope.Mode.FAIL_FAST, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Open a task scope, see {@link TaskScope}.
+     *
+     * @param mode           failure handling mode
+     * @param maxConcurrency max subtasks in flight
+     * @param timeout        timeout of the scope, the gRPC deadline still applies if it's earlier
+     * @return task scope, must be closed by the current thread
+     */
+    public static TaskScope openScope(TaskScope.Mode mode, int maxConcurrency, @Nullable Duration timeout) {
+        return new TaskScope(mode, maxConcurrency, timeout);
+    }
+
+    /**
+     * Map items in parallel, fail fast, with at most {@code maxConcurrency} mappings in flight.
+     *
+     * @param items          items
+     * @param maxConcurrency max mappings in flight
+     * @param mapper         mapper, runs with the current context
+     * @param <T>            item type
+     * @param <R>            result type
+     * @return results in the order of items
+     */
+    public static <T, R> List<R> parallelMap(
+            Collection<? extends T> items, int maxConcurrency, Function<? super T, ? extends R> mapper) {
+        try (var scope = openScope(TaskScope.Mode.FAIL_FAST, maxConcurrency, null)) {
+            List<TaskScope.Subtask<R>> subtasks = fork(scope, items, mapper);
+            scope.join();
+            var result = new ArrayList<R>(subtasks.size());
+            for (var subtask : subtasks) {
+                result.add(subtask.get());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Map items in parallel, wait for all mappings to settle, with at most {@code maxConcurrency} mappings in flight.
+     *
+     * @param items          items
+     * @param maxConcurrency max mappings in flight
+     * @param mapper         mapper, runs with the current context
+     * @param <T>            item type
+     * @param <R>            result type
+     * @return settled subtasks in the order of items
+     */
+    public static <T, R> List<TaskScope.Subtask<R>> parallelMapSettled(
+            Collection<? extends T> items, int maxConcurrency, Function<? super T, ? extends R> mapper) {
+        try (var scope = openScope(TaskScope.Mode.ALL_SETTLED, maxConcurrency, null)) {
+            List<TaskScope.Subtask<R>> subtasks = fork(scope, items, mapper);
+            scope.join();
+            return subtasks;
+        }
+    }
+
+    private static <T, R> List<TaskScope.Subtask<R>> fork(
+            TaskScope scope, Collection<? extends T> items, Function<? super T, ? extends R> mapper) {
+        var subtasks = new ArrayList<TaskScope.Subtask<R>>(items.size());
+        for (var item : items) {
+            subtasks.add(scope.<R>fork(() -> mapper.apply(item)));
+        }
+        return subtasks;
+    }
 }
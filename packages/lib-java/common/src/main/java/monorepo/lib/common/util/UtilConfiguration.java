@@ -1,6 +1,11 @@
 package monorepo.lib.common.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -10,8 +15,19 @@ import org.springframework.context.annotation.Configuration;
  * @since 2025/11/19
  */
 @Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LaneProperties.class)
 public class UtilConfiguration {
-    public UtilConfiguration(ApplicationContext applicationContext) {
+    public UtilConfiguration(ApplicationContext applicationContext, LaneProperties laneProperties) {
         SpringUtil.setContext(applicationContext);
+        ThreadUtil.configureLanes(laneProperties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class LaneMetrics {
+        @Bean
+        public MeterBinder laneMeterBinder() {
+            return ThreadUtil::bindLaneMetrics;
+        }
     }
 }
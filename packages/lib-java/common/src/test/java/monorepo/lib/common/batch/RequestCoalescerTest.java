@@ -0,0 +1,133 @@
+package monorepo.lib.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import monorepo.lib.common.context.Context;
+import monorepo.lib.common.context.ContextHolder;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testLoad_whenWindowElapses_thenDispatchOneBatch() {
+        var coalescer = coalescer(Duration.ofMillis(50), 100, this::echo);
+
+        var first = coalescer.load(1L);
+        var second = coalescer.load(2L);
+        var duplicate = coalescer.load(1L);
+
+        assertThat(first).succeedsWithin(TIMEOUT).isEqualTo("v1");
+        assertThat(second).succeedsWithin(TIMEOUT).isEqualTo("v2");
+        assertThat(duplicate).isSameAs(first);
+        assertThat(batches).containsExactly(Set.of(1L, 2L));
+    }
+
+    @Test
+    void testLoad_whenMaxBatchSizeReached_thenDispatchWithoutWaitingForWindow() {
+        var coalescer = coalescer(Duration.ofMinutes(1), 2, this::echo);
+
+        var first = coalescer.load(1L);
+        var second = coalescer.load(2L);
+
+        assertThat(first).succeedsWithin(TIMEOUT).isEqualTo("v1");
+        assertThat(second).succeedsWithin(TIMEOUT).isEqualTo("v2");
+        assertThat(batches).containsExactly(Set.of(1L, 2L));
+    }
+
+    @Test
+    void testLoad_whenKeyNotFound_thenEachCallerGetsItsOwnResult() {
+        var coalescer = coalescer(Duration.ofMillis(50), 100, ids -> Map.of(1L, "v1"));
+
+        var found = coalescer.load(1L);
+        var missing = coalescer.load(2L);
+
+        assertThat(found).succeedsWithin(TIMEOUT).isEqualTo("v1");
+        assertThat(missing).succeedsWithin(TIMEOUT).isNull();
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void testLoad_whenLoaderFails_thenFailEveryWaiter() {
+        var coalescer = coalescer(Duration.ofMillis(50), 100, ids -> {
+            throw new IllegalStateException("boom");
+        });
+
+        var first = coalescer.load(1L);
+        var second = coalescer.load(2L);
+
+        assertThat(first)
+                .failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(second)
+                .failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testLoad_whenKeysKeepArriving_thenFirstKeyWaitsAtMostOneWindow() throws InterruptedException {
+        var window = Duration.ofMillis(200);
+        var coalescer = coalescer(window, 100, this::echo);
+
+        var start = System.nanoTime();
+        var first = coalescer.load(1L);
+        Thread.sleep(window.dividedBy(2));
+        var second = coalescer.load(2L);
+
+        assertThat(first).succeedsWithin(TIMEOUT).isEqualTo("v1");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(window.multipliedBy(2));
+        assertThat(second).succeedsWithin(TIMEOUT).isEqualTo("v2");
+        assertThat(batches).containsExactly(Set.of(1L, 2L));
+    }
+
+    @Test
+    void testLoad_whenDispatchedByCaller_thenLoaderRunsWithoutCallerContext() {
+        var loaderContexts = new CopyOnWriteArrayList<Optional<Context>>();
+        var coalescer = coalescer(Duration.ofMinutes(1), 1, ids -> {
+            loaderContexts.add(Optional.ofNullable(ContextHolder.getOrNull()));
+            return echo(ids);
+        });
+        var context = new Context(Map.of("x-request-id", List.of("1")), ObservationRegistry.NOOP);
+
+        var result = ContextHolder.getWithContext(context, () -> coalescer.load(1L));
+
+        assertThat(result).succeedsWithin(TIMEOUT).isEqualTo("v1");
+        assertThat(loaderContexts).containsExactly(Optional.empty());
+    }
+
+    private RequestCoalescer<Long, String> coalescer(
+            Duration window, int maxBatchSize, Function<Set<Long>, Map<Long, String>> loader) {
+        return new RequestCoalescer<>(
+                "test",
+                window,
+                maxBatchSize,
+                ids -> {
+                    batches.add(Set.copyOf(ids));
+                    return loader.apply(ids);
+                },
+                null);
+    }
+
+    private Map<Long, String> echo(Set<Long> ids) {
+        var result = new HashMap<Long, String>();
+        for (var id : ids) {
+            result.put(id, "v" + id);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package monorepo.lib.common.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class PayloadCaptureTest {
+
+    private final PayloadCapture capture =
+            new PayloadCapture(new PayloadCaptureProperties(null, null, DataSize.ofBytes(32), null, null));
+
+    @Test
+    void testEncode_whenWithinLimit_thenFullJson() {
+        assertThat(capture.encode(Map.of("id", 1))).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void testEncode_whenExceedsLimit_thenTruncate() {
+        var actual = capture.encode(Collections.nCopies(1000, "item"));
+
+        assertThat(actual).startsWith("[\"item\",").endsWith("...(truncated)");
+        assertThat(actual.length()).isLessThanOrEqualTo(32 + "...(truncated)".length());
+    }
+
+    @Test
+    void testDecode_whenExceedsLimit_thenTruncate() {
+        var body = "x".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(capture.decode(body, body.length)).isEqualTo("x".repeat(32) + "...(truncated, 100 bytes)");
+    }
+
+    @Test
+    void testDecode_whenLimitSplitsCharacter_thenCutBeforeIt() {
+        var body = ("x".repeat(31) + "é").getBytes(StandardCharsets.UTF_8);
+
+        assertThat(capture.decode(body, body.length)).isEqualTo("x".repeat(31) + "...(truncated, 33 bytes)");
+    }
+
+    @Test
+    void testDecode_whenLengthUnknownAndOnlyPrefixCached_thenTruncate() {
+        var body = "x".repeat(32).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(capture.decode(body, -1)).isEqualTo("x".repeat(32) + "...(truncated)");
+    }
+
+    @Test
+    void testAttach_whenEncodingNotFinished_thenDropAndCount() {
+        var observation = Observation.start("test", ObservationRegistry.create());
+        var pending = new CompletableFuture<String>();
+
+        capture.attach(observation, "payload", pending);
+        capture.attach(observation, "payload", CompletableFuture.completedFuture("{}"));
+
+        assertThat(pending).isCancelled();
+        assertThat(capture.getDroppedCount()).isEqualTo(1);
+        assertThat(observation.getContext().getHighCardinalityKeyValue("payload").getValue())
+                .isEqualTo("{}");
+    }
+
+    @Test
+    void testIsCapturable() {
+        assertThat(capture.isCapturable("application/json;charset=UTF-8")).isTrue();
+        assertThat(capture.isCapturable("application/problem+json")).isTrue();
+        assertThat(capture.isCapturable("multipart/form-data")).isFalse();
+        assertThat(capture.isCapturable("not a media type")).isFalse();
+        assertThat(capture.isCapturable(null)).isFalse();
+    }
+
+    @Test
+    void testShouldCapture_whenNoObservation_thenFalse() {
+        assertThat(capture.shouldCapture(null)).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package monorepo.lib.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class LaneTest {
+
+    @Test
+    void testCall_whenSaturated_thenRejectAfterQueueTimeout() throws InterruptedException {
+        var lane = new Lane("test", 1, Duration.ofMillis(50), null);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var running = lane.runAsync(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+
+        assertThatThrownBy(() -> lane.call(() -> 1)).isInstanceOf(Lane.RejectedException.class);
+
+        release.countDown();
+        running.join();
+        assertThat(lane.call(() -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    void testSupplyAsync_whenTaskFails_thenReleaseSlot() {
+        var lane = new Lane("test", 1, Duration.ofMillis(50), null);
+
+        assertThatThrownBy(() -> lane.supplyAsync(() -> {
+                            throw new IllegalStateException("boom");
+                        })
+                        .join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(lane.supplyAsync(() -> 1).join()).isEqualTo(1);
+    }
+}
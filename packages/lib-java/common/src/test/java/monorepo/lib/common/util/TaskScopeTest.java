@@ -0,0 +1,129 @@
+package monorepo.lib.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import monorepo.lib.common.context.Context;
+import monorepo.lib.common.context.ContextHolder;
+import org.junit.jupiter.api.Test;
+
+class TaskScopeTest {
+
+    @Test
+    void testParallelMap_thenKeepOrderAndLimitConcurrency() {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var items = IntStream.range(0, 50).boxed().toList();
+
+        var actual = ThreadUtil.parallelMap(items, 4, i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(Duration.ofMillis(5));
+            inFlight.decrementAndGet();
+            return i * 2;
+        });
+
+        assertThat(actual).isEqualTo(items.stream().map(i -> i * 2).toList());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void testParallelMap_whenOneFails_thenRethrowAndCancelOthers() {
+        var start = System.nanoTime();
+
+        assertThatThrownBy(() -> ThreadUtil.parallelMap(List.of(1, 2, 3), 3, i -> {
+                    if (i == 1) {
+                        throw new IllegalArgumentException("boom");
+                    }
+                    sleep(Duration.ofSeconds(10));
+                    return i;
+                }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testParallelMapSettled_thenReportEachSubtask() {
+        var actual = ThreadUtil.parallelMapSettled(List.of(1, 2), 2, i -> {
+            if (i == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return i;
+        });
+
+        assertThat(actual.get(0).state()).isEqualTo(TaskScope.Subtask.State.FAILED);
+        assertThat(actual.get(0).exception()).isInstanceOf(IllegalStateException.class);
+        assertThat(actual.get(1).get()).isEqualTo(2);
+    }
+
+    @Test
+    void testJoin_whenTimeout_thenThrow() {
+        try (var scope = ThreadUtil.openScope(TaskScope.Mode.FAIL_FAST, 1, Duration.ofMillis(50))) {
+            var subtask = scope.fork(() -> {
+                Thread.sleep(Duration.ofSeconds(10));
+                return 1;
+            });
+
+            assertThatThrownBy(scope::join).isInstanceOf(TaskScope.DeadlineExceededException.class);
+            scope.close();
+            assertThat(subtask.state()).isEqualTo(TaskScope.Subtask.State.UNAVAILABLE);
+        }
+    }
+
+    @Test
+    void testJoin_whenGrpcDeadline_thenThrowDeadlineExceededStatus() throws Exception {
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (var context = io.grpc.Context.current().withDeadlineAfter(50, TimeUnit.MILLISECONDS, scheduler)) {
+            context.call(() -> {
+                try (var scope = ThreadUtil.openScope()) {
+                    scope.fork(() -> {
+                        Thread.sleep(Duration.ofSeconds(10));
+                        return 1;
+                    });
+
+                    var thrown = catchThrowable(scope::join);
+
+                    assertThat(thrown).isInstanceOf(StatusRuntimeException.class);
+                    assertThat(Status.fromThrowable(thrown).getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+                }
+                return null;
+            });
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFork_thenPropagateContext() {
+        var context = new Context(Map.of("x-request-id", List.of("1")), ObservationRegistry.NOOP);
+
+        var actual = ContextHolder.getWithContext(context, () -> {
+            try (var scope = ThreadUtil.openScope()) {
+                var subtask = scope.fork(ContextHolder::get);
+                scope.join();
+                return subtask.get();
+            }
+        });
+
+        assertThat(actual).isSameAs(context);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ dependencies {
     api("org.mybatis.dynamic-sql:mybatis-dynamic-sql:$mybatisDynamicSqlVersion")
 
     compileOnly("io.micrometer:micrometer-core")
+    compileOnly("org.springframework.boot:spring-boot-starter-actuator")
 
     compileOnly("org.mybatis.spring.boot:mybatis-spring-boot-starter:$mybatisBootStarterVersion")
 
@@ -1,15 +1,29 @@
 package monorepo.lib.mybatis;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.observation.ObservationRegistry;
 import java.util.Optional;
 import monorepo.lib.mybatis.datasources.DataSourcesConfiguration;
 import monorepo.lib.mybatis.observability.MetricsInterceptor;
+import monorepo.lib.mybatis.observability.SlowStatementInterceptor;
+import monorepo.lib.mybatis.observability.SlowStatementLog;
+import monorepo.lib.mybatis.observability.SlowStatementProperties;
+import monorepo.lib.mybatis.observability.SlowStatementsEndpoint;
 import monorepo.lib.mybatis.observability.TraceInterceptor;
+import monorepo.lib.mybatis.statement.CachingLanguageDriver;
+import monorepo.lib.mybatis.statement.StatementCacheProperties;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
 import org.mybatis.spring.boot.autoconfigure.MybatisProperties;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -37,9 +51,77 @@ public class MybatisAutoConfiguration {
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnClass(MeterRegistry.class)
     static class Metrics {
-        //        @Bean
+        @Bean
         public MetricsInterceptor metricsMyBatisInterceptor(Optional<MeterRegistry> meterRegistry) {
             return new MetricsInterceptor(meterRegistry.orElseGet(CompositeMeterRegistry::new));
         }
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(SlowStatementProperties.class)
+    @ConditionalOnProperty(prefix = SlowStatementProperties.PREFIX, name = "enabled", matchIfMissing = true)
+    static class SlowStatement {
+        @Bean
+        public SlowStatementLog slowStatementLog(SlowStatementProperties properties) {
+            return new SlowStatementLog(properties.capacity());
+        }
+
+        @Bean
+        public SlowStatementInterceptor slowStatementMyBatisInterceptor(
+                SlowStatementProperties properties, SlowStatementLog slowStatementLog) {
+            return new SlowStatementInterceptor(properties, slowStatementLog);
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+        static class Actuator {
+            @Bean
+            @ConditionalOnAvailableEndpoint
+            public SlowStatementsEndpoint slowStatementsEndpoint(SlowStatementLog slowStatementLog) {
+                return new SlowStatementsEndpoint(slowStatementLog);
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(StatementCacheProperties.class)
+    @ConditionalOnProperty(prefix = StatementCacheProperties.PREFIX, name = "enabled", matchIfMissing = true)
+    static class StatementCache {
+        @Bean
+        public CachingLanguageDriver cachingLanguageDriver(StatementCacheProperties properties) {
+            return new CachingLanguageDriver(properties.maxSize());
+        }
+
+        @Bean
+        public ConfigurationCustomizer cachingLanguageDriverConfigurationCustomizer(
+                CachingLanguageDriver cachingLanguageDriver) {
+            return configuration -> {
+                configuration.getLanguageRegistry().register(cachingLanguageDriver);
+                configuration.setDefaultScriptingLanguage(CachingLanguageDriver.class);
+            };
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(MeterRegistry.class)
+        static class Metrics {
+            @Bean
+            public MeterBinder cachingLanguageDriverMeterBinder(CachingLanguageDriver driver) {
+                return registry -> {
+                    FunctionCounter.builder("mybatis.statement.cache.gets", driver, CachingLanguageDriver::hitCount)
+                            .tag("result", "hit")
+                            .register(registry);
+                    FunctionCounter.builder("mybatis.statement.cache.gets", driver, CachingLanguageDriver::missCount)
+                            .tag("result", "miss")
+                            .register(registry);
+                    FunctionCounter.builder(
+                                    "mybatis.statement.cache.saved", driver, CachingLanguageDriver::savedSeconds)
+                            .description("Estimated statement parse time saved by cache hits")
+                            .baseUnit("seconds")
+                            .register(registry);
+                    Gauge.builder("mybatis.statement.cache.size", driver, CachingLanguageDriver::size)
+                            .register(registry);
+                };
+            }
+        }
+    }
 }
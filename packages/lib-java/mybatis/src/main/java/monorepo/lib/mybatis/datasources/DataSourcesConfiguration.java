@@ -1,6 +1,8 @@
 package monorepo.lib.mybatis.datasources;
 
 import monorepo.lib.mybatis.datasources.dynamic.MyBatisDynamicDataSourceBeanPostProcessor;
+import monorepo.lib.mybatis.datasources.routing.ReadRoutingInterceptor;
+import monorepo.lib.mybatis.datasources.routing.ReadWriteRoutingDataSourceBeanPostProcessor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -21,4 +23,15 @@ public class DataSourcesConfiguration {
     static MyBatisDynamicDataSourceBeanPostProcessor myBatisDynamicDataSourceBeanPostProcessor(ApplicationContext ctx) {
         return new MyBatisDynamicDataSourceBeanPostProcessor(ctx);
     }
+
+    @Bean
+    static ReadWriteRoutingDataSourceBeanPostProcessor readWriteRoutingDataSourceBeanPostProcessor(
+            ApplicationContext ctx) {
+        return new ReadWriteRoutingDataSourceBeanPostProcessor(ctx);
+    }
+
+    @Bean
+    public ReadRoutingInterceptor readRoutingMyBatisInterceptor() {
+        return new ReadRoutingInterceptor();
+    }
 }
@@ -1,6 +1,7 @@
 package monorepo.lib.mybatis.datasources;
 
 import com.zaxxer.hikari.HikariConfig;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import org.jspecify.annotations.Nullable;
@@ -8,16 +9,55 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DatabaseDriver;
 
 @ConfigurationProperties(DataSourcesProperties.PREFIX)
-public record DataSourcesProperties(List<DataSource> datasources) {
+public record DataSourcesProperties(List<DataSource> datasources, Routing routing) {
 
     public static final String PREFIX = "spring.datasource";
 
     public DataSourcesProperties {
         datasources = datasources != null ? datasources : List.of();
+        routing = routing != null ? routing : new Routing(null, null, null);
     }
 
+    /**
+     * Whether any data source is tagged as {@link DataSource.Role#READER}.
+     */
+    public boolean hasReaders() {
+        return datasources.stream().anyMatch(ds -> ds.role() == DataSource.Role.READER);
+    }
+
+    /**
+     * Routing of reads to {@link DataSource.Role#READER} data sources.
+     *
+     * @param enabled             whether reads are routed to readers, default true
+     * @param healthCheckInterval interval of reader health checks (which also poll the replay LSN), default 1s
+     * @param healthCheckTimeout  timeout of a reader health check, default 1s
+     */
+    public record Routing(Boolean enabled, Duration healthCheckInterval, Duration healthCheckTimeout) {
+        public Routing(
+                @Nullable Boolean enabled,
+                @Nullable Duration healthCheckInterval,
+                @Nullable Duration healthCheckTimeout) {
+            this.enabled = enabled != null ? enabled : true;
+            this.healthCheckInterval = healthCheckInterval != null ? healthCheckInterval : Duration.ofSeconds(1);
+            this.healthCheckTimeout = healthCheckTimeout != null ? healthCheckTimeout : Duration.ofSeconds(1);
+        }
+    }
+
+    /**
+     * An additional data source.
+     *
+     * @param role   role of the data source, default {@link Role#NAMED}
+     * @param weight relative read capacity of a {@link Role#READER}, default 1
+     */
     public record DataSource(
-            String name, String driverClassName, String url, String username, String password, Hikari hikari) {
+            String name,
+            String driverClassName,
+            String url,
+            String username,
+            String password,
+            Hikari hikari,
+            Role role,
+            Integer weight) {
 
         public DataSource {
             Objects.requireNonNull(name, "name must not be null");
@@ -29,6 +69,11 @@ public record DataSourcesProperties(List<DataSource> datasources) {
                     : DatabaseDriver.fromJdbcUrl(url).getDriverClassName();
             Objects.requireNonNull(driverClassName, "driverClassName must not be null");
             hikari = hikari != null ? hikari : new Hikari(null, null);
+            role = role != null ? role : Role.NAMED;
+            weight = weight != null ? weight : 1;
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight must be positive, datasource: " + name);
+            }
         }
 
         public HikariConfig newHikariConfig(HikariConfig hikariConfig) {
@@ -50,5 +95,16 @@ public record DataSourcesProperties(List<DataSource> datasources) {
 
         public record Hikari(
                 @Nullable Integer maximumPoolSize, @Nullable Integer minimumIdle) {}
+
+        public enum Role {
+            /**
+             * Only used explicitly, see {@link monorepo.lib.mybatis.datasources.dynamic.DynamicDataSource}.
+             */
+            NAMED,
+            /**
+             * A read replica, SELECTs outside transactions are routed to it automatically.
+             */
+            READER
+        }
     }
 }
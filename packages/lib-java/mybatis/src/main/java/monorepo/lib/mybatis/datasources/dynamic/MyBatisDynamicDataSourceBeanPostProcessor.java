@@ -22,7 +22,7 @@ public class MyBatisDynamicDataSourceBeanPostProcessor implements BeanPostProces
     @Override
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
         if (bean instanceof DynamicDataSource<?> mapper) {
-            return MyBatisDynamicDataSourceMethodInterceptor.createProxy(mapper, ctx);
+            return MyBatisDynamicDataSourceInvocationHandler.createProxy(mapper, ctx);
         }
         return bean;
     }
@@ -0,0 +1,219 @@
+package monorepo.lib.mybatis.datasources.dynamic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Dispatches mapper calls to the origin mapper,
+ * and {@link DynamicDataSource#useDataSource(String)} to the mapper bound to the specified data source.
+ *
+ * <p> Every mapper call goes through this handler, so the hot path is reflection free:
+ * each mapper method has a precomputed {@link MethodHandle} invoker,
+ * and the mappers of a mapper interface are stored in an array indexed by data source id.
+ *
+ * @author Freeman
+ * @since 2026/1/10
+ */
+final class MyBatisDynamicDataSourceInvocationHandler implements InvocationHandler {
+    private static final Logger log = LoggerFactory.getLogger(MyBatisDynamicDataSourceInvocationHandler.class);
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final ConcurrentMap<String, SqlSessionTemplate> sqlSessionTemplates = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, MapperMetadata> mapperMetadata = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Integer> dataSourceIds = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextDataSourceId = new AtomicInteger();
+
+    private final Object originMapper;
+    private final ConfigurableApplicationContext ctx;
+    private final MapperMetadata metadata;
+
+    private MyBatisDynamicDataSourceInvocationHandler(
+            Object originMapper, Class<?> mapperInterface, ApplicationContext ctx) {
+        this.originMapper = originMapper;
+        this.ctx = (ConfigurableApplicationContext) ctx;
+        this.metadata = mapperMetadata.computeIfAbsent(mapperInterface, MapperMetadata::new);
+    }
+
+    @Override
+    public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+        var invoker = metadata.invokers.get(method);
+        if (invoker != null) {
+            return invoker.invokeExact(originMapper, args != null ? args : NO_ARGS);
+        }
+
+        if (method.equals(DynamicDataSource.useDataSourceMethod)) {
+            return useDataSource(proxy, (String) Objects.requireNonNull(Objects.requireNonNull(args)[0]));
+        }
+
+        return switch (method.getName()) {
+            case "equals" -> args != null && proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "DynamicDataSource proxy for " + originMapper;
+            default -> throw new IllegalStateException("Unexpected method: " + method);
+        };
+    }
+
+    private Object useDataSource(Object proxy, String datasourceName) {
+        var id = dataSourceIds.get(datasourceName);
+        if (id != null) {
+            var mappers = metadata.mappers;
+            if (id < mappers.length && mappers[id] != null) {
+                return mappers[id];
+            }
+        }
+        return getOrRegisterMapper(proxy, datasourceName);
+    }
+
+    private Object getOrRegisterMapper(Object proxy, String datasourceName) {
+        DataSource datasource;
+        try {
+            datasource = ctx.getBean(datasourceName, DataSource.class);
+        } catch (BeansException e) {
+            log.error(
+                    "No such datasource: {}, available datasource(s): {}",
+                    datasourceName,
+                    ctx.getBeanNamesForType(DataSource.class));
+            return proxy;
+        }
+
+        int id = dataSourceIds.computeIfAbsent(datasourceName, _ -> nextDataSourceId.getAndIncrement());
+
+        synchronized (metadata) {
+            var mappers = metadata.mappers;
+            if (id < mappers.length && mappers[id] != null) {
+                return mappers[id];
+            }
+
+            var sqlSessionTemplate = getOrRegisterSqlSessionTemplate(datasourceName, datasource);
+            var mapperBeanName = metadata.mapperInterface.getName() + "#" + datasourceName;
+            var mapper = registerMapper(sqlSessionTemplate, mapperBeanName);
+            if (log.isDebugEnabled()) {
+                log.debug("Registered mapper {}", mapperBeanName);
+            }
+
+            var newMappers = id < mappers.length ? mappers.clone() : Arrays.copyOf(mappers, id + 1);
+            newMappers[id] = mapper;
+            metadata.mappers = newMappers;
+            return mapper;
+        }
+    }
+
+    private Object registerMapper(SqlSessionTemplate sqlSessionTemplate, String beanName) {
+        Object mapper = sqlSessionTemplate.getMapper(metadata.mapperInterface);
+        var proxy = createProxy(mapper, ctx);
+
+        registerSingleton(beanName, proxy);
+
+        return proxy;
+    }
+
+    private SqlSessionTemplate getOrRegisterSqlSessionTemplate(String datasourceName, DataSource dataSource) {
+        var sstBeanName = "sqlSessionTemplate#" + datasourceName;
+
+        var result = sqlSessionTemplates.computeIfAbsent(sstBeanName, _ -> {
+            var sst = registerSqlSessionTemplate(dataSource, sstBeanName);
+            if (log.isDebugEnabled()) {
+                log.debug("Registered SqlSessionTemplate {}", sstBeanName);
+            }
+            return sst;
+        });
+
+        var configuration = result.getConfiguration();
+        if (!configuration.hasMapper(metadata.mapperInterface)) {
+            synchronized (configuration) {
+                if (!configuration.hasMapper(metadata.mapperInterface)) {
+                    configuration.addMapper(metadata.mapperInterface);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private SqlSessionTemplate registerSqlSessionTemplate(DataSource dataSource, String sstBeanName) {
+        var mybatisAutoConfiguration = ctx.getAutowireCapableBeanFactory().createBean(MybatisAutoConfiguration.class);
+        SqlSessionFactory sqlSessionFactory;
+        try {
+            sqlSessionFactory = mybatisAutoConfiguration.sqlSessionFactory(dataSource);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create SqlSessionFactory", e);
+        }
+        var sqlSessionTemplate = mybatisAutoConfiguration.sqlSessionTemplate(sqlSessionFactory);
+
+        registerSingleton(sstBeanName, sqlSessionTemplate);
+
+        return sqlSessionTemplate;
+    }
+
+    private void registerSingleton(String beanName, Object bean) {
+        ctx.getBeanFactory().registerSingleton(beanName, bean);
+    }
+
+    static Object createProxy(Object originMapper, ApplicationContext ctx) {
+        var interfaces = AopProxyUtils.proxiedUserInterfaces(originMapper);
+        var handler = new MyBatisDynamicDataSourceInvocationHandler(originMapper, interfaces[0], ctx);
+        return Proxy.newProxyInstance(interfaces[0].getClassLoader(), interfaces, handler);
+    }
+
+    /**
+     * Per mapper interface, shared by the proxies of all data sources.
+     */
+    private static final class MapperMetadata {
+        private final Class<?> mapperInterface;
+        private final Map<Method, MethodHandle> invokers;
+        /**
+         * Indexed by data source id, copy on write.
+         */
+        private volatile @Nullable Object[] mappers = new Object[0];
+
+        private MapperMetadata(Class<?> mapperInterface) {
+            this.mapperInterface = mapperInterface;
+            var result = new HashMap<Method, MethodHandle>();
+            for (var method : mapperInterface.getMethods()) {
+                if (!method.equals(DynamicDataSource.useDataSourceMethod)) {
+                    result.put(method, invoker(method));
+                }
+            }
+            this.invokers = Map.copyOf(result);
+        }
+
+        /**
+         * {@code (Object mapper, Object[] args) -> Object}, invokes the method virtually on the mapper,
+         * so default methods are still handled by MyBatis.
+         */
+        private static MethodHandle invoker(Method method) {
+            try {
+                var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+                return lookup.unreflect(method)
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(INVOKER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't access mapper method: " + method, e);
+            }
+        }
+    }
+}
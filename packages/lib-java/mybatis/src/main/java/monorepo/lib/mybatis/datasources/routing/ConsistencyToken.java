@@ -0,0 +1,98 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import monorepo.lib.common.context.ContextConsts;
+import monorepo.lib.common.context.ContextHolder;
+
+/**
+ * Read-your-writes session token, the Postgres WAL position (LSN, e.g. {@code 16/B374D848}) of the client's last write.
+ *
+ * <p> After a write commits, the primary's current LSN is recorded in the response headers of the request
+ * ({@link ContextConsts#CONSISTENCY_TOKEN_HEADER}). Reads carrying the token (in the request headers,
+ * or recorded earlier in the same request) are only routed to readers whose replay LSN has caught up with it.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see ReadWriteRoutingDataSource
+ */
+public final class ConsistencyToken {
+
+    private ConsistencyToken() {}
+
+    /**
+     * Whether the current request must observe a previous write, i.e. carries a token.
+     *
+     * <p> Caches and batched loads shared with other requests may return data older than the token,
+     * callers should bypass them in this case.
+     */
+    public static boolean isRequired() {
+        return requiredLsn() > 0;
+    }
+
+    /**
+     * The minimal LSN a reader must have replayed to serve the current request.
+     *
+     * @return 0 if no token, {@link Long#MAX_VALUE} if the token is malformed (only the primary qualifies)
+     */
+    static long requiredLsn() {
+        var context = ContextHolder.getOrNull();
+        if (context == null) {
+            return 0;
+        }
+
+        var result = 0L;
+        var values = context.headers().get(ContextConsts.CONSISTENCY_TOKEN_HEADER);
+        if (values != null) {
+            for (var value : values) {
+                result = Math.max(result, parseOrMax(value));
+            }
+        }
+        var written = context.responseHeaders().get(ContextConsts.CONSISTENCY_TOKEN_HEADER);
+        if (written != null) {
+            result = Math.max(result, parseOrMax(written));
+        }
+        return result;
+    }
+
+    /**
+     * Record the LSN of a committed write in the response headers of the current request, keeping the greatest.
+     */
+    static void recordWrite(long lsn) {
+        var context = ContextHolder.getOrNull();
+        if (context == null) {
+            return;
+        }
+        context.responseHeaders()
+                .merge(
+                        ContextConsts.CONSISTENCY_TOKEN_HEADER,
+                        format(lsn),
+                        (previous, current) -> parseOrMax(previous) >= lsn ? previous : current);
+    }
+
+    /**
+     * Parse a Postgres LSN text representation ({@code XXXXXXXX/XXXXXXXX}).
+     */
+    static long parse(String lsn) {
+        var slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Invalid LSN: " + lsn);
+        }
+        var high = Long.parseLong(lsn, 0, slash, 16);
+        var low = Long.parseLong(lsn, slash + 1, lsn.length(), 16);
+        if (high > 0xFFFFFFFFL || low > 0xFFFFFFFFL || high < 0 || low < 0) {
+            throw new IllegalArgumentException("Invalid LSN: " + lsn);
+        }
+        return (high << 32) | low;
+    }
+
+    static String format(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+
+    private static long parseOrMax(String lsn) {
+        try {
+            return parse(lsn.trim());
+        } catch (IllegalArgumentException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
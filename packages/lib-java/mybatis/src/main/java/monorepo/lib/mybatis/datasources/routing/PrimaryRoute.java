@@ -0,0 +1,43 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps reads on the current thread on the primary.
+ *
+ * <p> Use it for loads whose result outlives the request, e.g. cache fills:
+ * a reader that lags behind a write would put the old row back right after the write invalidated it.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see ReadRoutingInterceptor
+ */
+public final class PrimaryRoute {
+
+    private static final ThreadLocal<Boolean> active = new ThreadLocal<>();
+
+    private PrimaryRoute() {}
+
+    /**
+     * Call the supplier with reads routed to the primary.
+     *
+     * @param supplier supplier
+     * @param <T>      result type
+     * @return result of the supplier
+     */
+    public static <T> T call(Supplier<T> supplier) {
+        if (isActive()) {
+            return supplier.get();
+        }
+        active.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            active.remove();
+        }
+    }
+
+    static boolean isActive() {
+        return active.get() != null;
+    }
+}
@@ -0,0 +1,58 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Marks the statement executing on the current thread as a routable read.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see ReadRoutingInterceptor
+ * @see ReadWriteRoutingDataSource
+ */
+final class ReadRoute {
+
+    private static final ThreadLocal<ReadRoute> current = new ThreadLocal<>();
+
+    private final long requiredLsn;
+    private ReadWriteRoutingDataSource.@Nullable Reader reader;
+
+    private ReadRoute(long requiredLsn) {
+        this.requiredLsn = requiredLsn;
+    }
+
+    static @Nullable ReadRoute current() {
+        return current.get();
+    }
+
+    static ReadRoute begin() {
+        var route = new ReadRoute(ConsistencyToken.requiredLsn());
+        current.set(route);
+        return route;
+    }
+
+    /**
+     * The minimal LSN the reader must have replayed, see {@link ConsistencyToken}.
+     */
+    long requiredLsn() {
+        return requiredLsn;
+    }
+
+    ReadWriteRoutingDataSource.@Nullable Reader reader() {
+        return reader;
+    }
+
+    void reader(ReadWriteRoutingDataSource.Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * End the route, release the in-flight slot of the reader if one was picked.
+     */
+    void end() {
+        current.remove();
+        if (reader != null) {
+            reader.release();
+        }
+    }
+}
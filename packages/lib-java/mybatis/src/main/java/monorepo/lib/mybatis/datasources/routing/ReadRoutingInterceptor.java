@@ -0,0 +1,112 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * MyBatis interceptor that marks reads as routable to readers, see {@link ReadWriteRoutingDataSource}.
+ *
+ * <p> A statement is a routable read if it's a SELECT that doesn't flush the cache
+ * (so {@code INSERT/UPDATE ... RETURNING} mapped as {@code @SelectProvider} with {@code flushCache = TRUE}
+ * stays on the primary), no transaction is active (transactions are bound to the primary connection)
+ * and it doesn't run in a {@link PrimaryRoute}.
+ *
+ * <p> Any other statement is a write, the primary's LSN is captured once it commits (after the transaction,
+ * or right after the statement in auto-commit mode), see {@link ConsistencyToken}.
+ *
+ * <p> Executor methods are intercepted because the connection is obtained while the executor runs the statement.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Intercepts({
+    @Signature(
+            type = Executor.class,
+            method = "query",
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(
+            type = Executor.class,
+            method = "query",
+            args = {
+                MappedStatement.class,
+                Object.class,
+                RowBounds.class,
+                ResultHandler.class,
+                CacheKey.class,
+                BoundSql.class
+            }),
+    @Signature(
+            type = Executor.class,
+            method = "update",
+            args = {MappedStatement.class, Object.class})
+})
+public final class ReadRoutingInterceptor implements Interceptor {
+
+    private static final Object CAPTURE_AFTER_COMMIT = new Object();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        var mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        if (ReadRoute.current() != null) {
+            return invocation.proceed();
+        }
+
+        if (!isRead(mappedStatement)) {
+            var result = invocation.proceed();
+            var dataSource = mappedStatement.getConfiguration().getEnvironment().getDataSource();
+            if (dataSource instanceof ReadWriteRoutingDataSource routingDataSource) {
+                captureLsnAfterCommit(routingDataSource);
+            }
+            return result;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive() || PrimaryRoute.isActive()) {
+            return invocation.proceed();
+        }
+
+        var route = ReadRoute.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            route.end();
+        }
+    }
+
+    private static boolean isRead(MappedStatement mappedStatement) {
+        return mappedStatement.getSqlCommandType() == SqlCommandType.SELECT && !mappedStatement.isFlushCacheRequired();
+    }
+
+    private static void captureLsnAfterCommit(ReadWriteRoutingDataSource dataSource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dataSource.captureCommitLsn();
+            return;
+        }
+        // Once per transaction
+        if (TransactionSynchronizationManager.hasResource(CAPTURE_AFTER_COMMIT)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(CAPTURE_AFTER_COMMIT, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dataSource.captureCommitLsn();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CAPTURE_AFTER_COMMIT);
+            }
+        });
+    }
+}
@@ -0,0 +1,290 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import monorepo.lib.common.context.ContextHolder;
+import monorepo.lib.mybatis.datasources.DataSourcesProperties;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Routes reads to {@link DataSourcesProperties.DataSource.Role#READER} data sources, everything else to the primary.
+ *
+ * <p> Reads are marked by {@link ReadRoutingInterceptor}. Among the healthy readers that have caught up with
+ * the {@link ConsistencyToken} of the request, the one with the fewest in-flight queries relative to its weight
+ * is picked. If there is none (or getting a connection from the picked one fails), the primary is used.
+ *
+ * <p> Reader health and replay LSN are polled in the background, so routing doesn't query readers.
+ * Readers are checked independently, a check that doesn't finish within the health check timeout marks
+ * its reader unhealthy without delaying the others, and no new check of that reader starts until it finishes.
+ * A reader is also marked unhealthy when getting a connection from it fails.
+ *
+ * <p> Wraps the primary data source bean, see {@link ReadWriteRoutingDataSourceBeanPostProcessor},
+ * and takes over its lifecycle.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class ReadWriteRoutingDataSource extends AbstractDataSource
+        implements SmartInitializingSingleton, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private static final String CURRENT_LSN_SQL = "select pg_current_wal_lsn()::text";
+    /**
+     * A reader may be a primary too (e.g. in local environments), then it's always caught up.
+     */
+    private static final String REPLAY_LSN_SQL =
+            "select (case when pg_is_in_recovery() then pg_last_wal_replay_lsn() else pg_current_wal_lsn() end)::text";
+
+    private final DataSource primary;
+    private final DataSourcesProperties properties;
+    private final BeanFactory beanFactory;
+
+    /**
+     * Package-private for tests.
+     */
+    volatile List<Reader> readers = List.of();
+
+    private @Nullable ScheduledExecutorService healthCheckScheduler;
+    private @Nullable ExecutorService healthCheckExecutor;
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSourcesProperties properties, BeanFactory beanFactory) {
+        this.primary = primary;
+        this.properties = properties;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // Readers are resolved late, they are registered as beans independent of the primary
+        readers = properties.datasources().stream()
+                .filter(ds -> ds.role() == DataSourcesProperties.DataSource.Role.READER)
+                .map(ds -> new Reader(ds.name(), beanFactory.getBean(ds.name(), DataSource.class), ds.weight()))
+                .toList();
+
+        var interval = properties.routing().healthCheckInterval().toMillis();
+        var executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("datasource-health-check-", 0).factory());
+        var scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("datasource-health-check").daemon().factory());
+        scheduler.scheduleWithFixedDelay(() -> checkHealth(executor), 0, interval, TimeUnit.MILLISECONDS);
+        healthCheckExecutor = executor;
+        healthCheckScheduler = scheduler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var route = ReadRoute.current();
+        if (route == null) {
+            return primary.getConnection();
+        }
+        var routed = route.reader();
+        if (routed != null) {
+            return routed.dataSource.getConnection();
+        }
+
+        var reader = pick(route.requiredLsn());
+        if (reader == null) {
+            return primary.getConnection();
+        }
+        try {
+            var connection = reader.dataSource.getConnection();
+            route.reader(reader);
+            return connection;
+        } catch (SQLException e) {
+            reader.release();
+            reader.healthy = false;
+            log.warn("Reader '{}' is unavailable, fall back to primary", reader.name, e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Get the data source the statement executing on the current thread got its connection from.
+     *
+     * @return the picked reader inside a routed read, the primary otherwise
+     */
+    public DataSource currentDataSource() {
+        var route = ReadRoute.current();
+        var reader = route != null ? route.reader() : null;
+        return reader != null ? reader.dataSource : primary;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthCheckScheduler != null) {
+            healthCheckScheduler.shutdownNow();
+        }
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Record the primary's current LSN as the {@link ConsistencyToken} of the current request,
+     * called after a write committed.
+     */
+    void captureCommitLsn() {
+        if (ContextHolder.getOrNull() == null || readers.isEmpty()) {
+            return;
+        }
+        try {
+            ConsistencyToken.recordWrite(queryLsn(primary, CURRENT_LSN_SQL, 0));
+        } catch (SQLException | RuntimeException e) {
+            // The write is committed, following reads without token may be stale but must not fail the request
+            log.warn("Failed to capture commit LSN", e);
+        }
+    }
+
+    /**
+     * Pick the healthy reader with the lowest {@code (inFlight + 1) / weight}, ties are broken randomly.
+     *
+     * <p> Package-private for tests.
+     *
+     * @param requiredLsn the minimal LSN the reader must have replayed
+     */
+    @Nullable Reader pick(long requiredLsn) {
+        var candidates = readers;
+        var size = candidates.size();
+        if (size == 0) {
+            return null;
+        }
+
+        var offset = ThreadLocalRandom.current().nextInt(size);
+        Reader result = null;
+        var minLoad = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            var reader = candidates.get((offset + i) % size);
+            if (!reader.healthy || reader.replayLsn < requiredLsn) {
+                continue;
+            }
+            var load = (reader.inFlight.get() + 1.0) / reader.weight;
+            if (load < minLoad) {
+                minLoad = load;
+                result = reader;
+            }
+        }
+
+        if (result != null) {
+            result.inFlight.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * Start a check of each reader on its own thread, results are applied as each check completes or times out.
+     */
+    private void checkHealth(ExecutorService executor) {
+        var timeout = properties.routing().healthCheckTimeout();
+        var queryTimeout = (int) Math.max(1, timeout.toSeconds());
+        for (var reader : readers) {
+            if (!reader.checking.compareAndSet(false, true)) {
+                continue; // the previous check is still running, it marked the reader unhealthy when it timed out
+            }
+            CompletableFuture<Long> check;
+            try {
+                check = CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return queryLsn(reader.dataSource, REPLAY_LSN_SQL, queryTimeout);
+                            } catch (SQLException e) {
+                                throw new CompletionException(e);
+                            }
+                        },
+                        executor);
+            } catch (RejectedExecutionException e) {
+                reader.checking.set(false);
+                return; // shutting down
+            }
+            check.whenComplete((lsn, e) -> reader.checking.set(false));
+            check.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((lsn, e) -> {
+                if (lsn != null) {
+                    reader.replayLsn = lsn;
+                }
+                reader.updateHealth(lsn != null);
+            });
+        }
+    }
+
+    private static long queryLsn(DataSource dataSource, String sql, int timeoutSeconds) throws SQLException {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (var resultSet = statement.executeQuery(sql)) {
+                var lsn = resultSet.next() ? resultSet.getString(1) : null;
+                if (lsn == null) {
+                    throw new SQLException("No LSN returned by: " + sql);
+                }
+                return ConsistencyToken.parse(lsn);
+            }
+        }
+    }
+
+    /**
+     * Mutable state is package-private for tests.
+     */
+    static final class Reader {
+        private final String name;
+        private final DataSource dataSource;
+        private final int weight;
+        final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean checking = new AtomicBoolean();
+        volatile boolean healthy = true;
+        volatile long replayLsn;
+
+        Reader(String name, DataSource dataSource, int weight) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.weight = weight;
+        }
+
+        void release() {
+            inFlight.decrementAndGet();
+        }
+
+        private void updateHealth(boolean healthy) {
+            if (healthy != this.healthy) {
+                log.info("Reader '{}' is {}", name, healthy ? "healthy" : "unhealthy");
+            }
+            this.healthy = healthy;
+        }
+    }
+}
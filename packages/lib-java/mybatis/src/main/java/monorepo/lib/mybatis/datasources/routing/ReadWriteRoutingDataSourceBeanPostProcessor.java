@@ -0,0 +1,47 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import monorepo.lib.mybatis.datasources.DataSourcesProperties;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Wrap the primary {@link DataSource} in a {@link ReadWriteRoutingDataSource} if any reader is configured,
+ * so that reads scale with readers without changes in services.
+ *
+ * <p> Data sources declared in {@code spring.datasource.datasources} are never wrapped.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public class ReadWriteRoutingDataSourceBeanPostProcessor implements BeanPostProcessor {
+
+    private final ApplicationContext ctx;
+    private final DataSourcesProperties properties;
+    private final Set<String> dataSourceNames;
+
+    public ReadWriteRoutingDataSourceBeanPostProcessor(ApplicationContext ctx) {
+        this.ctx = ctx;
+        this.properties = Binder.get(ctx.getEnvironment())
+                .bindOrCreate(DataSourcesProperties.PREFIX, DataSourcesProperties.class);
+        this.dataSourceNames = properties.datasources().stream()
+                .map(DataSourcesProperties.DataSource::name)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource dataSource
+                && !(bean instanceof ReadWriteRoutingDataSource)
+                && !dataSourceNames.contains(beanName)
+                && properties.routing().enabled()
+                && properties.hasReaders()) {
+            return new ReadWriteRoutingDataSource(dataSource, properties, ctx);
+        }
+        return bean;
+    }
+}
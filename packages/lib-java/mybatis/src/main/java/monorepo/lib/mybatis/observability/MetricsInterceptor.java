@@ -1,28 +1,90 @@
 package monorepo.lib.mybatis.observability;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import monorepo.lib.mybatis.datasources.routing.ReadWriteRoutingDataSource;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.plugin.Intercepts;
 import org.apache.ibatis.plugin.Invocation;
 import org.apache.ibatis.plugin.Signature;
 import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.jspecify.annotations.Nullable;
 
 /**
- * MyBatis interceptor that creates observations for SQL execution.
- * Records SQL statements in traces using Micrometer Observation API.
+ * MyBatis interceptor that records SQL execution metrics.
+ *
+ * <p> Meters are tagged with low cardinality values only, so it's safe to enable in production:
+ * <ul>
+ *     <li>{@code statement}: {@link MappedStatement#getId()}</li>
+ *     <li>{@code datasource}: Hikari pool name of the data source the statement ran on (the reader for routed reads),
+ *     {@code default} if not a Hikari data source.
+ *     At most {@link #MAX_DATA_SOURCES} data sources are named, the rest are tagged as {@code other}</li>
+ *     <li>{@code fingerprint}: hash of the normalized SQL shape, see {@link SqlFingerprint}.
+ *     At most {@link #MAX_FINGERPRINTS_PER_STATEMENT} per statement, the rest are tagged as {@code other}</li>
+ *     <li>{@code command}: {@link org.apache.ibatis.mapping.SqlCommandType}</li>
+ *     <li>{@code outcome}: {@code success} or {@code error}, timer only</li>
+ * </ul>
+ *
+ * <p> Meters:
+ * <ul>
+ *     <li>{@code db.sql.execution}: statement execution time (including result mapping), with percentile histogram</li>
+ *     <li>{@code db.sql.rows.returned}: rows returned by queries</li>
+ *     <li>{@code db.sql.rows.affected}: rows affected by updates</li>
+ * </ul>
+ *
+ * <p> Executor methods are intercepted to know the {@link MappedStatement},
+ * statement handler methods are intercepted to time the execution with the final SQL.
  *
  * @author Freeman
  * @since 2025/12/3
  */
 @Intercepts({
+    @Signature(
+            type = Executor.class,
+            method = "query",
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(
+            type = Executor.class,
+            method = "query",
+            args = {
+                MappedStatement.class,
+                Object.class,
+                RowBounds.class,
+                ResultHandler.class,
+                CacheKey.class,
+                BoundSql.class
+            }),
+    @Signature(
+            type = Executor.class,
+            method = "queryCursor",
+            args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(
+            type = Executor.class,
+            method = "update",
+            args = {MappedStatement.class, Object.class}),
     @Signature(
             type = StatementHandler.class,
             method = "query",
             args = {Statement.class, ResultHandler.class}),
+    @Signature(
+            type = StatementHandler.class,
+            method = "queryCursor",
+            args = {Statement.class}),
     @Signature(
             type = StatementHandler.class,
             method = "update",
@@ -34,7 +96,24 @@ import org.apache.ibatis.session.ResultHandler;
 })
 public final class MetricsInterceptor implements Interceptor {
 
+    static final int MAX_FINGERPRINTS_PER_STATEMENT = 32;
+
+    static final int MAX_DATA_SOURCES = 32;
+
+    /**
+     * Raw SQL variants cached per statement, e.g. one per IN-list length.
+     */
+    private static final int MAX_SQL_PER_STATEMENT = 64;
+
+    private static final String OTHER_FINGERPRINT = "other";
+    private static final String OTHER_DATA_SOURCE = "other";
+
+    private static final ThreadLocal<@Nullable MappedStatement> currentStatement = new ThreadLocal<>();
+
     private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<StatementKey, StatementMeters> statementMeters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DataSource, DataSource> routingDataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DataSource, String> dataSourceNames = new ConcurrentHashMap<>();
 
     public MetricsInterceptor(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -42,16 +121,180 @@ public final class MetricsInterceptor implements Interceptor {
 
     @Override
     public Object intercept(Invocation invocation) throws Throwable {
-        StatementHandler statementHandler = (StatementHandler) invocation.getTarget();
-        BoundSql boundSql = statementHandler.getBoundSql();
-        String sql = boundSql.getSql();
+        if (invocation.getTarget() instanceof Executor) {
+            // Statements can nest, e.g. nested selects run while mapping the outer result
+            var previous = currentStatement.get();
+            currentStatement.set((MappedStatement) invocation.getArgs()[0]);
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous != null) {
+                    currentStatement.set(previous);
+                } else {
+                    currentStatement.remove();
+                }
+            }
+        }
 
-        long startTime = System.nanoTime();
-        try {
+        var mappedStatement = currentStatement.get();
+        if (mappedStatement == null) {
             return invocation.proceed();
+        }
+        var statementHandler = (StatementHandler) invocation.getTarget();
+        // Resolved per execution, a routed statement runs on the primary or on one of the readers
+        var key = new StatementKey(mappedStatement, dataSourceName(mappedStatement));
+        var meters = statementMeters
+                .computeIfAbsent(key, this::newStatementMeters)
+                .get(statementHandler.getBoundSql().getSql());
+
+        var startTime = System.nanoTime();
+        var success = false;
+        try {
+            var result = invocation.proceed();
+            switch (invocation.getMethod().getName()) {
+                case "query" -> {
+                    if (result instanceof List<?> list) {
+                        meters.rowsReturned().record(list.size());
+                    }
+                }
+                case "update" -> {
+                    if (result instanceof Integer count && count >= 0) {
+                        meters.rowsAffected().record(count);
+                    }
+                }
+                default -> {}
+            }
+            success = true;
+            return result;
         } finally {
-            long duration = System.nanoTime() - startTime;
-            meterRegistry.timer("db.sql.execution", "db.statement", sql).record(duration, TimeUnit.NANOSECONDS);
+            var timer = success ? meters.success() : meters.error();
+            timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private StatementMeters newStatementMeters(StatementKey key) {
+        return new StatementMeters(
+                key.mappedStatement().getId(),
+                key.dataSource(),
+                key.mappedStatement().getSqlCommandType().name());
+    }
+
+    /**
+     * Called while the statement's route is still current, so a routed read resolves to the reader it runs on.
+     */
+    private String dataSourceName(MappedStatement mappedStatement) {
+        var environment = mappedStatement.getConfiguration().getEnvironment();
+        if (environment == null) {
+            return "default";
+        }
+        var dataSource = routingDataSources.computeIfAbsent(environment.getDataSource(), MetricsInterceptor::unwrap);
+        if (dataSource instanceof ReadWriteRoutingDataSource routing) {
+            dataSource = routing.currentDataSource();
+        }
+        var name = dataSourceNames.get(dataSource);
+        if (name != null) {
+            return name;
+        }
+        // The size check is racy, the cache may grow slightly beyond the limit
+        if (dataSourceNames.size() >= MAX_DATA_SOURCES) {
+            return OTHER_DATA_SOURCE;
+        }
+        return dataSourceNames.computeIfAbsent(dataSource, MetricsInterceptor::poolName);
+    }
+
+    /**
+     * @return the routing data source if {@code dataSource} wraps one, {@code dataSource} otherwise
+     */
+    private static DataSource unwrap(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+                return dataSource.unwrap(ReadWriteRoutingDataSource.class);
+            }
+        } catch (SQLException _) {
+            // not a wrapper
+        }
+        return dataSource;
+    }
+
+    private static String poolName(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                var poolName = dataSource.unwrap(HikariDataSource.class).getPoolName();
+                if (poolName != null) {
+                    return poolName;
+                }
+            }
+        } catch (SQLException _) {
+            // not a wrapper
+        }
+        return "default";
+    }
+
+    private record StatementKey(MappedStatement mappedStatement, String dataSource) {}
+
+    private record Meters(
+            Timer success, Timer error, DistributionSummary rowsReturned, DistributionSummary rowsAffected) {}
+
+    private final class StatementMeters {
+        private final String statement;
+        private final String dataSource;
+        private final String command;
+        private final ConcurrentMap<String, Meters> bySql = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Meters> byFingerprint = new ConcurrentHashMap<>();
+
+        private StatementMeters(String statement, String dataSource, String command) {
+            this.statement = statement;
+            this.dataSource = dataSource;
+            this.command = command;
+        }
+
+        Meters get(String sql) {
+            var meters = bySql.get(sql);
+            if (meters != null) {
+                return meters;
+            }
+            meters = byFingerprint(SqlFingerprint.of(sql));
+            // The size check is racy, the caches may grow slightly beyond the limit
+            if (bySql.size() < MAX_SQL_PER_STATEMENT) {
+                bySql.putIfAbsent(sql, meters);
+            }
+            return meters;
+        }
+
+        private Meters byFingerprint(String fingerprint) {
+            var meters = byFingerprint.get(fingerprint);
+            if (meters != null) {
+                return meters;
+            }
+            if (byFingerprint.size() >= MAX_FINGERPRINTS_PER_STATEMENT) {
+                return byFingerprint.computeIfAbsent(OTHER_FINGERPRINT, this::newMeters);
+            }
+            return byFingerprint.computeIfAbsent(fingerprint, this::newMeters);
+        }
+
+        private Meters newMeters(String fingerprint) {
+            return new Meters(
+                    timer(fingerprint, "success"),
+                    timer(fingerprint, "error"),
+                    summary("db.sql.rows.returned", fingerprint),
+                    summary("db.sql.rows.affected", fingerprint));
+        }
+
+        private Timer timer(String fingerprint, String outcome) {
+            return Timer.builder("db.sql.execution")
+                    .description("SQL statement execution time")
+                    .tags("statement", statement, "datasource", dataSource, "fingerprint", fingerprint)
+                    .tags("command", command, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private DistributionSummary summary(String name, String fingerprint) {
+            return DistributionSummary.builder(name)
+                    .baseUnit("rows")
+                    .tags("statement", statement, "datasource", dataSource, "fingerprint", fingerprint)
+                    .tag("command", command)
+                    .register(meterRegistry);
         }
     }
 }
@@ -0,0 +1,31 @@
+package monorepo.lib.mybatis.observability;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A captured slow statement.
+ *
+ * @param statementId {@link org.apache.ibatis.mapping.MappedStatement} id
+ * @param sql         bound SQL, parameters are placeholders
+ * @param parameters  parameter names and types, values are redacted
+ * @param duration    execution time
+ * @param occurredAt  when the statement finished
+ * @param plan        {@code EXPLAIN (FORMAT JSON)} output, null if not captured (rate limited or failed)
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public record SlowStatement(
+        String statementId,
+        String sql,
+        List<String> parameters,
+        Duration duration,
+        Instant occurredAt,
+        @Nullable String plan) {
+
+    SlowStatement withPlan(@Nullable String plan) {
+        return new SlowStatement(statementId, sql, parameters, duration, occurredAt, plan);
+    }
+}
@@ -0,0 +1,268 @@
+package monorepo.lib.mybatis.observability;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import monorepo.lib.mybatis.datasources.routing.ReadWriteRoutingDataSource;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MyBatis interceptor that captures slow statements.
+ *
+ * <p> A statement taking at least {@link SlowStatementProperties#threshold()} is logged with its bound SQL,
+ * parameter values are redacted (only names and types are logged). Its plan is captured asynchronously
+ * by running {@code EXPLAIN (FORMAT JSON)} with the same parameters on a separate connection
+ * to the data source the statement ran on (the reader for routed reads), then it's kept in {@link SlowStatementLog}.
+ *
+ * <p> At most one EXPLAIN runs at a time, and at most one per {@link SlowStatementProperties#explainInterval()},
+ * slow statements over the limit are kept without a plan.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Intercepts({
+    @Signature(
+            type = StatementHandler.class,
+            method = "query",
+            args = {Statement.class, ResultHandler.class}),
+    @Signature(
+            type = StatementHandler.class,
+            method = "update",
+            args = {Statement.class}),
+    @Signature(
+            type = StatementHandler.class,
+            method = "batch",
+            args = {Statement.class})
+})
+public final class SlowStatementInterceptor implements Interceptor {
+    private static final Logger log = LoggerFactory.getLogger(SlowStatementInterceptor.class);
+
+    private final SlowStatementProperties properties;
+    private final SlowStatementLog slowStatementLog;
+    private final long thresholdNanos;
+    private final Semaphore explainPermit = new Semaphore(1);
+    private final AtomicLong nextExplainNanos = new AtomicLong(System.nanoTime());
+
+    public SlowStatementInterceptor(SlowStatementProperties properties, SlowStatementLog slowStatementLog) {
+        this.properties = properties;
+        this.slowStatementLog = slowStatementLog;
+        this.thresholdNanos = properties.threshold().toNanos();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        var startTime = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            var duration = System.nanoTime() - startTime;
+            if (duration >= thresholdNanos) {
+                onSlowStatement((StatementHandler) invocation.getTarget(), Duration.ofNanos(duration));
+            }
+        }
+    }
+
+    private void onSlowStatement(StatementHandler statementHandler, Duration duration) {
+        try {
+            var mappedStatement = mappedStatement(statementHandler);
+            var boundSql = statementHandler.getBoundSql();
+            var slowStatement = new SlowStatement(
+                    mappedStatement != null ? mappedStatement.getId() : "unknown",
+                    boundSql.getSql(),
+                    redactedParameters(boundSql),
+                    duration,
+                    Instant.now(),
+                    null);
+            log.warn(
+                    "Slow statement {} took {} ms: {} parameters={}",
+                    slowStatement.statementId(),
+                    duration.toMillis(),
+                    slowStatement.sql(),
+                    slowStatement.parameters());
+
+            var environment =
+                    mappedStatement != null ? mappedStatement.getConfiguration().getEnvironment() : null;
+            var dataSource = environment != null ? statementDataSource(environment.getDataSource()) : null;
+            if (dataSource == null || !tryAcquireExplain()) {
+                slowStatementLog.add(slowStatement);
+                return;
+            }
+            BoundParameters parameters;
+            try {
+                // The parameter handler and its parameter object belong to this thread, copy the values now
+                parameters = BoundParameters.record(statementHandler.getParameterHandler());
+            } catch (SQLException | RuntimeException e) {
+                explainPermit.release();
+                log.warn("Failed to copy parameters of slow statement {}", slowStatement.statementId(), e);
+                slowStatementLog.add(slowStatement);
+                return;
+            }
+            Thread.ofVirtual().name("slow-statement-explain").start(() -> {
+                try {
+                    slowStatementLog.add(slowStatement.withPlan(explain(dataSource, boundSql, parameters)));
+                } catch (Exception e) {
+                    log.warn("Failed to explain slow statement {}", slowStatement.statementId(), e);
+                    slowStatementLog.add(slowStatement);
+                } finally {
+                    explainPermit.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            // Never fail the statement because of capture
+            log.warn("Failed to capture slow statement", e);
+        }
+    }
+
+    private boolean tryAcquireExplain() {
+        if (!properties.explain()) {
+            return false;
+        }
+        var now = System.nanoTime();
+        var next = nextExplainNanos.get();
+        if (now - next < 0 || !nextExplainNanos.compareAndSet(next, now + properties.explainInterval().toNanos())) {
+            return false;
+        }
+        return explainPermit.tryAcquire();
+    }
+
+    /**
+     * Called while the statement's route is still current, so a routed read resolves to the reader it ran on.
+     */
+    private static DataSource statementDataSource(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+                return dataSource.unwrap(ReadWriteRoutingDataSource.class).currentDataSource();
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to unwrap {}", dataSource, e);
+        }
+        return dataSource;
+    }
+
+    private @Nullable String explain(DataSource dataSource, BoundSql boundSql, BoundParameters parameters)
+            throws SQLException {
+        // A separate connection: the statement's connection may be in a transaction, or already closed
+        try (var connection = dataSource.getConnection();
+                var ps = connection.prepareStatement("explain (format json) " + boundSql.getSql())) {
+            ps.setQueryTimeout((int) Math.max(properties.explainTimeout().toSeconds(), 1));
+            parameters.replay(ps);
+            try (var rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private static List<String> redactedParameters(BoundSql boundSql) {
+        return boundSql.getParameterMappings().stream()
+                .map(SlowStatementInterceptor::redacted)
+                .toList();
+    }
+
+    private static String redacted(ParameterMapping mapping) {
+        var type = mapping.getJdbcType() != null
+                ? mapping.getJdbcType().name()
+                : mapping.getJavaType().getSimpleName();
+        return mapping.getProperty() + ":" + type;
+    }
+
+    /**
+     * Slow path only, the mapped statement is not exposed by {@link StatementHandler}.
+     */
+    private static @Nullable MappedStatement mappedStatement(StatementHandler statementHandler) {
+        Object target = statementHandler;
+        // Unwrap other interceptors' proxies, see org.apache.ibatis.plugin.Plugin
+        while (Proxy.isProxyClass(target.getClass())
+                && Proxy.getInvocationHandler(target) instanceof Plugin plugin) {
+            target = SystemMetaObject.forObject(plugin).getValue("target");
+        }
+        MetaObject metaObject = SystemMetaObject.forObject(target);
+        for (var property : List.of("delegate.mappedStatement", "mappedStatement")) {
+            if (metaObject.hasGetter(property) && metaObject.getValue(property) instanceof MappedStatement ms) {
+                return ms;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parameter values bound by a {@link ParameterHandler}, recorded as the setter calls it makes
+     * (so type handlers apply as usual) and replayed onto another statement.
+     */
+    private static final class BoundParameters implements InvocationHandler {
+        private record Call(Method method, Object[] args) {}
+
+        private final List<Call> calls = new ArrayList<>();
+
+        static BoundParameters record(ParameterHandler parameterHandler) throws SQLException {
+            var result = new BoundParameters();
+            var recorder = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, result);
+            parameterHandler.setParameters(recorder);
+            return result;
+        }
+
+        void replay(PreparedStatement ps) throws SQLException {
+            for (var call : calls) {
+                try {
+                    call.method().invoke(ps, call.args());
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() instanceof SQLException se ? se : new SQLException(e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new SQLException(e);
+                }
+            }
+        }
+
+        @Override
+        public @Nullable Object invoke(Object proxy, Method method, Object @Nullable [] args) {
+            if (method.getName().startsWith("set") && args != null) {
+                calls.add(new Call(method, args.clone()));
+                return null;
+            }
+            return switch (method.getName()) {
+                case "equals" -> args != null && proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "BoundParameters" + calls;
+                default -> {
+                    var type = method.getReturnType();
+                    if (type == boolean.class) {
+                        yield false;
+                    }
+                    if (type == int.class) {
+                        yield 0;
+                    }
+                    if (type == long.class) {
+                        yield 0L;
+                    }
+                    throw new UnsupportedOperationException(method.getName() + " is not supported while recording");
+                }
+            };
+        }
+    }
+}
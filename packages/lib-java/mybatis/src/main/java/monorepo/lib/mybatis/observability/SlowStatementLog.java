@@ -0,0 +1,42 @@
+package monorepo.lib.mybatis.observability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded ring buffer of recent {@link SlowStatement}s, the oldest is dropped when full.
+ *
+ * <p> This class is thread-safe.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class SlowStatementLog {
+
+    private final @Nullable SlowStatement[] buffer;
+    private int next;
+    private int size;
+
+    public SlowStatementLog(int capacity) {
+        this.buffer = new SlowStatement[capacity];
+    }
+
+    public synchronized void add(SlowStatement slowStatement) {
+        buffer[next] = slowStatement;
+        next = (next + 1) % buffer.length;
+        size = Math.min(size + 1, buffer.length);
+    }
+
+    /**
+     * @return recent slow statements, newest first
+     */
+    public synchronized List<SlowStatement> recent() {
+        var result = new ArrayList<SlowStatement>(size);
+        for (int i = 1; i <= size; i++) {
+            result.add(Objects.requireNonNull(buffer[(next - i + buffer.length) % buffer.length]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package monorepo.lib.mybatis.observability;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Slow statement capture, see {@link SlowStatementInterceptor}.
+ *
+ * @param enabled         whether slow statements are captured, default true
+ * @param threshold       statements taking at least this long are slow, default 500ms
+ * @param explain         whether {@code EXPLAIN (FORMAT JSON)} is run for slow statements, default true
+ * @param explainInterval minimum interval between two EXPLAINs, so that capture can't overload the database,
+ *                        default 10s
+ * @param explainTimeout  query timeout of an EXPLAIN, default 2s
+ * @param capacity        number of recent slow statements kept, default 100
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@ConfigurationProperties(SlowStatementProperties.PREFIX)
+public record SlowStatementProperties(
+        Boolean enabled,
+        Duration threshold,
+        Boolean explain,
+        Duration explainInterval,
+        Duration explainTimeout,
+        Integer capacity) {
+
+    public static final String PREFIX = "mybatis.slow-statement";
+
+    public SlowStatementProperties {
+        enabled = enabled != null ? enabled : true;
+        threshold = threshold != null ? threshold : Duration.ofMillis(500);
+        explain = explain != null ? explain : true;
+        explainInterval = explainInterval != null ? explainInterval : Duration.ofSeconds(10);
+        explainTimeout = explainTimeout != null ? explainTimeout : Duration.ofSeconds(2);
+        capacity = capacity != null ? capacity : 100;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package monorepo.lib.mybatis.observability;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint exposing recent slow statements and their plans.
+ *
+ * <p> Not exposed over HTTP by default:
+ * <pre>{@code
+ * management.endpoints.web.exposure.include: health,slowstatements
+ * }</pre>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Endpoint(id = "slowstatements")
+public final class SlowStatementsEndpoint {
+
+    private final SlowStatementLog slowStatementLog;
+
+    public SlowStatementsEndpoint(SlowStatementLog slowStatementLog) {
+        this.slowStatementLog = slowStatementLog;
+    }
+
+    @ReadOperation
+    public List<SlowStatement> slowStatements() {
+        return slowStatementLog.recent();
+    }
+}
@@ -0,0 +1,41 @@
+package monorepo.lib.mybatis.observability;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normalized shape of a SQL statement, used as a low cardinality metric tag.
+ *
+ * <p> Dynamic SQL of the same statement varies by IN-list length and multi-row VALUES,
+ * these are collapsed so that they share the same fingerprint:
+ * <pre>{@code
+ * where id in (?, ?, ?)      -> where id in (?+)
+ * values (?, ?), (?, ?)      -> values (?+)+
+ * }</pre>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+final class SqlFingerprint {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?: ?, ?\\?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\+?\\)(?: ?, ?\\(\\?\\+?\\))+");
+
+    private SqlFingerprint() {}
+
+    /**
+     * Normalize the SQL, see class doc.
+     */
+    static String normalize(String sql) {
+        var result = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        result = PARAMETER_LIST.matcher(result).replaceAll("?+");
+        return ROW_LIST.matcher(result).replaceAll("(?+)+");
+    }
+
+    /**
+     * Fingerprint of the normalized SQL, 8 hex chars.
+     */
+    static String of(String sql) {
+        return "%08x".formatted(normalize(sql).hashCode());
+    }
+}
@@ -0,0 +1,233 @@
+package monorepo.lib.mybatis.pagination;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.and;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isGreaterThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotNull;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNull;
+import static org.mybatis.dynamic.sql.SqlBuilder.or;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Keyset (seek) pagination over typed columns.
+ *
+ * <p> When all keys are sorted in the same direction and none is nullable, the cursor condition is rendered
+ * as a row value comparison, which Postgres can turn into a single index range scan,
+ * so deep pages cost the same as the first page:
+ * <pre>{@code
+ * (created_at, id) > (#{p1}, #{p2})
+ * }</pre>
+ *
+ * <p> Otherwise (mixed directions or nullable keys), it falls back to the expanded form:
+ * <pre>{@code
+ * (created_at < #{p1}) or (created_at = #{p2} and id > #{p3})
+ * }</pre>
+ *
+ * <p> Example:
+ * <pre>{@code
+ * var keyset = KeysetPagination.builder()
+ *         .add(todo.createdAt, true)
+ *         .add(todo.id, false)
+ *         .build();
+ *
+ * todoMapper.select(c -> {
+ *     var conditions = new ArrayList<AndOrCriteriaGroup>();
+ *     keyset.after(lastValues).ifPresent(conditions::add);
+ *     return c.where(conditions).orderBy(keyset.orderBy()).limit(pageSize);
+ * });
+ * }</pre>
+ *
+ * <p> Nullable keys follow the Postgres default null ordering, nulls sort as if larger than any value,
+ * i.e. {@code NULLS LAST} for ascending and {@code NULLS FIRST} for descending keys.
+ * A {@code null} last value of a nullable key is part of the cursor, and rows with {@code null} are
+ * selected by {@code is null}/{@code is not null} instead of being skipped by the comparison,
+ * so keysets with a nullable key always use the expanded form:
+ * <pre>{@code
+ * (due_date > #{p1} or due_date is null) or (due_date = #{p2} and id > #{p3})
+ * }</pre>
+ *
+ * <p> The last key should be unique (usually the primary key) to make the order stable, it must not be nullable.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public final class KeysetPagination {
+
+    private final List<Key<?>> keys;
+    private final boolean sameDirection;
+    private final boolean nullable;
+
+    private KeysetPagination(List<Key<?>> keys) {
+        this.keys = List.copyOf(keys);
+        this.sameDirection = this.keys.stream().map(Key::descending).distinct().count() <= 1;
+        this.nullable = this.keys.stream().anyMatch(Key::nullable);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the keys in sort order.
+     *
+     * @return keys
+     */
+    public List<Key<?>> keys() {
+        return keys;
+    }
+
+    /**
+     * Get the order by specifications.
+     *
+     * @return order by specifications
+     */
+    public List<SortSpecification> orderBy() {
+        var result = new ArrayList<SortSpecification>(keys.size());
+        for (var key : keys) {
+            result.add(key.descending() ? key.column().descending() : key.column());
+        }
+        return result;
+    }
+
+    /**
+     * Build the condition that selects the rows after the cursor.
+     *
+     * <p> {@code lastValues} are the values of the last row of the previous page, in the same order as {@link #keys()}.
+     * {@code null} is only allowed for nullable keys, and means the last row has {@code null} in that column.
+     *
+     * @param lastValues last values of the previous page
+     * @return cursor condition, or empty if all last values are {@code null}
+     * @throws IllegalArgumentException if a non-nullable key has a {@code null} last value
+     */
+    public Optional<AndOrCriteriaGroup> after(List<? extends @Nullable Object> lastValues) {
+        if (lastValues.size() != keys.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + keys.size() + " last values, but got " + lastValues.size());
+        }
+        if (lastValues.stream().allMatch(Objects::isNull)) {
+            return Optional.empty();
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (lastValues.get(i) == null && !keys.get(i).nullable()) {
+                throw new IllegalArgumentException(
+                        "Last value of non-nullable key '" + keys.get(i).column().name() + "' is null");
+            }
+        }
+
+        // Row value comparison never matches nulls
+        if (sameDirection && !nullable) {
+            var operator = keys.getFirst().descending() ? "<" : ">";
+            return Optional.of(and(
+                    new RowValueComparison(keys, List.copyOf(lastValues), operator),
+                    new RowValueComparison.Condition()));
+        }
+
+        return Optional.of(expanded(keys, lastValues));
+    }
+
+    /**
+     * For keys [k1 DESC, k2 ASC, id ASC] and values [v1, v2, v3], generates:
+     * (k1 < v1) OR (k1 = v1 AND k2 > v2) OR (k1 = v1 AND k2 = v2 AND id > v3)
+     *
+     * <p> A group whose comparison can't match anything (ascending key after {@code null}) is left out.
+     */
+    private static AndOrCriteriaGroup expanded(List<Key<?>> keys, List<? extends @Nullable Object> values) {
+        var result = new ArrayList<AndOrCriteriaGroup>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            var comparison = comparison(keys.get(i), values.get(i));
+            if (comparison == null) {
+                continue;
+            }
+            var group = new ArrayList<AndOrCriteriaGroup>(i + 1);
+            for (int j = 0; j < i; j++) {
+                group.add(equality(keys.get(j), values.get(j)));
+            }
+            group.add(comparison);
+            result.add(or(group));
+        }
+        return and(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> AndOrCriteriaGroup equality(Key<T> key, @Nullable Object value) {
+        return value == null ? and(key.column(), isNull()) : and(key.column(), isEqualTo((T) value));
+    }
+
+    /**
+     * Nulls sort as if larger than any value.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> @Nullable AndOrCriteriaGroup comparison(Key<T> key, @Nullable Object value) {
+        if (key.descending()) {
+            return value == null ? and(key.column(), isNotNull()) : and(key.column(), isLessThan((T) value));
+        }
+        if (value == null) {
+            return null;
+        }
+        return key.nullable()
+                ? and(key.column(), isGreaterThan((T) value), or(key.column(), isNull()))
+                : and(key.column(), isGreaterThan((T) value));
+    }
+
+    /**
+     * A sort key.
+     *
+     * @param column     column
+     * @param descending whether the column is sorted in descending order
+     * @param nullable   whether the column is nullable
+     * @param <T>        column java type
+     */
+    public record Key<T>(SqlColumn<T> column, boolean descending, boolean nullable) {}
+
+    public static final class Builder {
+        private final List<Key<?>> keys = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Add a sort key.
+         *
+         * @param column     column
+         * @param descending whether the column is sorted in descending order
+         * @param <T>        column java type
+         * @return this builder
+         */
+        public <T> Builder add(SqlColumn<T> column, boolean descending) {
+            return add(column, descending, false);
+        }
+
+        /**
+         * Add a sort key.
+         *
+         * @param column     column
+         * @param descending whether the column is sorted in descending order
+         * @param nullable   whether the column is nullable
+         * @param <T>        column java type
+         * @return this builder
+         */
+        public <T> Builder add(SqlColumn<T> column, boolean descending, boolean nullable) {
+            keys.add(new Key<>(column, descending, nullable));
+            return this;
+        }
+
+        public KeysetPagination build() {
+            if (keys.isEmpty()) {
+                throw new IllegalStateException("At least one key is required");
+            }
+            if (keys.getLast().nullable()) {
+                throw new IllegalStateException("The last key must not be nullable");
+            }
+            return new KeysetPagination(keys);
+        }
+    }
+}
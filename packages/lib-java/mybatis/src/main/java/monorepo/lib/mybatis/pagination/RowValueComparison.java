@@ -0,0 +1,88 @@
+package monorepo.lib.mybatis.pagination;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * Renders a row value comparison such as {@code (created_at, id) > (#{p1}, #{p2})}.
+ *
+ * <p> MyBatis Dynamic SQL has no row value support, so the whole comparison is rendered as the "column",
+ * and paired with {@link Condition} which renders nothing.
+ * Each value is bound with the jdbcType/typeHandler of its own column.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+final class RowValueComparison implements BindableColumn<Object> {
+
+    private final List<KeysetPagination.Key<?>> keys;
+    private final List<Object> values;
+    private final String operator;
+    private final @Nullable String alias;
+
+    RowValueComparison(List<KeysetPagination.Key<?>> keys, List<Object> values, String operator) {
+        this(keys, values, operator, null);
+    }
+
+    private RowValueComparison(
+            List<KeysetPagination.Key<?>> keys, List<Object> values, String operator, @Nullable String alias) {
+        this.keys = keys;
+        this.values = values;
+        this.operator = operator;
+        this.alias = alias;
+    }
+
+    @Override
+    public Optional<String> alias() {
+        return Optional.ofNullable(alias);
+    }
+
+    @Override
+    public RowValueComparison as(String alias) {
+        return new RowValueComparison(keys, values, operator, alias);
+    }
+
+    @Override
+    public FragmentAndParameters render(RenderingContext renderingContext) {
+        var columns = new StringJoiner(", ", "(", ")");
+        var placeholders = new StringJoiner(", ", "(", ")");
+        var parameters = new HashMap<String, Object>();
+        for (int i = 0; i < keys.size(); i++) {
+            var column = keys.get(i).column();
+
+            var renderedColumn = column.render(renderingContext);
+            columns.add(renderedColumn.fragment());
+            parameters.putAll(renderedColumn.parameters());
+
+            var parameterInfo = renderingContext.calculateParameterInfo(column);
+            placeholders.add(parameterInfo.renderedPlaceHolder());
+            parameters.put(parameterInfo.parameterMapKey(), convert(keys.get(i), values.get(i)));
+        }
+        return FragmentAndParameters.withFragment(columns + " " + operator + " " + placeholders)
+                .withParameters(parameters)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Object convert(KeysetPagination.Key<T> key, Object value) {
+        var result = key.column().convertParameterType((T) value);
+        return result != null ? result : value;
+    }
+
+    /**
+     * The comparison is fully rendered by {@link RowValueComparison}, nothing to append.
+     */
+    static final class Condition extends AbstractNoValueCondition<Object> {
+        @Override
+        public String operator() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package monorepo.lib.mybatis.plugin;
+
+import java.util.HashSet;
+import java.util.List;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Add {@link org.apache.ibatis.cursor.Cursor} based select methods to MyBatis mapper interfaces,
+ * for reading large result sets in constant memory.
+ *
+ * <p> Usage:
+ * <pre>{@code
+ * <plugin type="monorepo.lib.mybatis.plugin.CursorSelectPlugin">
+ *     <!-- optional, default 1000 -->
+ *     <property name="fetchSize" value="1000"/>
+ * </plugin>
+ * }</pre>
+ *
+ * <p> Generated code:
+ * <pre>{@code
+ * @SelectProvider(type=SqlProviderAdapter.class, method="select")
+ * @Options(fetchSize=1000)
+ * @ResultMap("TodoResult")
+ * Cursor<Todo> selectManyCursor(SelectStatementProvider selectStatement);
+ *
+ * default Cursor<Todo> selectCursor(SelectDSLCompleter completer) {
+ *     return selectManyCursor(MyBatis3Utils.select(selectList, todo, completer));
+ * }
+ * }</pre>
+ *
+ * <p> NOTE: the cursor must be consumed within a transaction,
+ * Postgres JDBC driver only honors the fetch size when auto-commit is off, and the cursor is closed with the session.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public class CursorSelectPlugin extends PluginAdapter {
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        var fetchSize = properties.getProperty("fetchSize");
+        if (fetchSize != null) {
+            try {
+                if (Integer.parseInt(fetchSize) <= 0) {
+                    warnings.add("CursorSelectPlugin: fetchSize must be positive");
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                warnings.add("CursorSelectPlugin: invalid fetchSize " + fetchSize);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+        var recordType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        var cursorType = new FullyQualifiedJavaType("org.apache.ibatis.cursor.Cursor");
+        cursorType.addTypeArgument(recordType);
+        var fetchSize = properties.getProperty("fetchSize", String.valueOf(DEFAULT_FETCH_SIZE));
+
+        var imports = new HashSet<FullyQualifiedJavaType>();
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.cursor.Cursor"));
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectProvider"));
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Options"));
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.ResultMap"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.SqlProviderAdapter"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.select.render.SelectStatementProvider"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.dsl.SelectDSLCompleter"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils"));
+
+        var selectManyCursor = new Method("selectManyCursor");
+        selectManyCursor.setAbstract(true);
+        selectManyCursor.setReturnType(cursorType);
+        selectManyCursor.addParameter(new Parameter(
+                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.select.render.SelectStatementProvider"),
+                "selectStatement"));
+        context.getCommentGenerator().addGeneralMethodAnnotation(selectManyCursor, introspectedTable, imports);
+        selectManyCursor.addAnnotation("@SelectProvider(type=SqlProviderAdapter.class, method=\"select\")");
+        selectManyCursor.addAnnotation("@Options(fetchSize=" + fetchSize + ")");
+        selectManyCursor.addAnnotation("@ResultMap(\"" + recordType.getShortNameWithoutTypeArguments() + "Result\")");
+
+        var selectCursor = new Method("selectCursor");
+        selectCursor.setDefault(true);
+        selectCursor.setReturnType(cursorType);
+        selectCursor.addParameter(
+                new Parameter(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.dsl.SelectDSLCompleter"), "completer"));
+        context.getCommentGenerator().addGeneralMethodAnnotation(selectCursor, introspectedTable, imports);
+        selectCursor.addBodyLine("return selectManyCursor(MyBatis3Utils.select(selectList, "
+                + introspectedTable.getMyBatisDynamicSQLTableObjectName() + ", completer));");
+
+        interfaze.addImportedTypes(imports);
+        interfaze.addMethod(selectManyCursor);
+        interfaze.addMethod(selectCursor);
+        return true;
+    }
+}
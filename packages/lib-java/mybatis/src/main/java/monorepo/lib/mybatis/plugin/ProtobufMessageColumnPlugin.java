@@ -0,0 +1,61 @@
+package monorepo.lib.mybatis.plugin;
+
+import java.sql.Types;
+import java.util.List;
+import monorepo.lib.mybatis.typehandler.ProtobufMessageTypeHandler;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.config.PropertyRegistry;
+
+/**
+ * A MyBatis Generator plugin that maps {@code bytea} columns to Protobuf messages,
+ * using {@link ProtobufMessageTypeHandler}.
+ *
+ * <p> Example:
+ * <pre>{@code
+ * <plugin type="monorepo.lib.mybatis.plugin.ProtobufMessageColumnPlugin"/>
+ *
+ * <table tableName="todo_snapshot">
+ *   <columnOverride column="payload">
+ *       <property name="protobufMessage" value="monorepo.proto.todo.v1.Todo"/>
+ *   </columnOverride>
+ * </table>
+ * }</pre>
+ *
+ * <p> It is equivalent to setting {@code javaType}, {@code typeHandler} and {@code forceJavaTypeIntoMapping}
+ * on the column override.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public class ProtobufMessageColumnPlugin extends PluginAdapter {
+
+    private static final String PROTOBUF_MESSAGE = "protobufMessage";
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        return true;
+    }
+
+    @Override
+    public void initialized(IntrospectedTable introspectedTable) {
+        for (var column : introspectedTable.getAllColumns()) {
+            var messageClass = column.getProperties().getProperty(PROTOBUF_MESSAGE);
+            if (messageClass == null || messageClass.isBlank()) {
+                continue;
+            }
+            if (!isBinary(column.getJdbcType())) {
+                throw new IllegalArgumentException("Column " + introspectedTable.getFullyQualifiedTable() + "."
+                        + column.getActualColumnName() + " should be bytea to store " + messageClass);
+            }
+            column.setFullyQualifiedJavaType(new FullyQualifiedJavaType(messageClass.strip()));
+            column.setTypeHandler(ProtobufMessageTypeHandler.class.getName());
+            column.getProperties().setProperty(PropertyRegistry.COLUMN_OVERRIDE_FORCE_JAVA_TYPE, "true");
+        }
+    }
+
+    private static boolean isBinary(int jdbcType) {
+        return jdbcType == Types.BINARY || jdbcType == Types.VARBINARY || jdbcType == Types.LONGVARBINARY;
+    }
+}
@@ -0,0 +1,145 @@
+package monorepo.lib.mybatis.plugin;
+
+import java.util.HashSet;
+import java.util.List;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.internal.util.JavaBeansUtil;
+
+/**
+ * Add Postgres {@code RETURNING *} write methods to MyBatis mapper interfaces,
+ * so that mutations return the written rows without a read-back query.
+ *
+ * <p> Usage:
+ * <pre>{@code
+ * <plugin type="monorepo.lib.mybatis.plugin.ReturningPlugin"/>
+ * }</pre>
+ *
+ * <p> Generated code:
+ * <pre>{@code
+ * @SelectProvider(type=ReturningSqlProviderAdapter.class, method="insert")
+ * @ResultMap("TodoResult")
+ * @Options(flushCache=Options.FlushCachePolicy.TRUE)
+ * Todo insertReturning(InsertStatementProvider<Todo> insertStatement);
+ *
+ * @SelectProvider(type=ReturningSqlProviderAdapter.class, method="update")
+ * @ResultMap("TodoResult")
+ * @Options(flushCache=Options.FlushCachePolicy.TRUE)
+ * List<Todo> updateReturning(UpdateStatementProvider updateStatement);
+ *
+ * default Todo insertSelectiveReturning(Todo row) {
+ *     return insertReturning(MyBatis3Utils.insert(row, todo, c ->
+ *         c.withMappedColumnWhenPresent(userId, row::getUserId)
+ *         // ...
+ *     ));
+ * }
+ *
+ * default List<Todo> updateReturning(UpdateDSLCompleter completer) {
+ *     return updateReturning(MyBatis3Utils.update(todo, completer));
+ * }
+ * }</pre>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see monorepo.lib.mybatis.provider.ReturningSqlProviderAdapter
+ */
+public class ReturningPlugin extends PluginAdapter {
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        return true;
+    }
+
+    @Override
+    public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+        var recordType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        var resultMapId = recordType.getShortNameWithoutTypeArguments() + "Result";
+        var tableFieldName = introspectedTable.getMyBatisDynamicSQLTableObjectName();
+
+        var imports = new HashSet<FullyQualifiedJavaType>();
+        imports.add(new FullyQualifiedJavaType("java.util.List"));
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Options"));
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.ResultMap"));
+        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectProvider"));
+        imports.add(new FullyQualifiedJavaType("monorepo.lib.mybatis.provider.ReturningSqlProviderAdapter"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.insert.render.InsertStatementProvider"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.update.render.UpdateStatementProvider"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.dsl.UpdateDSLCompleter"));
+        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils"));
+
+        var listType = FullyQualifiedJavaType.getNewListInstance();
+        listType.addTypeArgument(recordType);
+
+        // Todo insertReturning(InsertStatementProvider<Todo> insertStatement);
+        var insertStatementType =
+                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.insert.render.InsertStatementProvider");
+        insertStatementType.addTypeArgument(recordType);
+        var insertReturning = new Method("insertReturning");
+        insertReturning.setAbstract(true);
+        insertReturning.setReturnType(recordType);
+        insertReturning.addParameter(new Parameter(insertStatementType, "insertStatement"));
+        addReturningAnnotations(insertReturning, introspectedTable, imports, "insert", resultMapId);
+
+        // List<Todo> updateReturning(UpdateStatementProvider updateStatement);
+        var updateReturning = new Method("updateReturning");
+        updateReturning.setAbstract(true);
+        updateReturning.setReturnType(listType);
+        updateReturning.addParameter(new Parameter(
+                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.update.render.UpdateStatementProvider"),
+                "updateStatement"));
+        addReturningAnnotations(updateReturning, introspectedTable, imports, "update", resultMapId);
+
+        // default Todo insertSelectiveReturning(Todo row)
+        var insertSelectiveReturning = new Method("insertSelectiveReturning");
+        insertSelectiveReturning.setDefault(true);
+        insertSelectiveReturning.setReturnType(recordType);
+        insertSelectiveReturning.addParameter(new Parameter(recordType, "row"));
+        context.getCommentGenerator().addGeneralMethodAnnotation(insertSelectiveReturning, introspectedTable, imports);
+        insertSelectiveReturning.addBodyLine(
+                "return insertReturning(MyBatis3Utils.insert(row, " + tableFieldName + ", c ->");
+        var columns = introspectedTable.getAllColumns().stream()
+                .filter(column -> !column.isIdentity() && !column.isGeneratedAlways())
+                .toList();
+        for (int i = 0; i < columns.size(); i++) {
+            var column = columns.get(i);
+            var getter = JavaBeansUtil.getGetterMethodName(column.getJavaProperty(), column.getFullyQualifiedJavaType());
+            var prefix = i == 0 ? "    c.withMappedColumnWhenPresent(" : "    .withMappedColumnWhenPresent(";
+            insertSelectiveReturning.addBodyLine(prefix + column.getJavaProperty() + ", row::" + getter + ")");
+        }
+        insertSelectiveReturning.addBodyLine("));");
+
+        // default List<Todo> updateReturning(UpdateDSLCompleter completer)
+        var updateReturningDsl = new Method("updateReturning");
+        updateReturningDsl.setDefault(true);
+        updateReturningDsl.setReturnType(listType);
+        updateReturningDsl.addParameter(new Parameter(
+                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.dsl.UpdateDSLCompleter"), "completer"));
+        context.getCommentGenerator().addGeneralMethodAnnotation(updateReturningDsl, introspectedTable, imports);
+        updateReturningDsl.addBodyLine(
+                "return updateReturning(MyBatis3Utils.update(" + tableFieldName + ", completer));");
+
+        interfaze.addImportedTypes(imports);
+        interfaze.addMethod(insertReturning);
+        interfaze.addMethod(updateReturning);
+        interfaze.addMethod(insertSelectiveReturning);
+        interfaze.addMethod(updateReturningDsl);
+        return true;
+    }
+
+    private void addReturningAnnotations(
+            Method method,
+            IntrospectedTable introspectedTable,
+            HashSet<FullyQualifiedJavaType> imports,
+            String providerMethod,
+            String resultMapId) {
+        context.getCommentGenerator().addGeneralMethodAnnotation(method, introspectedTable, imports);
+        method.addAnnotation(
+                "@SelectProvider(type=ReturningSqlProviderAdapter.class, method=\"" + providerMethod + "\")");
+        method.addAnnotation("@ResultMap(\"" + resultMapId + "\")");
+        method.addAnnotation("@Options(flushCache=Options.FlushCachePolicy.TRUE)");
+    }
+}
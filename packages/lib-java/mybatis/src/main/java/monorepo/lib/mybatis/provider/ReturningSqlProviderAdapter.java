@@ -0,0 +1,38 @@
+package monorepo.lib.mybatis.provider;
+
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * Like {@link org.mybatis.dynamic.sql.util.SqlProviderAdapter}, but appends Postgres {@code returning *},
+ * so that a write returns the affected rows (after {@code BEFORE} triggers ran) without a read-back query.
+ *
+ * <p> Must be used with {@link org.apache.ibatis.annotations.SelectProvider} and a result map:
+ * <pre>{@code
+ * @SelectProvider(type=ReturningSqlProviderAdapter.class, method="update")
+ * @ResultMap("TodoResult")
+ * @Options(flushCache=Options.FlushCachePolicy.TRUE)
+ * List<Todo> updateReturning(UpdateStatementProvider updateStatement);
+ * }</pre>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see monorepo.lib.mybatis.plugin.ReturningPlugin
+ */
+public class ReturningSqlProviderAdapter {
+
+    private static final String RETURNING = " returning *";
+
+    public String insert(InsertStatementProvider<?> insertStatement) {
+        return insertStatement.getInsertStatement() + RETURNING;
+    }
+
+    public String update(UpdateStatementProvider updateStatement) {
+        return updateStatement.getUpdateStatement() + RETURNING;
+    }
+
+    public String delete(DeleteStatementProvider deleteStatement) {
+        return deleteStatement.getDeleteStatement() + RETURNING;
+    }
+}
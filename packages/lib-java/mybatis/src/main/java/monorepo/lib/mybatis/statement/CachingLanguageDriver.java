@@ -0,0 +1,92 @@
+package monorepo.lib.mybatis.statement;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.defaults.RawSqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * {@link XMLLanguageDriver} that caches parsed statements by their rendered SQL.
+ *
+ * <p> Provider statements ({@code @SelectProvider} etc., used by mybatis-dynamic-sql mappers) are rendered per call,
+ * then MyBatis parses the rendered SQL again on every call: placeholders are tokenized,
+ * and a {@link org.apache.ibatis.mapping.ParameterMapping} (with its type handler) is resolved for each of them.
+ *
+ * <p> The rendered SQL only depends on the query shape (which conditions are present, IN-list arity, sort),
+ * parameter values are bound separately. So the parsed {@link SqlSource} is cached by the rendered SQL,
+ * statements of the same shape only bind their parameters. Use {@link InListBuckets} to keep the number of
+ * IN-list shapes small.
+ *
+ * <p> Only static SQL is cached, {@code <script>} and {@code ${}} statements are parsed per call as before.
+ * Once {@code maxSize} shapes are cached, new shapes are no longer cached.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public class CachingLanguageDriver extends XMLLanguageDriver {
+
+    private final int maxSize;
+    private final ConcurrentMap<Key, SqlSource> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public CachingLanguageDriver(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+        if (script.startsWith("<script>")) {
+            return super.createSqlSource(configuration, script, parameterType);
+        }
+        var key = new Key(configuration, parameterType, script);
+        var cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        var startTime = System.nanoTime();
+        var result = super.createSqlSource(configuration, script, parameterType);
+        missNanos.add(System.nanoTime() - startTime);
+        misses.increment();
+
+        // RawSqlSource is immutable (parsed once), DynamicSqlSource depends on the parameter object
+        if (result instanceof RawSqlSource && cache.size() < maxSize) {
+            cache.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Estimated parse time saved by cache hits, i.e. hits times the mean parse time of misses.
+     */
+    public double savedSeconds() {
+        var missCount = misses.sum();
+        if (missCount == 0) {
+            return 0;
+        }
+        return hits.sum() * ((double) missNanos.sum() / missCount) / 1e9;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private record Key(Configuration configuration, Class<?> parameterType, String script) {}
+}
@@ -0,0 +1,55 @@
+package monorepo.lib.mybatis.statement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Pad IN-list values to a bucketed arity, so that IN-lists of similar length render the same SQL.
+ *
+ * <p> Up to 8 values are kept as is, then padded to the next power of two, then to a multiple of 1024.
+ * The last value is repeated, which doesn't change the result of {@code IN}.
+ *
+ * <pre>{@code
+ * c.where(todo.id, isIn(InListBuckets.pad(ids)))
+ * }</pre>
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see CachingLanguageDriver
+ */
+public final class InListBuckets {
+
+    private static final int EXACT_MAX = 8;
+    private static final int POWER_OF_TWO_MAX = 1024;
+
+    private InListBuckets() {}
+
+    /**
+     * @param values IN-list values
+     * @return values padded to the bucket size, or the values as is if already at a bucket size
+     */
+    public static <T> Collection<T> pad(Collection<T> values) {
+        var size = values.size();
+        var bucket = bucket(size);
+        if (bucket == size) {
+            return values;
+        }
+        var result = new ArrayList<T>(bucket);
+        result.addAll(values);
+        var last = result.getLast();
+        while (result.size() < bucket) {
+            result.add(last);
+        }
+        return result;
+    }
+
+    static int bucket(int size) {
+        if (size <= EXACT_MAX) {
+            return size;
+        }
+        if (size <= POWER_OF_TWO_MAX) {
+            return Integer.highestOneBit(size - 1) << 1;
+        }
+        return (size + POWER_OF_TWO_MAX - 1) / POWER_OF_TWO_MAX * POWER_OF_TWO_MAX;
+    }
+}
@@ -0,0 +1,22 @@
+package monorepo.lib.mybatis.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parsed statement cache, see {@link CachingLanguageDriver}.
+ *
+ * @param enabled whether the cache is enabled, default true
+ * @param maxSize maximum number of cached statement shapes, default 1024
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@ConfigurationProperties(StatementCacheProperties.PREFIX)
+public record StatementCacheProperties(Boolean enabled, Integer maxSize) {
+
+    public static final String PREFIX = "mybatis.statement-cache";
+
+    public StatementCacheProperties {
+        enabled = enabled != null ? enabled : true;
+        maxSize = maxSize != null ? maxSize : 1024;
+    }
+}
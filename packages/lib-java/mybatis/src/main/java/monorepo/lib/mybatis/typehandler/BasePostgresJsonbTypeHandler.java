@@ -5,13 +5,16 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import monorepo.lib.common.util.JsonUtil;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 import org.jspecify.annotations.Nullable;
 import org.postgresql.util.PGobject;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.ResolvableType;
+import org.springframework.util.function.SingletonSupplier;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
 /**
  * Converts Postgres jsonb type to Java objects using {@link JsonUtil}.
@@ -24,47 +27,74 @@ import org.springframework.core.ResolvableType;
  * }
  * }</pre>
  *
+ * <p> Result columns are parsed from the raw bytes of the row ({@link ResultSet#getBytes}),
+ * so large documents are not decoded into a {@link String} first.
+ * Both jsonb and json columns are supported.
+ *
  * @author Freeman
  * @since 2025/11/22
  */
 public abstract class BasePostgresJsonbTypeHandler<T> extends BaseTypeHandler<T> {
 
-    private final Type type;
+    /**
+     * Version byte of the jsonb binary format, present if the driver transfers jsonb in binary.
+     */
+    private static final byte JSONB_VERSION = 1;
+
+    // Resolved lazily, the JsonMapper bean may not be ready when type handlers are created
+    private final Supplier<ObjectReader> reader;
+    private final Supplier<ObjectWriter> writer;
 
     protected BasePostgresJsonbTypeHandler() {
-        this.type = ResolvableType.forClass(getClass())
+        Type type = ResolvableType.forClass(getClass())
                 .as(BasePostgresJsonbTypeHandler.class)
                 .getGeneric(0)
                 .getType();
+        this.reader = SingletonSupplier.of(() -> JsonUtil.reader(type));
+        this.writer = SingletonSupplier.of(JsonUtil::writer);
     }
 
     @Override
     public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcType jdbcType) throws SQLException {
+        // PGobject only takes a String, Jackson writes it through its recycled buffers
         var obj = new PGobject();
         obj.setType("jsonb");
-        obj.setValue(JsonUtil.stringify(parameter));
+        obj.setValue(toJson(parameter));
         ps.setObject(i, obj);
     }
 
     @Override
     public @Nullable T getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        return fromJson(rs.getString(columnName));
+        return fromJson(rs.getBytes(columnName));
     }
 
     @Override
     public @Nullable T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        return fromJson(rs.getString(columnIndex));
+        return fromJson(rs.getBytes(columnIndex));
     }
 
     @Override
     public @Nullable T getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
-        return fromJson(cs.getString(columnIndex));
+        var value = cs.getString(columnIndex);
+        return value != null ? reader.get().readValue(value) : null;
+    }
+
+    /**
+     * Package-private for benchmarks.
+     */
+    String toJson(T value) {
+        return writer.get().writeValueAsString(value);
     }
 
-    private @Nullable T fromJson(@Nullable String value) {
+    /**
+     * Package-private for benchmarks.
+     */
+    @Nullable T fromJson(byte @Nullable [] value) {
         if (value == null) {
             return null;
         }
-        return JsonUtil.parse(value, ParameterizedTypeReference.forType(type));
+        // JSON text never starts with the version byte
+        var offset = value.length > 0 && value[0] == JSONB_VERSION ? 1 : 0;
+        return reader.get().readValue(value, offset, value.length - offset);
     }
 }
@@ -1,12 +1,15 @@
 package monorepo.lib.mybatis.typehandler;
 
 import com.google.protobuf.ProtocolMessageEnum;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.LinkedHashMap;
+import java.sql.Types;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.TreeMap;
 import org.apache.ibatis.type.BaseTypeHandler;
@@ -33,6 +36,16 @@ import org.jspecify.annotations.Nullable;
  *   <li>Unrecognized value → returns the {@code UNRECOGNIZED} enum constant
  * </ul>
  *
+ * <p>Enum columns are read on every row, so lookups avoid boxing and string compares:
+ * <ul>
+ *   <li>Integer columns (TINYINT, SMALLINT, INTEGER) are read with {@link ResultSet#getInt}
+ *   <li>Column types are resolved once per result set and column,
+ *       {@link ResultSetMetaData#getColumnType} is synchronized in some drivers (e.g. pgjdbc)
+ *   <li>Numbers resolve through an array index, or a binary search if the enum numbers are sparse
+ *   <li>Names resolve through a collision-free hash table of the exact names,
+ *       the case-insensitive lookup is only used when the exact name doesn't match
+ * </ul>
+ *
  * @param <T> The Protobuf enum type
  * @author Freeman
  * @since 2026/4/16
@@ -41,19 +54,60 @@ public class ProtobufEnumTypeHandler<T extends Enum<T> & ProtocolMessageEnum> ex
 
     private static final String UNRECOGNIZED = "UNRECOGNIZED";
 
+    /**
+     * Enum numbers spanning more than this (and more than 4x the enum size) are considered sparse.
+     */
+    private static final int MAX_DENSE_SPAN = 64;
+
+    /**
+     * Give up looking for a collision-free name table beyond this size, colliding names use the fallback map.
+     */
+    private static final int MAX_NAME_TABLE_SIZE = 1 << 12;
+
+    private static final int UNRESOLVED_TYPE = Integer.MIN_VALUE;
+
     private final T defaultEnum;
     private final T unrecognizedEnum;
+
+    // exact names, indexed by spread(name.hashCode()) & nameMask
+    private final @Nullable T[] nameTable;
+    private final int nameMask;
+    // case-insensitive names, only used when the exact name doesn't match
     private final Map<String, T> enumNameMap;
-    private final Map<Integer, T> enumNumberMap;
+
+    // dense: byNumber[number - minNumber], sparse: byNumber[binarySearch(numbers, number)]
+    private final @Nullable T[] byNumber;
+    private final int minNumber;
+    private final int @Nullable [] numbers;
+
+    // column types of the result set last read by the current thread
+    private final ThreadLocal<@Nullable ColumnTypes> columnTypes = new ThreadLocal<>();
 
     public ProtobufEnumTypeHandler(Class<T> enumClass) {
         assert ProtocolMessageEnum.class.isAssignableFrom(enumClass)
                 : "Not a ProtocolMessageEnum: " + enumClass.getName();
         assert enumClass.isEnum() : "Not an enum: " + enumClass.getName();
-        this.enumNameMap = buildNameToEnumMap(enumClass);
-        this.enumNumberMap = buildNumberToEnumMap(enumClass);
-        this.defaultEnum = getDefaultEnum(enumClass);
+        var values = recognizedValues(enumClass);
+        this.defaultEnum = getDefaultEnum(enumClass, values);
         this.unrecognizedEnum = getUnrecognizedEnum(enumClass);
+
+        this.enumNameMap = buildNameToEnumMap(values);
+        this.nameTable = buildNameTable(values);
+        this.nameMask = nameTable.length - 1;
+
+        Arrays.sort(values, (a, b) -> Integer.compare(a.getNumber(), b.getNumber()));
+        this.minNumber = values.length == 0 ? 0 : values[0].getNumber();
+        var span = values.length == 0 ? 0L : (long) values[values.length - 1].getNumber() - minNumber + 1;
+        if (span <= Math.max(MAX_DENSE_SPAN, values.length * 4L)) {
+            this.byNumber = newArray(values, (int) span);
+            for (var e : values) {
+                byNumber[e.getNumber() - minNumber] = e;
+            }
+            this.numbers = null;
+        } else {
+            this.byNumber = values;
+            this.numbers = Arrays.stream(values).mapToInt(ProtocolMessageEnum::getNumber).toArray();
+        }
     }
 
     @Override
@@ -70,12 +124,22 @@ public class ProtobufEnumTypeHandler<T extends Enum<T> & ProtocolMessageEnum> ex
 
     @Override
     public @Nullable T getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        return fromObject(rs.getObject(columnName), rs.wasNull());
+        return getNullableResult(rs, rs.findColumn(columnName));
     }
 
     @Override
     public @Nullable T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        return fromObject(rs.getObject(columnIndex), rs.wasNull());
+        return switch (columnType(rs, columnIndex)) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> {
+                var number = rs.getInt(columnIndex);
+                yield rs.wasNull() ? null : fromNumber(number);
+            }
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR -> {
+                var str = rs.getString(columnIndex);
+                yield str == null ? null : fromString(str);
+            }
+            default -> fromObject(rs.getObject(columnIndex), rs.wasNull());
+        };
     }
 
     @Override
@@ -83,17 +147,61 @@ public class ProtobufEnumTypeHandler<T extends Enum<T> & ProtocolMessageEnum> ex
         return fromObject(cs.getObject(columnIndex), cs.wasNull());
     }
 
+    private int columnType(ResultSet rs, int columnIndex) throws SQLException {
+        var metaData = rs.getMetaData();
+        var cached = columnTypes.get();
+        if (cached == null || cached.metaData() != metaData) {
+            var types = new int[metaData.getColumnCount()];
+            Arrays.fill(types, UNRESOLVED_TYPE);
+            cached = new ColumnTypes(metaData, types);
+            columnTypes.set(cached);
+        }
+        var types = cached.types();
+        if (types[columnIndex - 1] == UNRESOLVED_TYPE) {
+            types[columnIndex - 1] = metaData.getColumnType(columnIndex);
+        }
+        return types[columnIndex - 1];
+    }
+
     /**
      * Dynamically resolve a DB value (Number or String) to the corresponding enum constant.
+     *
+     * <p> Package-private for benchmarks.
      */
-    private @Nullable T fromObject(@Nullable Object value, boolean wasNull) {
+    @Nullable T fromObject(@Nullable Object value, boolean wasNull) {
         if (wasNull || value == null) {
             return null;
         }
         if (value instanceof Number number) {
-            return enumNumberMap.getOrDefault(number.intValue(), unrecognizedEnum);
+            return fromNumber(number.intValue());
         }
-        String str = value.toString().trim();
+        return fromString(value.toString());
+    }
+
+    private T fromNumber(int number) {
+        var numbers = this.numbers;
+        int index;
+        if (numbers == null) {
+            index = number - minNumber;
+            if (index < 0 || index >= byNumber.length) {
+                return unrecognizedEnum;
+            }
+        } else {
+            index = Arrays.binarySearch(numbers, number);
+            if (index < 0) {
+                return unrecognizedEnum;
+            }
+        }
+        var result = byNumber[index];
+        return result != null ? result : unrecognizedEnum;
+    }
+
+    private T fromString(String value) {
+        var candidate = nameTable[spread(value.hashCode()) & nameMask];
+        if (candidate != null && candidate.name().equals(value)) {
+            return candidate;
+        }
+        var str = value.trim();
         if (str.isBlank()) {
             return defaultEnum;
         }
@@ -103,7 +211,8 @@ public class ProtobufEnumTypeHandler<T extends Enum<T> & ProtocolMessageEnum> ex
             return byName;
         }
         if (isDigits(str)) {
-            return enumNumberMap.getOrDefault(Integer.parseInt(str), unrecognizedEnum);
+            // more than 9 digits may overflow int, no enum number is that large
+            return str.length() <= 9 ? fromNumber(Integer.parseInt(str)) : unrecognizedEnum;
         }
         return unrecognizedEnum;
     }
@@ -119,9 +228,33 @@ public class ProtobufEnumTypeHandler<T extends Enum<T> & ProtocolMessageEnum> ex
         return true;
     }
 
-    private T getDefaultEnum(Class<T> enumClass) {
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Keyed by the metadata instance, drivers like pgjdbc return the same instance for every call on a result set.
+     */
+    private record ColumnTypes(ResultSetMetaData metaData, int[] types) {}
+
+    @SuppressWarnings("unchecked")
+    private static <T> @Nullable T[] newArray(T[] template, int length) {
+        return (@Nullable T[]) Array.newInstance(template.getClass().getComponentType(), length);
+    }
+
+    private T[] recognizedValues(Class<T> enumClass) {
         var enumConstants = enumClass.getEnumConstants();
-        for (var e : enumConstants) {
+        if (enumConstants == null) {
+            throw new IllegalArgumentException("Not an enum: " + enumClass.getName());
+        }
+        // UNRECOGNIZED.getNumber() throws
+        return Arrays.stream(enumConstants)
+                .filter(e -> !UNRECOGNIZED.equals(e.name()))
+                .toArray(n -> Arrays.copyOf(enumConstants, n));
+    }
+
+    private T getDefaultEnum(Class<T> enumClass, T[] values) {
+        for (var e : values) {
             if (e.getNumber() == 0) {
                 return e;
             }
@@ -140,31 +273,34 @@ public class ProtobufEnumTypeHandler<T extends Enum<T> & ProtocolMessageEnum> ex
                 "Protobuf enum " + enumClass.getName() + " should have an UNRECOGNIZED value");
     }
 
-    private Map<String, T> buildNameToEnumMap(Class<T> enumClass) {
+    private Map<String, T> buildNameToEnumMap(T[] values) {
         var result = new TreeMap<String, T>(String.CASE_INSENSITIVE_ORDER);
-        var enumConstants = enumClass.getEnumConstants();
-        if (enumConstants == null) {
-            return result;
-        }
-        for (var e : enumConstants) {
-            if (!UNRECOGNIZED.equals(e.name())) {
-                result.put(e.name(), e);
-            }
+        for (var e : values) {
+            result.put(e.name(), e);
         }
         return result;
     }
 
-    private Map<Integer, T> buildNumberToEnumMap(Class<T> enumClass) {
-        var result = new LinkedHashMap<Integer, T>();
-        var enumConstants = enumClass.getEnumConstants();
-        if (enumConstants == null) {
-            return result;
-        }
-        for (var e : enumConstants) {
-            if (!UNRECOGNIZED.equals(e.name())) {
-                result.put(e.getNumber(), e);
+    /**
+     * Find the smallest power-of-two table in which the enum names don't collide, i.e. a perfect hash.
+     */
+    private @Nullable T[] buildNameTable(T[] values) {
+        var size = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+        while (true) {
+            var table = newArray(values, size);
+            var collided = false;
+            for (var e : values) {
+                var index = spread(e.name().hashCode()) & (size - 1);
+                if (table[index] != null) {
+                    collided = true;
+                    continue;
+                }
+                table[index] = e;
+            }
+            if (!collided || size >= MAX_NAME_TABLE_SIZE) {
+                return table;
             }
+            size <<= 1;
         }
-        return result;
     }
 }
@@ -0,0 +1,125 @@
+package monorepo.lib.mybatis.datasources.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import monorepo.lib.common.context.Context;
+import monorepo.lib.common.context.ContextConsts;
+import monorepo.lib.common.context.ContextHolder;
+import monorepo.lib.mybatis.datasources.DataSourcesProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final StubDataSource primary = new StubDataSource();
+    private final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+            primary,
+            new DataSourcesProperties(List.of(), new DataSourcesProperties.Routing(null, null, null)),
+            new StaticListableBeanFactory());
+
+    @Test
+    void testPick_thenLeastInFlightRelativeToWeight() {
+        var small = new ReadWriteRoutingDataSource.Reader("small", new StubDataSource(), 1);
+        var large = new ReadWriteRoutingDataSource.Reader("large", new StubDataSource(), 3);
+        routing.readers = List.of(small, large);
+
+        // (1 + 1) / 1 > (3 + 1) / 3
+        small.inFlight.set(1);
+        large.inFlight.set(3);
+        assertThat(routing.pick(0)).isSameAs(large);
+        assertThat(large.inFlight.get()).isEqualTo(4);
+
+        // (0 + 1) / 1 < (4 + 1) / 3
+        small.inFlight.set(0);
+        assertThat(routing.pick(0)).isSameAs(small);
+        assertThat(small.inFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testPick_whenUnhealthyOrBehind_thenSkip() {
+        var unhealthy = new ReadWriteRoutingDataSource.Reader("unhealthy", new StubDataSource(), 1);
+        var behind = new ReadWriteRoutingDataSource.Reader("behind", new StubDataSource(), 1);
+        unhealthy.healthy = false;
+        unhealthy.replayLsn = 100;
+        behind.replayLsn = 10;
+        routing.readers = List.of(unhealthy, behind);
+
+        assertThat(routing.pick(11)).isNull();
+        assertThat(routing.pick(10)).isSameAs(behind);
+    }
+
+    @Test
+    void testGetConnection_whenNotRouted_thenPrimary() throws SQLException {
+        routing.readers = List.of(new ReadWriteRoutingDataSource.Reader("reader", new StubDataSource(), 1));
+
+        assertThat(routing.getConnection()).isSameAs(primary.connection);
+    }
+
+    @Test
+    void testGetConnection_whenConsistencyToken_thenOnlyCaughtUpReaders() throws Exception {
+        var reader = new StubDataSource();
+        var replica = new ReadWriteRoutingDataSource.Reader("reader", reader, 1);
+        routing.readers = List.of(replica);
+        var context = new Context(
+                Map.of(ContextConsts.CONSISTENCY_TOKEN_HEADER, List.of("0/10")), ObservationRegistry.NOOP);
+
+        replica.replayLsn = 0xF;
+        assertThat(routedConnection(context)).isSameAs(primary.connection);
+
+        replica.replayLsn = 0x10;
+        assertThat(routedConnection(context)).isSameAs(reader.connection);
+        assertThat(replica.inFlight.get()).isZero();
+    }
+
+    @Test
+    void testGetConnection_whenReaderFails_thenFallBackToPrimary() throws Exception {
+        var reader = new StubDataSource();
+        reader.failing = true;
+        var replica = new ReadWriteRoutingDataSource.Reader("reader", reader, 1);
+        routing.readers = List.of(replica);
+        var context = new Context(Map.of(), ObservationRegistry.NOOP);
+
+        assertThat(routedConnection(context)).isSameAs(primary.connection);
+        assertThat(replica.healthy).isFalse();
+        assertThat(replica.inFlight.get()).isZero();
+    }
+
+    private Connection routedConnection(Context context) throws Exception {
+        return ContextHolder.callWithContext(context, () -> {
+            var route = ReadRoute.begin();
+            try {
+                return routing.getConnection();
+            } finally {
+                route.end();
+            }
+        });
+    }
+
+    private static final class StubDataSource extends AbstractDataSource {
+        private final Connection connection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        private boolean failing;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("Connection refused");
+            }
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package monorepo.lib.mybatis.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @Test
+    void testNormalize_whenInList_thenCollapse() {
+        assertThat(SqlFingerprint.normalize("select id from todo\n where id in (?, ?,?)  and user_id = ?"))
+                .isEqualTo("select id from todo where id in (?+) and user_id = ?");
+        assertThat(SqlFingerprint.of("select id from todo where id in (?,?)"))
+                .isEqualTo(SqlFingerprint.of("select id from todo where id in (?, ?, ?, ?)"));
+    }
+
+    @Test
+    void testNormalize_whenMultiRowValues_thenCollapse() {
+        assertThat(SqlFingerprint.normalize("insert into todo (a, b) values (?, ?), (?, ?),(?,?)"))
+                .isEqualTo("insert into todo (a, b) values (?+)+");
+        assertThat(SqlFingerprint.of("insert into t (a) values (?), (?)"))
+                .isEqualTo(SqlFingerprint.of("insert into t (a) values (?),(?),(?)"));
+    }
+
+    @Test
+    void testOf_whenDifferentShape_thenDifferentFingerprint() {
+        assertThat(SqlFingerprint.of("select id from todo where id = ?"))
+                .isNotEqualTo(SqlFingerprint.of("select id from todo where user_id = ?"))
+                .hasSize(8);
+    }
+}
@@ -0,0 +1,30 @@
+package monorepo.lib.mybatis.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InListBucketsTest {
+
+    @Test
+    void testBucket() {
+        assertThat(InListBuckets.bucket(0)).isZero();
+        assertThat(InListBuckets.bucket(8)).isEqualTo(8);
+        assertThat(InListBuckets.bucket(9)).isEqualTo(16);
+        assertThat(InListBuckets.bucket(16)).isEqualTo(16);
+        assertThat(InListBuckets.bucket(1000)).isEqualTo(1024);
+        assertThat(InListBuckets.bucket(1025)).isEqualTo(2048);
+        assertThat(InListBuckets.bucket(3000)).isEqualTo(3072);
+    }
+
+    @Test
+    void testPad_thenRepeatLastValue() {
+        var values = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+
+        var actual = InListBuckets.pad(values);
+
+        assertThat(actual).hasSize(16).containsOnlyOnce(1L, 8L).endsWith(9L, 9L);
+        assertThat(InListBuckets.pad(List.of(1L, 2L))).isEqualTo(List.of(1L, 2L));
+    }
+}
@@ -0,0 +1,76 @@
+package monorepo.lib.mybatis.typehandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.Field;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProtobufEnumTypeHandlerTest {
+
+    private final ProtobufEnumTypeHandler<Field.Kind> handler = new ProtobufEnumTypeHandler<>(Field.Kind.class);
+
+    @Test
+    void testFromObject_whenNumber_thenLookupByNumber() {
+        assertThat(handler.fromObject((short) 9, false)).isEqualTo(Field.Kind.TYPE_STRING);
+        assertThat(handler.fromObject(0, false)).isEqualTo(Field.Kind.TYPE_UNKNOWN);
+        assertThat(handler.fromObject(1000L, false)).isEqualTo(Field.Kind.UNRECOGNIZED);
+        assertThat(handler.fromObject(-1, false)).isEqualTo(Field.Kind.UNRECOGNIZED);
+    }
+
+    @Test
+    void testFromObject_whenString_thenLookupByNameOrNumber() {
+        assertThat(handler.fromObject("TYPE_STRING", false)).isEqualTo(Field.Kind.TYPE_STRING);
+        assertThat(handler.fromObject("type_string", false)).isEqualTo(Field.Kind.TYPE_STRING);
+        assertThat(handler.fromObject(" TYPE_STRING ", false)).isEqualTo(Field.Kind.TYPE_STRING);
+        assertThat(handler.fromObject("9", false)).isEqualTo(Field.Kind.TYPE_STRING);
+        assertThat(handler.fromObject("99999999999", false)).isEqualTo(Field.Kind.UNRECOGNIZED);
+        assertThat(handler.fromObject("UNRECOGNIZED", false)).isEqualTo(Field.Kind.UNRECOGNIZED);
+        assertThat(handler.fromObject("NOT_A_KIND", false)).isEqualTo(Field.Kind.UNRECOGNIZED);
+    }
+
+    @Test
+    void testFromObject_whenBlankOrNull() {
+        assertThat(handler.fromObject(" ", false)).isEqualTo(Field.Kind.TYPE_UNKNOWN);
+        assertThat(handler.fromObject(null, true)).isNull();
+        assertThat(handler.fromObject(0, true)).isNull();
+    }
+
+    @Test
+    void testGetNullableResult_whenSameResultSet_thenResolveColumnTypeOnce() throws SQLException {
+        var typeLookups = new AtomicInteger();
+        var metaData = proxy(ResultSetMetaData.class, method -> switch (method) {
+            case "getColumnCount" -> 2;
+            case "getColumnType" -> {
+                typeLookups.incrementAndGet();
+                yield Types.SMALLINT;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+        var rs = proxy(ResultSet.class, method -> switch (method) {
+            case "getMetaData" -> metaData;
+            case "getInt" -> 9;
+            case "wasNull" -> false;
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(handler.getNullableResult(rs, 2)).isEqualTo(Field.Kind.TYPE_STRING);
+        }
+        assertThat(typeLookups.get()).isEqualTo(1);
+    }
+
+    private interface Answer {
+        Object answer(String method);
+    }
+
+    private static <T> T proxy(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> answer.answer(method.getName())));
+    }
+}
@@ -7,6 +7,7 @@
 package todov1
 
 import (
+	status "google.golang.org/genproto/googleapis/rpc/status"
 	date "google.golang.org/genproto/googleapis/type/date"
 	protoreflect "google.golang.org/protobuf/reflect/protoreflect"
 	protoimpl "google.golang.org/protobuf/runtime/protoimpl"
@@ -23,6 +24,64 @@ const (
 	_ = protoimpl.EnforceVersion(protoimpl.MaxVersion - 20)
 )
 
+type ListTodosRequest_TotalSizeMode int32
+
+const (
+	ListTodosRequest_TOTAL_SIZE_MODE_UNSPECIFIED ListTodosRequest_TotalSizeMode = 0
+	// COUNT(*) on every page
+	ListTodosRequest_EXACT ListTodosRequest_TotalSizeMode = 1
+	// COUNT(*) on the first page only, subsequent pages reuse the value carried in the page token
+	ListTodosRequest_FIRST_PAGE ListTodosRequest_TotalSizeMode = 2
+	// COUNT(*) cached by user and filter, refreshed after the cache ttl expires
+	ListTodosRequest_CACHED ListTodosRequest_TotalSizeMode = 3
+	// Estimated from planner statistics, may be inaccurate
+	ListTodosRequest_ESTIMATED ListTodosRequest_TotalSizeMode = 4
+	// total_size is not computed and always 0
+	ListTodosRequest_NONE ListTodosRequest_TotalSizeMode = 5
+)
+
+// Enum value maps for ListTodosRequest_TotalSizeMode.
+var (
+	ListTodosRequest_TotalSizeMode_name = map[int32]string{
+		0: "TOTAL_SIZE_MODE_UNSPECIFIED",
+		1: "EXACT",
+		2: "FIRST_PAGE",
+		3: "CACHED",
+		4: "ESTIMATED",
+		5: "NONE",
+	}
+	ListTodosRequest_TotalSizeMode_value = map[string]int32{
+		"TOTAL_SIZE_MODE_UNSPECIFIED": 0,
+		"EXACT":                       1,
+		"FIRST_PAGE":                  2,
+		"CACHED":                      3,
+		"ESTIMATED":                   4,
+		"NONE":                        5,
+	}
+)
+
+func (x ListTodosRequest_TotalSizeMode) Enum() *ListTodosRequest_TotalSizeMode {
+	p := new(ListTodosRequest_TotalSizeMode)
+	*p = x
+	return p
+}
+
+func (x ListTodosRequest_TotalSizeMode) String() string {
+	return protoimpl.X.EnumStringOf(x.Descriptor(), protoreflect.EnumNumber(x))
+}
+
+func (ListTodosRequest_TotalSizeMode) Descriptor() protoreflect.EnumDescriptor {
+	return file_monorepo_todo_v1_todo_service_proto_enumTypes[0].Descriptor()
+}
+
+func (ListTodosRequest_TotalSizeMode) Type() protoreflect.EnumType {
+	return &file_monorepo_todo_v1_todo_service_proto_enumTypes[0]
+}
+
+func (x ListTodosRequest_TotalSizeMode) Number() protoreflect.EnumNumber {
+	return protoreflect.EnumNumber(x)
+}
+
 type ListTodosRequest_OrderBy_Field int32
 
 const (
@@ -59,11 +118,11 @@ func (x ListTodosRequest_OrderBy_Field) String() string {
 }
 
 func (ListTodosRequest_OrderBy_Field) Descriptor() protoreflect.EnumDescriptor {
-	return file_monorepo_todo_v1_todo_service_proto_enumTypes[0].Descriptor()
+	return file_monorepo_todo_v1_todo_service_proto_enumTypes[1].Descriptor()
 }
 
 func (ListTodosRequest_OrderBy_Field) Type() protoreflect.EnumType {
-	return &file_monorepo_todo_v1_todo_service_proto_enumTypes[0]
+	return &file_monorepo_todo_v1_todo_service_proto_enumTypes[1]
 }
 
 func (x ListTodosRequest_OrderBy_Field) Number() protoreflect.EnumNumber {
@@ -435,17 +494,18 @@ func (b0 GetTodoRequest_builder) Build() *GetTodoRequest {
 
 // Request message for ListTodos
 type ListTodosRequest struct {
-	state                  protoimpl.MessageState       `protogen:"opaque.v1"`
-	xxx_hidden_PageSize    int32                        `protobuf:"varint,1,opt,name=page_size,json=pageSize,proto3"`
-	xxx_hidden_PageToken   string                       `protobuf:"bytes,2,opt,name=page_token,json=pageToken,proto3"`
-	xxx_hidden_UserId      int64                        `protobuf:"varint,3,opt,name=user_id,json=userId,proto3"`
-	xxx_hidden_Filter      *ListTodosRequest_Filter     `protobuf:"bytes,4,opt,name=filter,proto3,oneof"`
-	xxx_hidden_OrderBy     *[]*ListTodosRequest_OrderBy `protobuf:"bytes,5,rep,name=order_by,json=orderBy,proto3"`
-	xxx_hidden_ShowDeleted bool                         `protobuf:"varint,6,opt,name=show_deleted,json=showDeleted,proto3,oneof"`
-	XXX_raceDetectHookData protoimpl.RaceDetectHookData
-	XXX_presence           [1]uint32
-	unknownFields          protoimpl.UnknownFields
-	sizeCache              protoimpl.SizeCache
+	state                    protoimpl.MessageState         `protogen:"opaque.v1"`
+	xxx_hidden_PageSize      int32                          `protobuf:"varint,1,opt,name=page_size,json=pageSize,proto3"`
+	xxx_hidden_PageToken     string                         `protobuf:"bytes,2,opt,name=page_token,json=pageToken,proto3"`
+	xxx_hidden_UserId        int64                          `protobuf:"varint,3,opt,name=user_id,json=userId,proto3"`
+	xxx_hidden_Filter        *ListTodosRequest_Filter       `protobuf:"bytes,4,opt,name=filter,proto3,oneof"`
+	xxx_hidden_OrderBy       *[]*ListTodosRequest_OrderBy   `protobuf:"bytes,5,rep,name=order_by,json=orderBy,proto3"`
+	xxx_hidden_ShowDeleted   bool                           `protobuf:"varint,6,opt,name=show_deleted,json=showDeleted,proto3,oneof"`
+	xxx_hidden_TotalSizeMode ListTodosRequest_TotalSizeMode `protobuf:"varint,7,opt,name=total_size_mode,json=totalSizeMode,proto3,enum=monorepo.todo.v1.ListTodosRequest_TotalSizeMode,oneof"`
+	XXX_raceDetectHookData   protoimpl.RaceDetectHookData
+	XXX_presence             [1]uint32
+	unknownFields            protoimpl.UnknownFields
+	sizeCache                protoimpl.SizeCache
 }
 
 func (x *ListTodosRequest) Reset() {
@@ -517,6 +577,15 @@ func (x *ListTodosRequest) GetShowDeleted() bool {
 	return false
 }
 
+func (x *ListTodosRequest) GetTotalSizeMode() ListTodosRequest_TotalSizeMode {
+	if x != nil {
+		if protoimpl.X.Present(&(x.XXX_presence[0]), 6) {
+			return x.xxx_hidden_TotalSizeMode
+		}
+	}
+	return ListTodosRequest_TOTAL_SIZE_MODE_UNSPECIFIED
+}
+
 func (x *ListTodosRequest) SetPageSize(v int32) {
 	x.xxx_hidden_PageSize = v
 }
@@ -539,7 +608,12 @@ func (x *ListTodosRequest) SetOrderBy(v []*ListTodosRequest_OrderBy) {
 
 func (x *ListTodosRequest) SetShowDeleted(v bool) {
 	x.xxx_hidden_ShowDeleted = v
-	protoimpl.X.SetPresent(&(x.XXX_presence[0]), 5, 6)
+	protoimpl.X.SetPresent(&(x.XXX_presence[0]), 5, 7)
+}
+
+func (x *ListTodosRequest) SetTotalSizeMode(v ListTodosRequest_TotalSizeMode) {
+	x.xxx_hidden_TotalSizeMode = v
+	protoimpl.X.SetPresent(&(x.XXX_presence[0]), 6, 7)
 }
 
 func (x *ListTodosRequest) HasFilter() bool {
@@ -556,6 +630,13 @@ func (x *ListTodosRequest) HasShowDeleted() bool {
 	return protoimpl.X.Present(&(x.XXX_presence[0]), 5)
 }
 
+func (x *ListTodosRequest) HasTotalSizeMode() bool {
+	if x == nil {
+		return false
+	}
+	return protoimpl.X.Present(&(x.XXX_presence[0]), 6)
+}
+
 func (x *ListTodosRequest) ClearFilter() {
 	x.xxx_hidden_Filter = nil
 }
@@ -565,6 +646,11 @@ func (x *ListTodosRequest) ClearShowDeleted() {
 	x.xxx_hidden_ShowDeleted = false
 }
 
+func (x *ListTodosRequest) ClearTotalSizeMode() {
+	protoimpl.X.ClearPresent(&(x.XXX_presence[0]), 6)
+	x.xxx_hidden_TotalSizeMode = ListTodosRequest_TOTAL_SIZE_MODE_UNSPECIFIED
+}
+
 type ListTodosRequest_builder struct {
 	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
 
@@ -586,6 +672,9 @@ type ListTodosRequest_builder struct {
 	OrderBy []*ListTodosRequest_OrderBy
 	// default to false if not set
 	ShowDeleted *bool
+	// How total_size is computed
+	// If unspecified, the server default is used
+	TotalSizeMode *ListTodosRequest_TotalSizeMode
 }
 
 func (b0 ListTodosRequest_builder) Build() *ListTodosRequest {
@@ -598,9 +687,13 @@ func (b0 ListTodosRequest_builder) Build() *ListTodosRequest {
 	x.xxx_hidden_Filter = b.Filter
 	x.xxx_hidden_OrderBy = &b.OrderBy
 	if b.ShowDeleted != nil {
-		protoimpl.X.SetPresentNonAtomic(&(x.XXX_presence[0]), 5, 6)
+		protoimpl.X.SetPresentNonAtomic(&(x.XXX_presence[0]), 5, 7)
 		x.xxx_hidden_ShowDeleted = *b.ShowDeleted
 	}
+	if b.TotalSizeMode != nil {
+		protoimpl.X.SetPresentNonAtomic(&(x.XXX_presence[0]), 6, 7)
+		x.xxx_hidden_TotalSizeMode = *b.TotalSizeMode
+	}
 	return m0
 }
 
@@ -683,6 +776,7 @@ type ListTodosResponse_builder struct {
 	// Empty if there are no more results
 	NextPageToken string
 	// Total count of todos matching the filter
+	// Depends on ListTodosRequest.total_size_mode, 0 if not computed
 	TotalSize int32
 }
 
@@ -1431,6 +1525,422 @@ func (b0 BatchGetTodosResponse_builder) Build() *BatchGetTodosResponse {
 	return m0
 }
 
+type ExportTodosRequest struct {
+	state                  protoimpl.MessageState   `protogen:"opaque.v1"`
+	xxx_hidden_UserId      int64                    `protobuf:"varint,1,opt,name=user_id,json=userId,proto3"`
+	xxx_hidden_Filter      *ListTodosRequest_Filter `protobuf:"bytes,2,opt,name=filter,proto3,oneof"`
+	xxx_hidden_ShowDeleted bool                     `protobuf:"varint,3,opt,name=show_deleted,json=showDeleted,proto3,oneof"`
+	XXX_raceDetectHookData protoimpl.RaceDetectHookData
+	XXX_presence           [1]uint32
+	unknownFields          protoimpl.UnknownFields
+	sizeCache              protoimpl.SizeCache
+}
+
+func (x *ExportTodosRequest) Reset() {
+	*x = ExportTodosRequest{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[11]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *ExportTodosRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*ExportTodosRequest) ProtoMessage() {}
+
+func (x *ExportTodosRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[11]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *ExportTodosRequest) GetUserId() int64 {
+	if x != nil {
+		return x.xxx_hidden_UserId
+	}
+	return 0
+}
+
+func (x *ExportTodosRequest) GetFilter() *ListTodosRequest_Filter {
+	if x != nil {
+		return x.xxx_hidden_Filter
+	}
+	return nil
+}
+
+func (x *ExportTodosRequest) GetShowDeleted() bool {
+	if x != nil {
+		return x.xxx_hidden_ShowDeleted
+	}
+	return false
+}
+
+func (x *ExportTodosRequest) SetUserId(v int64) {
+	x.xxx_hidden_UserId = v
+}
+
+func (x *ExportTodosRequest) SetFilter(v *ListTodosRequest_Filter) {
+	x.xxx_hidden_Filter = v
+}
+
+func (x *ExportTodosRequest) SetShowDeleted(v bool) {
+	x.xxx_hidden_ShowDeleted = v
+	protoimpl.X.SetPresent(&(x.XXX_presence[0]), 2, 3)
+}
+
+func (x *ExportTodosRequest) HasFilter() bool {
+	if x == nil {
+		return false
+	}
+	return x.xxx_hidden_Filter != nil
+}
+
+func (x *ExportTodosRequest) HasShowDeleted() bool {
+	if x == nil {
+		return false
+	}
+	return protoimpl.X.Present(&(x.XXX_presence[0]), 2)
+}
+
+func (x *ExportTodosRequest) ClearFilter() {
+	x.xxx_hidden_Filter = nil
+}
+
+func (x *ExportTodosRequest) ClearShowDeleted() {
+	protoimpl.X.ClearPresent(&(x.XXX_presence[0]), 2)
+	x.xxx_hidden_ShowDeleted = false
+}
+
+type ExportTodosRequest_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	UserId int64
+	Filter *ListTodosRequest_Filter
+	// default to false if not set
+	ShowDeleted *bool
+}
+
+func (b0 ExportTodosRequest_builder) Build() *ExportTodosRequest {
+	m0 := &ExportTodosRequest{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_UserId = b.UserId
+	x.xxx_hidden_Filter = b.Filter
+	if b.ShowDeleted != nil {
+		protoimpl.X.SetPresentNonAtomic(&(x.XXX_presence[0]), 2, 3)
+		x.xxx_hidden_ShowDeleted = *b.ShowDeleted
+	}
+	return m0
+}
+
+type ExportTodosResponse struct {
+	state            protoimpl.MessageState `protogen:"opaque.v1"`
+	xxx_hidden_Todos *[]*Todo               `protobuf:"bytes,1,rep,name=todos,proto3"`
+	unknownFields    protoimpl.UnknownFields
+	sizeCache        protoimpl.SizeCache
+}
+
+func (x *ExportTodosResponse) Reset() {
+	*x = ExportTodosResponse{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[12]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *ExportTodosResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*ExportTodosResponse) ProtoMessage() {}
+
+func (x *ExportTodosResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[12]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *ExportTodosResponse) GetTodos() []*Todo {
+	if x != nil {
+		if x.xxx_hidden_Todos != nil {
+			return *x.xxx_hidden_Todos
+		}
+	}
+	return nil
+}
+
+func (x *ExportTodosResponse) SetTodos(v []*Todo) {
+	x.xxx_hidden_Todos = &v
+}
+
+type ExportTodosResponse_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	// A batch of todos, batches are ordered by id
+	Todos []*Todo
+}
+
+func (b0 ExportTodosResponse_builder) Build() *ExportTodosResponse {
+	m0 := &ExportTodosResponse{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Todos = &b.Todos
+	return m0
+}
+
+type BatchCreateTodosRequest struct {
+	state               protoimpl.MessageState `protogen:"opaque.v1"`
+	xxx_hidden_Requests *[]*CreateTodoRequest  `protobuf:"bytes,1,rep,name=requests,proto3"`
+	unknownFields       protoimpl.UnknownFields
+	sizeCache           protoimpl.SizeCache
+}
+
+func (x *BatchCreateTodosRequest) Reset() {
+	*x = BatchCreateTodosRequest{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[13]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *BatchCreateTodosRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*BatchCreateTodosRequest) ProtoMessage() {}
+
+func (x *BatchCreateTodosRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[13]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *BatchCreateTodosRequest) GetRequests() []*CreateTodoRequest {
+	if x != nil {
+		if x.xxx_hidden_Requests != nil {
+			return *x.xxx_hidden_Requests
+		}
+	}
+	return nil
+}
+
+func (x *BatchCreateTodosRequest) SetRequests(v []*CreateTodoRequest) {
+	x.xxx_hidden_Requests = &v
+}
+
+type BatchCreateTodosRequest_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	// At most 10000 requests
+	Requests []*CreateTodoRequest
+}
+
+func (b0 BatchCreateTodosRequest_builder) Build() *BatchCreateTodosRequest {
+	m0 := &BatchCreateTodosRequest{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Requests = &b.Requests
+	return m0
+}
+
+type BatchCreateTodosResponse struct {
+	state              protoimpl.MessageState              `protogen:"opaque.v1"`
+	xxx_hidden_Results *[]*BatchCreateTodosResponse_Result `protobuf:"bytes,1,rep,name=results,proto3"`
+	unknownFields      protoimpl.UnknownFields
+	sizeCache          protoimpl.SizeCache
+}
+
+func (x *BatchCreateTodosResponse) Reset() {
+	*x = BatchCreateTodosResponse{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[14]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *BatchCreateTodosResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*BatchCreateTodosResponse) ProtoMessage() {}
+
+func (x *BatchCreateTodosResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[14]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *BatchCreateTodosResponse) GetResults() []*BatchCreateTodosResponse_Result {
+	if x != nil {
+		if x.xxx_hidden_Results != nil {
+			return *x.xxx_hidden_Results
+		}
+	}
+	return nil
+}
+
+func (x *BatchCreateTodosResponse) SetResults(v []*BatchCreateTodosResponse_Result) {
+	x.xxx_hidden_Results = &v
+}
+
+type BatchCreateTodosResponse_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	// One result per request, in request order
+	Results []*BatchCreateTodosResponse_Result
+}
+
+func (b0 BatchCreateTodosResponse_builder) Build() *BatchCreateTodosResponse {
+	m0 := &BatchCreateTodosResponse{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Results = &b.Results
+	return m0
+}
+
+type BatchUpdateTodosRequest struct {
+	state               protoimpl.MessageState `protogen:"opaque.v1"`
+	xxx_hidden_Requests *[]*UpdateTodoRequest  `protobuf:"bytes,1,rep,name=requests,proto3"`
+	unknownFields       protoimpl.UnknownFields
+	sizeCache           protoimpl.SizeCache
+}
+
+func (x *BatchUpdateTodosRequest) Reset() {
+	*x = BatchUpdateTodosRequest{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[15]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *BatchUpdateTodosRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*BatchUpdateTodosRequest) ProtoMessage() {}
+
+func (x *BatchUpdateTodosRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[15]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *BatchUpdateTodosRequest) GetRequests() []*UpdateTodoRequest {
+	if x != nil {
+		if x.xxx_hidden_Requests != nil {
+			return *x.xxx_hidden_Requests
+		}
+	}
+	return nil
+}
+
+func (x *BatchUpdateTodosRequest) SetRequests(v []*UpdateTodoRequest) {
+	x.xxx_hidden_Requests = &v
+}
+
+type BatchUpdateTodosRequest_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	// At most 10000 requests
+	// sub_task_operations are not supported, use UpdateTodo instead
+	Requests []*UpdateTodoRequest
+}
+
+func (b0 BatchUpdateTodosRequest_builder) Build() *BatchUpdateTodosRequest {
+	m0 := &BatchUpdateTodosRequest{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Requests = &b.Requests
+	return m0
+}
+
+type BatchUpdateTodosResponse struct {
+	state              protoimpl.MessageState              `protogen:"opaque.v1"`
+	xxx_hidden_Results *[]*BatchUpdateTodosResponse_Result `protobuf:"bytes,1,rep,name=results,proto3"`
+	unknownFields      protoimpl.UnknownFields
+	sizeCache          protoimpl.SizeCache
+}
+
+func (x *BatchUpdateTodosResponse) Reset() {
+	*x = BatchUpdateTodosResponse{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[16]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *BatchUpdateTodosResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*BatchUpdateTodosResponse) ProtoMessage() {}
+
+func (x *BatchUpdateTodosResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[16]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *BatchUpdateTodosResponse) GetResults() []*BatchUpdateTodosResponse_Result {
+	if x != nil {
+		if x.xxx_hidden_Results != nil {
+			return *x.xxx_hidden_Results
+		}
+	}
+	return nil
+}
+
+func (x *BatchUpdateTodosResponse) SetResults(v []*BatchUpdateTodosResponse_Result) {
+	x.xxx_hidden_Results = &v
+}
+
+type BatchUpdateTodosResponse_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	// One result per request, in request order
+	Results []*BatchUpdateTodosResponse_Result
+}
+
+func (b0 BatchUpdateTodosResponse_builder) Build() *BatchUpdateTodosResponse {
+	m0 := &BatchUpdateTodosResponse{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Results = &b.Results
+	return m0
+}
+
 type ListTodosRequest_Filter struct {
 	state                 protoimpl.MessageState `protogen:"opaque.v1"`
 	xxx_hidden_States     []Todo_State           `protobuf:"varint,1,rep,packed,name=states,proto3,enum=monorepo.todo.v1.Todo_State"`
@@ -1441,7 +1951,7 @@ type ListTodosRequest_Filter struct {
 
 func (x *ListTodosRequest_Filter) Reset() {
 	*x = ListTodosRequest_Filter{}
-	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[11]
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[17]
 	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
 	ms.StoreMessageInfo(mi)
 }
@@ -1453,7 +1963,7 @@ func (x *ListTodosRequest_Filter) String() string {
 func (*ListTodosRequest_Filter) ProtoMessage() {}
 
 func (x *ListTodosRequest_Filter) ProtoReflect() protoreflect.Message {
-	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[11]
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[17]
 	if x != nil {
 		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
 		if ms.LoadMessageInfo() == nil {
@@ -1512,7 +2022,7 @@ type ListTodosRequest_OrderBy struct {
 
 func (x *ListTodosRequest_OrderBy) Reset() {
 	*x = ListTodosRequest_OrderBy{}
-	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[12]
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[18]
 	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
 	ms.StoreMessageInfo(mi)
 }
@@ -1524,7 +2034,7 @@ func (x *ListTodosRequest_OrderBy) String() string {
 func (*ListTodosRequest_OrderBy) ProtoMessage() {}
 
 func (x *ListTodosRequest_OrderBy) ProtoReflect() protoreflect.Message {
-	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[12]
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[18]
 	if x != nil {
 		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
 		if ms.LoadMessageInfo() == nil {
@@ -1582,7 +2092,7 @@ type UpdateTodoRequest_SubTaskOperation struct {
 
 func (x *UpdateTodoRequest_SubTaskOperation) Reset() {
 	*x = UpdateTodoRequest_SubTaskOperation{}
-	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[13]
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[19]
 	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
 	ms.StoreMessageInfo(mi)
 }
@@ -1594,7 +2104,7 @@ func (x *UpdateTodoRequest_SubTaskOperation) String() string {
 func (*UpdateTodoRequest_SubTaskOperation) ProtoMessage() {}
 
 func (x *UpdateTodoRequest_SubTaskOperation) ProtoReflect() protoreflect.Message {
-	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[13]
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[19]
 	if x != nil {
 		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
 		if ms.LoadMessageInfo() == nil {
@@ -1759,7 +2269,7 @@ func (b0 UpdateTodoRequest_SubTaskOperation_builder) Build() *UpdateTodoRequest_
 type case_UpdateTodoRequest_SubTaskOperation_Operation protoreflect.FieldNumber
 
 func (x case_UpdateTodoRequest_SubTaskOperation_Operation) String() string {
-	md := file_monorepo_todo_v1_todo_service_proto_msgTypes[13].Descriptor()
+	md := file_monorepo_todo_v1_todo_service_proto_msgTypes[19].Descriptor()
 	if x == 0 {
 		return "not set"
 	}
@@ -1788,11 +2298,178 @@ func (*updateTodoRequest_SubTaskOperation_Update) isUpdateTodoRequest_SubTaskOpe
 
 func (*updateTodoRequest_SubTaskOperation_Delete) isUpdateTodoRequest_SubTaskOperation_Operation() {}
 
+type BatchCreateTodosResponse_Result struct {
+	state             protoimpl.MessageState `protogen:"opaque.v1"`
+	xxx_hidden_Id     int64                  `protobuf:"varint,1,opt,name=id,proto3"`
+	xxx_hidden_Status *status.Status         `protobuf:"bytes,2,opt,name=status,proto3"`
+	unknownFields     protoimpl.UnknownFields
+	sizeCache         protoimpl.SizeCache
+}
+
+func (x *BatchCreateTodosResponse_Result) Reset() {
+	*x = BatchCreateTodosResponse_Result{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[20]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *BatchCreateTodosResponse_Result) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*BatchCreateTodosResponse_Result) ProtoMessage() {}
+
+func (x *BatchCreateTodosResponse_Result) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[20]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *BatchCreateTodosResponse_Result) GetId() int64 {
+	if x != nil {
+		return x.xxx_hidden_Id
+	}
+	return 0
+}
+
+func (x *BatchCreateTodosResponse_Result) GetStatus() *status.Status {
+	if x != nil {
+		return x.xxx_hidden_Status
+	}
+	return nil
+}
+
+func (x *BatchCreateTodosResponse_Result) SetId(v int64) {
+	x.xxx_hidden_Id = v
+}
+
+func (x *BatchCreateTodosResponse_Result) SetStatus(v *status.Status) {
+	x.xxx_hidden_Status = v
+}
+
+func (x *BatchCreateTodosResponse_Result) HasStatus() bool {
+	if x == nil {
+		return false
+	}
+	return x.xxx_hidden_Status != nil
+}
+
+func (x *BatchCreateTodosResponse_Result) ClearStatus() {
+	x.xxx_hidden_Status = nil
+}
+
+type BatchCreateTodosResponse_Result_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	// Created todo id, 0 if failed
+	Id int64
+	// OK if created, otherwise the failure of this item
+	Status *status.Status
+}
+
+func (b0 BatchCreateTodosResponse_Result_builder) Build() *BatchCreateTodosResponse_Result {
+	m0 := &BatchCreateTodosResponse_Result{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Id = b.Id
+	x.xxx_hidden_Status = b.Status
+	return m0
+}
+
+type BatchUpdateTodosResponse_Result struct {
+	state             protoimpl.MessageState `protogen:"opaque.v1"`
+	xxx_hidden_Id     int64                  `protobuf:"varint,1,opt,name=id,proto3"`
+	xxx_hidden_Status *status.Status         `protobuf:"bytes,2,opt,name=status,proto3"`
+	unknownFields     protoimpl.UnknownFields
+	sizeCache         protoimpl.SizeCache
+}
+
+func (x *BatchUpdateTodosResponse_Result) Reset() {
+	*x = BatchUpdateTodosResponse_Result{}
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[21]
+	ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+	ms.StoreMessageInfo(mi)
+}
+
+func (x *BatchUpdateTodosResponse_Result) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*BatchUpdateTodosResponse_Result) ProtoMessage() {}
+
+func (x *BatchUpdateTodosResponse_Result) ProtoReflect() protoreflect.Message {
+	mi := &file_monorepo_todo_v1_todo_service_proto_msgTypes[21]
+	if x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+func (x *BatchUpdateTodosResponse_Result) GetId() int64 {
+	if x != nil {
+		return x.xxx_hidden_Id
+	}
+	return 0
+}
+
+func (x *BatchUpdateTodosResponse_Result) GetStatus() *status.Status {
+	if x != nil {
+		return x.xxx_hidden_Status
+	}
+	return nil
+}
+
+func (x *BatchUpdateTodosResponse_Result) SetId(v int64) {
+	x.xxx_hidden_Id = v
+}
+
+func (x *BatchUpdateTodosResponse_Result) SetStatus(v *status.Status) {
+	x.xxx_hidden_Status = v
+}
+
+func (x *BatchUpdateTodosResponse_Result) HasStatus() bool {
+	if x == nil {
+		return false
+	}
+	return x.xxx_hidden_Status != nil
+}
+
+func (x *BatchUpdateTodosResponse_Result) ClearStatus() {
+	x.xxx_hidden_Status = nil
+}
+
+type BatchUpdateTodosResponse_Result_builder struct {
+	_ [0]func() // Prevents comparability and use of unkeyed literals for the builder.
+
+	Id int64
+	// OK if updated, NOT_FOUND if no matching todo, otherwise the failure of this item
+	Status *status.Status
+}
+
+func (b0 BatchUpdateTodosResponse_Result_builder) Build() *BatchUpdateTodosResponse_Result {
+	m0 := &BatchUpdateTodosResponse_Result{}
+	b, x := &b0, m0
+	_, _ = b, x
+	x.xxx_hidden_Id = b.Id
+	x.xxx_hidden_Status = b.Status
+	return m0
+}
+
 var File_monorepo_todo_v1_todo_service_proto protoreflect.FileDescriptor
 
 const file_monorepo_todo_v1_todo_service_proto_rawDesc = "" +
 	"\n" +
-	"#monorepo/todo/v1/todo_service.proto\x12\x10monorepo.todo.v1\x1a\x1bgoogle/protobuf/empty.proto\x1a google/protobuf/field_mask.proto\x1a\x16google/type/date.proto\x1a\x1bmonorepo/todo/v1/todo.proto\"\xbe\x03\n" +
+	"#monorepo/todo/v1/todo_service.proto\x12\x10monorepo.todo.v1\x1a\x1bgoogle/protobuf/empty.proto\x1a google/protobuf/field_mask.proto\x1a\x17google/rpc/status.proto\x1a\x16google/type/date.proto\x1a\x1bmonorepo/todo/v1/todo.proto\"\xbe\x03\n" +
 	"\x11CreateTodoRequest\x12\x17\n" +
 	"\auser_id\x18\x01 \x01(\x03R\x06userId\x12\x14\n" +
 	"\x05title\x18\x02 \x01(\tR\x05title\x12%\n" +
@@ -1813,7 +2490,7 @@ const file_monorepo_todo_v1_todo_service_proto_rawDesc = "" +
 	"\fshow_deleted\x18\x03 \x01(\bH\x01R\vshowDeleted\x88\x01\x01B\n" +
 	"\n" +
 	"\b_user_idB\x0f\n" +
-	"\r_show_deleted\"\xf4\x04\n" +
+	"\r_show_deleted\"\xd9\x06\n" +
 	"\x10ListTodosRequest\x12\x1b\n" +
 	"\tpage_size\x18\x01 \x01(\x05R\bpageSize\x12\x1d\n" +
 	"\n" +
@@ -1821,7 +2498,8 @@ const file_monorepo_todo_v1_todo_service_proto_rawDesc = "" +
 	"\auser_id\x18\x03 \x01(\x03R\x06userId\x12F\n" +
 	"\x06filter\x18\x04 \x01(\v2).monorepo.todo.v1.ListTodosRequest.FilterH\x00R\x06filter\x88\x01\x01\x12E\n" +
 	"\border_by\x18\x05 \x03(\v2*.monorepo.todo.v1.ListTodosRequest.OrderByR\aorderBy\x12&\n" +
-	"\fshow_deleted\x18\x06 \x01(\bH\x01R\vshowDeleted\x88\x01\x01\x1a\x7f\n" +
+	"\fshow_deleted\x18\x06 \x01(\bH\x01R\vshowDeleted\x88\x01\x01\x12]\n" +
+	"\x0ftotal_size_mode\x18\a \x01(\x0e20.monorepo.todo.v1.ListTodosRequest.TotalSizeModeH\x02R\rtotalSizeMode\x88\x01\x01\x1a\x7f\n" +
 	"\x06Filter\x124\n" +
 	"\x06states\x18\x01 \x03(\x0e2\x1c.monorepo.todo.v1.Todo.StateR\x06states\x12?\n" +
 	"\n" +
@@ -1835,9 +2513,19 @@ const file_monorepo_todo_v1_todo_service_proto_rawDesc = "" +
 	"\n" +
 	"CREATED_AT\x10\x01\x12\f\n" +
 	"\bDUE_DATE\x10\x02\x12\f\n" +
-	"\bPRIORITY\x10\x03B\t\n" +
+	"\bPRIORITY\x10\x03\"p\n" +
+	"\rTotalSizeMode\x12\x1f\n" +
+	"\x1bTOTAL_SIZE_MODE_UNSPECIFIED\x10\x00\x12\t\n" +
+	"\x05EXACT\x10\x01\x12\x0e\n" +
+	"\n" +
+	"FIRST_PAGE\x10\x02\x12\n" +
+	"\n" +
+	"\x06CACHED\x10\x03\x12\r\n" +
+	"\tESTIMATED\x10\x04\x12\b\n" +
+	"\x04NONE\x10\x05B\t\n" +
 	"\a_filterB\x0f\n" +
-	"\r_show_deleted\"\x88\x01\n" +
+	"\r_show_deletedB\x12\n" +
+	"\x10_total_size_mode\"\x88\x01\n" +
 	"\x11ListTodosResponse\x12,\n" +
 	"\x05todos\x18\x01 \x03(\v2\x16.monorepo.todo.v1.TodoR\x05todos\x12&\n" +
 	"\x0fnext_page_token\x18\x02 \x01(\tR\rnextPageToken\x12\x1d\n" +
@@ -1884,7 +2572,29 @@ const file_monorepo_todo_v1_todo_service_proto_rawDesc = "" +
 	"\fshow_deleted\x18\x02 \x01(\bH\x00R\vshowDeleted\x88\x01\x01B\x0f\n" +
 	"\r_show_deleted\"E\n" +
 	"\x15BatchGetTodosResponse\x12,\n" +
-	"\x05todos\x18\x01 \x03(\v2\x16.monorepo.todo.v1.TodoR\x05todos2\xf7\x03\n" +
+	"\x05todos\x18\x01 \x03(\v2\x16.monorepo.todo.v1.TodoR\x05todos\"\xb9\x01\n" +
+	"\x12ExportTodosRequest\x12\x17\n" +
+	"\auser_id\x18\x01 \x01(\x03R\x06userId\x12F\n" +
+	"\x06filter\x18\x02 \x01(\v2).monorepo.todo.v1.ListTodosRequest.FilterH\x00R\x06filter\x88\x01\x01\x12&\n" +
+	"\fshow_deleted\x18\x03 \x01(\bH\x01R\vshowDeleted\x88\x01\x01B\t\n" +
+	"\a_filterB\x0f\n" +
+	"\r_show_deleted\"C\n" +
+	"\x13ExportTodosResponse\x12,\n" +
+	"\x05todos\x18\x01 \x03(\v2\x16.monorepo.todo.v1.TodoR\x05todos\"Z\n" +
+	"\x17BatchCreateTodosRequest\x12?\n" +
+	"\brequests\x18\x01 \x03(\v2#.monorepo.todo.v1.CreateTodoRequestR\brequests\"\xad\x01\n" +
+	"\x18BatchCreateTodosResponse\x12K\n" +
+	"\aresults\x18\x01 \x03(\v21.monorepo.todo.v1.BatchCreateTodosResponse.ResultR\aresults\x1aD\n" +
+	"\x06Result\x12\x0e\n" +
+	"\x02id\x18\x01 \x01(\x03R\x02id\x12*\n" +
+	"\x06status\x18\x02 \x01(\v2\x12.google.rpc.StatusR\x06status\"Z\n" +
+	"\x17BatchUpdateTodosRequest\x12?\n" +
+	"\brequests\x18\x01 \x03(\v2#.monorepo.todo.v1.UpdateTodoRequestR\brequests\"\xad\x01\n" +
+	"\x18BatchUpdateTodosResponse\x12K\n" +
+	"\aresults\x18\x01 \x03(\v21.monorepo.todo.v1.BatchUpdateTodosResponse.ResultR\aresults\x1aD\n" +
+	"\x06Result\x12\x0e\n" +
+	"\x02id\x18\x01 \x01(\x03R\x02id\x12*\n" +
+	"\x06status\x18\x02 \x01(\v2\x12.google.rpc.StatusR\x06status2\xb1\x06\n" +
 	"\vTodoService\x12K\n" +
 	"\n" +
 	"CreateTodo\x12#.monorepo.todo.v1.CreateTodoRequest\x1a\x16.monorepo.todo.v1.Todo\"\x00\x12E\n" +
@@ -1894,68 +2604,96 @@ const file_monorepo_todo_v1_todo_service_proto_rawDesc = "" +
 	"UpdateTodo\x12#.monorepo.todo.v1.UpdateTodoRequest\x1a\x16.monorepo.todo.v1.Todo\"\x00\x12K\n" +
 	"\n" +
 	"DeleteTodo\x12#.monorepo.todo.v1.DeleteTodoRequest\x1a\x16.monorepo.todo.v1.Todo\"\x00\x12b\n" +
-	"\rBatchGetTodos\x12&.monorepo.todo.v1.BatchGetTodosRequest\x1a'.monorepo.todo.v1.BatchGetTodosResponse\"\x00Bw\n" +
+	"\rBatchGetTodos\x12&.monorepo.todo.v1.BatchGetTodosRequest\x1a'.monorepo.todo.v1.BatchGetTodosResponse\"\x00\x12k\n" +
+	"\x10BatchCreateTodos\x12).monorepo.todo.v1.BatchCreateTodosRequest\x1a*.monorepo.todo.v1.BatchCreateTodosResponse\"\x00\x12k\n" +
+	"\x10BatchUpdateTodos\x12).monorepo.todo.v1.BatchUpdateTodosRequest\x1a*.monorepo.todo.v1.BatchUpdateTodosResponse\"\x00\x12^\n" +
+	"\vExportTodos\x12$.monorepo.todo.v1.ExportTodosRequest\x1a%.monorepo.todo.v1.ExportTodosResponse\"\x000\x01Bw\n" +
 	"\x16monorepo.proto.todo.v1P\x01Z[github.com/yourorg/monorepo/packages/proto-gen-go/monorepo/todo/pkg/monorepo/todo/v1;todov1b\x06proto3"
 
-var file_monorepo_todo_v1_todo_service_proto_enumTypes = make([]protoimpl.EnumInfo, 1)
-var file_monorepo_todo_v1_todo_service_proto_msgTypes = make([]protoimpl.MessageInfo, 14)
+var file_monorepo_todo_v1_todo_service_proto_enumTypes = make([]protoimpl.EnumInfo, 2)
+var file_monorepo_todo_v1_todo_service_proto_msgTypes = make([]protoimpl.MessageInfo, 22)
 var file_monorepo_todo_v1_todo_service_proto_goTypes = []any{
-	(ListTodosRequest_OrderBy_Field)(0),        // 0: monorepo.todo.v1.ListTodosRequest.OrderBy.Field
-	(*CreateTodoRequest)(nil),                  // 1: monorepo.todo.v1.CreateTodoRequest
-	(*GetTodoRequest)(nil),                     // 2: monorepo.todo.v1.GetTodoRequest
-	(*ListTodosRequest)(nil),                   // 3: monorepo.todo.v1.ListTodosRequest
-	(*ListTodosResponse)(nil),                  // 4: monorepo.todo.v1.ListTodosResponse
-	(*UpdateTodoRequest)(nil),                  // 5: monorepo.todo.v1.UpdateTodoRequest
-	(*DeleteTodoRequest)(nil),                  // 6: monorepo.todo.v1.DeleteTodoRequest
-	(*CreateSubtaskRequest)(nil),               // 7: monorepo.todo.v1.CreateSubtaskRequest
-	(*UpdateSubtaskRequest)(nil),               // 8: monorepo.todo.v1.UpdateSubtaskRequest
-	(*DeleteSubtaskRequest)(nil),               // 9: monorepo.todo.v1.DeleteSubtaskRequest
-	(*BatchGetTodosRequest)(nil),               // 10: monorepo.todo.v1.BatchGetTodosRequest
-	(*BatchGetTodosResponse)(nil),              // 11: monorepo.todo.v1.BatchGetTodosResponse
-	(*ListTodosRequest_Filter)(nil),            // 12: monorepo.todo.v1.ListTodosRequest.Filter
-	(*ListTodosRequest_OrderBy)(nil),           // 13: monorepo.todo.v1.ListTodosRequest.OrderBy
-	(*UpdateTodoRequest_SubTaskOperation)(nil), // 14: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation
-	(Todo_State)(0),                            // 15: monorepo.todo.v1.Todo.State
-	(Todo_Priority)(0),                         // 16: monorepo.todo.v1.Todo.Priority
-	(*date.Date)(nil),                          // 17: google.type.Date
-	(*Todo)(nil),                               // 18: monorepo.todo.v1.Todo
+	(ListTodosRequest_TotalSizeMode)(0),        // 0: monorepo.todo.v1.ListTodosRequest.TotalSizeMode
+	(ListTodosRequest_OrderBy_Field)(0),        // 1: monorepo.todo.v1.ListTodosRequest.OrderBy.Field
+	(*CreateTodoRequest)(nil),                  // 2: monorepo.todo.v1.CreateTodoRequest
+	(*GetTodoRequest)(nil),                     // 3: monorepo.todo.v1.GetTodoRequest
+	(*ListTodosRequest)(nil),                   // 4: monorepo.todo.v1.ListTodosRequest
+	(*ListTodosResponse)(nil),                  // 5: monorepo.todo.v1.ListTodosResponse
+	(*UpdateTodoRequest)(nil),                  // 6: monorepo.todo.v1.UpdateTodoRequest
+	(*DeleteTodoRequest)(nil),                  // 7: monorepo.todo.v1.DeleteTodoRequest
+	(*CreateSubtaskRequest)(nil),               // 8: monorepo.todo.v1.CreateSubtaskRequest
+	(*UpdateSubtaskRequest)(nil),               // 9: monorepo.todo.v1.UpdateSubtaskRequest
+	(*DeleteSubtaskRequest)(nil),               // 10: monorepo.todo.v1.DeleteSubtaskRequest
+	(*BatchGetTodosRequest)(nil),               // 11: monorepo.todo.v1.BatchGetTodosRequest
+	(*BatchGetTodosResponse)(nil),              // 12: monorepo.todo.v1.BatchGetTodosResponse
+	(*ExportTodosRequest)(nil),                 // 13: monorepo.todo.v1.ExportTodosRequest
+	(*ExportTodosResponse)(nil),                // 14: monorepo.todo.v1.ExportTodosResponse
+	(*BatchCreateTodosRequest)(nil),            // 15: monorepo.todo.v1.BatchCreateTodosRequest
+	(*BatchCreateTodosResponse)(nil),           // 16: monorepo.todo.v1.BatchCreateTodosResponse
+	(*BatchUpdateTodosRequest)(nil),            // 17: monorepo.todo.v1.BatchUpdateTodosRequest
+	(*BatchUpdateTodosResponse)(nil),           // 18: monorepo.todo.v1.BatchUpdateTodosResponse
+	(*ListTodosRequest_Filter)(nil),            // 19: monorepo.todo.v1.ListTodosRequest.Filter
+	(*ListTodosRequest_OrderBy)(nil),           // 20: monorepo.todo.v1.ListTodosRequest.OrderBy
+	(*UpdateTodoRequest_SubTaskOperation)(nil), // 21: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation
+	(*BatchCreateTodosResponse_Result)(nil),    // 22: monorepo.todo.v1.BatchCreateTodosResponse.Result
+	(*BatchUpdateTodosResponse_Result)(nil),    // 23: monorepo.todo.v1.BatchUpdateTodosResponse.Result
+	(Todo_State)(0),                            // 24: monorepo.todo.v1.Todo.State
+	(Todo_Priority)(0),                         // 25: monorepo.todo.v1.Todo.Priority
+	(*date.Date)(nil),                          // 26: google.type.Date
+	(*Todo)(nil),                               // 27: monorepo.todo.v1.Todo
+	(*status.Status)(nil),                      // 28: google.rpc.Status
 }
 var file_monorepo_todo_v1_todo_service_proto_depIdxs = []int32{
-	15, // 0: monorepo.todo.v1.CreateTodoRequest.state:type_name -> monorepo.todo.v1.Todo.State
-	16, // 1: monorepo.todo.v1.CreateTodoRequest.priority:type_name -> monorepo.todo.v1.Todo.Priority
-	17, // 2: monorepo.todo.v1.CreateTodoRequest.due_date:type_name -> google.type.Date
-	7,  // 3: monorepo.todo.v1.CreateTodoRequest.sub_tasks:type_name -> monorepo.todo.v1.CreateSubtaskRequest
-	12, // 4: monorepo.todo.v1.ListTodosRequest.filter:type_name -> monorepo.todo.v1.ListTodosRequest.Filter
-	13, // 5: monorepo.todo.v1.ListTodosRequest.order_by:type_name -> monorepo.todo.v1.ListTodosRequest.OrderBy
-	18, // 6: monorepo.todo.v1.ListTodosResponse.todos:type_name -> monorepo.todo.v1.Todo
-	15, // 7: monorepo.todo.v1.UpdateTodoRequest.state:type_name -> monorepo.todo.v1.Todo.State
-	16, // 8: monorepo.todo.v1.UpdateTodoRequest.priority:type_name -> monorepo.todo.v1.Todo.Priority
-	17, // 9: monorepo.todo.v1.UpdateTodoRequest.due_date:type_name -> google.type.Date
-	14, // 10: monorepo.todo.v1.UpdateTodoRequest.sub_task_operations:type_name -> monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation
-	18, // 11: monorepo.todo.v1.BatchGetTodosResponse.todos:type_name -> monorepo.todo.v1.Todo
-	15, // 12: monorepo.todo.v1.ListTodosRequest.Filter.states:type_name -> monorepo.todo.v1.Todo.State
-	16, // 13: monorepo.todo.v1.ListTodosRequest.Filter.priorities:type_name -> monorepo.todo.v1.Todo.Priority
-	0,  // 14: monorepo.todo.v1.ListTodosRequest.OrderBy.field:type_name -> monorepo.todo.v1.ListTodosRequest.OrderBy.Field
-	7,  // 15: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation.create:type_name -> monorepo.todo.v1.CreateSubtaskRequest
-	8,  // 16: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation.update:type_name -> monorepo.todo.v1.UpdateSubtaskRequest
-	9,  // 17: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation.delete:type_name -> monorepo.todo.v1.DeleteSubtaskRequest
-	1,  // 18: monorepo.todo.v1.TodoService.CreateTodo:input_type -> monorepo.todo.v1.CreateTodoRequest
-	2,  // 19: monorepo.todo.v1.TodoService.GetTodo:input_type -> monorepo.todo.v1.GetTodoRequest
-	3,  // 20: monorepo.todo.v1.TodoService.ListTodos:input_type -> monorepo.todo.v1.ListTodosRequest
-	5,  // 21: monorepo.todo.v1.TodoService.UpdateTodo:input_type -> monorepo.todo.v1.UpdateTodoRequest
-	6,  // 22: monorepo.todo.v1.TodoService.DeleteTodo:input_type -> monorepo.todo.v1.DeleteTodoRequest
-	10, // 23: monorepo.todo.v1.TodoService.BatchGetTodos:input_type -> monorepo.todo.v1.BatchGetTodosRequest
-	18, // 24: monorepo.todo.v1.TodoService.CreateTodo:output_type -> monorepo.todo.v1.Todo
-	18, // 25: monorepo.todo.v1.TodoService.GetTodo:output_type -> monorepo.todo.v1.Todo
-	4,  // 26: monorepo.todo.v1.TodoService.ListTodos:output_type -> monorepo.todo.v1.ListTodosResponse
-	18, // 27: monorepo.todo.v1.TodoService.UpdateTodo:output_type -> monorepo.todo.v1.Todo
-	18, // 28: monorepo.todo.v1.TodoService.DeleteTodo:output_type -> monorepo.todo.v1.Todo
-	11, // 29: monorepo.todo.v1.TodoService.BatchGetTodos:output_type -> monorepo.todo.v1.BatchGetTodosResponse
-	24, // [24:30] is the sub-list for method output_type
-	18, // [18:24] is the sub-list for method input_type
-	18, // [18:18] is the sub-list for extension type_name
-	18, // [18:18] is the sub-list for extension extendee
-	0,  // [0:18] is the sub-list for field type_name
+	24, // 0: monorepo.todo.v1.CreateTodoRequest.state:type_name -> monorepo.todo.v1.Todo.State
+	25, // 1: monorepo.todo.v1.CreateTodoRequest.priority:type_name -> monorepo.todo.v1.Todo.Priority
+	26, // 2: monorepo.todo.v1.CreateTodoRequest.due_date:type_name -> google.type.Date
+	8,  // 3: monorepo.todo.v1.CreateTodoRequest.sub_tasks:type_name -> monorepo.todo.v1.CreateSubtaskRequest
+	19, // 4: monorepo.todo.v1.ListTodosRequest.filter:type_name -> monorepo.todo.v1.ListTodosRequest.Filter
+	20, // 5: monorepo.todo.v1.ListTodosRequest.order_by:type_name -> monorepo.todo.v1.ListTodosRequest.OrderBy
+	0,  // 6: monorepo.todo.v1.ListTodosRequest.total_size_mode:type_name -> monorepo.todo.v1.ListTodosRequest.TotalSizeMode
+	27, // 7: monorepo.todo.v1.ListTodosResponse.todos:type_name -> monorepo.todo.v1.Todo
+	24, // 8: monorepo.todo.v1.UpdateTodoRequest.state:type_name -> monorepo.todo.v1.Todo.State
+	25, // 9: monorepo.todo.v1.UpdateTodoRequest.priority:type_name -> monorepo.todo.v1.Todo.Priority
+	26, // 10: monorepo.todo.v1.UpdateTodoRequest.due_date:type_name -> google.type.Date
+	21, // 11: monorepo.todo.v1.UpdateTodoRequest.sub_task_operations:type_name -> monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation
+	27, // 12: monorepo.todo.v1.BatchGetTodosResponse.todos:type_name -> monorepo.todo.v1.Todo
+	19, // 13: monorepo.todo.v1.ExportTodosRequest.filter:type_name -> monorepo.todo.v1.ListTodosRequest.Filter
+	27, // 14: monorepo.todo.v1.ExportTodosResponse.todos:type_name -> monorepo.todo.v1.Todo
+	2,  // 15: monorepo.todo.v1.BatchCreateTodosRequest.requests:type_name -> monorepo.todo.v1.CreateTodoRequest
+	22, // 16: monorepo.todo.v1.BatchCreateTodosResponse.results:type_name -> monorepo.todo.v1.BatchCreateTodosResponse.Result
+	6,  // 17: monorepo.todo.v1.BatchUpdateTodosRequest.requests:type_name -> monorepo.todo.v1.UpdateTodoRequest
+	23, // 18: monorepo.todo.v1.BatchUpdateTodosResponse.results:type_name -> monorepo.todo.v1.BatchUpdateTodosResponse.Result
+	24, // 19: monorepo.todo.v1.ListTodosRequest.Filter.states:type_name -> monorepo.todo.v1.Todo.State
+	25, // 20: monorepo.todo.v1.ListTodosRequest.Filter.priorities:type_name -> monorepo.todo.v1.Todo.Priority
+	1,  // 21: monorepo.todo.v1.ListTodosRequest.OrderBy.field:type_name -> monorepo.todo.v1.ListTodosRequest.OrderBy.Field
+	8,  // 22: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation.create:type_name -> monorepo.todo.v1.CreateSubtaskRequest
+	9,  // 23: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation.update:type_name -> monorepo.todo.v1.UpdateSubtaskRequest
+	10, // 24: monorepo.todo.v1.UpdateTodoRequest.SubTaskOperation.delete:type_name -> monorepo.todo.v1.DeleteSubtaskRequest
+	28, // 25: monorepo.todo.v1.BatchCreateTodosResponse.Result.status:type_name -> google.rpc.Status
+	28, // 26: monorepo.todo.v1.BatchUpdateTodosResponse.Result.status:type_name -> google.rpc.Status
+	2,  // 27: monorepo.todo.v1.TodoService.CreateTodo:input_type -> monorepo.todo.v1.CreateTodoRequest
+	3,  // 28: monorepo.todo.v1.TodoService.GetTodo:input_type -> monorepo.todo.v1.GetTodoRequest
+	4,  // 29: monorepo.todo.v1.TodoService.ListTodos:input_type -> monorepo.todo.v1.ListTodosRequest
+	6,  // 30: monorepo.todo.v1.TodoService.UpdateTodo:input_type -> monorepo.todo.v1.UpdateTodoRequest
+	7,  // 31: monorepo.todo.v1.TodoService.DeleteTodo:input_type -> monorepo.todo.v1.DeleteTodoRequest
+	11, // 32: monorepo.todo.v1.TodoService.BatchGetTodos:input_type -> monorepo.todo.v1.BatchGetTodosRequest
+	15, // 33: monorepo.todo.v1.TodoService.BatchCreateTodos:input_type -> monorepo.todo.v1.BatchCreateTodosRequest
+	17, // 34: monorepo.todo.v1.TodoService.BatchUpdateTodos:input_type -> monorepo.todo.v1.BatchUpdateTodosRequest
+	13, // 35: monorepo.todo.v1.TodoService.ExportTodos:input_type -> monorepo.todo.v1.ExportTodosRequest
+	27, // 36: monorepo.todo.v1.TodoService.CreateTodo:output_type -> monorepo.todo.v1.Todo
+	27, // 37: monorepo.todo.v1.TodoService.GetTodo:output_type -> monorepo.todo.v1.Todo
+	5,  // 38: monorepo.todo.v1.TodoService.ListTodos:output_type -> monorepo.todo.v1.ListTodosResponse
+	27, // 39: monorepo.todo.v1.TodoService.UpdateTodo:output_type -> monorepo.todo.v1.Todo
+	27, // 40: monorepo.todo.v1.TodoService.DeleteTodo:output_type -> monorepo.todo.v1.Todo
+	12, // 41: monorepo.todo.v1.TodoService.BatchGetTodos:output_type -> monorepo.todo.v1.BatchGetTodosResponse
+	16, // 42: monorepo.todo.v1.TodoService.BatchCreateTodos:output_type -> monorepo.todo.v1.BatchCreateTodosResponse
+	18, // 43: monorepo.todo.v1.TodoService.BatchUpdateTodos:output_type -> monorepo.todo.v1.BatchUpdateTodosResponse
+	14, // 44: monorepo.todo.v1.TodoService.ExportTodos:output_type -> monorepo.todo.v1.ExportTodosResponse
+	36, // [36:45] is the sub-list for method output_type
+	27, // [27:36] is the sub-list for method input_type
+	27, // [27:27] is the sub-list for extension type_name
+	27, // [27:27] is the sub-list for extension extendee
+	0,  // [0:27] is the sub-list for field type_name
 }
 
 func init() { file_monorepo_todo_v1_todo_service_proto_init() }
@@ -1971,7 +2709,8 @@ func file_monorepo_todo_v1_todo_service_proto_init() {
 	file_monorepo_todo_v1_todo_service_proto_msgTypes[5].OneofWrappers = []any{}
 	file_monorepo_todo_v1_todo_service_proto_msgTypes[7].OneofWrappers = []any{}
 	file_monorepo_todo_v1_todo_service_proto_msgTypes[9].OneofWrappers = []any{}
-	file_monorepo_todo_v1_todo_service_proto_msgTypes[13].OneofWrappers = []any{
+	file_monorepo_todo_v1_todo_service_proto_msgTypes[11].OneofWrappers = []any{}
+	file_monorepo_todo_v1_todo_service_proto_msgTypes[19].OneofWrappers = []any{
 		(*updateTodoRequest_SubTaskOperation_Create)(nil),
 		(*updateTodoRequest_SubTaskOperation_Update)(nil),
 		(*updateTodoRequest_SubTaskOperation_Delete)(nil),
@@ -1981,8 +2720,8 @@ func file_monorepo_todo_v1_todo_service_proto_init() {
 		File: protoimpl.DescBuilder{
 			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
 			RawDescriptor: unsafe.Slice(unsafe.StringData(file_monorepo_todo_v1_todo_service_proto_rawDesc), len(file_monorepo_todo_v1_todo_service_proto_rawDesc)),
-			NumEnums:      1,
-			NumMessages:   14,
+			NumEnums:      2,
+			NumMessages:   22,
 			NumExtensions: 0,
 			NumServices:   1,
 		},
@@ -19,12 +19,15 @@ import (
 const _ = grpc.SupportPackageIsVersion9
 
 const (
-	TodoService_CreateTodo_FullMethodName    = "/monorepo.todo.v1.TodoService/CreateTodo"
-	TodoService_GetTodo_FullMethodName       = "/monorepo.todo.v1.TodoService/GetTodo"
-	TodoService_ListTodos_FullMethodName     = "/monorepo.todo.v1.TodoService/ListTodos"
-	TodoService_UpdateTodo_FullMethodName    = "/monorepo.todo.v1.TodoService/UpdateTodo"
-	TodoService_DeleteTodo_FullMethodName    = "/monorepo.todo.v1.TodoService/DeleteTodo"
-	TodoService_BatchGetTodos_FullMethodName = "/monorepo.todo.v1.TodoService/BatchGetTodos"
+	TodoService_CreateTodo_FullMethodName       = "/monorepo.todo.v1.TodoService/CreateTodo"
+	TodoService_GetTodo_FullMethodName          = "/monorepo.todo.v1.TodoService/GetTodo"
+	TodoService_ListTodos_FullMethodName        = "/monorepo.todo.v1.TodoService/ListTodos"
+	TodoService_UpdateTodo_FullMethodName       = "/monorepo.todo.v1.TodoService/UpdateTodo"
+	TodoService_DeleteTodo_FullMethodName       = "/monorepo.todo.v1.TodoService/DeleteTodo"
+	TodoService_BatchGetTodos_FullMethodName    = "/monorepo.todo.v1.TodoService/BatchGetTodos"
+	TodoService_BatchCreateTodos_FullMethodName = "/monorepo.todo.v1.TodoService/BatchCreateTodos"
+	TodoService_BatchUpdateTodos_FullMethodName = "/monorepo.todo.v1.TodoService/BatchUpdateTodos"
+	TodoService_ExportTodos_FullMethodName      = "/monorepo.todo.v1.TodoService/ExportTodos"
 )
 
 // TodoServiceClient is the client API for TodoService service.
@@ -45,6 +48,15 @@ type TodoServiceClient interface {
 	DeleteTodo(ctx context.Context, in *DeleteTodoRequest, opts ...grpc.CallOption) (*Todo, error)
 	// Batch get todos by IDs (including soft-deleted)
 	BatchGetTodos(ctx context.Context, in *BatchGetTodosRequest, opts ...grpc.CallOption) (*BatchGetTodosResponse, error)
+	// Batch create todos in one transaction
+	// Items fail independently, see BatchCreateTodosResponse.results
+	BatchCreateTodos(ctx context.Context, in *BatchCreateTodosRequest, opts ...grpc.CallOption) (*BatchCreateTodosResponse, error)
+	// Batch update todos in one transaction
+	// Items fail independently, see BatchUpdateTodosResponse.results
+	BatchUpdateTodos(ctx context.Context, in *BatchUpdateTodosRequest, opts ...grpc.CallOption) (*BatchUpdateTodosResponse, error)
+	// Export all todos of a user, ordered by id
+	// Todos are streamed in batches, use this instead of paging through ListTodos for bulk reads
+	ExportTodos(ctx context.Context, in *ExportTodosRequest, opts ...grpc.CallOption) (grpc.ServerStreamingClient[ExportTodosResponse], error)
 }
 
 type todoServiceClient struct {
@@ -115,6 +127,45 @@ func (c *todoServiceClient) BatchGetTodos(ctx context.Context, in *BatchGetTodos
 	return out, nil
 }
 
+func (c *todoServiceClient) BatchCreateTodos(ctx context.Context, in *BatchCreateTodosRequest, opts ...grpc.CallOption) (*BatchCreateTodosResponse, error) {
+	cOpts := append([]grpc.CallOption{grpc.StaticMethod()}, opts...)
+	out := new(BatchCreateTodosResponse)
+	err := c.cc.Invoke(ctx, TodoService_BatchCreateTodos_FullMethodName, in, out, cOpts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *todoServiceClient) BatchUpdateTodos(ctx context.Context, in *BatchUpdateTodosRequest, opts ...grpc.CallOption) (*BatchUpdateTodosResponse, error) {
+	cOpts := append([]grpc.CallOption{grpc.StaticMethod()}, opts...)
+	out := new(BatchUpdateTodosResponse)
+	err := c.cc.Invoke(ctx, TodoService_BatchUpdateTodos_FullMethodName, in, out, cOpts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *todoServiceClient) ExportTodos(ctx context.Context, in *ExportTodosRequest, opts ...grpc.CallOption) (grpc.ServerStreamingClient[ExportTodosResponse], error) {
+	cOpts := append([]grpc.CallOption{grpc.StaticMethod()}, opts...)
+	stream, err := c.cc.NewStream(ctx, &TodoService_ServiceDesc.Streams[0], TodoService_ExportTodos_FullMethodName, cOpts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &grpc.GenericClientStream[ExportTodosRequest, ExportTodosResponse]{ClientStream: stream}
+	if err := x.ClientStream.SendMsg(in); err != nil {
+		return nil, err
+	}
+	if err := x.ClientStream.CloseSend(); err != nil {
+		return nil, err
+	}
+	return x, nil
+}
+
+// This type alias is provided for backwards compatibility with existing code that references the prior non-generic stream type by name.
+type TodoService_ExportTodosClient = grpc.ServerStreamingClient[ExportTodosResponse]
+
 // TodoServiceServer is the server API for TodoService service.
 // All implementations must embed UnimplementedTodoServiceServer
 // for forward compatibility.
@@ -133,6 +184,15 @@ type TodoServiceServer interface {
 	DeleteTodo(context.Context, *DeleteTodoRequest) (*Todo, error)
 	// Batch get todos by IDs (including soft-deleted)
 	BatchGetTodos(context.Context, *BatchGetTodosRequest) (*BatchGetTodosResponse, error)
+	// Batch create todos in one transaction
+	// Items fail independently, see BatchCreateTodosResponse.results
+	BatchCreateTodos(context.Context, *BatchCreateTodosRequest) (*BatchCreateTodosResponse, error)
+	// Batch update todos in one transaction
+	// Items fail independently, see BatchUpdateTodosResponse.results
+	BatchUpdateTodos(context.Context, *BatchUpdateTodosRequest) (*BatchUpdateTodosResponse, error)
+	// Export all todos of a user, ordered by id
+	// Todos are streamed in batches, use this instead of paging through ListTodos for bulk reads
+	ExportTodos(*ExportTodosRequest, grpc.ServerStreamingServer[ExportTodosResponse]) error
 	mustEmbedUnimplementedTodoServiceServer()
 }
 
@@ -161,6 +221,15 @@ func (UnimplementedTodoServiceServer) DeleteTodo(context.Context, *DeleteTodoReq
 func (UnimplementedTodoServiceServer) BatchGetTodos(context.Context, *BatchGetTodosRequest) (*BatchGetTodosResponse, error) {
 	return nil, status.Error(codes.Unimplemented, "method BatchGetTodos not implemented")
 }
+func (UnimplementedTodoServiceServer) BatchCreateTodos(context.Context, *BatchCreateTodosRequest) (*BatchCreateTodosResponse, error) {
+	return nil, status.Error(codes.Unimplemented, "method BatchCreateTodos not implemented")
+}
+func (UnimplementedTodoServiceServer) BatchUpdateTodos(context.Context, *BatchUpdateTodosRequest) (*BatchUpdateTodosResponse, error) {
+	return nil, status.Error(codes.Unimplemented, "method BatchUpdateTodos not implemented")
+}
+func (UnimplementedTodoServiceServer) ExportTodos(*ExportTodosRequest, grpc.ServerStreamingServer[ExportTodosResponse]) error {
+	return status.Error(codes.Unimplemented, "method ExportTodos not implemented")
+}
 func (UnimplementedTodoServiceServer) mustEmbedUnimplementedTodoServiceServer() {}
 func (UnimplementedTodoServiceServer) testEmbeddedByValue()                     {}
 
@@ -290,6 +359,53 @@ func _TodoService_BatchGetTodos_Handler(srv interface{}, ctx context.Context, de
 	return interceptor(ctx, in, info, handler)
 }
 
+func _TodoService_BatchCreateTodos_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(BatchCreateTodosRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(TodoServiceServer).BatchCreateTodos(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: TodoService_BatchCreateTodos_FullMethodName,
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(TodoServiceServer).BatchCreateTodos(ctx, req.(*BatchCreateTodosRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _TodoService_BatchUpdateTodos_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(BatchUpdateTodosRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(TodoServiceServer).BatchUpdateTodos(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: TodoService_BatchUpdateTodos_FullMethodName,
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(TodoServiceServer).BatchUpdateTodos(ctx, req.(*BatchUpdateTodosRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _TodoService_ExportTodos_Handler(srv interface{}, stream grpc.ServerStream) error {
+	m := new(ExportTodosRequest)
+	if err := stream.RecvMsg(m); err != nil {
+		return err
+	}
+	return srv.(TodoServiceServer).ExportTodos(m, &grpc.GenericServerStream[ExportTodosRequest, ExportTodosResponse]{ServerStream: stream})
+}
+
+// This type alias is provided for backwards compatibility with existing code that references the prior non-generic stream type by name.
+type TodoService_ExportTodosServer = grpc.ServerStreamingServer[ExportTodosResponse]
+
 // TodoService_ServiceDesc is the grpc.ServiceDesc for TodoService service.
 // It's only intended for direct use with grpc.RegisterService,
 // and not to be introspected or modified (even as a copy)
@@ -321,7 +437,21 @@ var TodoService_ServiceDesc = grpc.ServiceDesc{
 			MethodName: "BatchGetTodos",
 			Handler:    _TodoService_BatchGetTodos_Handler,
 		},
+		{
+			MethodName: "BatchCreateTodos",
+			Handler:    _TodoService_BatchCreateTodos_Handler,
+		},
+		{
+			MethodName: "BatchUpdateTodos",
+			Handler:    _TodoService_BatchUpdateTodos_Handler,
+		},
+	},
+	Streams: []grpc.StreamDesc{
+		{
+			StreamName:    "ExportTodos",
+			Handler:       _TodoService_ExportTodos_Handler,
+			ServerStreams: true,
+		},
 	},
-	Streams:  []grpc.StreamDesc{},
 	Metadata: "monorepo/todo/v1/todo_service.proto",
 }
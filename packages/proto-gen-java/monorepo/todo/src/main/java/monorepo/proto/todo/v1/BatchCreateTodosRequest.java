@@ -0,0 +1,812 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+/**
+ * Protobuf type {@code monorepo.todo.v1.BatchCreateTodosRequest}
+ */
+@com.google.protobuf.Generated
+public final class BatchCreateTodosRequest extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:monorepo.todo.v1.BatchCreateTodosRequest)
+    BatchCreateTodosRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 33,
+      /* patch= */ 4,
+      /* suffix= */ "",
+      "BatchCreateTodosRequest");
+  }
+  // Use BatchCreateTodosRequest.newBuilder() to construct.
+  private BatchCreateTodosRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private BatchCreateTodosRequest() {
+    requests_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            monorepo.proto.todo.v1.BatchCreateTodosRequest.class, monorepo.proto.todo.v1.BatchCreateTodosRequest.Builder.class);
+  }
+
+  public static final int REQUESTS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<monorepo.proto.todo.v1.CreateTodoRequest> requests_;
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  @java.lang.Override
+  public java.util.List<monorepo.proto.todo.v1.CreateTodoRequest> getRequestsList() {
+    return requests_;
+  }
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends monorepo.proto.todo.v1.CreateTodoRequestOrBuilder> 
+      getRequestsOrBuilderList() {
+    return requests_;
+  }
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  @java.lang.Override
+  public int getRequestsCount() {
+    return requests_.size();
+  }
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.CreateTodoRequest getRequests(int index) {
+    return requests_.get(index);
+  }
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.CreateTodoRequestOrBuilder getRequestsOrBuilder(
+      int index) {
+    return requests_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < requests_.size(); i++) {
+      output.writeMessage(1, requests_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < requests_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, requests_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof monorepo.proto.todo.v1.BatchCreateTodosRequest)) {
+      return super.equals(obj);
+    }
+    monorepo.proto.todo.v1.BatchCreateTodosRequest other = (monorepo.proto.todo.v1.BatchCreateTodosRequest) obj;
+
+    if (!getRequestsList()
+        .equals(other.getRequestsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getRequestsCount() > 0) {
+      hash = (37 * hash) + REQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(monorepo.proto.todo.v1.BatchCreateTodosRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code monorepo.todo.v1.BatchCreateTodosRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:monorepo.todo.v1.BatchCreateTodosRequest)
+      monorepo.proto.todo.v1.BatchCreateTodosRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              monorepo.proto.todo.v1.BatchCreateTodosRequest.class, monorepo.proto.todo.v1.BatchCreateTodosRequest.Builder.class);
+    }
+
+    // Construct using monorepo.proto.todo.v1.BatchCreateTodosRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (requestsBuilder_ == null) {
+        requests_ = java.util.Collections.emptyList();
+      } else {
+        requests_ = null;
+        requestsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosRequest getDefaultInstanceForType() {
+      return monorepo.proto.todo.v1.BatchCreateTodosRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosRequest build() {
+      monorepo.proto.todo.v1.BatchCreateTodosRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosRequest buildPartial() {
+      monorepo.proto.todo.v1.BatchCreateTodosRequest result = new monorepo.proto.todo.v1.BatchCreateTodosRequest(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(monorepo.proto.todo.v1.BatchCreateTodosRequest result) {
+      if (requestsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.requests_ = requests_;
+      } else {
+        result.requests_ = requestsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(monorepo.proto.todo.v1.BatchCreateTodosRequest result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof monorepo.proto.todo.v1.BatchCreateTodosRequest) {
+        return mergeFrom((monorepo.proto.todo.v1.BatchCreateTodosRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(monorepo.proto.todo.v1.BatchCreateTodosRequest other) {
+      if (other == monorepo.proto.todo.v1.BatchCreateTodosRequest.getDefaultInstance()) return this;
+      if (requestsBuilder_ == null) {
+        if (!other.requests_.isEmpty()) {
+          if (requests_.isEmpty()) {
+            requests_ = other.requests_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRequestsIsMutable();
+            requests_.addAll(other.requests_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.requests_.isEmpty()) {
+          if (requestsBuilder_.isEmpty()) {
+            requestsBuilder_.dispose();
+            requestsBuilder_ = null;
+            requests_ = other.requests_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            requestsBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetRequestsFieldBuilder() : null;
+          } else {
+            requestsBuilder_.addAllMessages(other.requests_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              monorepo.proto.todo.v1.CreateTodoRequest m =
+                  input.readMessage(
+                      monorepo.proto.todo.v1.CreateTodoRequest.parser(),
+                      extensionRegistry);
+              if (requestsBuilder_ == null) {
+                ensureRequestsIsMutable();
+                requests_.add(m);
+              } else {
+                requestsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<monorepo.proto.todo.v1.CreateTodoRequest> requests_ =
+      java.util.Collections.emptyList();
+    private void ensureRequestsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        requests_ = new java.util.ArrayList<monorepo.proto.todo.v1.CreateTodoRequest>(requests_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        monorepo.proto.todo.v1.CreateTodoRequest, monorepo.proto.todo.v1.CreateTodoRequest.Builder, monorepo.proto.todo.v1.CreateTodoRequestOrBuilder> requestsBuilder_;
+
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public java.util.List<monorepo.proto.todo.v1.CreateTodoRequest> getRequestsList() {
+      if (requestsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(requests_);
+      } else {
+        return requestsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public int getRequestsCount() {
+      if (requestsBuilder_ == null) {
+        return requests_.size();
+      } else {
+        return requestsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public monorepo.proto.todo.v1.CreateTodoRequest getRequests(int index) {
+      if (requestsBuilder_ == null) {
+        return requests_.get(index);
+      } else {
+        return requestsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder setRequests(
+        int index, monorepo.proto.todo.v1.CreateTodoRequest value) {
+      if (requestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRequestsIsMutable();
+        requests_.set(index, value);
+        onChanged();
+      } else {
+        requestsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder setRequests(
+        int index, monorepo.proto.todo.v1.CreateTodoRequest.Builder builderForValue) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        requestsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder addRequests(monorepo.proto.todo.v1.CreateTodoRequest value) {
+      if (requestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRequestsIsMutable();
+        requests_.add(value);
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder addRequests(
+        int index, monorepo.proto.todo.v1.CreateTodoRequest value) {
+      if (requestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRequestsIsMutable();
+        requests_.add(index, value);
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder addRequests(
+        monorepo.proto.todo.v1.CreateTodoRequest.Builder builderForValue) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.add(builderForValue.build());
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder addRequests(
+        int index, monorepo.proto.todo.v1.CreateTodoRequest.Builder builderForValue) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder addAllRequests(
+        java.lang.Iterable<? extends monorepo.proto.todo.v1.CreateTodoRequest> values) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, requests_);
+        onChanged();
+      } else {
+        requestsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder clearRequests() {
+      if (requestsBuilder_ == null) {
+        requests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        requestsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public Builder removeRequests(int index) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.remove(index);
+        onChanged();
+      } else {
+        requestsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public monorepo.proto.todo.v1.CreateTodoRequest.Builder getRequestsBuilder(
+        int index) {
+      return internalGetRequestsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public monorepo.proto.todo.v1.CreateTodoRequestOrBuilder getRequestsOrBuilder(
+        int index) {
+      if (requestsBuilder_ == null) {
+        return requests_.get(index);  } else {
+        return requestsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public java.util.List<? extends monorepo.proto.todo.v1.CreateTodoRequestOrBuilder> 
+         getRequestsOrBuilderList() {
+      if (requestsBuilder_ != null) {
+        return requestsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(requests_);
+      }
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public monorepo.proto.todo.v1.CreateTodoRequest.Builder addRequestsBuilder() {
+      return internalGetRequestsFieldBuilder().addBuilder(
+          monorepo.proto.todo.v1.CreateTodoRequest.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public monorepo.proto.todo.v1.CreateTodoRequest.Builder addRequestsBuilder(
+        int index) {
+      return internalGetRequestsFieldBuilder().addBuilder(
+          index, monorepo.proto.todo.v1.CreateTodoRequest.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * At most 10000 requests
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+     */
+    public java.util.List<monorepo.proto.todo.v1.CreateTodoRequest.Builder> 
+         getRequestsBuilderList() {
+      return internalGetRequestsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        monorepo.proto.todo.v1.CreateTodoRequest, monorepo.proto.todo.v1.CreateTodoRequest.Builder, monorepo.proto.todo.v1.CreateTodoRequestOrBuilder> 
+        internalGetRequestsFieldBuilder() {
+      if (requestsBuilder_ == null) {
+        requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            monorepo.proto.todo.v1.CreateTodoRequest, monorepo.proto.todo.v1.CreateTodoRequest.Builder, monorepo.proto.todo.v1.CreateTodoRequestOrBuilder>(
+                requests_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        requests_ = null;
+      }
+      return requestsBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:monorepo.todo.v1.BatchCreateTodosRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:monorepo.todo.v1.BatchCreateTodosRequest)
+  private static final monorepo.proto.todo.v1.BatchCreateTodosRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new monorepo.proto.todo.v1.BatchCreateTodosRequest();
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BatchCreateTodosRequest>
+      PARSER = new com.google.protobuf.AbstractParser<BatchCreateTodosRequest>() {
+    @java.lang.Override
+    public BatchCreateTodosRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<BatchCreateTodosRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BatchCreateTodosRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public monorepo.proto.todo.v1.BatchCreateTodosRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,56 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+@com.google.protobuf.Generated
+public interface BatchCreateTodosRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:monorepo.todo.v1.BatchCreateTodosRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  java.util.List<monorepo.proto.todo.v1.CreateTodoRequest> 
+      getRequestsList();
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  monorepo.proto.todo.v1.CreateTodoRequest getRequests(int index);
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  int getRequestsCount();
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  java.util.List<? extends monorepo.proto.todo.v1.CreateTodoRequestOrBuilder> 
+      getRequestsOrBuilderList();
+  /**
+   * <pre>
+   * At most 10000 requests
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.CreateTodoRequest requests = 1 [json_name = "requests"];</code>
+   */
+  monorepo.proto.todo.v1.CreateTodoRequestOrBuilder getRequestsOrBuilder(
+      int index);
+}
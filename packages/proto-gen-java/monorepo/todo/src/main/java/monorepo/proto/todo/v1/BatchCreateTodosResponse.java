@@ -0,0 +1,1535 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+/**
+ * Protobuf type {@code monorepo.todo.v1.BatchCreateTodosResponse}
+ */
+@com.google.protobuf.Generated
+public final class BatchCreateTodosResponse extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:monorepo.todo.v1.BatchCreateTodosResponse)
+    BatchCreateTodosResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 33,
+      /* patch= */ 4,
+      /* suffix= */ "",
+      "BatchCreateTodosResponse");
+  }
+  // Use BatchCreateTodosResponse.newBuilder() to construct.
+  private BatchCreateTodosResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private BatchCreateTodosResponse() {
+    results_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            monorepo.proto.todo.v1.BatchCreateTodosResponse.class, monorepo.proto.todo.v1.BatchCreateTodosResponse.Builder.class);
+  }
+
+  public interface ResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:monorepo.todo.v1.BatchCreateTodosResponse.Result)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Created todo id, 0 if failed
+     * </pre>
+     *
+     * <code>int64 id = 1 [json_name = "id"];</code>
+     * @return The id.
+     */
+    long getId();
+
+    /**
+     * <pre>
+     * OK if created, otherwise the failure of this item
+     * </pre>
+     *
+     * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <pre>
+     * OK if created, otherwise the failure of this item
+     * </pre>
+     *
+     * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+     * @return The status.
+     */
+    com.google.rpc.Status getStatus();
+    /**
+     * <pre>
+     * OK if created, otherwise the failure of this item
+     * </pre>
+     *
+     * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+     */
+    com.google.rpc.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code monorepo.todo.v1.BatchCreateTodosResponse.Result}
+   */
+  public static final class Result extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:monorepo.todo.v1.BatchCreateTodosResponse.Result)
+      ResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 33,
+        /* patch= */ 4,
+        /* suffix= */ "",
+        "Result");
+    }
+    // Use Result.newBuilder() to construct.
+    private Result(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Result() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.class, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_ = 0L;
+    /**
+     * <pre>
+     * Created todo id, 0 if failed
+     * </pre>
+     *
+     * <code>int64 id = 1 [json_name = "id"];</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public long getId() {
+      return id_;
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 2;
+    private com.google.rpc.Status status_;
+    /**
+     * <pre>
+     * OK if created, otherwise the failure of this item
+     * </pre>
+     *
+     * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * OK if created, otherwise the failure of this item
+     * </pre>
+     *
+     * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public com.google.rpc.Status getStatus() {
+      return status_ == null ? com.google.rpc.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <pre>
+     * OK if created, otherwise the failure of this item
+     * </pre>
+     *
+     * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+     */
+    @java.lang.Override
+    public com.google.rpc.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? com.google.rpc.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(2, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof monorepo.proto.todo.v1.BatchCreateTodosResponse.Result)) {
+        return super.equals(obj);
+      }
+      monorepo.proto.todo.v1.BatchCreateTodosResponse.Result other = (monorepo.proto.todo.v1.BatchCreateTodosResponse.Result) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(monorepo.proto.todo.v1.BatchCreateTodosResponse.Result prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code monorepo.todo.v1.BatchCreateTodosResponse.Result}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:monorepo.todo.v1.BatchCreateTodosResponse.Result)
+        monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.class, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder.class);
+      }
+
+      // Construct using monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetStatusFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = 0L;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_descriptor;
+      }
+
+      @java.lang.Override
+      public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result getDefaultInstanceForType() {
+        return monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result build() {
+        monorepo.proto.todo.v1.BatchCreateTodosResponse.Result result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result buildPartial() {
+        monorepo.proto.todo.v1.BatchCreateTodosResponse.Result result = new monorepo.proto.todo.v1.BatchCreateTodosResponse.Result(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(monorepo.proto.todo.v1.BatchCreateTodosResponse.Result result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof monorepo.proto.todo.v1.BatchCreateTodosResponse.Result) {
+          return mergeFrom((monorepo.proto.todo.v1.BatchCreateTodosResponse.Result)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(monorepo.proto.todo.v1.BatchCreateTodosResponse.Result other) {
+        if (other == monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                id_ = input.readInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                input.readMessage(
+                    internalGetStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long id_ ;
+      /**
+       * <pre>
+       * Created todo id, 0 if failed
+       * </pre>
+       *
+       * <code>int64 id = 1 [json_name = "id"];</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <pre>
+       * Created todo id, 0 if failed
+       * </pre>
+       *
+       * <code>int64 id = 1 [json_name = "id"];</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Created todo id, 0 if failed
+       * </pre>
+       *
+       * <code>int64 id = 1 [json_name = "id"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.rpc.Status status_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.google.rpc.Status, com.google.rpc.Status.Builder, com.google.rpc.StatusOrBuilder> statusBuilder_;
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       * @return The status.
+       */
+      public com.google.rpc.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? com.google.rpc.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      public Builder setStatus(com.google.rpc.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      public Builder setStatus(
+          com.google.rpc.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      public Builder mergeStatus(com.google.rpc.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            status_ != null &&
+            status_ != com.google.rpc.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        if (status_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      public com.google.rpc.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return internalGetStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      public com.google.rpc.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              com.google.rpc.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <pre>
+       * OK if created, otherwise the failure of this item
+       * </pre>
+       *
+       * <code>.google.rpc.Status status = 2 [json_name = "status"];</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.google.rpc.Status, com.google.rpc.Status.Builder, com.google.rpc.StatusOrBuilder> 
+          internalGetStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.google.rpc.Status, com.google.rpc.Status.Builder, com.google.rpc.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:monorepo.todo.v1.BatchCreateTodosResponse.Result)
+    }
+
+    // @@protoc_insertion_point(class_scope:monorepo.todo.v1.BatchCreateTodosResponse.Result)
+    private static final monorepo.proto.todo.v1.BatchCreateTodosResponse.Result DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new monorepo.proto.todo.v1.BatchCreateTodosResponse.Result();
+    }
+
+    public static monorepo.proto.todo.v1.BatchCreateTodosResponse.Result getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Result>
+        PARSER = new com.google.protobuf.AbstractParser<Result>() {
+      @java.lang.Override
+      public Result parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Result> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Result> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public static final int RESULTS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<monorepo.proto.todo.v1.BatchCreateTodosResponse.Result> results_;
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  @java.lang.Override
+  public java.util.List<monorepo.proto.todo.v1.BatchCreateTodosResponse.Result> getResultsList() {
+    return results_;
+  }
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder> 
+      getResultsOrBuilderList() {
+    return results_;
+  }
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  @java.lang.Override
+  public int getResultsCount() {
+    return results_.size();
+  }
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result getResults(int index) {
+    return results_.get(index);
+  }
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder getResultsOrBuilder(
+      int index) {
+    return results_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < results_.size(); i++) {
+      output.writeMessage(1, results_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < results_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, results_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof monorepo.proto.todo.v1.BatchCreateTodosResponse)) {
+      return super.equals(obj);
+    }
+    monorepo.proto.todo.v1.BatchCreateTodosResponse other = (monorepo.proto.todo.v1.BatchCreateTodosResponse) obj;
+
+    if (!getResultsList()
+        .equals(other.getResultsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getResultsCount() > 0) {
+      hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+      hash = (53 * hash) + getResultsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(monorepo.proto.todo.v1.BatchCreateTodosResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code monorepo.todo.v1.BatchCreateTodosResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:monorepo.todo.v1.BatchCreateTodosResponse)
+      monorepo.proto.todo.v1.BatchCreateTodosResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              monorepo.proto.todo.v1.BatchCreateTodosResponse.class, monorepo.proto.todo.v1.BatchCreateTodosResponse.Builder.class);
+    }
+
+    // Construct using monorepo.proto.todo.v1.BatchCreateTodosResponse.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (resultsBuilder_ == null) {
+        results_ = java.util.Collections.emptyList();
+      } else {
+        results_ = null;
+        resultsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse getDefaultInstanceForType() {
+      return monorepo.proto.todo.v1.BatchCreateTodosResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse build() {
+      monorepo.proto.todo.v1.BatchCreateTodosResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse buildPartial() {
+      monorepo.proto.todo.v1.BatchCreateTodosResponse result = new monorepo.proto.todo.v1.BatchCreateTodosResponse(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(monorepo.proto.todo.v1.BatchCreateTodosResponse result) {
+      if (resultsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.results_ = results_;
+      } else {
+        result.results_ = resultsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(monorepo.proto.todo.v1.BatchCreateTodosResponse result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof monorepo.proto.todo.v1.BatchCreateTodosResponse) {
+        return mergeFrom((monorepo.proto.todo.v1.BatchCreateTodosResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(monorepo.proto.todo.v1.BatchCreateTodosResponse other) {
+      if (other == monorepo.proto.todo.v1.BatchCreateTodosResponse.getDefaultInstance()) return this;
+      if (resultsBuilder_ == null) {
+        if (!other.results_.isEmpty()) {
+          if (results_.isEmpty()) {
+            results_ = other.results_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureResultsIsMutable();
+            results_.addAll(other.results_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.results_.isEmpty()) {
+          if (resultsBuilder_.isEmpty()) {
+            resultsBuilder_.dispose();
+            resultsBuilder_ = null;
+            results_ = other.results_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            resultsBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetResultsFieldBuilder() : null;
+          } else {
+            resultsBuilder_.addAllMessages(other.results_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              monorepo.proto.todo.v1.BatchCreateTodosResponse.Result m =
+                  input.readMessage(
+                      monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.parser(),
+                      extensionRegistry);
+              if (resultsBuilder_ == null) {
+                ensureResultsIsMutable();
+                results_.add(m);
+              } else {
+                resultsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<monorepo.proto.todo.v1.BatchCreateTodosResponse.Result> results_ =
+      java.util.Collections.emptyList();
+    private void ensureResultsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        results_ = new java.util.ArrayList<monorepo.proto.todo.v1.BatchCreateTodosResponse.Result>(results_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        monorepo.proto.todo.v1.BatchCreateTodosResponse.Result, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder, monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder> resultsBuilder_;
+
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public java.util.List<monorepo.proto.todo.v1.BatchCreateTodosResponse.Result> getResultsList() {
+      if (resultsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(results_);
+      } else {
+        return resultsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public int getResultsCount() {
+      if (resultsBuilder_ == null) {
+        return results_.size();
+      } else {
+        return resultsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result getResults(int index) {
+      if (resultsBuilder_ == null) {
+        return results_.get(index);
+      } else {
+        return resultsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder setResults(
+        int index, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result value) {
+      if (resultsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureResultsIsMutable();
+        results_.set(index, value);
+        onChanged();
+      } else {
+        resultsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder setResults(
+        int index, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder builderForValue) {
+      if (resultsBuilder_ == null) {
+        ensureResultsIsMutable();
+        results_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        resultsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder addResults(monorepo.proto.todo.v1.BatchCreateTodosResponse.Result value) {
+      if (resultsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureResultsIsMutable();
+        results_.add(value);
+        onChanged();
+      } else {
+        resultsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder addResults(
+        int index, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result value) {
+      if (resultsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureResultsIsMutable();
+        results_.add(index, value);
+        onChanged();
+      } else {
+        resultsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder addResults(
+        monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder builderForValue) {
+      if (resultsBuilder_ == null) {
+        ensureResultsIsMutable();
+        results_.add(builderForValue.build());
+        onChanged();
+      } else {
+        resultsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder addResults(
+        int index, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder builderForValue) {
+      if (resultsBuilder_ == null) {
+        ensureResultsIsMutable();
+        results_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        resultsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder addAllResults(
+        java.lang.Iterable<? extends monorepo.proto.todo.v1.BatchCreateTodosResponse.Result> values) {
+      if (resultsBuilder_ == null) {
+        ensureResultsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, results_);
+        onChanged();
+      } else {
+        resultsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder clearResults() {
+      if (resultsBuilder_ == null) {
+        results_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        resultsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public Builder removeResults(int index) {
+      if (resultsBuilder_ == null) {
+        ensureResultsIsMutable();
+        results_.remove(index);
+        onChanged();
+      } else {
+        resultsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder getResultsBuilder(
+        int index) {
+      return internalGetResultsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder getResultsOrBuilder(
+        int index) {
+      if (resultsBuilder_ == null) {
+        return results_.get(index);  } else {
+        return resultsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public java.util.List<? extends monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder> 
+         getResultsOrBuilderList() {
+      if (resultsBuilder_ != null) {
+        return resultsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(results_);
+      }
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder addResultsBuilder() {
+      return internalGetResultsFieldBuilder().addBuilder(
+          monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder addResultsBuilder(
+        int index) {
+      return internalGetResultsFieldBuilder().addBuilder(
+          index, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * One result per request, in request order
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.BatchCreateTodosResponse.Result results = 1 [json_name = "results"];</code>
+     */
+    public java.util.List<monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder> 
+         getResultsBuilderList() {
+      return internalGetResultsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        monorepo.proto.todo.v1.BatchCreateTodosResponse.Result, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder, monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder> 
+        internalGetResultsFieldBuilder() {
+      if (resultsBuilder_ == null) {
+        resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            monorepo.proto.todo.v1.BatchCreateTodosResponse.Result, monorepo.proto.todo.v1.BatchCreateTodosResponse.Result.Builder, monorepo.proto.todo.v1.BatchCreateTodosResponse.ResultOrBuilder>(
+                results_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        results_ = null;
+      }
+      return resultsBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:monorepo.todo.v1.BatchCreateTodosResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:monorepo.todo.v1.BatchCreateTodosResponse)
+  private static final monorepo.proto.todo.v1.BatchCreateTodosResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new monorepo.proto.todo.v1.BatchCreateTodosResponse();
+  }
+
+  public static monorepo.proto.todo.v1.BatchCreateTodosResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BatchCreateTodosResponse>
+      PARSER = new com.google.protobuf.AbstractParser<BatchCreateTodosResponse>() {
+    @java.lang.Override
+    public BatchCreateTodosResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<BatchCreateTodosResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BatchCreateTodosResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public monorepo.proto.todo.v1.BatchCreateTodosResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
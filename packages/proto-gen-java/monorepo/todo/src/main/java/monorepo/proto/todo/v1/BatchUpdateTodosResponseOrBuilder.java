@@ -0,0 +1,56 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+@com.google.protobuf.Generated
+public interface BatchUpdateTodosResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:monorepo.todo.v1.BatchUpdateTodosResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchUpdateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  java.util.List<monorepo.proto.todo.v1.BatchUpdateTodosResponse.Result> 
+      getResultsList();
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchUpdateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  monorepo.proto.todo.v1.BatchUpdateTodosResponse.Result getResults(int index);
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchUpdateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  int getResultsCount();
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchUpdateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  java.util.List<? extends monorepo.proto.todo.v1.BatchUpdateTodosResponse.ResultOrBuilder> 
+      getResultsOrBuilderList();
+  /**
+   * <pre>
+   * One result per request, in request order
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.BatchUpdateTodosResponse.Result results = 1 [json_name = "results"];</code>
+   */
+  monorepo.proto.todo.v1.BatchUpdateTodosResponse.ResultOrBuilder getResultsOrBuilder(
+      int index);
+}
@@ -0,0 +1,739 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+/**
+ * Protobuf type {@code monorepo.todo.v1.ExportTodosRequest}
+ */
+@com.google.protobuf.Generated
+public final class ExportTodosRequest extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:monorepo.todo.v1.ExportTodosRequest)
+    ExportTodosRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 33,
+      /* patch= */ 4,
+      /* suffix= */ "",
+      "ExportTodosRequest");
+  }
+  // Use ExportTodosRequest.newBuilder() to construct.
+  private ExportTodosRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ExportTodosRequest() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            monorepo.proto.todo.v1.ExportTodosRequest.class, monorepo.proto.todo.v1.ExportTodosRequest.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int USER_ID_FIELD_NUMBER = 1;
+  private long userId_ = 0L;
+  /**
+   * <code>int64 user_id = 1 [json_name = "userId"];</code>
+   * @return The userId.
+   */
+  @java.lang.Override
+  public long getUserId() {
+    return userId_;
+  }
+
+  public static final int FILTER_FIELD_NUMBER = 2;
+  private monorepo.proto.todo.v1.ListTodosRequest.Filter filter_;
+  /**
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+   * @return Whether the filter field is set.
+   */
+  @java.lang.Override
+  public boolean hasFilter() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+   * @return The filter.
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.ListTodosRequest.Filter getFilter() {
+    return filter_ == null ? monorepo.proto.todo.v1.ListTodosRequest.Filter.getDefaultInstance() : filter_;
+  }
+  /**
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.ListTodosRequest.FilterOrBuilder getFilterOrBuilder() {
+    return filter_ == null ? monorepo.proto.todo.v1.ListTodosRequest.Filter.getDefaultInstance() : filter_;
+  }
+
+  public static final int SHOW_DELETED_FIELD_NUMBER = 3;
+  private boolean showDeleted_ = false;
+  /**
+   * <pre>
+   * default to false if not set
+   * </pre>
+   *
+   * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+   * @return Whether the showDeleted field is set.
+   */
+  @java.lang.Override
+  public boolean hasShowDeleted() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * default to false if not set
+   * </pre>
+   *
+   * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+   * @return The showDeleted.
+   */
+  @java.lang.Override
+  public boolean getShowDeleted() {
+    return showDeleted_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (userId_ != 0L) {
+      output.writeInt64(1, userId_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(2, getFilter());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeBool(3, showDeleted_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (userId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, userId_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getFilter());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, showDeleted_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof monorepo.proto.todo.v1.ExportTodosRequest)) {
+      return super.equals(obj);
+    }
+    monorepo.proto.todo.v1.ExportTodosRequest other = (monorepo.proto.todo.v1.ExportTodosRequest) obj;
+
+    if (getUserId()
+        != other.getUserId()) return false;
+    if (hasFilter() != other.hasFilter()) return false;
+    if (hasFilter()) {
+      if (!getFilter()
+          .equals(other.getFilter())) return false;
+    }
+    if (hasShowDeleted() != other.hasShowDeleted()) return false;
+    if (hasShowDeleted()) {
+      if (getShowDeleted()
+          != other.getShowDeleted()) return false;
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + USER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getUserId());
+    if (hasFilter()) {
+      hash = (37 * hash) + FILTER_FIELD_NUMBER;
+      hash = (53 * hash) + getFilter().hashCode();
+    }
+    if (hasShowDeleted()) {
+      hash = (37 * hash) + SHOW_DELETED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getShowDeleted());
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(monorepo.proto.todo.v1.ExportTodosRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code monorepo.todo.v1.ExportTodosRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:monorepo.todo.v1.ExportTodosRequest)
+      monorepo.proto.todo.v1.ExportTodosRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              monorepo.proto.todo.v1.ExportTodosRequest.class, monorepo.proto.todo.v1.ExportTodosRequest.Builder.class);
+    }
+
+    // Construct using monorepo.proto.todo.v1.ExportTodosRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage
+              .alwaysUseFieldBuilders) {
+        internalGetFilterFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      userId_ = 0L;
+      filter_ = null;
+      if (filterBuilder_ != null) {
+        filterBuilder_.dispose();
+        filterBuilder_ = null;
+      }
+      showDeleted_ = false;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ExportTodosRequest getDefaultInstanceForType() {
+      return monorepo.proto.todo.v1.ExportTodosRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ExportTodosRequest build() {
+      monorepo.proto.todo.v1.ExportTodosRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ExportTodosRequest buildPartial() {
+      monorepo.proto.todo.v1.ExportTodosRequest result = new monorepo.proto.todo.v1.ExportTodosRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(monorepo.proto.todo.v1.ExportTodosRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.userId_ = userId_;
+      }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.filter_ = filterBuilder_ == null
+            ? filter_
+            : filterBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.showDeleted_ = showDeleted_;
+        to_bitField0_ |= 0x00000002;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof monorepo.proto.todo.v1.ExportTodosRequest) {
+        return mergeFrom((monorepo.proto.todo.v1.ExportTodosRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(monorepo.proto.todo.v1.ExportTodosRequest other) {
+      if (other == monorepo.proto.todo.v1.ExportTodosRequest.getDefaultInstance()) return this;
+      if (other.getUserId() != 0L) {
+        setUserId(other.getUserId());
+      }
+      if (other.hasFilter()) {
+        mergeFilter(other.getFilter());
+      }
+      if (other.hasShowDeleted()) {
+        setShowDeleted(other.getShowDeleted());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              userId_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 18: {
+              input.readMessage(
+                  internalGetFilterFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            case 24: {
+              showDeleted_ = input.readBool();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long userId_ ;
+    /**
+     * <code>int64 user_id = 1 [json_name = "userId"];</code>
+     * @return The userId.
+     */
+    @java.lang.Override
+    public long getUserId() {
+      return userId_;
+    }
+    /**
+     * <code>int64 user_id = 1 [json_name = "userId"];</code>
+     * @param value The userId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserId(long value) {
+
+      userId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 user_id = 1 [json_name = "userId"];</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUserId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      userId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private monorepo.proto.todo.v1.ListTodosRequest.Filter filter_;
+    private com.google.protobuf.SingleFieldBuilder<
+        monorepo.proto.todo.v1.ListTodosRequest.Filter, monorepo.proto.todo.v1.ListTodosRequest.Filter.Builder, monorepo.proto.todo.v1.ListTodosRequest.FilterOrBuilder> filterBuilder_;
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     * @return Whether the filter field is set.
+     */
+    public boolean hasFilter() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     * @return The filter.
+     */
+    public monorepo.proto.todo.v1.ListTodosRequest.Filter getFilter() {
+      if (filterBuilder_ == null) {
+        return filter_ == null ? monorepo.proto.todo.v1.ListTodosRequest.Filter.getDefaultInstance() : filter_;
+      } else {
+        return filterBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    public Builder setFilter(monorepo.proto.todo.v1.ListTodosRequest.Filter value) {
+      if (filterBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+      } else {
+        filterBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    public Builder setFilter(
+        monorepo.proto.todo.v1.ListTodosRequest.Filter.Builder builderForValue) {
+      if (filterBuilder_ == null) {
+        filter_ = builderForValue.build();
+      } else {
+        filterBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    public Builder mergeFilter(monorepo.proto.todo.v1.ListTodosRequest.Filter value) {
+      if (filterBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) != 0) &&
+          filter_ != null &&
+          filter_ != monorepo.proto.todo.v1.ListTodosRequest.Filter.getDefaultInstance()) {
+          getFilterBuilder().mergeFrom(value);
+        } else {
+          filter_ = value;
+        }
+      } else {
+        filterBuilder_.mergeFrom(value);
+      }
+      if (filter_ != null) {
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    public Builder clearFilter() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      filter_ = null;
+      if (filterBuilder_ != null) {
+        filterBuilder_.dispose();
+        filterBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    public monorepo.proto.todo.v1.ListTodosRequest.Filter.Builder getFilterBuilder() {
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return internalGetFilterFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    public monorepo.proto.todo.v1.ListTodosRequest.FilterOrBuilder getFilterOrBuilder() {
+      if (filterBuilder_ != null) {
+        return filterBuilder_.getMessageOrBuilder();
+      } else {
+        return filter_ == null ?
+            monorepo.proto.todo.v1.ListTodosRequest.Filter.getDefaultInstance() : filter_;
+      }
+    }
+    /**
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        monorepo.proto.todo.v1.ListTodosRequest.Filter, monorepo.proto.todo.v1.ListTodosRequest.Filter.Builder, monorepo.proto.todo.v1.ListTodosRequest.FilterOrBuilder> 
+        internalGetFilterFieldBuilder() {
+      if (filterBuilder_ == null) {
+        filterBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            monorepo.proto.todo.v1.ListTodosRequest.Filter, monorepo.proto.todo.v1.ListTodosRequest.Filter.Builder, monorepo.proto.todo.v1.ListTodosRequest.FilterOrBuilder>(
+                getFilter(),
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      return filterBuilder_;
+    }
+
+    private boolean showDeleted_ ;
+    /**
+     * <pre>
+     * default to false if not set
+     * </pre>
+     *
+     * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+     * @return Whether the showDeleted field is set.
+     */
+    @java.lang.Override
+    public boolean hasShowDeleted() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * default to false if not set
+     * </pre>
+     *
+     * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+     * @return The showDeleted.
+     */
+    @java.lang.Override
+    public boolean getShowDeleted() {
+      return showDeleted_;
+    }
+    /**
+     * <pre>
+     * default to false if not set
+     * </pre>
+     *
+     * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+     * @param value The showDeleted to set.
+     * @return This builder for chaining.
+     */
+    public Builder setShowDeleted(boolean value) {
+
+      showDeleted_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * default to false if not set
+     * </pre>
+     *
+     * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearShowDeleted() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      showDeleted_ = false;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:monorepo.todo.v1.ExportTodosRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:monorepo.todo.v1.ExportTodosRequest)
+  private static final monorepo.proto.todo.v1.ExportTodosRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new monorepo.proto.todo.v1.ExportTodosRequest();
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExportTodosRequest>
+      PARSER = new com.google.protobuf.AbstractParser<ExportTodosRequest>() {
+    @java.lang.Override
+    public ExportTodosRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExportTodosRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExportTodosRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public monorepo.proto.todo.v1.ExportTodosRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,52 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+@com.google.protobuf.Generated
+public interface ExportTodosRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:monorepo.todo.v1.ExportTodosRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 user_id = 1 [json_name = "userId"];</code>
+   * @return The userId.
+   */
+  long getUserId();
+
+  /**
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+   * @return Whether the filter field is set.
+   */
+  boolean hasFilter();
+  /**
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+   * @return The filter.
+   */
+  monorepo.proto.todo.v1.ListTodosRequest.Filter getFilter();
+  /**
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.Filter filter = 2 [json_name = "filter"];</code>
+   */
+  monorepo.proto.todo.v1.ListTodosRequest.FilterOrBuilder getFilterOrBuilder();
+
+  /**
+   * <pre>
+   * default to false if not set
+   * </pre>
+   *
+   * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+   * @return Whether the showDeleted field is set.
+   */
+  boolean hasShowDeleted();
+  /**
+   * <pre>
+   * default to false if not set
+   * </pre>
+   *
+   * <code>optional bool show_deleted = 3 [json_name = "showDeleted"];</code>
+   * @return The showDeleted.
+   */
+  boolean getShowDeleted();
+}
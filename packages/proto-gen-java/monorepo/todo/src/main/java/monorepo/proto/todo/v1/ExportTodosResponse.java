@@ -0,0 +1,812 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+/**
+ * Protobuf type {@code monorepo.todo.v1.ExportTodosResponse}
+ */
+@com.google.protobuf.Generated
+public final class ExportTodosResponse extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:monorepo.todo.v1.ExportTodosResponse)
+    ExportTodosResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 33,
+      /* patch= */ 4,
+      /* suffix= */ "",
+      "ExportTodosResponse");
+  }
+  // Use ExportTodosResponse.newBuilder() to construct.
+  private ExportTodosResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ExportTodosResponse() {
+    todos_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            monorepo.proto.todo.v1.ExportTodosResponse.class, monorepo.proto.todo.v1.ExportTodosResponse.Builder.class);
+  }
+
+  public static final int TODOS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<monorepo.proto.todo.v1.Todo> todos_;
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  @java.lang.Override
+  public java.util.List<monorepo.proto.todo.v1.Todo> getTodosList() {
+    return todos_;
+  }
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends monorepo.proto.todo.v1.TodoOrBuilder> 
+      getTodosOrBuilderList() {
+    return todos_;
+  }
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  @java.lang.Override
+  public int getTodosCount() {
+    return todos_.size();
+  }
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.Todo getTodos(int index) {
+    return todos_.get(index);
+  }
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  @java.lang.Override
+  public monorepo.proto.todo.v1.TodoOrBuilder getTodosOrBuilder(
+      int index) {
+    return todos_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < todos_.size(); i++) {
+      output.writeMessage(1, todos_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < todos_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, todos_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof monorepo.proto.todo.v1.ExportTodosResponse)) {
+      return super.equals(obj);
+    }
+    monorepo.proto.todo.v1.ExportTodosResponse other = (monorepo.proto.todo.v1.ExportTodosResponse) obj;
+
+    if (!getTodosList()
+        .equals(other.getTodosList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getTodosCount() > 0) {
+      hash = (37 * hash) + TODOS_FIELD_NUMBER;
+      hash = (53 * hash) + getTodosList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static monorepo.proto.todo.v1.ExportTodosResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(monorepo.proto.todo.v1.ExportTodosResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code monorepo.todo.v1.ExportTodosResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:monorepo.todo.v1.ExportTodosResponse)
+      monorepo.proto.todo.v1.ExportTodosResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              monorepo.proto.todo.v1.ExportTodosResponse.class, monorepo.proto.todo.v1.ExportTodosResponse.Builder.class);
+    }
+
+    // Construct using monorepo.proto.todo.v1.ExportTodosResponse.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (todosBuilder_ == null) {
+        todos_ = java.util.Collections.emptyList();
+      } else {
+        todos_ = null;
+        todosBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return monorepo.proto.todo.v1.TodoServiceOuterClass.internal_static_monorepo_todo_v1_ExportTodosResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ExportTodosResponse getDefaultInstanceForType() {
+      return monorepo.proto.todo.v1.ExportTodosResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ExportTodosResponse build() {
+      monorepo.proto.todo.v1.ExportTodosResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ExportTodosResponse buildPartial() {
+      monorepo.proto.todo.v1.ExportTodosResponse result = new monorepo.proto.todo.v1.ExportTodosResponse(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(monorepo.proto.todo.v1.ExportTodosResponse result) {
+      if (todosBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          todos_ = java.util.Collections.unmodifiableList(todos_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.todos_ = todos_;
+      } else {
+        result.todos_ = todosBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(monorepo.proto.todo.v1.ExportTodosResponse result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof monorepo.proto.todo.v1.ExportTodosResponse) {
+        return mergeFrom((monorepo.proto.todo.v1.ExportTodosResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(monorepo.proto.todo.v1.ExportTodosResponse other) {
+      if (other == monorepo.proto.todo.v1.ExportTodosResponse.getDefaultInstance()) return this;
+      if (todosBuilder_ == null) {
+        if (!other.todos_.isEmpty()) {
+          if (todos_.isEmpty()) {
+            todos_ = other.todos_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTodosIsMutable();
+            todos_.addAll(other.todos_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.todos_.isEmpty()) {
+          if (todosBuilder_.isEmpty()) {
+            todosBuilder_.dispose();
+            todosBuilder_ = null;
+            todos_ = other.todos_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            todosBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetTodosFieldBuilder() : null;
+          } else {
+            todosBuilder_.addAllMessages(other.todos_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              monorepo.proto.todo.v1.Todo m =
+                  input.readMessage(
+                      monorepo.proto.todo.v1.Todo.parser(),
+                      extensionRegistry);
+              if (todosBuilder_ == null) {
+                ensureTodosIsMutable();
+                todos_.add(m);
+              } else {
+                todosBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<monorepo.proto.todo.v1.Todo> todos_ =
+      java.util.Collections.emptyList();
+    private void ensureTodosIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        todos_ = new java.util.ArrayList<monorepo.proto.todo.v1.Todo>(todos_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        monorepo.proto.todo.v1.Todo, monorepo.proto.todo.v1.Todo.Builder, monorepo.proto.todo.v1.TodoOrBuilder> todosBuilder_;
+
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public java.util.List<monorepo.proto.todo.v1.Todo> getTodosList() {
+      if (todosBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(todos_);
+      } else {
+        return todosBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public int getTodosCount() {
+      if (todosBuilder_ == null) {
+        return todos_.size();
+      } else {
+        return todosBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public monorepo.proto.todo.v1.Todo getTodos(int index) {
+      if (todosBuilder_ == null) {
+        return todos_.get(index);
+      } else {
+        return todosBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder setTodos(
+        int index, monorepo.proto.todo.v1.Todo value) {
+      if (todosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTodosIsMutable();
+        todos_.set(index, value);
+        onChanged();
+      } else {
+        todosBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder setTodos(
+        int index, monorepo.proto.todo.v1.Todo.Builder builderForValue) {
+      if (todosBuilder_ == null) {
+        ensureTodosIsMutable();
+        todos_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        todosBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder addTodos(monorepo.proto.todo.v1.Todo value) {
+      if (todosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTodosIsMutable();
+        todos_.add(value);
+        onChanged();
+      } else {
+        todosBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder addTodos(
+        int index, monorepo.proto.todo.v1.Todo value) {
+      if (todosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTodosIsMutable();
+        todos_.add(index, value);
+        onChanged();
+      } else {
+        todosBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder addTodos(
+        monorepo.proto.todo.v1.Todo.Builder builderForValue) {
+      if (todosBuilder_ == null) {
+        ensureTodosIsMutable();
+        todos_.add(builderForValue.build());
+        onChanged();
+      } else {
+        todosBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder addTodos(
+        int index, monorepo.proto.todo.v1.Todo.Builder builderForValue) {
+      if (todosBuilder_ == null) {
+        ensureTodosIsMutable();
+        todos_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        todosBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder addAllTodos(
+        java.lang.Iterable<? extends monorepo.proto.todo.v1.Todo> values) {
+      if (todosBuilder_ == null) {
+        ensureTodosIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, todos_);
+        onChanged();
+      } else {
+        todosBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder clearTodos() {
+      if (todosBuilder_ == null) {
+        todos_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        todosBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public Builder removeTodos(int index) {
+      if (todosBuilder_ == null) {
+        ensureTodosIsMutable();
+        todos_.remove(index);
+        onChanged();
+      } else {
+        todosBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public monorepo.proto.todo.v1.Todo.Builder getTodosBuilder(
+        int index) {
+      return internalGetTodosFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public monorepo.proto.todo.v1.TodoOrBuilder getTodosOrBuilder(
+        int index) {
+      if (todosBuilder_ == null) {
+        return todos_.get(index);  } else {
+        return todosBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public java.util.List<? extends monorepo.proto.todo.v1.TodoOrBuilder> 
+         getTodosOrBuilderList() {
+      if (todosBuilder_ != null) {
+        return todosBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(todos_);
+      }
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public monorepo.proto.todo.v1.Todo.Builder addTodosBuilder() {
+      return internalGetTodosFieldBuilder().addBuilder(
+          monorepo.proto.todo.v1.Todo.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public monorepo.proto.todo.v1.Todo.Builder addTodosBuilder(
+        int index) {
+      return internalGetTodosFieldBuilder().addBuilder(
+          index, monorepo.proto.todo.v1.Todo.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * A batch of todos, batches are ordered by id
+     * </pre>
+     *
+     * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+     */
+    public java.util.List<monorepo.proto.todo.v1.Todo.Builder> 
+         getTodosBuilderList() {
+      return internalGetTodosFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        monorepo.proto.todo.v1.Todo, monorepo.proto.todo.v1.Todo.Builder, monorepo.proto.todo.v1.TodoOrBuilder> 
+        internalGetTodosFieldBuilder() {
+      if (todosBuilder_ == null) {
+        todosBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            monorepo.proto.todo.v1.Todo, monorepo.proto.todo.v1.Todo.Builder, monorepo.proto.todo.v1.TodoOrBuilder>(
+                todos_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        todos_ = null;
+      }
+      return todosBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:monorepo.todo.v1.ExportTodosResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:monorepo.todo.v1.ExportTodosResponse)
+  private static final monorepo.proto.todo.v1.ExportTodosResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new monorepo.proto.todo.v1.ExportTodosResponse();
+  }
+
+  public static monorepo.proto.todo.v1.ExportTodosResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExportTodosResponse>
+      PARSER = new com.google.protobuf.AbstractParser<ExportTodosResponse>() {
+    @java.lang.Override
+    public ExportTodosResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExportTodosResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExportTodosResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public monorepo.proto.todo.v1.ExportTodosResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
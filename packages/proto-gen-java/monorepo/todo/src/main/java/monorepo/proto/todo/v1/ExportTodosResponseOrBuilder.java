@@ -0,0 +1,56 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: monorepo/todo/v1/todo_service.proto
+// Protobuf Java Version: 4.33.4
+
+package monorepo.proto.todo.v1;
+
+@com.google.protobuf.Generated
+public interface ExportTodosResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:monorepo.todo.v1.ExportTodosResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  java.util.List<monorepo.proto.todo.v1.Todo> 
+      getTodosList();
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  monorepo.proto.todo.v1.Todo getTodos(int index);
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  int getTodosCount();
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  java.util.List<? extends monorepo.proto.todo.v1.TodoOrBuilder> 
+      getTodosOrBuilderList();
+  /**
+   * <pre>
+   * A batch of todos, batches are ordered by id
+   * </pre>
+   *
+   * <code>repeated .monorepo.todo.v1.Todo todos = 1 [json_name = "todos"];</code>
+   */
+  monorepo.proto.todo.v1.TodoOrBuilder getTodosOrBuilder(
+      int index);
+}
@@ -34,6 +34,7 @@ private static final long serialVersionUID = 0L;
   private ListTodosRequest() {
     pageToken_ = "";
     orderBy_ = java.util.Collections.emptyList();
+    totalSizeMode_ = 0;
   }
 
   public static final com.google.protobuf.Descriptors.Descriptor
@@ -49,6 +50,199 @@ private static final long serialVersionUID = 0L;
             monorepo.proto.todo.v1.ListTodosRequest.class, monorepo.proto.todo.v1.ListTodosRequest.Builder.class);
   }
 
+  /**
+   * Protobuf enum {@code monorepo.todo.v1.ListTodosRequest.TotalSizeMode}
+   */
+  public enum TotalSizeMode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>TOTAL_SIZE_MODE_UNSPECIFIED = 0;</code>
+     */
+    TOTAL_SIZE_MODE_UNSPECIFIED(0),
+    /**
+     * <pre>
+     * COUNT(*) on every page
+     * </pre>
+     *
+     * <code>EXACT = 1;</code>
+     */
+    EXACT(1),
+    /**
+     * <pre>
+     * COUNT(*) on the first page only, subsequent pages reuse the value carried in the page token
+     * </pre>
+     *
+     * <code>FIRST_PAGE = 2;</code>
+     */
+    FIRST_PAGE(2),
+    /**
+     * <pre>
+     * COUNT(*) cached by user and filter, refreshed after the cache ttl expires
+     * </pre>
+     *
+     * <code>CACHED = 3;</code>
+     */
+    CACHED(3),
+    /**
+     * <pre>
+     * Estimated from planner statistics, may be inaccurate
+     * </pre>
+     *
+     * <code>ESTIMATED = 4;</code>
+     */
+    ESTIMATED(4),
+    /**
+     * <pre>
+     * total_size is not computed and always 0
+     * </pre>
+     *
+     * <code>NONE = 5;</code>
+     */
+    NONE(5),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 33,
+        /* patch= */ 4,
+        /* suffix= */ "",
+        "TotalSizeMode");
+    }
+    /**
+     * <code>TOTAL_SIZE_MODE_UNSPECIFIED = 0;</code>
+     */
+    public static final int TOTAL_SIZE_MODE_UNSPECIFIED_VALUE = 0;
+    /**
+     * <pre>
+     * COUNT(*) on every page
+     * </pre>
+     *
+     * <code>EXACT = 1;</code>
+     */
+    public static final int EXACT_VALUE = 1;
+    /**
+     * <pre>
+     * COUNT(*) on the first page only, subsequent pages reuse the value carried in the page token
+     * </pre>
+     *
+     * <code>FIRST_PAGE = 2;</code>
+     */
+    public static final int FIRST_PAGE_VALUE = 2;
+    /**
+     * <pre>
+     * COUNT(*) cached by user and filter, refreshed after the cache ttl expires
+     * </pre>
+     *
+     * <code>CACHED = 3;</code>
+     */
+    public static final int CACHED_VALUE = 3;
+    /**
+     * <pre>
+     * Estimated from planner statistics, may be inaccurate
+     * </pre>
+     *
+     * <code>ESTIMATED = 4;</code>
+     */
+    public static final int ESTIMATED_VALUE = 4;
+    /**
+     * <pre>
+     * total_size is not computed and always 0
+     * </pre>
+     *
+     * <code>NONE = 5;</code>
+     */
+    public static final int NONE_VALUE = 5;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static TotalSizeMode valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static TotalSizeMode forNumber(int value) {
+      switch (value) {
+        case 0: return TOTAL_SIZE_MODE_UNSPECIFIED;
+        case 1: return EXACT;
+        case 2: return FIRST_PAGE;
+        case 3: return CACHED;
+        case 4: return ESTIMATED;
+        case 5: return NONE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<TotalSizeMode>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        TotalSizeMode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<TotalSizeMode>() {
+            public TotalSizeMode findValueByNumber(int number) {
+              return TotalSizeMode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return monorepo.proto.todo.v1.ListTodosRequest.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final TotalSizeMode[] VALUES = values();
+
+    public static TotalSizeMode valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private TotalSizeMode(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:monorepo.todo.v1.ListTodosRequest.TotalSizeMode)
+  }
+
   public interface FilterOrBuilder extends
       // @@protoc_insertion_point(interface_extends:monorepo.todo.v1.ListTodosRequest.Filter)
       com.google.protobuf.MessageOrBuilder {
@@ -1864,6 +2058,46 @@ private static final long serialVersionUID = 0L;
     return showDeleted_;
   }
 
+  public static final int TOTAL_SIZE_MODE_FIELD_NUMBER = 7;
+  private int totalSizeMode_ = 0;
+  /**
+   * <pre>
+   * How total_size is computed
+   * If unspecified, the server default is used
+   * </pre>
+   *
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+   * @return Whether the totalSizeMode field is set.
+   */
+  @java.lang.Override public boolean hasTotalSizeMode() {
+    return ((bitField0_ & 0x00000004) != 0);
+  }
+  /**
+   * <pre>
+   * How total_size is computed
+   * If unspecified, the server default is used
+   * </pre>
+   *
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+   * @return The enum numeric value on the wire for totalSizeMode.
+   */
+  @java.lang.Override public int getTotalSizeModeValue() {
+    return totalSizeMode_;
+  }
+  /**
+   * <pre>
+   * How total_size is computed
+   * If unspecified, the server default is used
+   * </pre>
+   *
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+   * @return The totalSizeMode.
+   */
+  @java.lang.Override public monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode getTotalSizeMode() {
+    monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode result = monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode.forNumber(totalSizeMode_);
+    return result == null ? monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode.UNRECOGNIZED : result;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -1896,6 +2130,9 @@ private static final long serialVersionUID = 0L;
     if (((bitField0_ & 0x00000002) != 0)) {
       output.writeBool(6, showDeleted_);
     }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      output.writeEnum(7, totalSizeMode_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -1928,6 +2165,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeBoolSize(6, showDeleted_);
     }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(7, totalSizeMode_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -1961,6 +2202,10 @@ private static final long serialVersionUID = 0L;
       if (getShowDeleted()
           != other.getShowDeleted()) return false;
     }
+    if (hasTotalSizeMode() != other.hasTotalSizeMode()) return false;
+    if (hasTotalSizeMode()) {
+      if (totalSizeMode_ != other.totalSizeMode_) return false;
+    }
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -1992,6 +2237,10 @@ private static final long serialVersionUID = 0L;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getShowDeleted());
     }
+    if (hasTotalSizeMode()) {
+      hash = (37 * hash) + TOTAL_SIZE_MODE_FIELD_NUMBER;
+      hash = (53 * hash) + totalSizeMode_;
+    }
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -2150,6 +2399,7 @@ private static final long serialVersionUID = 0L;
       }
       bitField0_ = (bitField0_ & ~0x00000010);
       showDeleted_ = false;
+      totalSizeMode_ = 0;
       return this;
     }
 
@@ -2216,6 +2466,10 @@ private static final long serialVersionUID = 0L;
         result.showDeleted_ = showDeleted_;
         to_bitField0_ |= 0x00000002;
       }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.totalSizeMode_ = totalSizeMode_;
+        to_bitField0_ |= 0x00000004;
+      }
       result.bitField0_ |= to_bitField0_;
     }
 
@@ -2274,6 +2528,9 @@ private static final long serialVersionUID = 0L;
       if (other.hasShowDeleted()) {
         setShowDeleted(other.getShowDeleted());
       }
+      if (other.hasTotalSizeMode()) {
+        setTotalSizeModeValue(other.getTotalSizeModeValue());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -2340,6 +2597,11 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000020;
               break;
             } // case 48
+            case 56: {
+              totalSizeMode_ = input.readEnum();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 56
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -3103,6 +3365,94 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
+    private int totalSizeMode_ = 0;
+    /**
+     * <pre>
+     * How total_size is computed
+     * If unspecified, the server default is used
+     * </pre>
+     *
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+     * @return Whether the totalSizeMode field is set.
+     */
+    @java.lang.Override public boolean hasTotalSizeMode() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <pre>
+     * How total_size is computed
+     * If unspecified, the server default is used
+     * </pre>
+     *
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+     * @return The enum numeric value on the wire for totalSizeMode.
+     */
+    @java.lang.Override public int getTotalSizeModeValue() {
+      return totalSizeMode_;
+    }
+    /**
+     * <pre>
+     * How total_size is computed
+     * If unspecified, the server default is used
+     * </pre>
+     *
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+     * @param value The enum numeric value on the wire for totalSizeMode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTotalSizeModeValue(int value) {
+      totalSizeMode_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * How total_size is computed
+     * If unspecified, the server default is used
+     * </pre>
+     *
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+     * @return The totalSizeMode.
+     */
+    @java.lang.Override
+    public monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode getTotalSizeMode() {
+      monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode result = monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode.forNumber(totalSizeMode_);
+      return result == null ? monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * How total_size is computed
+     * If unspecified, the server default is used
+     * </pre>
+     *
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+     * @param value The totalSizeMode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTotalSizeMode(monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode value) {
+      if (value == null) { throw new NullPointerException(); }
+      bitField0_ |= 0x00000040;
+      totalSizeMode_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * How total_size is computed
+     * If unspecified, the server default is used
+     * </pre>
+     *
+     * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTotalSizeMode() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      totalSizeMode_ = 0;
+      onChanged();
+      return this;
+    }
+
     // @@protoc_insertion_point(builder_scope:monorepo.todo.v1.ListTodosRequest)
   }
 
@@ -152,4 +152,35 @@ public interface ListTodosRequestOrBuilder extends
    * @return The showDeleted.
    */
   boolean getShowDeleted();
+
+  /**
+   * <pre>
+   * How total_size is computed
+   * If unspecified, the server default is used
+   * </pre>
+   *
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+   * @return Whether the totalSizeMode field is set.
+   */
+  boolean hasTotalSizeMode();
+  /**
+   * <pre>
+   * How total_size is computed
+   * If unspecified, the server default is used
+   * </pre>
+   *
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+   * @return The enum numeric value on the wire for totalSizeMode.
+   */
+  int getTotalSizeModeValue();
+  /**
+   * <pre>
+   * How total_size is computed
+   * If unspecified, the server default is used
+   * </pre>
+   *
+   * <code>optional .monorepo.todo.v1.ListTodosRequest.TotalSizeMode total_size_mode = 7 [json_name = "totalSizeMode"];</code>
+   * @return The totalSizeMode.
+   */
+  monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode getTotalSizeMode();
 }
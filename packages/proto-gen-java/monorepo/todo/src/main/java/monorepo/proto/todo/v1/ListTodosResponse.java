@@ -164,6 +164,7 @@ private static final long serialVersionUID = 0L;
   /**
    * <pre>
    * Total count of todos matching the filter
+   * Depends on ListTodosRequest.total_size_mode, 0 if not computed
    * </pre>
    *
    * <code>int32 total_size = 3 [json_name = "totalSize"];</code>
@@ -980,6 +981,7 @@ private static final long serialVersionUID = 0L;
     /**
      * <pre>
      * Total count of todos matching the filter
+     * Depends on ListTodosRequest.total_size_mode, 0 if not computed
      * </pre>
      *
      * <code>int32 total_size = 3 [json_name = "totalSize"];</code>
@@ -992,6 +994,7 @@ private static final long serialVersionUID = 0L;
     /**
      * <pre>
      * Total count of todos matching the filter
+     * Depends on ListTodosRequest.total_size_mode, 0 if not computed
      * </pre>
      *
      * <code>int32 total_size = 3 [json_name = "totalSize"];</code>
@@ -1008,6 +1011,7 @@ private static final long serialVersionUID = 0L;
     /**
      * <pre>
      * Total count of todos matching the filter
+     * Depends on ListTodosRequest.total_size_mode, 0 if not computed
      * </pre>
      *
      * <code>int32 total_size = 3 [json_name = "totalSize"];</code>
@@ -79,6 +79,7 @@ public interface ListTodosResponseOrBuilder extends
   /**
    * <pre>
    * Total count of todos matching the filter
+   * Depends on ListTodosRequest.total_size_mode, 0 if not computed
    * </pre>
    *
    * <code>int32 total_size = 3 [json_name = "totalSize"];</code>
@@ -201,6 +201,99 @@ public final class TodoServiceGrpc {
     return getBatchGetTodosMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<monorepo.proto.todo.v1.BatchCreateTodosRequest,
+      monorepo.proto.todo.v1.BatchCreateTodosResponse> getBatchCreateTodosMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "BatchCreateTodos",
+      requestType = monorepo.proto.todo.v1.BatchCreateTodosRequest.class,
+      responseType = monorepo.proto.todo.v1.BatchCreateTodosResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<monorepo.proto.todo.v1.BatchCreateTodosRequest,
+      monorepo.proto.todo.v1.BatchCreateTodosResponse> getBatchCreateTodosMethod() {
+    io.grpc.MethodDescriptor<monorepo.proto.todo.v1.BatchCreateTodosRequest, monorepo.proto.todo.v1.BatchCreateTodosResponse> getBatchCreateTodosMethod;
+    if ((getBatchCreateTodosMethod = TodoServiceGrpc.getBatchCreateTodosMethod) == null) {
+      synchronized (TodoServiceGrpc.class) {
+        if ((getBatchCreateTodosMethod = TodoServiceGrpc.getBatchCreateTodosMethod) == null) {
+          TodoServiceGrpc.getBatchCreateTodosMethod = getBatchCreateTodosMethod =
+              io.grpc.MethodDescriptor.<monorepo.proto.todo.v1.BatchCreateTodosRequest, monorepo.proto.todo.v1.BatchCreateTodosResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "BatchCreateTodos"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  monorepo.proto.todo.v1.BatchCreateTodosRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  monorepo.proto.todo.v1.BatchCreateTodosResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TodoServiceMethodDescriptorSupplier("BatchCreateTodos"))
+              .build();
+        }
+      }
+    }
+    return getBatchCreateTodosMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<monorepo.proto.todo.v1.BatchUpdateTodosRequest,
+      monorepo.proto.todo.v1.BatchUpdateTodosResponse> getBatchUpdateTodosMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "BatchUpdateTodos",
+      requestType = monorepo.proto.todo.v1.BatchUpdateTodosRequest.class,
+      responseType = monorepo.proto.todo.v1.BatchUpdateTodosResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<monorepo.proto.todo.v1.BatchUpdateTodosRequest,
+      monorepo.proto.todo.v1.BatchUpdateTodosResponse> getBatchUpdateTodosMethod() {
+    io.grpc.MethodDescriptor<monorepo.proto.todo.v1.BatchUpdateTodosRequest, monorepo.proto.todo.v1.BatchUpdateTodosResponse> getBatchUpdateTodosMethod;
+    if ((getBatchUpdateTodosMethod = TodoServiceGrpc.getBatchUpdateTodosMethod) == null) {
+      synchronized (TodoServiceGrpc.class) {
+        if ((getBatchUpdateTodosMethod = TodoServiceGrpc.getBatchUpdateTodosMethod) == null) {
+          TodoServiceGrpc.getBatchUpdateTodosMethod = getBatchUpdateTodosMethod =
+              io.grpc.MethodDescriptor.<monorepo.proto.todo.v1.BatchUpdateTodosRequest, monorepo.proto.todo.v1.BatchUpdateTodosResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "BatchUpdateTodos"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  monorepo.proto.todo.v1.BatchUpdateTodosRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  monorepo.proto.todo.v1.BatchUpdateTodosResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TodoServiceMethodDescriptorSupplier("BatchUpdateTodos"))
+              .build();
+        }
+      }
+    }
+    return getBatchUpdateTodosMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<monorepo.proto.todo.v1.ExportTodosRequest,
+      monorepo.proto.todo.v1.ExportTodosResponse> getExportTodosMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ExportTodos",
+      requestType = monorepo.proto.todo.v1.ExportTodosRequest.class,
+      responseType = monorepo.proto.todo.v1.ExportTodosResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<monorepo.proto.todo.v1.ExportTodosRequest,
+      monorepo.proto.todo.v1.ExportTodosResponse> getExportTodosMethod() {
+    io.grpc.MethodDescriptor<monorepo.proto.todo.v1.ExportTodosRequest, monorepo.proto.todo.v1.ExportTodosResponse> getExportTodosMethod;
+    if ((getExportTodosMethod = TodoServiceGrpc.getExportTodosMethod) == null) {
+      synchronized (TodoServiceGrpc.class) {
+        if ((getExportTodosMethod = TodoServiceGrpc.getExportTodosMethod) == null) {
+          TodoServiceGrpc.getExportTodosMethod = getExportTodosMethod =
+              io.grpc.MethodDescriptor.<monorepo.proto.todo.v1.ExportTodosRequest, monorepo.proto.todo.v1.ExportTodosResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ExportTodos"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  monorepo.proto.todo.v1.ExportTodosRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  monorepo.proto.todo.v1.ExportTodosResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TodoServiceMethodDescriptorSupplier("ExportTodos"))
+              .build();
+        }
+      }
+    }
+    return getExportTodosMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -326,6 +419,39 @@ public final class TodoServiceGrpc {
         io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchGetTodosResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getBatchGetTodosMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     * Batch create todos in one transaction
+     * Items fail independently, see BatchCreateTodosResponse.results
+     * </pre>
+     */
+    default void batchCreateTodos(monorepo.proto.todo.v1.BatchCreateTodosRequest request,
+        io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchCreateTodosResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getBatchCreateTodosMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Batch update todos in one transaction
+     * Items fail independently, see BatchUpdateTodosResponse.results
+     * </pre>
+     */
+    default void batchUpdateTodos(monorepo.proto.todo.v1.BatchUpdateTodosRequest request,
+        io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchUpdateTodosResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getBatchUpdateTodosMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Export all todos of a user, ordered by id
+     * Todos are streamed in batches, use this instead of paging through ListTodos for bulk reads
+     * </pre>
+     */
+    default void exportTodos(monorepo.proto.todo.v1.ExportTodosRequest request,
+        io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.ExportTodosResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getExportTodosMethod(), responseObserver);
+    }
   }
 
   /**
@@ -426,6 +552,42 @@ public final class TodoServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getBatchGetTodosMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Batch create todos in one transaction
+     * Items fail independently, see BatchCreateTodosResponse.results
+     * </pre>
+     */
+    public void batchCreateTodos(monorepo.proto.todo.v1.BatchCreateTodosRequest request,
+        io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchCreateTodosResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getBatchCreateTodosMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Batch update todos in one transaction
+     * Items fail independently, see BatchUpdateTodosResponse.results
+     * </pre>
+     */
+    public void batchUpdateTodos(monorepo.proto.todo.v1.BatchUpdateTodosRequest request,
+        io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchUpdateTodosResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getBatchUpdateTodosMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Export all todos of a user, ordered by id
+     * Todos are streamed in batches, use this instead of paging through ListTodos for bulk reads
+     * </pre>
+     */
+    public void exportTodos(monorepo.proto.todo.v1.ExportTodosRequest request,
+        io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.ExportTodosResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getExportTodosMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -506,6 +668,41 @@ public final class TodoServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingV2UnaryCall(
           getChannel(), getBatchGetTodosMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Batch create todos in one transaction
+     * Items fail independently, see BatchCreateTodosResponse.results
+     * </pre>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse batchCreateTodos(monorepo.proto.todo.v1.BatchCreateTodosRequest request) throws io.grpc.StatusException {
+      return io.grpc.stub.ClientCalls.blockingV2UnaryCall(
+          getChannel(), getBatchCreateTodosMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Batch update todos in one transaction
+     * Items fail independently, see BatchUpdateTodosResponse.results
+     * </pre>
+     */
+    public monorepo.proto.todo.v1.BatchUpdateTodosResponse batchUpdateTodos(monorepo.proto.todo.v1.BatchUpdateTodosRequest request) throws io.grpc.StatusException {
+      return io.grpc.stub.ClientCalls.blockingV2UnaryCall(
+          getChannel(), getBatchUpdateTodosMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Export all todos of a user, ordered by id
+     * Todos are streamed in batches, use this instead of paging through ListTodos for bulk reads
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<?, monorepo.proto.todo.v1.ExportTodosResponse>
+        exportTodos(monorepo.proto.todo.v1.ExportTodosRequest request) {
+      return io.grpc.stub.ClientCalls.blockingV2ServerStreamingCall(
+          getChannel(), getExportTodosMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -586,6 +783,40 @@ public final class TodoServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getBatchGetTodosMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Batch create todos in one transaction
+     * Items fail independently, see BatchCreateTodosResponse.results
+     * </pre>
+     */
+    public monorepo.proto.todo.v1.BatchCreateTodosResponse batchCreateTodos(monorepo.proto.todo.v1.BatchCreateTodosRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getBatchCreateTodosMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Batch update todos in one transaction
+     * Items fail independently, see BatchUpdateTodosResponse.results
+     * </pre>
+     */
+    public monorepo.proto.todo.v1.BatchUpdateTodosResponse batchUpdateTodos(monorepo.proto.todo.v1.BatchUpdateTodosRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getBatchUpdateTodosMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Export all todos of a user, ordered by id
+     * Todos are streamed in batches, use this instead of paging through ListTodos for bulk reads
+     * </pre>
+     */
+    public java.util.Iterator<monorepo.proto.todo.v1.ExportTodosResponse> exportTodos(
+        monorepo.proto.todo.v1.ExportTodosRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getExportTodosMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -672,6 +903,30 @@ public final class TodoServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getBatchGetTodosMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     * Batch create todos in one transaction
+     * Items fail independently, see BatchCreateTodosResponse.results
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<monorepo.proto.todo.v1.BatchCreateTodosResponse> batchCreateTodos(
+        monorepo.proto.todo.v1.BatchCreateTodosRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getBatchCreateTodosMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Batch update todos in one transaction
+     * Items fail independently, see BatchUpdateTodosResponse.results
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<monorepo.proto.todo.v1.BatchUpdateTodosResponse> batchUpdateTodos(
+        monorepo.proto.todo.v1.BatchUpdateTodosRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getBatchUpdateTodosMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CREATE_TODO = 0;
@@ -680,6 +935,9 @@ public final class TodoServiceGrpc {
   private static final int METHODID_UPDATE_TODO = 3;
   private static final int METHODID_DELETE_TODO = 4;
   private static final int METHODID_BATCH_GET_TODOS = 5;
+  private static final int METHODID_BATCH_CREATE_TODOS = 6;
+  private static final int METHODID_BATCH_UPDATE_TODOS = 7;
+  private static final int METHODID_EXPORT_TODOS = 8;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -722,6 +980,18 @@ public final class TodoServiceGrpc {
           serviceImpl.batchGetTodos((monorepo.proto.todo.v1.BatchGetTodosRequest) request,
               (io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchGetTodosResponse>) responseObserver);
           break;
+        case METHODID_BATCH_CREATE_TODOS:
+          serviceImpl.batchCreateTodos((monorepo.proto.todo.v1.BatchCreateTodosRequest) request,
+              (io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchCreateTodosResponse>) responseObserver);
+          break;
+        case METHODID_BATCH_UPDATE_TODOS:
+          serviceImpl.batchUpdateTodos((monorepo.proto.todo.v1.BatchUpdateTodosRequest) request,
+              (io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.BatchUpdateTodosResponse>) responseObserver);
+          break;
+        case METHODID_EXPORT_TODOS:
+          serviceImpl.exportTodos((monorepo.proto.todo.v1.ExportTodosRequest) request,
+              (io.grpc.stub.StreamObserver<monorepo.proto.todo.v1.ExportTodosResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -782,6 +1052,27 @@ public final class TodoServiceGrpc {
               monorepo.proto.todo.v1.BatchGetTodosRequest,
               monorepo.proto.todo.v1.BatchGetTodosResponse>(
                 service, METHODID_BATCH_GET_TODOS)))
+        .addMethod(
+          getBatchCreateTodosMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              monorepo.proto.todo.v1.BatchCreateTodosRequest,
+              monorepo.proto.todo.v1.BatchCreateTodosResponse>(
+                service, METHODID_BATCH_CREATE_TODOS)))
+        .addMethod(
+          getBatchUpdateTodosMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              monorepo.proto.todo.v1.BatchUpdateTodosRequest,
+              monorepo.proto.todo.v1.BatchUpdateTodosResponse>(
+                service, METHODID_BATCH_UPDATE_TODOS)))
+        .addMethod(
+          getExportTodosMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              monorepo.proto.todo.v1.ExportTodosRequest,
+              monorepo.proto.todo.v1.ExportTodosResponse>(
+                service, METHODID_EXPORT_TODOS)))
         .build();
   }
 
@@ -836,6 +1127,9 @@ public final class TodoServiceGrpc {
               .addMethod(getUpdateTodoMethod())
               .addMethod(getDeleteTodoMethod())
               .addMethod(getBatchGetTodosMethod())
+              .addMethod(getBatchCreateTodosMethod())
+              .addMethod(getBatchUpdateTodosMethod())
+              .addMethod(getExportTodosMethod())
               .build();
         }
       }
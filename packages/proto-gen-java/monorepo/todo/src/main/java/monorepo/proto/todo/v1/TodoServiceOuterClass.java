@@ -96,6 +96,46 @@ public final class TodoServiceOuterClass extends com.google.protobuf.GeneratedFi
   static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_monorepo_todo_v1_BatchGetTodosResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_ExportTodosRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_ExportTodosRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_ExportTodosResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_ExportTodosResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_BatchCreateTodosRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_BatchCreateTodosRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_BatchCreateTodosResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_BatchUpdateTodosRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_BatchUpdateTodosRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_Result_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_Result_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -107,30 +147,33 @@ public final class TodoServiceOuterClass extends com.google.protobuf.GeneratedFi
     java.lang.String[] descriptorData = {
       "\n#monorepo/todo/v1/todo_service.proto\022\020m" +
       "onorepo.todo.v1\032\033google/protobuf/empty.p" +
-      "roto\032 google/protobuf/field_mask.proto\032\026" +
-      "google/type/date.proto\032\033monorepo/todo/v1" +
-      "/todo.proto\"\276\003\n\021CreateTodoRequest\022\027\n\007use" +
-      "r_id\030\001 \001(\003R\006userId\022\024\n\005title\030\002 \001(\tR\005title" +
-      "\022%\n\013description\030\003 \001(\tH\000R\013description\210\001\001\022" +
-      "7\n\005state\030\004 \001(\0162\034.monorepo.todo.v1.Todo.S" +
-      "tateH\001R\005state\210\001\001\022@\n\010priority\030\005 \001(\0162\037.mon" +
-      "orepo.todo.v1.Todo.PriorityH\002R\010priority\210" +
-      "\001\001\022\037\n\010assignee\030\006 \001(\003H\003R\010assignee\210\001\001\0221\n\010d" +
-      "ue_date\030\007 \001(\0132\021.google.type.DateH\004R\007dueD" +
-      "ate\210\001\001\022C\n\tsub_tasks\030\010 \003(\0132&.monorepo.tod" +
-      "o.v1.CreateSubtaskRequestR\010subTasksB\016\n\014_" +
-      "descriptionB\010\n\006_stateB\013\n\t_priorityB\013\n\t_a" +
-      "ssigneeB\013\n\t_due_date\"\203\001\n\016GetTodoRequest\022" +
-      "\016\n\002id\030\001 \001(\003R\002id\022\034\n\007user_id\030\002 \001(\003H\000R\006user" +
-      "Id\210\001\001\022&\n\014show_deleted\030\003 \001(\010H\001R\013showDelet" +
-      "ed\210\001\001B\n\n\010_user_idB\017\n\r_show_deleted\"\364\004\n\020L" +
-      "istTodosRequest\022\033\n\tpage_size\030\001 \001(\005R\010page" +
-      "Size\022\035\n\npage_token\030\002 \001(\tR\tpageToken\022\027\n\007u" +
-      "ser_id\030\003 \001(\003R\006userId\022F\n\006filter\030\004 \001(\0132).m" +
-      "onorepo.todo.v1.ListTodosRequest.FilterH" +
-      "\000R\006filter\210\001\001\022E\n\010order_by\030\005 \003(\0132*.monorep" +
-      "o.todo.v1.ListTodosRequest.OrderByR\007orde" +
-      "rBy\022&\n\014show_deleted\030\006 \001(\010H\001R\013showDeleted" +
+      "roto\032 google/protobuf/field_mask.proto\032\027" +
+      "google/rpc/status.proto\032\026google/type/dat" +
+      "e.proto\032\033monorepo/todo/v1/todo.proto\"\276\003\n" +
+      "\021CreateTodoRequest\022\027\n\007user_id\030\001 \001(\003R\006use" +
+      "rId\022\024\n\005title\030\002 \001(\tR\005title\022%\n\013description" +
+      "\030\003 \001(\tH\000R\013description\210\001\001\0227\n\005state\030\004 \001(\0162" +
+      "\034.monorepo.todo.v1.Todo.StateH\001R\005state\210\001" +
+      "\001\022@\n\010priority\030\005 \001(\0162\037.monorepo.todo.v1.T" +
+      "odo.PriorityH\002R\010priority\210\001\001\022\037\n\010assignee\030" +
+      "\006 \001(\003H\003R\010assignee\210\001\001\0221\n\010due_date\030\007 \001(\0132\021" +
+      ".google.type.DateH\004R\007dueDate\210\001\001\022C\n\tsub_t" +
+      "asks\030\010 \003(\0132&.monorepo.todo.v1.CreateSubt" +
+      "askRequestR\010subTasksB\016\n\014_descriptionB\010\n\006" +
+      "_stateB\013\n\t_priorityB\013\n\t_assigneeB\013\n\t_due" +
+      "_date\"\203\001\n\016GetTodoRequest\022\016\n\002id\030\001 \001(\003R\002id" +
+      "\022\034\n\007user_id\030\002 \001(\003H\000R\006userId\210\001\001\022&\n\014show_d" +
+      "eleted\030\003 \001(\010H\001R\013showDeleted\210\001\001B\n\n\010_user_" +
+      "idB\017\n\r_show_deleted\"\331\006\n\020ListTodosRequest" +
+      "\022\033\n\tpage_size\030\001 \001(\005R\010pageSize\022\035\n\npage_to" +
+      "ken\030\002 \001(\tR\tpageToken\022\027\n\007user_id\030\003 \001(\003R\006u" +
+      "serId\022F\n\006filter\030\004 \001(\0132).monorepo.todo.v1" +
+      ".ListTodosRequest.FilterH\000R\006filter\210\001\001\022E\n" +
+      "\010order_by\030\005 \003(\0132*.monorepo.todo.v1.ListT" +
+      "odosRequest.OrderByR\007orderBy\022&\n\014show_del" +
+      "eted\030\006 \001(\010H\001R\013showDeleted\210\001\001\022]\n\017total_si" +
+      "ze_mode\030\007 \001(\01620.monorepo.todo.v1.ListTod" +
+      "osRequest.TotalSizeModeH\002R\rtotalSizeMode" +
       "\210\001\001\032\177\n\006Filter\0224\n\006states\030\001 \003(\0162\034.monorepo" +
       ".todo.v1.Todo.StateR\006states\022?\n\nprioritie" +
       "s\030\002 \003(\0162\037.monorepo.todo.v1.Todo.Priority" +
@@ -138,63 +181,95 @@ public final class TodoServiceOuterClass extends com.google.protobuf.GeneratedFi
       "0.monorepo.todo.v1.ListTodosRequest.Orde" +
       "rBy.FieldR\005field\022\027\n\007is_desc\030\002 \001(\010R\006isDes" +
       "c\"J\n\005Field\022\025\n\021FIELD_UNSPECIFIED\020\000\022\016\n\nCRE" +
-      "ATED_AT\020\001\022\014\n\010DUE_DATE\020\002\022\014\n\010PRIORITY\020\003B\t\n" +
-      "\007_filterB\017\n\r_show_deleted\"\210\001\n\021ListTodosR" +
-      "esponse\022,\n\005todos\030\001 \003(\0132\026.monorepo.todo.v" +
-      "1.TodoR\005todos\022&\n\017next_page_token\030\002 \001(\tR\r" +
-      "nextPageToken\022\035\n\ntotal_size\030\003 \001(\005R\ttotal" +
-      "Size\"\367\005\n\021UpdateTodoRequest\022\016\n\002id\030\001 \001(\003R\002" +
-      "id\022\034\n\007user_id\030\002 \001(\003H\000R\006userId\210\001\001\022\031\n\005titl" +
-      "e\030\003 \001(\tH\001R\005title\210\001\001\022%\n\013description\030\004 \001(\t" +
-      "H\002R\013description\210\001\001\0227\n\005state\030\005 \001(\0162\034.mono" +
-      "repo.todo.v1.Todo.StateH\003R\005state\210\001\001\022@\n\010p" +
-      "riority\030\006 \001(\0162\037.monorepo.todo.v1.Todo.Pr" +
-      "iorityH\004R\010priority\210\001\001\022\037\n\010assignee\030\007 \001(\003H" +
-      "\005R\010assignee\210\001\001\0221\n\010due_date\030\010 \001(\0132\021.googl" +
-      "e.type.DateH\006R\007dueDate\210\001\001\022d\n\023sub_task_op" +
-      "erations\030\t \003(\01324.monorepo.todo.v1.Update" +
-      "TodoRequest.SubTaskOperationR\021subTaskOpe" +
-      "rations\032\345\001\n\020SubTaskOperation\022@\n\006create\030\001" +
-      " \001(\0132&.monorepo.todo.v1.CreateSubtaskReq" +
-      "uestH\000R\006create\022@\n\006update\030\002 \001(\0132&.monorep" +
-      "o.todo.v1.UpdateSubtaskRequestH\000R\006update" +
-      "\022@\n\006delete\030\003 \001(\0132&.monorepo.todo.v1.Dele" +
-      "teSubtaskRequestH\000R\006deleteB\013\n\toperationB" +
-      "\n\n\010_user_idB\010\n\006_titleB\016\n\014_descriptionB\010\n" +
-      "\006_stateB\013\n\t_priorityB\013\n\t_assigneeB\013\n\t_du" +
-      "e_date\"M\n\021DeleteTodoRequest\022\016\n\002id\030\001 \001(\003R" +
-      "\002id\022\034\n\007user_id\030\002 \001(\003H\000R\006userId\210\001\001B\n\n\010_us" +
-      "er_id\",\n\024CreateSubtaskRequest\022\024\n\005title\030\001" +
-      " \001(\tR\005title\"K\n\024UpdateSubtaskRequest\022\016\n\002i" +
-      "d\030\001 \001(\003R\002id\022\031\n\005title\030\002 \001(\tH\000R\005title\210\001\001B\010" +
-      "\n\006_title\"&\n\024DeleteSubtaskRequest\022\016\n\002id\030\001" +
-      " \001(\003R\002id\"a\n\024BatchGetTodosRequest\022\020\n\003ids\030" +
-      "\001 \003(\003R\003ids\022&\n\014show_deleted\030\002 \001(\010H\000R\013show" +
-      "Deleted\210\001\001B\017\n\r_show_deleted\"E\n\025BatchGetT" +
-      "odosResponse\022,\n\005todos\030\001 \003(\0132\026.monorepo.t" +
-      "odo.v1.TodoR\005todos2\367\003\n\013TodoService\022K\n\nCr" +
-      "eateTodo\022#.monorepo.todo.v1.CreateTodoRe" +
-      "quest\032\026.monorepo.todo.v1.Todo\"\000\022E\n\007GetTo" +
-      "do\022 .monorepo.todo.v1.GetTodoRequest\032\026.m" +
-      "onorepo.todo.v1.Todo\"\000\022V\n\tListTodos\022\".mo" +
-      "norepo.todo.v1.ListTodosRequest\032#.monore" +
-      "po.todo.v1.ListTodosResponse\"\000\022K\n\nUpdate" +
-      "Todo\022#.monorepo.todo.v1.UpdateTodoReques" +
-      "t\032\026.monorepo.todo.v1.Todo\"\000\022K\n\nDeleteTod" +
-      "o\022#.monorepo.todo.v1.DeleteTodoRequest\032\026" +
-      ".monorepo.todo.v1.Todo\"\000\022b\n\rBatchGetTodo" +
-      "s\022&.monorepo.todo.v1.BatchGetTodosReques" +
-      "t\032\'.monorepo.todo.v1.BatchGetTodosRespon" +
-      "se\"\000Bw\n\026monorepo.proto.todo.v1P\001Z[github" +
-      ".com/yourorg/monorepo/packages/proto-gen" +
-      "-go/monorepo/todo/pkg/monorepo/todo/v1;t" +
-      "odov1b\006proto3"
+      "ATED_AT\020\001\022\014\n\010DUE_DATE\020\002\022\014\n\010PRIORITY\020\003\"p\n" +
+      "\rTotalSizeMode\022\037\n\033TOTAL_SIZE_MODE_UNSPEC" +
+      "IFIED\020\000\022\t\n\005EXACT\020\001\022\016\n\nFIRST_PAGE\020\002\022\n\n\006CA" +
+      "CHED\020\003\022\r\n\tESTIMATED\020\004\022\010\n\004NONE\020\005B\t\n\007_filt" +
+      "erB\017\n\r_show_deletedB\022\n\020_total_size_mode\"" +
+      "\210\001\n\021ListTodosResponse\022,\n\005todos\030\001 \003(\0132\026.m" +
+      "onorepo.todo.v1.TodoR\005todos\022&\n\017next_page" +
+      "_token\030\002 \001(\tR\rnextPageToken\022\035\n\ntotal_siz" +
+      "e\030\003 \001(\005R\ttotalSize\"\367\005\n\021UpdateTodoRequest" +
+      "\022\016\n\002id\030\001 \001(\003R\002id\022\034\n\007user_id\030\002 \001(\003H\000R\006use" +
+      "rId\210\001\001\022\031\n\005title\030\003 \001(\tH\001R\005title\210\001\001\022%\n\013des" +
+      "cription\030\004 \001(\tH\002R\013description\210\001\001\0227\n\005stat" +
+      "e\030\005 \001(\0162\034.monorepo.todo.v1.Todo.StateH\003R" +
+      "\005state\210\001\001\022@\n\010priority\030\006 \001(\0162\037.monorepo.t" +
+      "odo.v1.Todo.PriorityH\004R\010priority\210\001\001\022\037\n\010a" +
+      "ssignee\030\007 \001(\003H\005R\010assignee\210\001\001\0221\n\010due_date" +
+      "\030\010 \001(\0132\021.google.type.DateH\006R\007dueDate\210\001\001\022" +
+      "d\n\023sub_task_operations\030\t \003(\01324.monorepo." +
+      "todo.v1.UpdateTodoRequest.SubTaskOperati" +
+      "onR\021subTaskOperations\032\345\001\n\020SubTaskOperati" +
+      "on\022@\n\006create\030\001 \001(\0132&.monorepo.todo.v1.Cr" +
+      "eateSubtaskRequestH\000R\006create\022@\n\006update\030\002" +
+      " \001(\0132&.monorepo.todo.v1.UpdateSubtaskReq" +
+      "uestH\000R\006update\022@\n\006delete\030\003 \001(\0132&.monorep" +
+      "o.todo.v1.DeleteSubtaskRequestH\000R\006delete" +
+      "B\013\n\toperationB\n\n\010_user_idB\010\n\006_titleB\016\n\014_" +
+      "descriptionB\010\n\006_stateB\013\n\t_priorityB\013\n\t_a" +
+      "ssigneeB\013\n\t_due_date\"M\n\021DeleteTodoReques" +
+      "t\022\016\n\002id\030\001 \001(\003R\002id\022\034\n\007user_id\030\002 \001(\003H\000R\006us" +
+      "erId\210\001\001B\n\n\010_user_id\",\n\024CreateSubtaskRequ" +
+      "est\022\024\n\005title\030\001 \001(\tR\005title\"K\n\024UpdateSubta" +
+      "skRequest\022\016\n\002id\030\001 \001(\003R\002id\022\031\n\005title\030\002 \001(\t" +
+      "H\000R\005title\210\001\001B\010\n\006_title\"&\n\024DeleteSubtaskR" +
+      "equest\022\016\n\002id\030\001 \001(\003R\002id\"a\n\024BatchGetTodosR" +
+      "equest\022\020\n\003ids\030\001 \003(\003R\003ids\022&\n\014show_deleted" +
+      "\030\002 \001(\010H\000R\013showDeleted\210\001\001B\017\n\r_show_delete" +
+      "d\"E\n\025BatchGetTodosResponse\022,\n\005todos\030\001 \003(" +
+      "\0132\026.monorepo.todo.v1.TodoR\005todos\"\271\001\n\022Exp" +
+      "ortTodosRequest\022\027\n\007user_id\030\001 \001(\003R\006userId" +
+      "\022F\n\006filter\030\002 \001(\0132).monorepo.todo.v1.List" +
+      "TodosRequest.FilterH\000R\006filter\210\001\001\022&\n\014show" +
+      "_deleted\030\003 \001(\010H\001R\013showDeleted\210\001\001B\t\n\007_fil" +
+      "terB\017\n\r_show_deleted\"C\n\023ExportTodosRespo" +
+      "nse\022,\n\005todos\030\001 \003(\0132\026.monorepo.todo.v1.To" +
+      "doR\005todos\"Z\n\027BatchCreateTodosRequest\022?\n\010" +
+      "requests\030\001 \003(\0132#.monorepo.todo.v1.Create" +
+      "TodoRequestR\010requests\"\255\001\n\030BatchCreateTod" +
+      "osResponse\022K\n\007results\030\001 \003(\01321.monorepo.t" +
+      "odo.v1.BatchCreateTodosResponse.ResultR\007" +
+      "results\032D\n\006Result\022\016\n\002id\030\001 \001(\003R\002id\022*\n\006sta" +
+      "tus\030\002 \001(\0132\022.google.rpc.StatusR\006status\"Z\n" +
+      "\027BatchUpdateTodosRequest\022?\n\010requests\030\001 \003" +
+      "(\0132#.monorepo.todo.v1.UpdateTodoRequestR" +
+      "\010requests\"\255\001\n\030BatchUpdateTodosResponse\022K" +
+      "\n\007results\030\001 \003(\01321.monorepo.todo.v1.Batch" +
+      "UpdateTodosResponse.ResultR\007results\032D\n\006R" +
+      "esult\022\016\n\002id\030\001 \001(\003R\002id\022*\n\006status\030\002 \001(\0132\022." +
+      "google.rpc.StatusR\006status2\261\006\n\013TodoServic" +
+      "e\022K\n\nCreateTodo\022#.monorepo.todo.v1.Creat" +
+      "eTodoRequest\032\026.monorepo.todo.v1.Todo\"\000\022E" +
+      "\n\007GetTodo\022 .monorepo.todo.v1.GetTodoRequ" +
+      "est\032\026.monorepo.todo.v1.Todo\"\000\022V\n\tListTod" +
+      "os\022\".monorepo.todo.v1.ListTodosRequest\032#" +
+      ".monorepo.todo.v1.ListTodosResponse\"\000\022K\n" +
+      "\nUpdateTodo\022#.monorepo.todo.v1.UpdateTod" +
+      "oRequest\032\026.monorepo.todo.v1.Todo\"\000\022K\n\nDe" +
+      "leteTodo\022#.monorepo.todo.v1.DeleteTodoRe" +
+      "quest\032\026.monorepo.todo.v1.Todo\"\000\022b\n\rBatch" +
+      "GetTodos\022&.monorepo.todo.v1.BatchGetTodo" +
+      "sRequest\032\'.monorepo.todo.v1.BatchGetTodo" +
+      "sResponse\"\000\022k\n\020BatchCreateTodos\022).monore" +
+      "po.todo.v1.BatchCreateTodosRequest\032*.mon" +
+      "orepo.todo.v1.BatchCreateTodosResponse\"\000" +
+      "\022k\n\020BatchUpdateTodos\022).monorepo.todo.v1." +
+      "BatchUpdateTodosRequest\032*.monorepo.todo." +
+      "v1.BatchUpdateTodosResponse\"\000\022^\n\013ExportT" +
+      "odos\022$.monorepo.todo.v1.ExportTodosReque" +
+      "st\032%.monorepo.todo.v1.ExportTodosRespons" +
+      "e\"\0000\001Bw\n\026monorepo.proto.todo.v1P\001Z[githu" +
+      "b.com/yourorg/monorepo/packages/proto-ge" +
+      "n-go/monorepo/todo/pkg/monorepo/todo/v1;" +
+      "todov1b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           com.google.protobuf.EmptyProto.getDescriptor(),
           com.google.protobuf.FieldMaskProto.getDescriptor(),
+          com.google.rpc.StatusProto.getDescriptor(),
           com.google.type.DateProto.getDescriptor(),
           monorepo.proto.todo.v1.TodoProto.getDescriptor(),
         });
@@ -215,7 +290,7 @@ public final class TodoServiceOuterClass extends com.google.protobuf.GeneratedFi
     internal_static_monorepo_todo_v1_ListTodosRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_monorepo_todo_v1_ListTodosRequest_descriptor,
-        new java.lang.String[] { "PageSize", "PageToken", "UserId", "Filter", "OrderBy", "ShowDeleted", });
+        new java.lang.String[] { "PageSize", "PageToken", "UserId", "Filter", "OrderBy", "ShowDeleted", "TotalSizeMode", });
     internal_static_monorepo_todo_v1_ListTodosRequest_Filter_descriptor =
       internal_static_monorepo_todo_v1_ListTodosRequest_descriptor.getNestedType(0);
     internal_static_monorepo_todo_v1_ListTodosRequest_Filter_fieldAccessorTable = new
@@ -282,9 +357,58 @@ public final class TodoServiceOuterClass extends com.google.protobuf.GeneratedFi
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_monorepo_todo_v1_BatchGetTodosResponse_descriptor,
         new java.lang.String[] { "Todos", });
+    internal_static_monorepo_todo_v1_ExportTodosRequest_descriptor =
+      getDescriptor().getMessageType(11);
+    internal_static_monorepo_todo_v1_ExportTodosRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_ExportTodosRequest_descriptor,
+        new java.lang.String[] { "UserId", "Filter", "ShowDeleted", });
+    internal_static_monorepo_todo_v1_ExportTodosResponse_descriptor =
+      getDescriptor().getMessageType(12);
+    internal_static_monorepo_todo_v1_ExportTodosResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_ExportTodosResponse_descriptor,
+        new java.lang.String[] { "Todos", });
+    internal_static_monorepo_todo_v1_BatchCreateTodosRequest_descriptor =
+      getDescriptor().getMessageType(13);
+    internal_static_monorepo_todo_v1_BatchCreateTodosRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_BatchCreateTodosRequest_descriptor,
+        new java.lang.String[] { "Requests", });
+    internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor =
+      getDescriptor().getMessageType(14);
+    internal_static_monorepo_todo_v1_BatchCreateTodosResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor,
+        new java.lang.String[] { "Results", });
+    internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_descriptor =
+      internal_static_monorepo_todo_v1_BatchCreateTodosResponse_descriptor.getNestedType(0);
+    internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_BatchCreateTodosResponse_Result_descriptor,
+        new java.lang.String[] { "Id", "Status", });
+    internal_static_monorepo_todo_v1_BatchUpdateTodosRequest_descriptor =
+      getDescriptor().getMessageType(15);
+    internal_static_monorepo_todo_v1_BatchUpdateTodosRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_BatchUpdateTodosRequest_descriptor,
+        new java.lang.String[] { "Requests", });
+    internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_descriptor =
+      getDescriptor().getMessageType(16);
+    internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_descriptor,
+        new java.lang.String[] { "Results", });
+    internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_Result_descriptor =
+      internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_descriptor.getNestedType(0);
+    internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_Result_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_monorepo_todo_v1_BatchUpdateTodosResponse_Result_descriptor,
+        new java.lang.String[] { "Id", "Status", });
     descriptor.resolveAllFeaturesImmutable();
     com.google.protobuf.EmptyProto.getDescriptor();
     com.google.protobuf.FieldMaskProto.getDescriptor();
+    com.google.rpc.StatusProto.getDescriptor();
     com.google.type.DateProto.getDescriptor();
     monorepo.proto.todo.v1.TodoProto.getDescriptor();
   }
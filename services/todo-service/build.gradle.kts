@@ -21,10 +21,14 @@ dependencies {
 
     // observability
     implementation("org.springframework.boot:spring-boot-starter-opentelemetry")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // postgres
     implementation("org.postgresql:postgresql")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     implementation("org.mapstruct:mapstruct:$mapstructVersion")
     implementation(project(":packages:lib-java:mapstruct-spi-protobuf"))
     annotationProcessor("org.mapstruct:mapstruct-processor:$mapstructVersion")
@@ -0,0 +1,5 @@
+-- Indexes for keyset pagination, (user_id, <sort field>, id) lets the row value comparison be a single range scan
+-- CONCURRENTLY doesn't block writes to todo, but it can't run inside a transaction block, run this file with autocommit
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_user_id_created_at_id ON todo (user_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_user_id_due_date_id ON todo (user_id, due_date, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_user_id_priority_id ON todo (user_id, priority, id);
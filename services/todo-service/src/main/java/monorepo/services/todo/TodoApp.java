@@ -1,10 +1,13 @@
 package monorepo.services.todo;
 
+import monorepo.services.todo.config.TodoProperties;
 import org.mybatis.spring.annotation.*;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
+@EnableConfigurationProperties(TodoProperties.class)
 @MapperScan("monorepo.services.todo.mapper")
 public class TodoApp {
     static void main(String[] args) {
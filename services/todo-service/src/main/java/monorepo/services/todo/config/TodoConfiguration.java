@@ -0,0 +1,25 @@
+package monorepo.services.todo.config;
+
+import monorepo.lib.common.pagination.PageTokenCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Todo service configuration.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Configuration(proxyBeanMethods = false)
+public class TodoConfiguration {
+
+    @Bean
+    public PageTokenCodec pageTokenCodec(TodoProperties properties) {
+        var secret = properties.pageToken().secret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(
+                    "Property '" + TodoProperties.PREFIX + ".page-token.secret' must be configured");
+        }
+        return new PageTokenCodec(secret, properties.pageToken().legacyJsonUntil());
+    }
+}
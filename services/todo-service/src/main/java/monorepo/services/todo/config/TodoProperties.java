@@ -0,0 +1,117 @@
+package monorepo.services.todo.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import monorepo.proto.todo.v1.ListTodosRequest;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Todo service configuration.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@ConfigurationProperties(TodoProperties.PREFIX)
+public record TodoProperties(
+        TotalSize totalSize,
+        PageToken pageToken,
+        Cache cache,
+        Coalescing coalescing,
+        BatchWrite batchWrite,
+        SubtaskLoading subtaskLoading) {
+
+    public static final String PREFIX = "todo";
+
+    public TodoProperties {
+        totalSize = totalSize != null ? totalSize : new TotalSize(null, null, null);
+        pageToken = pageToken != null ? pageToken : new PageToken(null, null);
+        cache = cache != null ? cache : new Cache(null, null, null);
+        coalescing = coalescing != null ? coalescing : new Coalescing(null, null, null);
+        batchWrite = batchWrite != null ? batchWrite : new BatchWrite(null);
+        subtaskLoading = subtaskLoading != null ? subtaskLoading : SubtaskLoading.AGGREGATE;
+    }
+
+    /**
+     * How {@code ListTodosResponse.total_size} is computed.
+     *
+     * @param defaultMode  mode used when the request doesn't specify one, default {@code EXACT}
+     * @param cacheTtl     ttl of cached counts for {@code CACHED} mode, default 30s
+     * @param cacheMaxSize maximum number of cached counts for {@code CACHED} mode, default 10000
+     */
+    public record TotalSize(
+            ListTodosRequest.TotalSizeMode defaultMode, Duration cacheTtl, Long cacheMaxSize) {
+        public TotalSize(
+                @Nullable ListTodosRequest.TotalSizeMode defaultMode,
+                @Nullable Duration cacheTtl,
+                @Nullable Long cacheMaxSize) {
+            this.defaultMode = defaultMode != null ? defaultMode : ListTodosRequest.TotalSizeMode.EXACT;
+            this.cacheTtl = cacheTtl != null ? cacheTtl : Duration.ofSeconds(30);
+            this.cacheMaxSize = cacheMaxSize != null ? cacheMaxSize : 10_000L;
+        }
+    }
+
+    /**
+     * Page token signing.
+     *
+     * @param secret          HMAC secret used to sign page tokens, must be the same across all instances
+     * @param legacyJsonUntil unsigned legacy JSON page tokens are accepted until this instant, the end of the rollout
+     *                        window shipped in {@code application.yaml}, rejected if not set
+     */
+    public record PageToken(@Nullable String secret, @Nullable Instant legacyJsonUntil) {}
+
+    /**
+     * In-process cache of built todos, used by get and batch get.
+     *
+     * @param enabled whether the cache is enabled, default true
+     * @param ttl     time to live after write, default 5m
+     * @param maxSize maximum number of cached todos, default 10000
+     */
+    public record Cache(Boolean enabled, Duration ttl, Long maxSize) {
+        public Cache(@Nullable Boolean enabled, @Nullable Duration ttl, @Nullable Long maxSize) {
+            this.enabled = enabled != null ? enabled : true;
+            this.ttl = ttl != null ? ttl : Duration.ofMinutes(5);
+            this.maxSize = maxSize != null ? maxSize : 10_000L;
+        }
+    }
+
+    /**
+     * Coalescing of concurrent single todo lookups (GetTodo) into batched queries.
+     *
+     * @param enabled      whether coalescing is enabled, default true
+     * @param window       how long a batch waits for more lookups after its first one, default 2ms
+     * @param maxBatchSize a batch is dispatched immediately when it reaches this size, default 100
+     */
+    public record Coalescing(Boolean enabled, Duration window, Integer maxBatchSize) {
+        public Coalescing(@Nullable Boolean enabled, @Nullable Duration window, @Nullable Integer maxBatchSize) {
+            this.enabled = enabled != null ? enabled : true;
+            this.window = window != null ? window : Duration.ofMillis(2);
+            this.maxBatchSize = maxBatchSize != null ? maxBatchSize : 100;
+        }
+    }
+
+    /**
+     * Batch writes (BatchCreateTodos, BatchUpdateTodos).
+     *
+     * @param chunkSize number of items flushed per JDBC batch, a failed chunk is retried item by item, default 500
+     */
+    public record BatchWrite(Integer chunkSize) {
+        public BatchWrite(@Nullable Integer chunkSize) {
+            this.chunkSize = chunkSize != null ? chunkSize : 500;
+        }
+    }
+
+    /**
+     * How subtasks are loaded together with their todos (ListTodos, GetTodo, BatchGetTodos).
+     */
+    public enum SubtaskLoading {
+        /**
+         * One statement, live subtasks are aggregated into a json array per todo.
+         */
+        AGGREGATE,
+        /**
+         * A second query for the subtasks of all selected todos.
+         */
+        SEPARATE_QUERY
+    }
+}
@@ -0,0 +1,23 @@
+package monorepo.services.todo.entity;
+
+import java.util.List;
+
+/**
+ * A {@link Todo} row with its live subtasks, loaded in the same statement.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ * @see monorepo.services.todo.mapper.TodoAggregateMapper
+ */
+public class TodoWithSubtasks extends Todo {
+
+    private List<TodoSubtask> subtasks = List.of();
+
+    public List<TodoSubtask> getSubtasks() {
+        return subtasks;
+    }
+
+    public void setSubtasks(List<TodoSubtask> subtasks) {
+        this.subtasks = subtasks != null ? subtasks : List.of();
+    }
+}
@@ -0,0 +1,13 @@
+package monorepo.services.todo.entity.typehandler;
+
+import java.util.List;
+import monorepo.lib.mybatis.typehandler.BasePostgresJsonbTypeHandler;
+import monorepo.services.todo.entity.TodoSubtask;
+
+/**
+ * Decodes the json array of subtasks aggregated by {@link monorepo.services.todo.mapper.TodoAggregateMapper}.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+public class TodoSubtaskListTypeHandler extends BasePostgresJsonbTypeHandler<List<TodoSubtask>> {}
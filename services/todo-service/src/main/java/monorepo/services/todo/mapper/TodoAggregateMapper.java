@@ -0,0 +1,116 @@
+package monorepo.services.todo.mapper;
+
+import static monorepo.services.todo.mapper.TodoDynamicSqlSupport.todo;
+
+import java.util.List;
+import java.util.Optional;
+import monorepo.lib.mybatis.datasources.dynamic.DynamicDataSource;
+import monorepo.lib.mybatis.typehandler.ProtobufEnumTypeHandler;
+import monorepo.services.todo.entity.TodoWithSubtasks;
+import monorepo.services.todo.entity.typehandler.TodoSubtaskListTypeHandler;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.type.JdbcType;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+
+/**
+ * Hand-written selects of todos together with their live subtasks, in one statement.
+ *
+ * <p> Subtasks are aggregated per todo by a correlated {@code json_agg} subquery (see {@link #subtasks}),
+ * which is planned as an index lookup on {@code todo_subtask.todo_id} per selected todo,
+ * the same plan as a {@code left join lateral}.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Mapper
+public interface TodoAggregateMapper extends DynamicDataSource<TodoAggregateMapper> {
+
+    /**
+     * Live subtasks of the todo as a json array ordered by id, {@code []} if none.
+     *
+     * <p> Timestamps are rendered as UTC instants, {@code todo_subtask} stores them as UTC {@code timestamp}.
+     * The outer table must be {@code todo} without alias.
+     */
+    BasicColumn subtasks = new SubtasksColumn("subtasks");
+
+    BasicColumn[] selectList = BasicColumn.columnList(
+            todo.id,
+            todo.userId,
+            todo.title,
+            todo.description,
+            todo.state,
+            todo.priority,
+            todo.assignee,
+            todo.dueDate,
+            todo.createdAt,
+            todo.updatedAt,
+            todo.deletedAt,
+            subtasks);
+
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    @Results(id = "TodoWithSubtasksResult", value = {
+        @Result(column = "id", property = "id", jdbcType = JdbcType.BIGINT, id = true),
+        @Result(column = "user_id", property = "userId", jdbcType = JdbcType.BIGINT),
+        @Result(column = "title", property = "title", jdbcType = JdbcType.VARCHAR),
+        @Result(column = "description", property = "description", jdbcType = JdbcType.VARCHAR),
+        @Result(column = "state", property = "state", typeHandler = ProtobufEnumTypeHandler.class, jdbcType = JdbcType.SMALLINT),
+        @Result(column = "priority", property = "priority", typeHandler = ProtobufEnumTypeHandler.class, jdbcType = JdbcType.VARCHAR),
+        @Result(column = "assignee", property = "assignee", jdbcType = JdbcType.BIGINT),
+        @Result(column = "due_date", property = "dueDate", jdbcType = JdbcType.DATE),
+        @Result(column = "created_at", property = "createdAt", jdbcType = JdbcType.TIMESTAMP),
+        @Result(column = "updated_at", property = "updatedAt", jdbcType = JdbcType.TIMESTAMP),
+        @Result(column = "deleted_at", property = "deletedAt", jdbcType = JdbcType.TIMESTAMP),
+        @Result(column = "subtasks", property = "subtasks", typeHandler = TodoSubtaskListTypeHandler.class, jdbcType = JdbcType.OTHER)
+    })
+    List<TodoWithSubtasks> selectManyWithSubtasks(SelectStatementProvider selectStatement);
+
+    default List<TodoWithSubtasks> selectWithSubtasks(SelectDSLCompleter completer) {
+        return MyBatis3Utils.selectList(this::selectManyWithSubtasks, selectList, todo, completer);
+    }
+
+    final class SubtasksColumn implements BasicColumn {
+
+        private static final String SUBQUERY = """
+                (select coalesce(json_agg(json_build_object(
+                            'id', s.id,
+                            'todoId', s.todo_id,
+                            'title', s.title,
+                            'createdAt', to_char(s.created_at, 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"'),
+                            'updatedAt', to_char(s.updated_at, 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"')
+                        ) order by s.id), '[]'::json)
+                 from todo_subtask s
+                 where s.todo_id = todo.id
+                   and s.deleted_at is null)""";
+
+        private final @Nullable String alias;
+
+        private SubtasksColumn(@Nullable String alias) {
+            this.alias = alias;
+        }
+
+        @Override
+        public Optional<String> alias() {
+            return Optional.ofNullable(alias);
+        }
+
+        @Override
+        public SubtasksColumn as(String alias) {
+            return new SubtasksColumn(alias);
+        }
+
+        @Override
+        public FragmentAndParameters render(RenderingContext renderingContext) {
+            return FragmentAndParameters.fromFragment(SUBQUERY);
+        }
+    }
+}
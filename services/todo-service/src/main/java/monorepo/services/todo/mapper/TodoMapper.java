@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import monorepo.lib.mybatis.datasources.dynamic.DynamicDataSource;
+import monorepo.lib.mybatis.provider.ReturningSqlProviderAdapter;
 import monorepo.lib.mybatis.typehandler.ProtobufEnumTypeHandler;
 import monorepo.services.todo.entity.Todo;
 import org.apache.ibatis.annotations.InsertProvider;
@@ -18,6 +19,7 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.ResultMap;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.type.JdbcType;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.dsl.CountDSLCompleter;
@@ -27,6 +29,7 @@ import org.mybatis.dynamic.sql.dsl.UpdateDSL;
 import org.mybatis.dynamic.sql.dsl.UpdateDSLCompleter;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonCountMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonDeleteMapper;
@@ -193,4 +196,48 @@ public interface TodoMapper extends CommonSelectMapper, CommonCountMapper, Commo
             .where(id, isEqualTo(row::getId))
         );
     }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo")
+    @SelectProvider(type=SqlProviderAdapter.class, method="select")
+    @Options(fetchSize=1000)
+    @ResultMap("TodoResult")
+    Cursor<Todo> selectManyCursor(SelectStatementProvider selectStatement);
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo")
+    default Cursor<Todo> selectCursor(SelectDSLCompleter completer) {
+        return selectManyCursor(MyBatis3Utils.select(selectList, todo, completer));
+    }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo")
+    @SelectProvider(type=ReturningSqlProviderAdapter.class, method="insert")
+    @ResultMap("TodoResult")
+    @Options(flushCache=Options.FlushCachePolicy.TRUE)
+    Todo insertReturning(InsertStatementProvider<Todo> insertStatement);
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo")
+    @SelectProvider(type=ReturningSqlProviderAdapter.class, method="update")
+    @ResultMap("TodoResult")
+    @Options(flushCache=Options.FlushCachePolicy.TRUE)
+    List<Todo> updateReturning(UpdateStatementProvider updateStatement);
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo")
+    default Todo insertSelectiveReturning(Todo row) {
+        return insertReturning(MyBatis3Utils.insert(row, todo, c ->
+            c.withMappedColumnWhenPresent(userId, row::getUserId)
+            .withMappedColumnWhenPresent(title, row::getTitle)
+            .withMappedColumnWhenPresent(description, row::getDescription)
+            .withMappedColumnWhenPresent(state, row::getState)
+            .withMappedColumnWhenPresent(priority, row::getPriority)
+            .withMappedColumnWhenPresent(assignee, row::getAssignee)
+            .withMappedColumnWhenPresent(dueDate, row::getDueDate)
+            .withMappedColumnWhenPresent(createdAt, row::getCreatedAt)
+            .withMappedColumnWhenPresent(updatedAt, row::getUpdatedAt)
+            .withMappedColumnWhenPresent(deletedAt, row::getDeletedAt)
+        ));
+    }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo")
+    default List<Todo> updateReturning(UpdateDSLCompleter completer) {
+        return updateReturning(MyBatis3Utils.update(todo, completer));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package monorepo.services.todo.mapper;
+
+import java.util.List;
+import monorepo.services.todo.entity.TodoSubtask;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * Hand-written batch statements for {@code todo_subtask} that MyBatis Dynamic SQL can't express.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Mapper
+public interface TodoSubtaskBatchMapper {
+
+    /**
+     * Update multiple subtasks of a todo in one statement, {@code null} title means unchanged.
+     *
+     * <p> Values are cast explicitly, Postgres types untyped parameters of a {@code VALUES} list as {@code text}.
+     *
+     * @param todoId   todo id
+     * @param subtasks subtasks to update, ids must be distinct
+     * @return ids of the updated subtasks
+     */
+    @Select("""
+            <script>
+            update todo_subtask as s
+            set title      = coalesce(v.title, s.title),
+                updated_at = v.updated_at
+            from (values
+            <foreach collection="subtasks" item="subtask" separator=",">
+                (#{subtask.id,jdbcType=BIGINT}::bigint, #{subtask.title,jdbcType=VARCHAR}::varchar, #{subtask.updatedAt,jdbcType=TIMESTAMP}::timestamp)
+            </foreach>
+            ) as v (id, title, updated_at)
+            where s.id = v.id
+              and s.todo_id = #{todoId,jdbcType=BIGINT}
+              and s.deleted_at is null
+            returning s.id
+            </script>
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Long> updateSelectiveReturningIds(@Param("todoId") long todoId, @Param("subtasks") List<TodoSubtask> subtasks);
+}
@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import monorepo.lib.mybatis.datasources.dynamic.DynamicDataSource;
+import monorepo.lib.mybatis.provider.ReturningSqlProviderAdapter;
 import monorepo.services.todo.entity.TodoSubtask;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Mapper;
@@ -17,6 +18,7 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.ResultMap;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.type.JdbcType;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.dsl.CountDSLCompleter;
@@ -26,6 +28,7 @@ import org.mybatis.dynamic.sql.dsl.UpdateDSL;
 import org.mybatis.dynamic.sql.dsl.UpdateDSLCompleter;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonCountMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonDeleteMapper;
@@ -162,4 +165,43 @@ public interface TodoSubtaskMapper extends CommonSelectMapper, CommonCountMapper
             .where(id, isEqualTo(row::getId))
         );
     }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo_subtask")
+    @SelectProvider(type=SqlProviderAdapter.class, method="select")
+    @Options(fetchSize=1000)
+    @ResultMap("TodoSubtaskResult")
+    Cursor<TodoSubtask> selectManyCursor(SelectStatementProvider selectStatement);
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo_subtask")
+    default Cursor<TodoSubtask> selectCursor(SelectDSLCompleter completer) {
+        return selectManyCursor(MyBatis3Utils.select(selectList, todoSubtask, completer));
+    }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo_subtask")
+    @SelectProvider(type=ReturningSqlProviderAdapter.class, method="insert")
+    @ResultMap("TodoSubtaskResult")
+    @Options(flushCache=Options.FlushCachePolicy.TRUE)
+    TodoSubtask insertReturning(InsertStatementProvider<TodoSubtask> insertStatement);
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo_subtask")
+    @SelectProvider(type=ReturningSqlProviderAdapter.class, method="update")
+    @ResultMap("TodoSubtaskResult")
+    @Options(flushCache=Options.FlushCachePolicy.TRUE)
+    List<TodoSubtask> updateReturning(UpdateStatementProvider updateStatement);
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo_subtask")
+    default TodoSubtask insertSelectiveReturning(TodoSubtask row) {
+        return insertReturning(MyBatis3Utils.insert(row, todoSubtask, c ->
+            c.withMappedColumnWhenPresent(todoId, row::getTodoId)
+            .withMappedColumnWhenPresent(title, row::getTitle)
+            .withMappedColumnWhenPresent(createdAt, row::getCreatedAt)
+            .withMappedColumnWhenPresent(updatedAt, row::getUpdatedAt)
+            .withMappedColumnWhenPresent(deletedAt, row::getDeletedAt)
+        ));
+    }
+
+    @Generated(value="org.mybatis.generator.api.MyBatisGenerator", comments="Source Table: todo_subtask")
+    default List<TodoSubtask> updateReturning(UpdateDSLCompleter completer) {
+        return updateReturning(MyBatis3Utils.update(todoSubtask, completer));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package monorepo.services.todo.server;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-streaming observer that respects gRPC flow control.
+ *
+ * <p> {@link #onNext(Object)} blocks until the call is ready, so that a slow client doesn't make the server buffer
+ * an unbounded number of messages. If the call is cancelled, {@link #onNext(Object)} throws {@code CANCELLED}.
+ *
+ * <p> Must be created in the service method, and used from another thread,
+ * blocking the gRPC callback thread would prevent {@code onReady} from being delivered.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+final class FlowControlledStreamObserver<T> {
+
+    private final ServerCallStreamObserver<T> delegate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+    private volatile boolean cancelled;
+
+    FlowControlledStreamObserver(ServerCallStreamObserver<T> delegate) {
+        this.delegate = delegate;
+        delegate.setOnReadyHandler(this::signal);
+        delegate.setOnCancelHandler(() -> {
+            cancelled = true;
+            signal();
+        });
+    }
+
+    void onNext(T value) {
+        lock.lock();
+        try {
+            while (!cancelled && !delegate.isReady()) {
+                ready.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StatusRuntimeException(Status.CANCELLED.withCause(e));
+        } finally {
+            lock.unlock();
+        }
+        if (cancelled) {
+            throw new StatusRuntimeException(Status.CANCELLED.withDescription("Call cancelled by client"));
+        }
+        delegate.onNext(value);
+    }
+
+    void onCompleted() {
+        if (!cancelled) {
+            delegate.onCompleted();
+        }
+    }
+
+    void onError(Throwable t) {
+        if (!cancelled) {
+            delegate.onError(t);
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            ready.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -29,23 +29,23 @@ public class SimpleServer extends SimpleServiceGrpc.SimpleServiceImplBase {
     @Override
     public void unaryRpc(SimpleRequest request, StreamObserver<SimpleResponse> responseObserver) {
 
-        var future = ThreadUtil.supplyAsync(() -> restClient
-                .get()
-                .uri("https://my-json-server.typicode.com/typicode/demo/posts")
-                .retrieve()
-                .body(new ParameterizedTypeReference<List<Post>>() {}));
-
-        var postsV1 = future.join();
-
-        var postV2 = restClient
-                .get()
-                .uri("https://my-json-server.typicode.com/typicode/demo/posts/1")
-                .retrieve()
-                .body(new ParameterizedTypeReference<Post>() {});
-
         var posts = new ArrayList<Post>();
-        posts.addAll(postsV1);
-        posts.add(postV2);
+        try (var scope = ThreadUtil.openScope()) {
+            var postsV1 = scope.fork(() -> restClient
+                    .get()
+                    .uri("https://my-json-server.typicode.com/typicode/demo/posts")
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<Post>>() {}));
+            var postV2 = scope.fork(() -> restClient
+                    .get()
+                    .uri("https://my-json-server.typicode.com/typicode/demo/posts/1")
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Post>() {}));
+            scope.join();
+
+            posts.addAll(postsV1.get());
+            posts.add(postV2.get());
+        }
 
         var response = SimpleResponse.newBuilder()
                 .setResponseMessage("Fetched " + posts.size() + " posts")
@@ -1,12 +1,24 @@
 package monorepo.services.todo.server;
 
 import grpcstarter.server.GrpcService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import monorepo.lib.common.util.Lane;
+import monorepo.lib.common.util.ThreadUtil;
+import monorepo.proto.todo.v1.BatchCreateTodosRequest;
+import monorepo.proto.todo.v1.BatchCreateTodosResponse;
 import monorepo.proto.todo.v1.BatchGetTodosRequest;
 import monorepo.proto.todo.v1.BatchGetTodosResponse;
+import monorepo.proto.todo.v1.BatchUpdateTodosRequest;
+import monorepo.proto.todo.v1.BatchUpdateTodosResponse;
 import monorepo.proto.todo.v1.CreateTodoRequest;
 import monorepo.proto.todo.v1.DeleteTodoRequest;
+import monorepo.proto.todo.v1.ExportTodosRequest;
+import monorepo.proto.todo.v1.ExportTodosResponse;
 import monorepo.proto.todo.v1.GetTodoRequest;
 import monorepo.proto.todo.v1.ListTodosRequest;
 import monorepo.proto.todo.v1.ListTodosResponse;
@@ -25,12 +37,13 @@ import monorepo.services.todo.service.TodoService;
 @RequiredArgsConstructor
 public class TodoServer extends TodoServiceGrpc.TodoServiceImplBase {
 
+    private static final String EXPORT_LANE = "export";
+
     private final TodoService todoService;
 
     @Override
     public void createTodo(CreateTodoRequest request, StreamObserver<Todo> responseObserver) {
-        var todoId = todoService.create(request);
-        responseObserver.onNext(getTodo(todoId));
+        responseObserver.onNext(todoService.create(request));
         responseObserver.onCompleted();
     }
 
@@ -49,15 +62,13 @@ public class TodoServer extends TodoServiceGrpc.TodoServiceImplBase {
 
     @Override
     public void updateTodo(UpdateTodoRequest request, StreamObserver<Todo> responseObserver) {
-        todoService.update(request);
-        responseObserver.onNext(getTodo(request.getId()));
+        responseObserver.onNext(todoService.update(request));
         responseObserver.onCompleted();
     }
 
     @Override
     public void deleteTodo(DeleteTodoRequest request, StreamObserver<Todo> responseObserver) {
-        todoService.delete(request);
-        responseObserver.onNext(getTodo(request.getId()));
+        responseObserver.onNext(todoService.delete(request));
         responseObserver.onCompleted();
     }
 
@@ -69,7 +80,46 @@ public class TodoServer extends TodoServiceGrpc.TodoServiceImplBase {
         responseObserver.onCompleted();
     }
 
-    private Todo getTodo(long todoId) {
-        return todoService.get(GetTodoRequest.newBuilder().setId(todoId).build());
+    @Override
+    public void batchCreateTodos(
+            BatchCreateTodosRequest request, StreamObserver<BatchCreateTodosResponse> responseObserver) {
+        var results = todoService.batchCreate(request);
+        var response = BatchCreateTodosResponse.newBuilder().addAllResults(results).build();
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchUpdateTodos(
+            BatchUpdateTodosRequest request, StreamObserver<BatchUpdateTodosResponse> responseObserver) {
+        var results = todoService.batchUpdate(request);
+        var response = BatchUpdateTodosResponse.newBuilder().addAllResults(results).build();
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void exportTodos(ExportTodosRequest request, StreamObserver<ExportTodosResponse> responseObserver) {
+        var observer =
+                new FlowControlledStreamObserver<>((ServerCallStreamObserver<ExportTodosResponse>) responseObserver);
+        // Run off the gRPC thread, otherwise onReady can't be delivered while the export is blocked.
+        // An export holds a connection until it's done, the export lane caps concurrent exports.
+        ThreadUtil.lane(EXPORT_LANE)
+                .runAsync(() -> todoService.export(request, todos -> {
+                    var response = ExportTodosResponse.newBuilder().addAllTodos(todos).build();
+                    observer.onNext(response);
+                }))
+                .whenComplete((_, e) -> {
+                    if (e == null) {
+                        observer.onCompleted();
+                        return;
+                    }
+                    var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof Lane.RejectedException) {
+                        cause = new StatusRuntimeException(
+                                Status.RESOURCE_EXHAUSTED.withDescription(cause.getMessage()));
+                    }
+                    observer.onError(cause);
+                });
     }
 }
@@ -0,0 +1,304 @@
+package monorepo.services.todo.service;
+
+import static monorepo.services.todo.mapper.TodoDynamicSqlSupport.todo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualToWhenPresent;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNull;
+
+import com.google.rpc.Code;
+import io.grpc.StatusRuntimeException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import monorepo.proto.todo.v1.BatchCreateTodosResponse;
+import monorepo.proto.todo.v1.BatchUpdateTodosResponse;
+import monorepo.proto.todo.v1.CreateTodoRequest;
+import monorepo.proto.todo.v1.UpdateTodoRequest;
+import monorepo.services.todo.config.TodoProperties;
+import monorepo.services.todo.converter.TodoConverter;
+import monorepo.services.todo.entity.Todo;
+import monorepo.services.todo.entity.TodoSubtask;
+import monorepo.services.todo.mapper.TodoMapper;
+import monorepo.services.todo.mapper.TodoSubtaskMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Batch writes of todos on an {@link ExecutorType#BATCH} session.
+ *
+ * <p> A batch runs in one transaction and is flushed in chunks of {@code todo.batch-write.chunk-size},
+ * each chunk is guarded by a savepoint. If a chunk fails, it's rolled back to its savepoint and retried item by item
+ * to find the failed items, the rest of the batch is kept.
+ *
+ * <p> NOTE: no SIMPLE executor mapper can be used inside the batch transaction,
+ * MyBatis doesn't allow changing the executor type of a transaction.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Component
+class TodoBatchWriter {
+
+    private final SqlSessionTemplate batchSqlSession;
+    private final TodoMapper todoMapper;
+    private final TodoSubtaskMapper todoSubtaskMapper;
+    private final TransactionOperations transactionOperations;
+    private final TodoCache todoCache;
+    private final int chunkSize;
+
+    TodoBatchWriter(
+            SqlSessionFactory sqlSessionFactory,
+            TransactionOperations transactionOperations,
+            TodoCache todoCache,
+            TodoProperties properties) {
+        // Not a bean on purpose, a SqlSessionTemplate bean would be injected into all mappers
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.todoMapper = batchSqlSession.getMapper(TodoMapper.class);
+        this.todoSubtaskMapper = batchSqlSession.getMapper(TodoSubtaskMapper.class);
+        this.transactionOperations = transactionOperations;
+        this.todoCache = todoCache;
+        this.chunkSize = properties.batchWrite().chunkSize();
+    }
+
+    /**
+     * Create todos (with subtasks).
+     *
+     * @param requests create todo requests
+     * @return one result per request, in request order
+     */
+    List<BatchCreateTodosResponse.Result> create(List<CreateTodoRequest> requests) {
+        var size = requests.size();
+        var todos = new Todo[size];
+        var subtasks = new ArrayList<List<TodoSubtask>>(Collections.nCopies(size, List.of()));
+        var errors = new com.google.rpc.@Nullable Status[size];
+
+        var now = Instant.now();
+        for (int i = 0; i < size; i++) {
+            try {
+                todos[i] = toTodoEntity(requests.get(i), now);
+                subtasks.set(i, toTodoSubtaskEntities(requests.get(i), now));
+            } catch (RuntimeException e) {
+                errors[i] = toStatus(e);
+            }
+        }
+
+        transactionOperations.executeWithoutResult(status -> writeInChunks(
+                status,
+                size,
+                (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        if (errors[i] == null) {
+                            todoMapper.insertSelective(todos[i]);
+                        }
+                    }
+                    batchSqlSession.flushStatements();
+
+                    for (int i = from; i < to; i++) {
+                        if (errors[i] == null) {
+                            for (var subtask : subtasks.get(i)) {
+                                subtask.setTodoId(todos[i].getId());
+                                todoSubtaskMapper.insertSelective(subtask);
+                            }
+                        }
+                    }
+                    batchSqlSession.flushStatements();
+                },
+                (index, error) -> errors[index] = toStatus(error)));
+
+        var result = new ArrayList<BatchCreateTodosResponse.Result>(size);
+        for (int i = 0; i < size; i++) {
+            var builder = BatchCreateTodosResponse.Result.newBuilder();
+            if (errors[i] != null) {
+                builder.setStatus(errors[i]);
+            } else {
+                builder.setId(todos[i].getId()).setStatus(ok());
+            }
+            result.add(builder.build());
+        }
+        return result;
+    }
+
+    /**
+     * Update todos, subtask operations are not supported.
+     *
+     * @param requests update todo requests
+     * @return one result per request, in request order
+     */
+    List<BatchUpdateTodosResponse.Result> update(List<UpdateTodoRequest> requests) {
+        var size = requests.size();
+        var todos = new Todo[size];
+        var updated = new boolean[size];
+        var errors = new com.google.rpc.@Nullable Status[size];
+
+        var now = Instant.now();
+        for (int i = 0; i < size; i++) {
+            var request = requests.get(i);
+            if (request.getSubTaskOperationsCount() > 0) {
+                errors[i] = status(Code.INVALID_ARGUMENT, "sub_task_operations are not supported in batch update");
+                continue;
+            }
+            try {
+                var entity = TodoConverter.INSTANCE.toTodoEntity(request);
+                if (entity.getUpdatedAt() == null) {
+                    entity.setUpdatedAt(now);
+                }
+                todos[i] = entity;
+            } catch (RuntimeException e) {
+                errors[i] = toStatus(e);
+            }
+        }
+
+        transactionOperations.executeWithoutResult(status -> writeInChunks(
+                status,
+                size,
+                (from, to) -> {
+                    var parameterToIndex = new IdentityHashMap<Object, Integer>();
+                    for (int i = from; i < to; i++) {
+                        if (errors[i] != null) {
+                            continue;
+                        }
+                        var request = requests.get(i);
+                        var entity = todos[i];
+                        var userId = request.hasUserId() ? request.getUserId() : null;
+                        var statement = MyBatis3Utils.update(todo, c -> TodoMapper.updateSelectiveColumns(entity, c)
+                                .where(todo.id, isEqualTo(request.getId()))
+                                .and(todo.userId, isEqualToWhenPresent(userId))
+                                .and(todo.deletedAt, isNull()));
+                        parameterToIndex.put(statement, i);
+                        todoMapper.update(statement);
+                    }
+
+                    for (var batchResult : batchSqlSession.flushStatements()) {
+                        var parameters = batchResult.getParameterObjects();
+                        var counts = batchResult.getUpdateCounts();
+                        for (int j = 0; j < parameters.size(); j++) {
+                            var index = Objects.requireNonNull(parameterToIndex.get(parameters.get(j)));
+                            updated[index] = counts[j] > 0 || counts[j] == Statement.SUCCESS_NO_INFO;
+                        }
+                    }
+                },
+                (index, error) -> errors[index] = toStatus(error));
+
+            for (int i = 0; i < size; i++) {
+                if (errors[i] == null && updated[i]) {
+                    todoCache.invalidateAfterCommit(requests.get(i).getId());
+                }
+            }
+        });
+
+        var result = new ArrayList<BatchUpdateTodosResponse.Result>(size);
+        for (int i = 0; i < size; i++) {
+            var builder = BatchUpdateTodosResponse.Result.newBuilder().setId(requests.get(i).getId());
+            if (errors[i] != null) {
+                builder.setStatus(errors[i]);
+            } else if (updated[i]) {
+                builder.setStatus(ok());
+            } else {
+                builder.setStatus(status(Code.NOT_FOUND, "Todo not found, id: " + requests.get(i).getId()));
+            }
+            result.add(builder.build());
+        }
+        return result;
+    }
+
+    private void writeInChunks(TransactionStatus status, int size, RangeWriter writer, FailureHandler onFailure) {
+        for (int from = 0; from < size; from += chunkSize) {
+            var to = Math.min(from + chunkSize, size);
+            if (tryWrite(status, from, to, writer) == null) {
+                continue;
+            }
+            // The chunk failed as a whole, retry item by item to find the failed ones
+            for (int i = from; i < to; i++) {
+                var error = tryWrite(status, i, i + 1, writer);
+                if (error != null) {
+                    onFailure.onFailure(i, error);
+                }
+            }
+        }
+    }
+
+    private static @Nullable RuntimeException tryWrite(TransactionStatus status, int from, int to, RangeWriter writer) {
+        var savepoint = status.createSavepoint();
+        try {
+            writer.write(from, to);
+            status.releaseSavepoint(savepoint);
+            return null;
+        } catch (RuntimeException e) {
+            status.rollbackToSavepoint(savepoint);
+            return e;
+        }
+    }
+
+    private static Todo toTodoEntity(CreateTodoRequest request, Instant now) {
+        var entity = TodoConverter.INSTANCE.toTodoEntity(request);
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(now);
+        }
+        if (entity.getUpdatedAt() == null) {
+            entity.setUpdatedAt(now);
+        }
+        return entity;
+    }
+
+    private static List<TodoSubtask> toTodoSubtaskEntities(CreateTodoRequest request, Instant now) {
+        var result = new ArrayList<TodoSubtask>(request.getSubTasksCount());
+        for (var subtaskRequest : request.getSubTasksList()) {
+            var subtask = TodoConverter.INSTANCE.toTodoSubtaskEntity(subtaskRequest);
+            if (subtask.getCreatedAt() == null) {
+                subtask.setCreatedAt(now);
+            }
+            if (subtask.getUpdatedAt() == null) {
+                subtask.setUpdatedAt(now);
+            }
+            result.add(subtask);
+        }
+        return result;
+    }
+
+    private static com.google.rpc.Status toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException sre) {
+            return status(
+                    Code.forNumber(sre.getStatus().getCode().value()),
+                    Objects.requireNonNullElse(sre.getStatus().getDescription(), ""));
+        }
+        var message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        var code = e instanceof DataIntegrityViolationException ? Code.INVALID_ARGUMENT : Code.INTERNAL;
+        return status(code, Objects.requireNonNullElse(message, ""));
+    }
+
+    private static com.google.rpc.Status ok() {
+        return com.google.rpc.Status.newBuilder().setCode(Code.OK_VALUE).build();
+    }
+
+    private static com.google.rpc.Status status(Code code, String message) {
+        return com.google.rpc.Status.newBuilder()
+                .setCode(code.getNumber())
+                .setMessage(message)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface RangeWriter {
+        /**
+         * Write items in [from, to) and flush.
+         */
+        void write(int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface FailureHandler {
+        void onFailure(int index, RuntimeException error);
+    }
+}
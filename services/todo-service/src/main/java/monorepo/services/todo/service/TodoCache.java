@@ -0,0 +1,136 @@
+package monorepo.services.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import monorepo.lib.common.util.SpringUtil;
+import monorepo.lib.mybatis.datasources.routing.PrimaryRoute;
+import monorepo.proto.todo.v1.Todo;
+import monorepo.services.todo.config.TodoProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache of built {@link Todo} (including subtasks and soft-deleted todos), keyed by todo id.
+ *
+ * <p> Write paths must call {@link #invalidateAfterCommit(long)}.
+ * Each invalidation bumps the generation of the id (striped), a load only fills the cache if the generations
+ * of its ids didn't change meanwhile, so an invalidation discards the in-flight loads that may have read the old row.
+ * Fills read from the primary, a lagging reader could return the old row after the invalidation,
+ * see {@link #fillLoad(Supplier)}. Reads are routed as usual if the cache is disabled.
+ *
+ * Hit/miss/eviction meters are exposed as {@code cache.*{cache="todo"}}.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Component
+class TodoCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Cache<Long, Todo> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    TodoCache(TodoProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        var cacheProperties = properties.cache();
+        this.enabled = cacheProperties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.ttl())
+                .maximumSize(cacheProperties.maxSize())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "todo"));
+    }
+
+    /**
+     * Get todos by ids, load the missing ones in a single call.
+     *
+     * @param ids    todo ids
+     * @param loader loads missing todos, returns only the found ones, called within {@link #fillLoad(Supplier)}
+     * @return found todos keyed by id
+     */
+    Map<Long, Todo> getAll(Collection<Long> ids, Function<Collection<Long>, Map<Long, Todo>> loader) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+
+        var result = new HashMap<>(cache.getAllPresent(ids));
+        var missingIds = new HashSet<Long>();
+        for (var id : ids) {
+            if (!result.containsKey(id)) {
+                missingIds.add(id);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+
+        var loadGenerations = HashMap.<Long, Long>newHashMap(missingIds.size());
+        for (var id : missingIds) {
+            loadGenerations.put(id, generations.get(stripe(id)));
+        }
+        var loaded = fillLoad(() -> loader.apply(missingIds));
+        for (var entry : loaded.entrySet()) {
+            var generation = loadGenerations.get(entry.getKey());
+            if (generation != null) {
+                fill(entry.getKey(), entry.getValue(), generation);
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Run a load whose result may fill the cache, reading from the primary if the cache is enabled.
+     *
+     * <p> Loads running on another thread (e.g. coalesced batches) must be wrapped themselves.
+     *
+     * @param load load
+     * @param <T>  result type
+     * @return result of the load
+     */
+    <T> T fillLoad(Supplier<T> load) {
+        return enabled ? PrimaryRoute.call(load) : load.get();
+    }
+
+    /**
+     * Invalidate the todo after the current transaction commits,
+     * invalidating before commit would let a concurrent reader put the old row back.
+     *
+     * @param id todo id
+     */
+    void invalidateAfterCommit(long id) {
+        if (enabled) {
+            SpringUtil.afterCommit(() -> {
+                generations.incrementAndGet(stripe(id));
+                cache.invalidate(id);
+            });
+        }
+    }
+
+    private void fill(long id, Todo todo, long loadGeneration) {
+        var stripe = stripe(id);
+        if (generations.get(stripe) != loadGeneration) {
+            return;
+        }
+        cache.put(id, todo);
+        // Invalidated between the check and the put, the invalidation may have run before the put
+        if (generations.get(stripe) != loadGeneration) {
+            cache.asMap().remove(id, todo);
+        }
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+}
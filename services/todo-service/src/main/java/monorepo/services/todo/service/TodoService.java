@@ -6,45 +6,74 @@ import static monorepo.services.todo.mapper.TodoSubtaskDynamicSqlSupport.todoSub
 import static org.mybatis.dynamic.sql.SqlBuilder.and;
 import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
 import static org.mybatis.dynamic.sql.SqlBuilder.isEqualToWhenPresent;
-import static org.mybatis.dynamic.sql.SqlBuilder.isGreaterThan;
 import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
 import static org.mybatis.dynamic.sql.SqlBuilder.isInWhenPresent;
-import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
 import static org.mybatis.dynamic.sql.SqlBuilder.isNull;
-import static org.mybatis.dynamic.sql.SqlBuilder.or;
 
+import io.grpc.Deadline;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import monorepo.lib.common.batch.RequestCoalescer;
+import monorepo.lib.common.pagination.PageTokenCodec;
 import monorepo.lib.common.pagination.PageTokenState;
+import monorepo.lib.mybatis.datasources.routing.ConsistencyToken;
+import monorepo.lib.mybatis.pagination.KeysetPagination;
+import monorepo.lib.mybatis.statement.InListBuckets;
+import monorepo.proto.todo.v1.BatchCreateTodosRequest;
+import monorepo.proto.todo.v1.BatchCreateTodosResponse;
 import monorepo.proto.todo.v1.BatchGetTodosRequest;
+import monorepo.proto.todo.v1.BatchUpdateTodosRequest;
+import monorepo.proto.todo.v1.BatchUpdateTodosResponse;
 import monorepo.proto.todo.v1.CreateSubtaskRequest;
 import monorepo.proto.todo.v1.CreateTodoRequest;
 import monorepo.proto.todo.v1.DeleteSubtaskRequest;
 import monorepo.proto.todo.v1.DeleteTodoRequest;
+import monorepo.proto.todo.v1.ExportTodosRequest;
 import monorepo.proto.todo.v1.GetTodoRequest;
 import monorepo.proto.todo.v1.ListTodosRequest;
 import monorepo.proto.todo.v1.ListTodosResponse;
 import monorepo.proto.todo.v1.UpdateSubtaskRequest;
 import monorepo.proto.todo.v1.UpdateTodoRequest;
+import monorepo.services.todo.config.TodoProperties;
 import monorepo.services.todo.converter.TodoConverter;
 import monorepo.services.todo.entity.Todo;
 import monorepo.services.todo.entity.TodoSubtask;
+import monorepo.services.todo.entity.TodoWithSubtasks;
+import monorepo.services.todo.mapper.TodoAggregateMapper;
 import monorepo.services.todo.mapper.TodoMapper;
+import monorepo.services.todo.mapper.TodoSubtaskBatchMapper;
 import monorepo.services.todo.mapper.TodoSubtaskMapper;
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
-import org.mybatis.dynamic.sql.SortSpecification;
 import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -52,57 +81,95 @@ public class TodoService {
 
     private final TodoMapper todoMapper;
     private final TodoSubtaskMapper todoSubtaskMapper;
+    private final TodoSubtaskBatchMapper todoSubtaskBatchMapper;
+    private final TodoAggregateMapper todoAggregateMapper;
+    private final TodoTotalSizeCounter totalSizeCounter;
+    private final PageTokenCodec pageTokenCodec;
+    private final TodoCache todoCache;
+    private final TodoBatchWriter todoBatchWriter;
+    private final TodoProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final SingletonSupplier<RequestCoalescer<Long, monorepo.proto.todo.v1.Todo>> todoCoalescer =
+            SingletonSupplier.of(this::newTodoCoalescer);
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int SUBTASK_INSERT_CHUNK_SIZE = 1000;
+    private static final int MAX_BATCH_WRITE_SIZE = 10_000;
 
     /**
-     * Create a new todo, return the created todo id.
+     * Create a new todo, return the created todo.
+     *
+     * <p> The todo is built from the rows returned by {@code INSERT ... RETURNING}, no read-back query is needed.
      *
      * @param request create todo request
-     * @return created todo id
+     * @return created todo
      */
-    public long create(CreateTodoRequest request) {
+    public monorepo.proto.todo.v1.Todo create(CreateTodoRequest request) {
         return withTransaction(() -> {
-            var todoId = createTodo(request);
+            var todo = createTodo(request);
 
-            for (var subtaskRequest : request.getSubTasksList()) {
-                createTodoSubtask(subtaskRequest, todoId);
-            }
+            var subtasks = createTodoSubtasks(request.getSubTasksList(), todo.getId());
 
-            return todoId;
+            return TodoConverter.INSTANCE.buildTodo(todo, subtasks);
         });
     }
 
     /**
-     * Update an existing todo.
+     * Update an existing todo, return the todo after update.
+     *
+     * <p> The todo row comes from {@code UPDATE ... RETURNING} (so {@code updated_at} reflects the trigger),
+     * subtasks are read in the same transaction after the subtask operations.
      *
      * @param request update todo request
-     * @return whether update succeeded
+     * @return the todo after update, or the current todo if nothing was updated (e.g. soft-deleted)
      */
-    public boolean update(UpdateTodoRequest request) {
+    public monorepo.proto.todo.v1.Todo update(UpdateTodoRequest request) {
         return withTransaction(() -> {
-            var result = updateTodo(request);
+            var updated = updateTodo(request);
 
             var todoId = request.getId();
-            for (var subtask : request.getSubTaskOperationsList()) {
-                switch (subtask.getOperationCase()) {
-                    case CREATE -> createTodoSubtask(subtask.getCreate(), todoId);
-                    case UPDATE -> updateTodoSubtask(subtask.getUpdate(), todoId);
-                    case DELETE -> deleteTodoSubtask(subtask.getDelete(), todoId);
-                    case OPERATION_NOT_SET -> {}
-                }
-            }
+            todoCache.invalidateAfterCommit(todoId);
+            applySubtaskOperations(request.getSubTaskOperationsList(), todoId);
 
-            return result;
+            return buildTodos(List.of(updated != null ? updated : getEntity(todoId))).getFirst();
         });
     }
 
     /**
-     * Delete an existing todo.
+     * Delete an existing todo, return the todo after delete.
      *
      * @param request delete todo request
-     * @return whether delete succeeded
+     * @return the deleted todo, or the current todo if nothing was deleted (e.g. already soft-deleted)
      */
-    public boolean delete(DeleteTodoRequest request) {
-        return deleteTodo(request);
+    public monorepo.proto.todo.v1.Todo delete(DeleteTodoRequest request) {
+        return withTransaction(() -> {
+            var deleted = deleteTodo(request);
+            todoCache.invalidateAfterCommit(request.getId());
+            return buildTodos(List.of(deleted != null ? deleted : getEntity(request.getId()))).getFirst();
+        });
+    }
+
+    /**
+     * Create todos in one transaction, items fail independently.
+     *
+     * @param request batch create todos request
+     * @return one result per request item, in request order
+     */
+    public List<BatchCreateTodosResponse.Result> batchCreate(BatchCreateTodosRequest request) {
+        checkBatchWriteSize(request.getRequestsCount());
+        return todoBatchWriter.create(request.getRequestsList());
+    }
+
+    /**
+     * Update todos in one transaction, items fail independently.
+     *
+     * @param request batch update todos request
+     * @return one result per request item, in request order
+     */
+    public List<BatchUpdateTodosResponse.Result> batchUpdate(BatchUpdateTodosRequest request) {
+        checkBatchWriteSize(request.getRequestsCount());
+        return todoBatchWriter.update(request.getRequestsList());
     }
 
     /**
@@ -112,11 +179,15 @@ public class TodoService {
      * @return the todo model or null if not found
      */
     public monorepo.proto.todo.v1.@Nullable Todo getOrNull(GetTodoRequest request) {
-        var todos = batchGet(toBatchGetTodosRequest(request));
-        if (todos.isEmpty()) {
+        var id = request.getId();
+        var result = getTodos(List.of(id), this::loadTodosCoalesced).get(id);
+        if (result == null) {
+            return null;
+        }
+        var showDeleted = !request.hasShowDeleted() || request.getShowDeleted();
+        if (!showDeleted && result.hasDeletedAt()) {
             return null;
         }
-        var result = todos.getFirst();
         if (request.hasUserId() && result.getUserId() != request.getUserId()) {
             return null;
         }
@@ -150,17 +221,53 @@ public class TodoService {
             return List.of();
         }
 
-        var mapper = ids.getFirst() > 10 ? todoMapper.useDataSource("reader") : todoMapper;
-        var entities = mapper.select(c -> {
-            var sql = c.where(todo.id, isIn(ids));
-            var showDeleted = !request.hasShowDeleted() || request.getShowDeleted();
-            if (!showDeleted) {
-                sql.and(todo.deletedAt, isNull());
+        var idToTodo = getTodos(ids, this::loadTodos);
+
+        // Cache holds soft-deleted todos too, filter them here
+        var showDeleted = !request.hasShowDeleted() || request.getShowDeleted();
+        var result = new ArrayList<monorepo.proto.todo.v1.Todo>(idToTodo.size());
+        for (var id : new LinkedHashSet<>(ids)) {
+            var found = idToTodo.get(id);
+            if (found != null && (showDeleted || !found.hasDeletedAt())) {
+                result.add(found);
             }
-            return sql;
-        });
+        }
+        return result;
+    }
 
-        return buildTodos(entities);
+    /**
+     * Export todos of a user ordered by id, reading through a database cursor.
+     *
+     * <p> Rows are fetched {@code fetchSize} at a time and handed to {@code consumer} in batches of
+     * {@link #EXPORT_BATCH_SIZE}, subtasks are loaded per batch.
+     * The whole export runs in one transaction on one connection, memory usage is bounded by the batch size.
+     *
+     * <p> {@code consumer} may block (e.g. for flow control), throwing from it aborts the export.
+     *
+     * @param request  export todos request
+     * @param consumer consumer of todo batches
+     */
+    public void export(ExportTodosRequest request, Consumer<List<monorepo.proto.todo.v1.Todo>> consumer) {
+        var filter = request.hasFilter() ? request.getFilter() : null;
+        var conditions = buildConditions(request.getUserId(), request.getShowDeleted(), filter);
+
+        withTransaction(() -> {
+            try (var cursor = todoMapper.selectCursor(c -> c.where(conditions).orderBy(todo.id))) {
+                var batch = new ArrayList<Todo>(EXPORT_BATCH_SIZE);
+                for (var entity : cursor) {
+                    batch.add(entity);
+                    if (batch.size() == EXPORT_BATCH_SIZE) {
+                        consumer.accept(buildTodos(batch));
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    consumer.accept(buildTodos(batch));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -170,14 +277,19 @@ public class TodoService {
      * @return list todos response
      */
     public ListTodosResponse list(ListTodosRequest request) {
+        var pageTokenState = fromPageToken(request);
+        var conditions = buildConditions(request);
+
         // Count total matching todos
-        var total = countTodos(request);
-        if (total == 0) {
+        var totalSizeMode = totalSizeCounter.resolveMode(request);
+        var total = totalSizeCounter.count(
+                totalSizeMode, request.getUserId(), calculateFilterHash(request), conditions, pageTokenState);
+        if (total == 0 && TodoTotalSizeCounter.isExact(totalSizeMode, pageTokenState)) {
             return ListTodosResponse.getDefaultInstance();
         }
 
         // Get todos with pagination
-        var entities = getTodoEntities(request);
+        var entities = getTodoEntities(request, conditions, pageTokenState);
         if (entities.isEmpty()) {
             return ListTodosResponse.getDefaultInstance();
         }
@@ -190,51 +302,56 @@ public class TodoService {
 
         // Generate next page token if there are more results
         if (todos.size() == normalizePageSize(request.getPageSize())) {
-            builder.setNextPageToken(generatePageToken(request, entities.getLast()));
+            var carriedTotalSize = totalSizeMode == ListTodosRequest.TotalSizeMode.FIRST_PAGE ? total : null;
+            builder.setNextPageToken(generatePageToken(request, entities.getLast(), carriedTotalSize));
         }
 
         return builder.build();
     }
 
-    private long countTodos(ListTodosRequest request) {
-        return todoMapper.count(c -> c.where(buildConditions(request)));
-    }
+    private List<Todo> getTodoEntities(
+            ListTodosRequest request,
+            List<AndOrCriteriaGroup> baseConditions,
+            @Nullable PageTokenState pageTokenState) {
+        var keyset = buildKeyset(request.getOrderByList());
 
-    private List<Todo> getTodoEntities(ListTodosRequest request) {
-        // Build query with cursor-based pagination
-        return todoMapper.select(c -> {
+        // Build query with keyset pagination
+        return selectTodoEntities(c -> {
             // where ...
-            var conditions = new ArrayList<>(buildConditions(request));
+            var conditions = new ArrayList<>(baseConditions);
 
-            var pageTokenState = fromPageToken(request);
             if (pageTokenState != null && !pageTokenState.lastValues().isEmpty()) {
-                var cursorCondition = buildCursorCondition(request.getOrderByList(), pageTokenState.lastValues());
-                if (!cursorCondition.isEmpty()) {
-                    conditions.add(and(cursorCondition));
-                }
-            }
-
-            // order by ...
-            var orderBys = new ArrayList<SortSpecification>();
-            for (var orderBy : request.getOrderByList()) {
-                var column = getSqlColumn(orderBy.getField());
-                if (orderBy.getIsDesc()) {
-                    orderBys.add(column.descending());
-                } else {
-                    orderBys.add(column);
-                }
+                var lastValues = parseLastValues(request.getOrderByList(), pageTokenState.lastValues());
+                keyset.after(lastValues).ifPresent(conditions::add);
             }
-            orderBys.add(todo.id);
 
-            return c.where(conditions).orderBy(orderBys).limit(normalizePageSize(request.getPageSize()));
+            return c.where(conditions).orderBy(keyset.orderBy()).limit(normalizePageSize(request.getPageSize()));
         });
     }
 
-    private static String generatePageToken(ListTodosRequest request, Todo entity) {
+    /**
+     * Select todos, with their subtasks aggregated in the same statement if
+     * {@link TodoProperties.SubtaskLoading#AGGREGATE} is configured, see {@link #buildTodos(List)}.
+     */
+    private List<Todo> selectTodoEntities(SelectDSLCompleter completer) {
+        if (properties.subtaskLoading() == TodoProperties.SubtaskLoading.AGGREGATE) {
+            return Collections.unmodifiableList(todoAggregateMapper.selectWithSubtasks(completer));
+        }
+        return todoMapper.select(completer);
+    }
+
+    private String generatePageToken(ListTodosRequest request, Todo entity, @Nullable Long totalSize) {
         var lastValues = extractFieldValues(entity, request.getOrderByList());
         var newPageTokenState =
-                new PageTokenState(lastValues, calculateFilterHash(request), calculateSortHash(request));
-        return newPageTokenState.toPageToken();
+                new PageTokenState(lastValues, calculateFilterHash(request), calculateSortHash(request), totalSize);
+        return pageTokenCodec.encode(newPageTokenState);
+    }
+
+    private static void checkBatchWriteSize(int size) {
+        if (size > MAX_BATCH_WRITE_SIZE) {
+            throw new StatusRuntimeException(Status.INVALID_ARGUMENT.withDescription(
+                    "Too many requests in batch: " + size + ", max: " + MAX_BATCH_WRITE_SIZE));
+        }
     }
 
     private static int normalizePageSize(int pageSize) {
@@ -248,134 +365,60 @@ public class TodoService {
     }
 
     /**
-     * Build cursor condition for multi-field pagination. For sort order [field1 DESC, field2 ASC, id
-     * ASC] with last values {field1: v1, field2: v2, id: v3}, generates: (field1 < v1) OR (field1 =
-     * v1 AND field2 > v2) OR (field1 = v1 AND field2 = v2 AND id > v3)
+     * Build keyset for the sort order, 'id' is always appended as the last key for stable sorting,
+     * in the direction of the last sort key, so single-direction sorts (e.g. newest first) get the row value
+     * comparison and a backward scan of the {@code (user_id, created_at, id)} index.
+     * 'due_date' is nullable, todos without a due date sort last (first when descending),
+     * sorts by 'due_date' always use the expanded form, see {@link KeysetPagination}.
      */
-    private static List<AndOrCriteriaGroup> buildCursorCondition(
-            List<ListTodosRequest.OrderBy> orderBys, Map<String, String> lastValues) {
-        var result = new ArrayList<AndOrCriteriaGroup>();
-
-        // Build condition for each orderBy field
-        for (int i = 0; i < orderBys.size(); i++) {
-            var condition = buildOrderByFieldCondition(orderBys, lastValues, i);
-            if (!condition.isEmpty()) {
-                result.add(or(condition));
-            }
+    private static KeysetPagination buildKeyset(List<ListTodosRequest.OrderBy> orderBys) {
+        var builder = KeysetPagination.builder();
+        for (var orderBy : orderBys) {
+            var field = orderBy.getField();
+            builder.add(getSqlColumn(field), orderBy.getIsDesc(), field == ListTodosRequest.OrderBy.Field.DUE_DATE);
         }
-
-        // Build condition for stable sort field 'id'
-        var idCondition = buildIdFieldCondition(orderBys, lastValues);
-        if (!idCondition.isEmpty()) {
-            result.add(or(idCondition));
-        }
-
-        return result;
+        builder.add(todo.id, !orderBys.isEmpty() && orderBys.getLast().getIsDesc());
+        return builder.build();
     }
 
     /**
-     * Build condition for a single orderBy field at the given index. Returns: (prefix conditions) AND
-     * (current field comparison)
+     * Parse last values from page token, in the same order as {@link #buildKeyset(List)}.
+     * Values are typed for binary tokens, and strings for legacy JSON tokens.
+     * A missing 'due_date' means the last todo has no due date.
      */
-    private static List<AndOrCriteriaGroup> buildOrderByFieldCondition(
-            List<ListTodosRequest.OrderBy> orderBys, Map<String, String> lastValues, int currentIndex) {
-        var orderBy = orderBys.get(currentIndex);
-        var column = getSqlColumn(orderBy.getField());
-        var lastValue = lastValues.get(column.name());
-        if (lastValue == null) {
-            return List.of();
+    private static List<@Nullable Object> parseLastValues(
+            List<ListTodosRequest.OrderBy> orderBys, Map<String, Object> lastValues) {
+        var result = new ArrayList<@Nullable Object>(orderBys.size() + 1);
+        for (var orderBy : orderBys) {
+            var field = orderBy.getField();
+            var value = lastValues.get(getSqlColumn(field).name());
+            if (value == null && field != ListTodosRequest.OrderBy.Field.DUE_DATE) {
+                throw new StatusRuntimeException(
+                        Status.INVALID_ARGUMENT.withDescription("Invalid page token, missing " + field));
+            }
+            result.add(value == null ? null : parseLastValue(field, value));
         }
-
-        var result = new ArrayList<AndOrCriteriaGroup>();
-
-        // Build prefix: all previous fields must equal their last values
-        var prefixConditions = buildPrefixEqualityConditions(orderBys, lastValues, 0, currentIndex);
-        result.addAll(prefixConditions);
-
-        // Build comparison for current field
-        var comparison = buildFieldComparison(orderBy, lastValue);
-        result.add(comparison);
-
-        return result;
-    }
-
-    /**
-     * Build condition for the stable sort field 'id'. Returns: (all orderBy fields equal) AND (id >
-     * lastId)
-     */
-    private static List<AndOrCriteriaGroup> buildIdFieldCondition(
-            List<ListTodosRequest.OrderBy> orderBys, Map<String, String> lastValues) {
         var idLastValue = lastValues.get(todo.id.name());
         if (idLastValue == null) {
-            return List.of();
+            throw new StatusRuntimeException(Status.INVALID_ARGUMENT.withDescription("Invalid page token, missing id"));
         }
-
-        var result = new ArrayList<AndOrCriteriaGroup>();
-
-        // All orderBy fields must equal their last values
-        var prefixConditions = buildPrefixEqualityConditions(orderBys, lastValues, 0, orderBys.size());
-        result.addAll(prefixConditions);
-
-        // id is always sorted ASC, so use greater than
-        var idComparison = and(todo.id, isGreaterThan(Long.parseLong(idLastValue)));
-        result.add(idComparison);
-
+        result.add(idLastValue instanceof Long id ? id : Long.parseLong(idLastValue.toString()));
         return result;
     }
 
-    /** Build equality conditions for fields in range [startIndex, endIndex). */
-    private static List<AndOrCriteriaGroup> buildPrefixEqualityConditions(
-            List<ListTodosRequest.OrderBy> orderBys, Map<String, String> lastValues, int startIndex, int endIndex) {
-        var conditions = new ArrayList<AndOrCriteriaGroup>();
-
-        for (int i = startIndex; i < endIndex; i++) {
-            var orderBy = orderBys.get(i);
-            var column = getSqlColumn(orderBy.getField());
-            var lastValue = lastValues.get(column.name());
-            if (lastValue == null) {
-                continue;
-            }
-
-            conditions.add(buildFieldEquality(orderBy, lastValue));
-        }
-
-        return conditions;
-    }
-
-    /** Build equality condition for a field. */
-    private static AndOrCriteriaGroup buildFieldEquality(ListTodosRequest.OrderBy orderBy, String value) {
-        var field = orderBy.getField();
+    private static Object parseLastValue(ListTodosRequest.OrderBy.Field field, Object value) {
         return switch (field) {
-            case CREATED_AT -> and(todo.createdAt, isEqualTo(Instant.parse(value)));
-            case DUE_DATE -> and(todo.dueDate, isEqualTo(LocalDate.parse(value)));
-            case PRIORITY -> and(todo.priority, isEqualTo(monorepo.proto.todo.v1.Todo.Priority.valueOf(value)));
-            case FIELD_UNSPECIFIED, UNRECOGNIZED ->
-                throw new StatusRuntimeException(
-                        Status.INVALID_ARGUMENT.withDescription("Invalid order by field: " + field));
-        };
-    }
-
-    private static AndOrCriteriaGroup buildFieldComparison(ListTodosRequest.OrderBy orderBy, String value) {
-        var field = orderBy.getField();
-        var isDesc = orderBy.getIsDesc();
-        return switch (field) {
-            case CREATED_AT -> {
-                var parsedValue = Instant.parse(value);
-                yield isDesc
-                        ? and(todo.createdAt, isLessThan(parsedValue))
-                        : and(todo.createdAt, isGreaterThan(parsedValue));
-            }
-            case DUE_DATE -> {
-                var parsedValue = LocalDate.parse(value);
-                yield isDesc
-                        ? and(todo.dueDate, isLessThan(parsedValue))
-                        : and(todo.dueDate, isGreaterThan(parsedValue));
-            }
+            case CREATED_AT -> value instanceof Instant instant ? instant : Instant.parse(value.toString());
+            case DUE_DATE -> value instanceof LocalDate date ? date : LocalDate.parse(value.toString());
             case PRIORITY -> {
-                var parsedValue = monorepo.proto.todo.v1.Todo.Priority.valueOf(value);
-                yield isDesc
-                        ? and(todo.priority, isLessThan(parsedValue))
-                        : and(todo.priority, isGreaterThan(parsedValue));
+                var priority = value instanceof Integer number
+                        ? monorepo.proto.todo.v1.Todo.Priority.forNumber(number)
+                        : monorepo.proto.todo.v1.Todo.Priority.valueOf(value.toString());
+                if (priority == null) {
+                    throw new StatusRuntimeException(
+                            Status.INVALID_ARGUMENT.withDescription("Invalid page token priority: " + value));
+                }
+                yield priority;
             }
             case FIELD_UNSPECIFIED, UNRECOGNIZED ->
                 throw new StatusRuntimeException(
@@ -384,31 +427,31 @@ public class TodoService {
     }
 
     /** Extract field values from entity for all sort fields. */
-    private static Map<String, String> extractFieldValues(Todo entity, List<ListTodosRequest.OrderBy> orderBys) {
-        var result = new HashMap<String, String>();
+    private static Map<String, Object> extractFieldValues(Todo entity, List<ListTodosRequest.OrderBy> orderBys) {
+        var result = new HashMap<String, Object>();
 
         for (var spec : orderBys) {
             switch (spec.getField()) {
                 case CREATED_AT ->
-                    result.put(todo.createdAt.name(), entity.getCreatedAt().toString());
+                    result.put(todo.createdAt.name(), entity.getCreatedAt());
                 case DUE_DATE -> {
                     if (entity.getDueDate() != null) {
-                        result.put(todo.dueDate.name(), entity.getDueDate().toString());
+                        result.put(todo.dueDate.name(), entity.getDueDate());
                     }
                 }
                 case PRIORITY ->
-                    result.put(todo.priority.name(), entity.getPriority().name());
+                    result.put(todo.priority.name(), entity.getPriority());
                 case FIELD_UNSPECIFIED, UNRECOGNIZED -> {}
             }
         }
 
         // Always include id for stable sorting
-        result.put(todo.id.name(), String.valueOf(entity.getId()));
+        result.put(todo.id.name(), entity.getId());
 
         return result;
     }
 
-    private static @Nullable PageTokenState fromPageToken(ListTodosRequest request) {
+    private @Nullable PageTokenState fromPageToken(ListTodosRequest request) {
         var pageToken = request.getPageToken();
         if (pageToken.isBlank()) {
             return null;
@@ -416,7 +459,7 @@ public class TodoService {
 
         PageTokenState result;
         try {
-            result = PageTokenState.fromPageToken(pageToken);
+            result = pageTokenCodec.decode(pageToken);
         } catch (Exception e) {
             throw new StatusRuntimeException(Status.INVALID_ARGUMENT
                     .withDescription("Invalid page token format.")
@@ -438,22 +481,107 @@ public class TodoService {
         return result;
     }
 
+    /**
+     * Get todos through the cache, unless the request must observe its previous writes:
+     * cached and coalesced todos may have been loaded by other requests before the write committed.
+     * Cache fills read from the primary, see {@link TodoCache#fillLoad}.
+     */
+    private Map<Long, monorepo.proto.todo.v1.Todo> getTodos(
+            Collection<Long> ids, Function<Collection<Long>, Map<Long, monorepo.proto.todo.v1.Todo>> loader) {
+        if (ConsistencyToken.isRequired()) {
+            return loadTodos(ids);
+        }
+        return todoCache.getAll(ids, loader);
+    }
+
+    /**
+     * Load todos (including soft-deleted) from database, return the found ones keyed by id.
+     */
+    private Map<Long, monorepo.proto.todo.v1.Todo> loadTodos(Collection<Long> ids) {
+        var entities = selectTodoEntities(c -> c.where(todo.id, isIn(InListBuckets.pad(ids))));
+        return buildTodos(entities).stream()
+                .collect(Collectors.toMap(monorepo.proto.todo.v1.Todo::getId, Function.identity()));
+    }
+
+    /**
+     * Same as {@link #loadTodos(Collection)}, but coalesced with concurrent lookups into one batch.
+     * Batches run on another thread, so they are routed by {@link TodoCache#fillLoad} themselves.
+     */
+    private Map<Long, monorepo.proto.todo.v1.Todo> loadTodosCoalesced(Collection<Long> ids) {
+        if (!properties.coalescing().enabled()) {
+            return loadTodos(ids);
+        }
+
+        var coalescer = todoCoalescer.obtain();
+        var futures = new HashMap<Long, CompletableFuture<monorepo.proto.todo.v1.@Nullable Todo>>();
+        for (var id : ids) {
+            futures.put(id, coalescer.load(id));
+        }
+
+        // The batch is shared with other callers, so it isn't cancelled, only this wait is bounded by the deadline
+        var deadline = io.grpc.Context.current().getDeadline();
+        var result = new HashMap<Long, monorepo.proto.todo.v1.Todo>();
+        for (var entry : futures.entrySet()) {
+            var value = await(entry.getValue(), deadline);
+            if (value != null) {
+                result.put(entry.getKey(), value);
+            }
+        }
+        return result;
+    }
+
+    private static monorepo.proto.todo.v1.@Nullable Todo await(
+            CompletableFuture<monorepo.proto.todo.v1.@Nullable Todo> future, @Nullable Deadline deadline) {
+        try {
+            return deadline != null
+                    ? future.get(deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                    : future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new StatusRuntimeException(Status.DEADLINE_EXCEEDED.withDescription(
+                    "Coalesced todo lookup didn't finish before the deadline"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StatusRuntimeException(
+                    Status.CANCELLED.withDescription("Interrupted while waiting for a coalesced todo lookup"));
+        }
+    }
+
+    private RequestCoalescer<Long, monorepo.proto.todo.v1.Todo> newTodoCoalescer() {
+        var coalescing = properties.coalescing();
+        return new RequestCoalescer<>(
+                "todo",
+                coalescing.window(),
+                coalescing.maxBatchSize(),
+                ids -> todoCache.fillLoad(() -> loadTodos(ids)),
+                meterRegistry.getIfAvailable());
+    }
+
     private List<monorepo.proto.todo.v1.Todo> buildTodos(List<Todo> todos) {
         if (todos.isEmpty()) {
             return List.of();
         }
 
-        var todoIds = todos.stream().map(Todo::getId).toList();
-        var todoIdToTodoSubtasks =
-                todoSubtaskMapper
-                        .select(c -> c.where(todoSubtask.todoId, isIn(todoIds)).and(todoSubtask.deletedAt, isNull()))
+        // Subtasks of TodoWithSubtasks are already loaded
+        var todoIds = todos.stream()
+                .filter(e -> !(e instanceof TodoWithSubtasks))
+                .map(Todo::getId)
+                .toList();
+        var todoIdToTodoSubtasks = todoIds.isEmpty()
+                ? Map.<Long, List<TodoSubtask>>of()
+                : todoSubtaskMapper
+                        .select(c -> c.where(todoSubtask.todoId, isIn(InListBuckets.pad(todoIds)))
+                                .and(todoSubtask.deletedAt, isNull()))
                         .stream()
                         .collect(Collectors.groupingBy(TodoSubtask::getTodoId));
 
         var result = new ArrayList<monorepo.proto.todo.v1.Todo>(todos.size());
 
         for (var todoEntity : todos) {
-            var subtasks = todoIdToTodoSubtasks.getOrDefault(todoEntity.getId(), List.of());
+            var subtasks = todoEntity instanceof TodoWithSubtasks e
+                    ? e.getSubtasks()
+                    : todoIdToTodoSubtasks.getOrDefault(todoEntity.getId(), List.of());
             var todo = TodoConverter.INSTANCE.buildTodo(todoEntity, subtasks);
             result.add(todo);
         }
@@ -462,13 +590,18 @@ public class TodoService {
     }
 
     private static List<AndOrCriteriaGroup> buildConditions(ListTodosRequest request) {
+        var filter = request.hasFilter() ? request.getFilter() : null;
+        return buildConditions(request.getUserId(), request.getShowDeleted(), filter);
+    }
+
+    private static List<AndOrCriteriaGroup> buildConditions(
+            long userId, boolean showDeleted, ListTodosRequest.@Nullable Filter filter) {
         var result = new ArrayList<AndOrCriteriaGroup>();
-        result.add(and(todo.userId, isEqualTo(request.getUserId())));
-        if (!request.getShowDeleted()) {
+        result.add(and(todo.userId, isEqualTo(userId)));
+        if (!showDeleted) {
             result.add(and(todo.deletedAt, isNull()));
         }
-        if (request.hasFilter()) {
-            var filter = request.getFilter();
+        if (filter != null) {
             result.add(and(todo.state, isInWhenPresent(filter.getStatesList())));
             result.add(and(todo.priority, isInWhenPresent(filter.getPrioritiesList())));
         }
@@ -502,7 +635,7 @@ public class TodoService {
         return String.valueOf(Objects.hashCode(request.getOrderByList()));
     }
 
-    private long createTodo(CreateTodoRequest request) {
+    private Todo createTodo(CreateTodoRequest request) {
         var todo = TodoConverter.INSTANCE.toTodoEntity(request);
         if (todo.getCreatedAt() == null) {
             todo.setCreatedAt(Instant.now());
@@ -510,11 +643,10 @@ public class TodoService {
         if (todo.getUpdatedAt() == null) {
             todo.setUpdatedAt(Instant.now());
         }
-        todoMapper.insertSelective(todo);
-        return todo.getId();
+        return todoMapper.insertSelectiveReturning(todo);
     }
 
-    private boolean updateTodo(UpdateTodoRequest request) {
+    private @Nullable Todo updateTodo(UpdateTodoRequest request) {
         var entity = TodoConverter.INSTANCE.toTodoEntity(request);
         if (entity.getUpdatedAt() == null) {
             entity.setUpdatedAt(Instant.now());
@@ -522,66 +654,150 @@ public class TodoService {
 
         var id = request.getId();
         var userId = request.hasUserId() ? request.getUserId() : null;
-        return todoMapper.update(c -> TodoMapper.updateSelectiveColumns(entity, c)
-                        .where(todo.id, isEqualTo(id))
-                        .and(todo.userId, isEqualToWhenPresent(userId))
-                        .and(todo.deletedAt, isNull()))
-                > 0;
+        var rows = todoMapper.updateReturning(c -> TodoMapper.updateSelectiveColumns(entity, c)
+                .where(todo.id, isEqualTo(id))
+                .and(todo.userId, isEqualToWhenPresent(userId))
+                .and(todo.deletedAt, isNull()));
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
+    /**
+     * Read a todo row in the current transaction, bypassing the cache and the coalescer,
+     * so it sees the writes of this transaction and doesn't take a second connection.
+     */
+    private Todo getEntity(long id) {
+        return todoMapper.selectByPrimaryKey(id).orElseThrow(() -> new StatusRuntimeException(
+                Status.NOT_FOUND.withDescription("Todo not found, id: " + id)));
     }
 
-    private boolean deleteTodo(DeleteTodoRequest request) {
+    private @Nullable Todo deleteTodo(DeleteTodoRequest request) {
         var id = request.getId();
         var userId = request.hasUserId() ? request.getUserId() : null;
-        return todoMapper.update(c -> c.set(todo.deletedAt)
-                        .equalTo(Instant.now())
-                        .where(todo.id, isEqualTo(id))
-                        .and(todo.userId, isEqualToWhenPresent(userId))
-                        .and(todo.deletedAt, isNull()))
-                > 0;
+        var rows = todoMapper.updateReturning(c -> c.set(todo.deletedAt)
+                .equalTo(Instant.now())
+                .where(todo.id, isEqualTo(id))
+                .and(todo.userId, isEqualToWhenPresent(userId))
+                .and(todo.deletedAt, isNull()));
+        return rows.isEmpty() ? null : rows.getFirst();
     }
 
-    private long createTodoSubtask(CreateSubtaskRequest request, long todoId) {
-        var subtask = TodoConverter.INSTANCE.toTodoSubtaskEntity(request);
-        subtask.setTodoId(todoId);
-        if (subtask.getCreatedAt() == null) {
-            subtask.setCreatedAt(Instant.now());
+    /**
+     * Apply subtask operations in order, consecutive operations of the same type are executed as one statement.
+     *
+     * @return whether each operation succeeded, in the same order as {@code operations}
+     */
+    List<Boolean> applySubtaskOperations(List<UpdateTodoRequest.SubTaskOperation> operations, long todoId) {
+        var result = new ArrayList<Boolean>(operations.size());
+        int start = 0;
+        while (start < operations.size()) {
+            var operationCase = operations.get(start).getOperationCase();
+            int end = start + 1;
+            while (end < operations.size() && operations.get(end).getOperationCase() == operationCase) {
+                end++;
+            }
+
+            var run = operations.subList(start, end);
+            switch (operationCase) {
+                case CREATE -> {
+                    createTodoSubtasks(
+                            run.stream()
+                                    .map(UpdateTodoRequest.SubTaskOperation::getCreate)
+                                    .toList(),
+                            todoId);
+                    result.addAll(Collections.nCopies(run.size(), true));
+                }
+                case UPDATE ->
+                    result.addAll(updateTodoSubtasks(
+                            run.stream()
+                                    .map(UpdateTodoRequest.SubTaskOperation::getUpdate)
+                                    .toList(),
+                            todoId));
+                case DELETE ->
+                    result.addAll(deleteTodoSubtasks(
+                            run.stream()
+                                    .map(UpdateTodoRequest.SubTaskOperation::getDelete)
+                                    .toList(),
+                            todoId));
+                case OPERATION_NOT_SET -> result.addAll(Collections.nCopies(run.size(), false));
+            }
+            start = end;
         }
-        if (subtask.getUpdatedAt() == null) {
-            subtask.setUpdatedAt(Instant.now());
+        return result;
+    }
+
+    /**
+     * Insert subtasks with multi-row inserts, generated ids are set back to the returned entities.
+     */
+    private List<TodoSubtask> createTodoSubtasks(List<CreateSubtaskRequest> requests, long todoId) {
+        if (requests.isEmpty()) {
+            return List.of();
         }
-        todoSubtaskMapper.insertSelective(subtask);
-        return subtask.getId();
+
+        var now = Instant.now();
+        var subtasks = new ArrayList<TodoSubtask>(requests.size());
+        for (var request : requests) {
+            var subtask = TodoConverter.INSTANCE.toTodoSubtaskEntity(request);
+            subtask.setTodoId(todoId);
+            if (subtask.getCreatedAt() == null) {
+                subtask.setCreatedAt(now);
+            }
+            if (subtask.getUpdatedAt() == null) {
+                subtask.setUpdatedAt(now);
+            }
+            subtasks.add(subtask);
+        }
+
+        // Stay well below the 65535 bind parameters limit of Postgres
+        for (int i = 0; i < subtasks.size(); i += SUBTASK_INSERT_CHUNK_SIZE) {
+            var end = Math.min(i + SUBTASK_INSERT_CHUNK_SIZE, subtasks.size());
+            todoSubtaskMapper.insertMultiple(subtasks.subList(i, end));
+        }
+        return subtasks;
     }
 
-    private boolean updateTodoSubtask(UpdateSubtaskRequest request, long todoId) {
-        var subtask = TodoConverter.INSTANCE.toTodoSubtaskEntity(request);
-        if (subtask.getUpdatedAt() == null) {
-            subtask.setUpdatedAt(Instant.now());
+    /**
+     * Update subtasks in one statement, repeated updates of the same subtask are merged (later title wins).
+     */
+    private List<Boolean> updateTodoSubtasks(List<UpdateSubtaskRequest> requests, long todoId) {
+        var now = Instant.now();
+        var idToSubtask = new LinkedHashMap<Long, TodoSubtask>();
+        for (var request : requests) {
+            var subtask = TodoConverter.INSTANCE.toTodoSubtaskEntity(request);
+            if (subtask.getUpdatedAt() == null) {
+                subtask.setUpdatedAt(now);
+            }
+            idToSubtask.merge(request.getId(), subtask, (previous, current) -> {
+                if (current.getTitle() == null) {
+                    current.setTitle(previous.getTitle());
+                }
+                return current;
+            });
         }
-        return todoSubtaskMapper.update(c -> TodoSubtaskMapper.updateSelectiveColumns(subtask, c)
-                        .where(todoSubtask.id, isEqualTo(request.getId()))
-                        .and(todoSubtask.todoId, isEqualTo(todoId))
-                        .and(todoSubtask.deletedAt, isNull()))
-                > 0;
+
+        var updatedIds = new HashSet<>(
+                todoSubtaskBatchMapper.updateSelectiveReturningIds(todoId, List.copyOf(idToSubtask.values())));
+        return requests.stream().map(request -> updatedIds.contains(request.getId())).toList();
     }
 
-    private boolean deleteTodoSubtask(DeleteSubtaskRequest request, long todoId) {
-        return todoSubtaskMapper.update(c -> c.set(todoSubtask.deletedAt)
+    /**
+     * Soft delete subtasks in one statement, a repeated delete of the same subtask fails like it would sequentially.
+     */
+    private List<Boolean> deleteTodoSubtasks(List<DeleteSubtaskRequest> requests, long todoId) {
+        var ids = requests.stream().map(DeleteSubtaskRequest::getId).distinct().toList();
+        var deletedIds = todoSubtaskMapper
+                .updateReturning(c -> c.set(todoSubtask.deletedAt)
                         .equalTo(Instant.now())
-                        .where(todoSubtask.id, isEqualTo(request.getId()))
+                        .where(todoSubtask.id, isIn(ids))
                         .and(todoSubtask.todoId, isEqualTo(todoId))
                         .and(todoSubtask.deletedAt, isNull()))
-                > 0;
-    }
+                .stream()
+                .map(TodoSubtask::getId)
+                .collect(Collectors.toSet());
 
-    private static BatchGetTodosRequest toBatchGetTodosRequest(GetTodoRequest request) {
-        var builder = BatchGetTodosRequest.newBuilder();
-        builder.addIds(request.getId());
-        if (request.hasShowDeleted()) {
-            builder.setShowDeleted(request.getShowDeleted());
-        } else {
-            builder.setShowDeleted(true);
+        var result = new ArrayList<Boolean>(requests.size());
+        for (var request : requests) {
+            result.add(deletedIds.remove(request.getId()));
         }
-        return builder.build();
+        return result;
     }
 }
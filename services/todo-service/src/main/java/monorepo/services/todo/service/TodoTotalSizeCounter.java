@@ -0,0 +1,143 @@
+package monorepo.services.todo.service;
+
+import static monorepo.services.todo.mapper.TodoDynamicSqlSupport.todo;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import java.util.Map;
+import monorepo.lib.common.pagination.PageTokenState;
+import monorepo.lib.common.util.JsonUtil;
+import monorepo.proto.todo.v1.ListTodosRequest;
+import monorepo.proto.todo.v1.ListTodosRequest.TotalSizeMode;
+import monorepo.services.todo.config.TodoProperties;
+import monorepo.services.todo.mapper.TodoMapper;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes {@code ListTodosResponse.total_size} according to {@link TotalSizeMode}.
+ *
+ * @author Freeman
+ * @since 2026/10/18
+ */
+@Component
+class TodoTotalSizeCounter {
+
+    private final TodoMapper todoMapper;
+    private final TodoProperties.TotalSize properties;
+    private final Cache<String, Long> cache;
+
+    TodoTotalSizeCounter(TodoMapper todoMapper, TodoProperties properties) {
+        this.todoMapper = todoMapper;
+        this.properties = properties.totalSize();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(this.properties.cacheTtl())
+                .maximumSize(this.properties.cacheMaxSize())
+                .build();
+    }
+
+    /**
+     * Resolve the total size mode of the request, fall back to the configured default mode.
+     *
+     * @param request list todos request
+     * @return total size mode, never {@link TotalSizeMode#TOTAL_SIZE_MODE_UNSPECIFIED}
+     */
+    TotalSizeMode resolveMode(ListTodosRequest request) {
+        if (!request.hasTotalSizeMode()) {
+            return properties.defaultMode();
+        }
+        return switch (request.getTotalSizeMode()) {
+            case TOTAL_SIZE_MODE_UNSPECIFIED -> properties.defaultMode();
+            case EXACT, FIRST_PAGE, CACHED, ESTIMATED, NONE -> request.getTotalSizeMode();
+            case UNRECOGNIZED ->
+                throw new StatusRuntimeException(Status.INVALID_ARGUMENT.withDescription(
+                        "Invalid total size mode: " + request.getTotalSizeModeValue()));
+        };
+    }
+
+    /**
+     * Whether the count is exact and up to date for the current page,
+     * so that an empty result can skip the page query.
+     */
+    static boolean isExact(TotalSizeMode mode, @Nullable PageTokenState pageTokenState) {
+        return mode == TotalSizeMode.EXACT || (mode == TotalSizeMode.FIRST_PAGE && pageTokenState == null);
+    }
+
+    /**
+     * Count the todos matching the conditions.
+     *
+     * @param mode           total size mode
+     * @param userId         user id of the request
+     * @param filterHash     filter hash of the request
+     * @param conditions     where conditions, without the cursor condition
+     * @param pageTokenState current page token state, null for the first page
+     * @return total size, 0 if not computed
+     */
+    long count(
+            TotalSizeMode mode,
+            long userId,
+            String filterHash,
+            List<AndOrCriteriaGroup> conditions,
+            @Nullable PageTokenState pageTokenState) {
+        return switch (mode) {
+            case EXACT -> exactCount(conditions);
+            case FIRST_PAGE -> {
+                if (pageTokenState != null && pageTokenState.totalSize() != null) {
+                    yield pageTokenState.totalSize();
+                }
+                yield exactCount(conditions);
+            }
+            case CACHED -> {
+                var result = cache.get(userId + ":" + filterHash, _ -> exactCount(conditions));
+                yield result != null ? result : 0L;
+            }
+            case ESTIMATED -> estimatedCount(conditions);
+            case NONE, TOTAL_SIZE_MODE_UNSPECIFIED, UNRECOGNIZED -> 0L;
+        };
+    }
+
+    private long exactCount(List<AndOrCriteriaGroup> conditions) {
+        return todoMapper.count(c -> c.where(conditions));
+    }
+
+    /**
+     * Read the estimated rows from the planner statistics, see
+     * <a href="https://wiki.postgresql.org/wiki/Count_estimate">Count estimate</a>.
+     */
+    private long estimatedCount(List<AndOrCriteriaGroup> conditions) {
+        var selectStatement =
+                select(todo.id).from(todo).where(conditions).build().render(RenderingStrategies.MYBATIS3);
+        var plan = todoMapper.selectOneString(new ExplainStatementProvider(selectStatement));
+        if (plan == null) {
+            return 0L;
+        }
+        var explain =
+                JsonUtil.parse(plan, new ParameterizedTypeReference<List<Map<String, Map<String, Object>>>>() {});
+        if (explain.isEmpty()) {
+            return 0L;
+        }
+        var rows = explain.getFirst().getOrDefault("Plan", Map.of()).get("Plan Rows");
+        return rows instanceof Number n ? Math.max(n.longValue(), 0L) : 0L;
+    }
+
+    private record ExplainStatementProvider(SelectStatementProvider delegate) implements SelectStatementProvider {
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return delegate.getParameters();
+        }
+
+        @Override
+        public String getSelectStatement() {
+            return "explain (format json) " + delegate.getSelectStatement();
+        }
+    }
+}
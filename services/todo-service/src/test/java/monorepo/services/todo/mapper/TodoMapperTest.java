@@ -10,9 +10,12 @@ import static org.mybatis.dynamic.sql.SqlBuilder.or;
 import static org.mybatis.dynamic.sql.SqlBuilder.select;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import monorepo.lib.mybatis.pagination.KeysetPagination;
 import monorepo.proto.todo.v1.Todo;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
@@ -58,4 +61,112 @@ class TodoMapperTest {
 
         assertThat(actual).isEqualToIgnoringWhitespace(expected);
     }
+
+    @Test
+    void testKeysetPagination_whenSameDirection_thenRenderRowValueComparison() {
+        var keyset = KeysetPagination.builder()
+                .add(todo.createdAt, true)
+                .add(todo.id, true)
+                .build();
+        var conditions = new ArrayList<AndOrCriteriaGroup>();
+        keyset.after(List.of(Instant.now(), 1L)).ifPresent(conditions::add);
+
+        var actual = select(todo.id)
+                .from(todo)
+                .where()
+                .and(todo.userId, isEqualTo(1L))
+                .and(conditions)
+                .orderBy(keyset.orderBy())
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getSelectStatement();
+
+        assertThat(actual)
+                .containsIgnoringWhitespaces(
+                        "(created_at, id) < (#{parameters.p2,jdbcType=TIMESTAMP}, #{parameters.p3,jdbcType=BIGINT})")
+                .endsWith("order by created_at DESC, id DESC");
+    }
+
+    @Test
+    void testKeysetPagination_whenMixedDirection_thenRenderExpandedComparison() {
+        var keyset = KeysetPagination.builder()
+                .add(todo.createdAt, true)
+                .add(todo.id, false)
+                .build();
+        var conditions = new ArrayList<AndOrCriteriaGroup>();
+        keyset.after(List.of(Instant.now(), 1L)).ifPresent(conditions::add);
+
+        var actual = select(todo.id)
+                .from(todo)
+                .where()
+                .and(todo.userId, isEqualTo(1L))
+                .and(conditions)
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getSelectStatement();
+
+        assertThat(actual)
+                .containsIgnoringWhitespaces("created_at < #{parameters.p2,jdbcType=TIMESTAMP}")
+                .containsIgnoringWhitespaces(
+                        "or (created_at = #{parameters.p3,jdbcType=TIMESTAMP} and id > #{parameters.p4,jdbcType=BIGINT})")
+                .doesNotContain("(created_at, id)");
+    }
+
+    @Test
+    void testKeysetPagination_whenNullableKeyIsNull_thenEncodeNullOrdering() {
+        var keyset = KeysetPagination.builder()
+                .add(todo.dueDate, false, true)
+                .add(todo.id, false)
+                .build();
+        var nullLastValues = new ArrayList<@Nullable Object>();
+        nullLastValues.add(null);
+        nullLastValues.add(1L);
+
+        var afterNull = render(keyset.after(nullLastValues).orElseThrow());
+        var afterValue = render(keyset.after(List.of(LocalDate.now(), 1L)).orElseThrow());
+
+        // nulls sort last, nothing is after null but the rows with null and a greater id
+        assertThat(afterNull)
+                .containsIgnoringWhitespaces("due_date is null and id > #{parameters.p2,jdbcType=BIGINT}")
+                .doesNotContain("due_date >");
+        // rows with null sort after any due date
+        assertThat(afterValue)
+                .containsIgnoringWhitespaces("due_date > #{parameters.p2,jdbcType=DATE} or due_date is null")
+                .doesNotContain("(due_date, id)");
+    }
+
+    @Test
+    void testKeysetPagination_whenNoLastValues_thenNoCondition() {
+        var keyset = KeysetPagination.builder().add(todo.id, false).build();
+        var lastValues = new ArrayList<@Nullable Object>();
+        lastValues.add(null);
+
+        assertThat(keyset.after(lastValues)).isEmpty();
+    }
+
+    @Test
+    void testSelectWithSubtasks_thenRenderAggregatedSubtasksColumn() {
+        var actual = select(TodoAggregateMapper.selectList)
+                .from(todo)
+                .where(todo.id, isEqualTo(1L))
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getSelectStatement();
+
+        assertThat(actual)
+                .contains("json_agg(")
+                .contains("where s.todo_id = todo.id")
+                .containsIgnoringWhitespaces("and s.deleted_at is null) as subtasks from todo");
+    }
+
+    private static String render(AndOrCriteriaGroup condition) {
+        return select(todo.id)
+                .from(todo)
+                .where()
+                .and(todo.userId, isEqualTo(1L))
+                .and(List.of(condition))
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getSelectStatement();
+    }
 }
@@ -0,0 +1,74 @@
+package monorepo.services.todo.mapper;
+
+import static monorepo.services.todo.mapper.TodoSubtaskDynamicSqlSupport.todoSubtask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+
+import java.time.Instant;
+import java.util.List;
+import monorepo.services.todo.entity.TodoSubtask;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TodoSubtaskBatchMapperIT {
+
+    @Autowired
+    TodoSubtaskMapper todoSubtaskMapper;
+
+    @Autowired
+    TodoSubtaskBatchMapper todoSubtaskBatchMapper;
+
+    @Test
+    void testUpdateSelectiveReturningIds_thenUpdateMatchedSubtasksOnly() {
+        var todoId = System.nanoTime();
+        var first = newSubtask(todoId, "first");
+        var second = newSubtask(todoId, "second");
+        todoSubtaskMapper.insertMultiple(List.of(first, second));
+
+        var updatedAt = Instant.now();
+        var renamed = updateOf(first.getId(), "renamed", updatedAt);
+        var untitled = updateOf(second.getId(), null, updatedAt);
+        var missing = updateOf(Long.MAX_VALUE, "missing", updatedAt);
+
+        var updatedIds =
+                todoSubtaskBatchMapper.updateSelectiveReturningIds(todoId, List.of(renamed, untitled, missing));
+
+        assertThat(updatedIds).containsExactlyInAnyOrder(first.getId(), second.getId());
+        var titles = todoSubtaskMapper.select(c -> c.where(todoSubtask.todoId, isEqualTo(todoId))).stream()
+                .map(TodoSubtask::getTitle)
+                .toList();
+        assertThat(titles).containsExactlyInAnyOrder("renamed", "second");
+    }
+
+    @Test
+    void testUpdateSelectiveReturningIds_whenOtherTodo_thenNotUpdated() {
+        var todoId = System.nanoTime();
+        var subtask = newSubtask(todoId, "title");
+        todoSubtaskMapper.insertMultiple(List.of(subtask));
+
+        var updatedIds = todoSubtaskBatchMapper.updateSelectiveReturningIds(
+                todoId + 1, List.of(updateOf(subtask.getId(), "renamed", Instant.now())));
+
+        assertThat(updatedIds).isEmpty();
+    }
+
+    private static TodoSubtask newSubtask(long todoId, String title) {
+        var subtask = new TodoSubtask();
+        subtask.setTodoId(todoId);
+        subtask.setTitle(title);
+        subtask.setCreatedAt(Instant.now());
+        subtask.setUpdatedAt(Instant.now());
+        return subtask;
+    }
+
+    private static TodoSubtask updateOf(long id, @Nullable String title, Instant updatedAt) {
+        var subtask = new TodoSubtask();
+        subtask.setId(id);
+        subtask.setTitle(title);
+        subtask.setUpdatedAt(updatedAt);
+        return subtask;
+    }
+}
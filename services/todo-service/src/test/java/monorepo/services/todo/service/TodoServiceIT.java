@@ -0,0 +1,95 @@
+package monorepo.services.todo.service;
+
+import static monorepo.lib.common.util.SpringUtil.withTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import monorepo.proto.todo.v1.CreateSubtaskRequest;
+import monorepo.proto.todo.v1.CreateTodoRequest;
+import monorepo.proto.todo.v1.DeleteSubtaskRequest;
+import monorepo.proto.todo.v1.SubTask;
+import monorepo.proto.todo.v1.Todo;
+import monorepo.proto.todo.v1.UpdateSubtaskRequest;
+import monorepo.proto.todo.v1.UpdateTodoRequest;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TodoServiceIT {
+
+    @Autowired
+    TodoService todoService;
+
+    @Test
+    void testUpdate_whenSubtaskOperations_thenApplyInOrder() {
+        var created = createTodo("first", "second");
+        var first = created.getSubTasks(0).getId();
+        var second = created.getSubTasks(1).getId();
+
+        var updated = todoService.update(UpdateTodoRequest.newBuilder()
+                .setId(created.getId())
+                .addSubTaskOperations(update(first, "renamed"))
+                .addSubTaskOperations(delete(second))
+                .addSubTaskOperations(create("third"))
+                .addSubTaskOperations(create("fourth"))
+                .build());
+
+        assertThat(updated.getSubTasksList())
+                .extracting(SubTask::getTitle)
+                .containsExactlyInAnyOrder("renamed", "third", "fourth");
+    }
+
+    @Test
+    void testApplySubtaskOperations_thenReportEachOperation() {
+        var created = createTodo("first", "second");
+        var first = created.getSubTasks(0).getId();
+        var second = created.getSubTasks(1).getId();
+
+        var outcomes = withTransaction(() -> todoService.applySubtaskOperations(
+                List.of(
+                        update(first, "renamed"),
+                        update(first, null),
+                        update(Long.MAX_VALUE, "missing"),
+                        delete(second),
+                        delete(second),
+                        create("third"),
+                        UpdateTodoRequest.SubTaskOperation.getDefaultInstance()),
+                created.getId()));
+
+        assertThat(outcomes).containsExactly(true, true, false, true, false, true, false);
+    }
+
+    private Todo createTodo(String... subtaskTitles) {
+        var request = CreateTodoRequest.newBuilder()
+                .setUserId(1L)
+                .setTitle("Test Todo")
+                .setState(Todo.State.PENDING)
+                .setPriority(Todo.Priority.LOW);
+        for (var title : subtaskTitles) {
+            request.addSubTasks(CreateSubtaskRequest.newBuilder().setTitle(title));
+        }
+        return todoService.create(request.build());
+    }
+
+    private static UpdateTodoRequest.SubTaskOperation create(String title) {
+        return UpdateTodoRequest.SubTaskOperation.newBuilder()
+                .setCreate(CreateSubtaskRequest.newBuilder().setTitle(title))
+                .build();
+    }
+
+    private static UpdateTodoRequest.SubTaskOperation update(long id, @Nullable String title) {
+        var update = UpdateSubtaskRequest.newBuilder().setId(id);
+        if (title != null) {
+            update.setTitle(title);
+        }
+        return UpdateTodoRequest.SubTaskOperation.newBuilder().setUpdate(update).build();
+    }
+
+    private static UpdateTodoRequest.SubTaskOperation delete(long id) {
+        return UpdateTodoRequest.SubTaskOperation.newBuilder()
+                .setDelete(DeleteSubtaskRequest.newBuilder().setId(id))
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ pluginManagement {
     val spotlessPluginVersion: String = providers.gradleProperty("spotlessPluginVersion").get()
     val protobufPluginVersion: String = providers.gradleProperty("protobufPluginVersion").get()
     val errorPronePluginVersion: String = providers.gradleProperty("errorPronePluginVersion").get()
+    val jmhPluginVersion: String = providers.gradleProperty("jmhPluginVersion").get()
 
     plugins {
         id("org.springframework.boot") version springBootVersion
@@ -11,11 +12,13 @@ pluginManagement {
         id("com.diffplug.spotless") version spotlessPluginVersion
         id("com.google.protobuf") version protobufPluginVersion
         id("net.ltgt.errorprone") version errorPronePluginVersion
+        id("me.champeau.jmh") version jmhPluginVersion
     }
 }
 
 rootProject.name = "monorepo"
 
+include(":packages:lib-java:benchmark")
 include(":packages:lib-java:common")
 include(":packages:lib-java:mapstruct-spi-protobuf")
 include(":packages:lib-java:mybatis")